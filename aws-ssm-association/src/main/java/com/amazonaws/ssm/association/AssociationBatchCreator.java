@@ -0,0 +1,285 @@
+package com.amazonaws.ssm.association;
+
+import com.amazonaws.ssm.association.translator.AssociationDescriptionTranslator;
+import com.amazonaws.ssm.association.translator.ExceptionTranslator;
+import com.amazonaws.ssm.association.translator.request.CreateAssociationTranslator;
+import com.amazonaws.ssm.association.util.SsmClientBuilder;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.AssociationDescription;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequest;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequestEntry;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchResponse;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.FailedCreateAssociation;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Creates many associations with CreateAssociationBatch instead of one CreateAssociation per resource.
+ * The models are translated with the CreateAssociationTranslator used by the CreateHandler, sent in batches of 10,
+ * the most the API accepts, with a bounded number of batches in flight and every call paced by a rate limiter.
+ * Models that would be indistinguishable in the response are never sent in the same call.
+ * Every model ends up either created, with the model of the new association, or failed, with the same
+ * CloudFormation exception the handlers would have surfaced.
+ */
+public class AssociationBatchCreator {
+
+    static final int MAX_BATCH_SIZE = 10;
+
+    static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    static final double DEFAULT_CALLS_PER_SECOND = 2;
+
+    private final SsmClient ssmClient;
+    private final RateLimiter rateLimiter;
+    private final int maxConcurrency;
+    private final CreateAssociationTranslator createAssociationTranslator;
+    private final AssociationDescriptionTranslator associationDescriptionTranslator;
+    private final ExceptionTranslator exceptionTranslator;
+
+    /**
+     * Constructor with the default client, concurrency and pace.
+     */
+    public AssociationBatchCreator() {
+        this(SsmClientBuilder.getClient(), RateLimiter.create(DEFAULT_CALLS_PER_SECOND), DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * @param ssmClient Client of the account and region to create the associations in.
+     * @param rateLimiter Paces the CreateAssociationBatch calls across all batches in flight.
+     * @param maxConcurrency Maximum number of CreateAssociationBatch calls in flight.
+     */
+    public AssociationBatchCreator(final SsmClient ssmClient,
+                                   final RateLimiter rateLimiter,
+                                   final int maxConcurrency) {
+        this(ssmClient, rateLimiter, maxConcurrency, new CreateAssociationTranslator(),
+            new AssociationDescriptionTranslator(), new ExceptionTranslator());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ssmClient Client of the account and region to create the associations in.
+     * @param rateLimiter Paces the CreateAssociationBatch calls across all batches in flight.
+     * @param maxConcurrency Maximum number of CreateAssociationBatch calls in flight.
+     * @param createAssociationTranslator Translates ResourceModel into CreateAssociationRequest.
+     * @param associationDescriptionTranslator Translates AssociationDescription into ResourceModel objects.
+     * @param exceptionTranslator Translates service model exceptions and failed entries.
+     */
+    AssociationBatchCreator(final SsmClient ssmClient,
+                            final RateLimiter rateLimiter,
+                            final int maxConcurrency,
+                            final CreateAssociationTranslator createAssociationTranslator,
+                            final AssociationDescriptionTranslator associationDescriptionTranslator,
+                            final ExceptionTranslator exceptionTranslator) {
+        this.ssmClient = ssmClient;
+        this.rateLimiter = rateLimiter;
+        this.maxConcurrency = maxConcurrency;
+        this.createAssociationTranslator = createAssociationTranslator;
+        this.associationDescriptionTranslator = associationDescriptionTranslator;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    /**
+     * Creates an association for every model.
+     *
+     * @param models ResourceModels of the associations to create.
+     * @return Created and failed models, keyed by their position in the input list.
+     */
+    public BatchResult create(final List<ResourceModel> models) {
+        final List<CreateAssociationBatchRequestEntry> entries = new ArrayList<>(models.size());
+        for (ResourceModel model : models) {
+            entries.add(toEntry(createAssociationTranslator.resourceModelToRequest(model)));
+        }
+        final List<List<Integer>> batches = toBatches(entries);
+        if (batches.isEmpty()) {
+            return new BatchResult(Collections.emptySortedMap(), Collections.emptySortedMap());
+        }
+
+        final SortedMap<Integer, ResourceModel> created = new TreeMap<>();
+        final SortedMap<Integer, BaseHandlerException> failed = new TreeMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrency, batches.size()));
+        try {
+            final List<Future<BatchResult>> futures = new ArrayList<>();
+            for (List<Integer> batch : batches) {
+                futures.add(executor.submit(() -> createBatch(models, entries, batch)));
+            }
+            for (Future<BatchResult> future : futures) {
+                final BatchResult batchResult = future.get();
+                created.putAll(batchResult.getCreated());
+                failed.putAll(batchResult.getFailed());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating associations", e);
+        } catch (ExecutionException e) {
+            // createBatch translates service exceptions itself, anything else is a bug
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new BatchResult(created, failed);
+    }
+
+    /**
+     * Splits the entries into batches of at most MAX_BATCH_SIZE positions, in input order, so that no two entries
+     * of a batch share a match key. The response does not say which entry an association was created for, so
+     * entries that cannot be told apart are always sent in separate calls.
+     */
+    private static List<List<Integer>> toBatches(final List<CreateAssociationBatchRequestEntry> entries) {
+        final List<List<Integer>> batches = new ArrayList<>();
+        final List<Set<List<Object>>> batchKeys = new ArrayList<>();
+        int firstOpen = 0;
+        for (int index = 0; index < entries.size(); index++) {
+            final List<Object> key = matchKey(entries.get(index));
+            int batch = firstOpen;
+            while (batch < batches.size()
+                && (batches.get(batch).size() == MAX_BATCH_SIZE || batchKeys.get(batch).contains(key))) {
+                batch++;
+            }
+            if (batch == batches.size()) {
+                batches.add(new ArrayList<>(MAX_BATCH_SIZE));
+                batchKeys.add(new HashSet<>());
+            }
+            batches.get(batch).add(index);
+            batchKeys.get(batch).add(key);
+            while (firstOpen < batches.size() && batches.get(firstOpen).size() == MAX_BATCH_SIZE) {
+                firstOpen++;
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Sends the entries at the given positions in one CreateAssociationBatch call and maps the result back to
+     * the input positions.
+     */
+    private BatchResult createBatch(final List<ResourceModel> models,
+                                    final List<CreateAssociationBatchRequestEntry> entries,
+                                    final List<Integer> batch) {
+        final List<CreateAssociationBatchRequestEntry> batchEntries = new ArrayList<>(batch.size());
+        for (int index : batch) {
+            batchEntries.add(entries.get(index));
+        }
+        final CreateAssociationBatchRequest request = CreateAssociationBatchRequest.builder()
+            .entries(batchEntries)
+            .build();
+
+        final SortedMap<Integer, ResourceModel> created = new TreeMap<>();
+        final SortedMap<Integer, BaseHandlerException> failed = new TreeMap<>();
+
+        final CreateAssociationBatchResponse response;
+        try {
+            rateLimiter.acquire();
+            response = ssmClient.createAssociationBatch(request);
+        } catch (Exception e) {
+            for (int index : batch) {
+                failed.put(index, exceptionTranslator.translateFromServiceException(e, request, models.get(index)));
+            }
+            return new BatchResult(created, failed);
+        }
+
+        // Match keys are unique within a batch, so every result belongs to at most one position. A result
+        // that matches no position, or one that already has a result, is not attributed to any model.
+        final Map<List<Object>, Integer> positions = new HashMap<>();
+        for (int index : batch) {
+            positions.put(matchKey(entries.get(index)), index);
+        }
+
+        for (FailedCreateAssociation failure : response.failed()) {
+            final Integer index = positions.remove(matchKey(failure.entry()));
+            if (index != null) {
+                failed.put(index, exceptionTranslator.translateFromBatchFailure(failure, request, models.get(index)));
+            }
+        }
+        for (AssociationDescription association : response.successful()) {
+            final Integer index = positions.remove(matchKey(association));
+            if (index != null) {
+                created.put(index, associationDescriptionTranslator.associationDescriptionToResourceModel(association));
+            }
+        }
+
+        for (int index : positions.values()) {
+            failed.put(index, exceptionTranslator.translateFromServiceException(
+                SsmException.builder()
+                    .message("CreateAssociationBatch returned no result that could be matched to this association; "
+                        + "it may have been created and should be looked up before retrying")
+                    .build(),
+                request,
+                models.get(index)));
+        }
+        return new BatchResult(created, failed);
+    }
+
+    private static List<Object> matchKey(final CreateAssociationBatchRequestEntry entry) {
+        return Arrays.asList(entry.name(), entry.instanceId(), entry.associationName(), entry.targets());
+    }
+
+    private static List<Object> matchKey(final AssociationDescription association) {
+        return Arrays.asList(association.name(), association.instanceId(), association.associationName(),
+            association.targets());
+    }
+
+    private static CreateAssociationBatchRequestEntry toEntry(final CreateAssociationRequest request) {
+        final CreateAssociationBatchRequestEntry.Builder entryBuilder = CreateAssociationBatchRequestEntry.builder()
+            .name(request.name())
+            .applyOnlyAtCronInterval(request.applyOnlyAtCronInterval())
+            .associationName(request.associationName())
+            .documentVersion(request.documentVersion())
+            .instanceId(request.instanceId())
+            .scheduleExpression(request.scheduleExpression())
+            .outputLocation(request.outputLocation())
+            .automationTargetParameterName(request.automationTargetParameterName())
+            .maxErrors(request.maxErrors())
+            .maxConcurrency(request.maxConcurrency())
+            .complianceSeverity(request.complianceSeverityAsString())
+            .syncCompliance(request.syncComplianceAsString())
+            .scheduleOffset(request.scheduleOffset());
+
+        if (request.hasParameters()) {
+            entryBuilder.parameters(request.parameters());
+        }
+        if (request.hasTargets()) {
+            entryBuilder.targets(request.targets());
+        }
+        if (request.hasCalendarNames()) {
+            entryBuilder.calendarNames(request.calendarNames());
+        }
+
+        return entryBuilder.build();
+    }
+
+    /**
+     * Outcome of a bulk create, keyed by the position of each model in the input list.
+     */
+    @Value
+    public static class BatchResult {
+        /**
+         * Models of the associations created, with their AssociationId.
+         */
+        SortedMap<Integer, ResourceModel> created;
+
+        /**
+         * Exceptions of the models that could not be created.
+         */
+        SortedMap<Integer, BaseHandlerException> failed;
+    }
+}
@@ -1,10 +1,16 @@
 package com.amazonaws.ssm.association;
 
+import com.amazonaws.ssm.association.util.ColdStartPrimer;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // Configuration is created while the container initializes, before the first invocation
+        ColdStartPrimer.primeOnInit();
+    }
+
     public Configuration() {
         super("aws-ssm-association.json");
     }
@@ -12,7 +12,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 /**
  * Handles all create requests for a given resource.
  */
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
 
@@ -46,7 +46,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
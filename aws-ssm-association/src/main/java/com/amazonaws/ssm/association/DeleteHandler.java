@@ -21,7 +21,7 @@ import java.util.Optional;
 /**
  * Handles delete requests for a given resource.
  */
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
     private final ExceptionTranslator exceptionTranslator;
@@ -48,7 +48,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
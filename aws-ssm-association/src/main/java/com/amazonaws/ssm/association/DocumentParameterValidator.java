@@ -0,0 +1,177 @@
+package com.amazonaws.ssm.association;
+
+import com.amazonaws.ssm.association.util.DocumentParameterCache;
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.DocumentParameter;
+import software.amazon.awssdk.services.ssm.model.DocumentParameterType;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Checks the Parameters of an association against the parameter definitions of its document before the association
+ * is written, so that misspelled, missing or mistyped parameters fail right away instead of after the write is
+ * retried. The definitions come from DescribeDocument and are kept in the DocumentParameterCache.
+ *
+ * The check only rejects what State Manager would reject as well. When the document cannot be described, for
+ * example because the handler role lacks ssm:DescribeDocument, the association is written unchecked. Cached
+ * definitions of $DEFAULT or $LATEST may be older than the document, so they only reject after a fresh describe.
+ */
+public class DocumentParameterValidator {
+
+    private final SsmClient ssmClient;
+    private final DocumentParameterCache documentParameterCache;
+
+    /**
+     * Constructor to use by dependencies.
+     *
+     * @param ssmClient SsmClient implementation to use for API calls.
+     */
+    DocumentParameterValidator(final SsmClient ssmClient) {
+        this(ssmClient, DocumentParameterCache.getInstance());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ssmClient SsmClient implementation to use for API calls.
+     * @param documentParameterCache Keeps the parameter definitions of described documents.
+     */
+    DocumentParameterValidator(final SsmClient ssmClient,
+                               final DocumentParameterCache documentParameterCache) {
+        this.ssmClient = ssmClient;
+        this.documentParameterCache = documentParameterCache;
+    }
+
+    /**
+     * Validates the Parameters of the desired association against its document.
+     *
+     * @param proxy AmazonWebServicesClientProxy used to describe the document.
+     * @param request Request carrying the desired association, account and region.
+     * @param logger Logger.
+     * @throws CfnInvalidRequestException when the parameters do not match the document.
+     */
+    public void validate(final AmazonWebServicesClientProxy proxy,
+                         final ResourceHandlerRequest<ResourceModel> request,
+                         final Logger logger) {
+        final ResourceModel model = request.getDesiredResourceState();
+
+        // The definitions are cached per account and region, which CloudFormation sends with every request
+        if (StringUtils.isNullOrEmpty(request.getAwsAccountId())
+            || StringUtils.isNullOrEmpty(request.getRegion())
+            || StringUtils.isNullOrEmpty(model.getName())) {
+            return;
+        }
+
+        final Map<String, List<String>> parameters =
+            model.getParameters() == null ? Collections.emptyMap() : model.getParameters();
+
+        final Optional<List<DocumentParameter>> cachedDefinitions = documentParameterCache.get(
+            request.getAwsAccountId(), request.getRegion(), model.getName(), model.getDocumentVersion());
+        if (cachedDefinitions.isPresent()) {
+            final List<String> problems = findProblems(cachedDefinitions.get(), parameters,
+                model.getAutomationTargetParameterName());
+            if (problems.isEmpty()) {
+                return;
+            }
+            if (isPinnedVersion(model.getDocumentVersion())) {
+                throwInvalidParameters(model, problems);
+            }
+            // $DEFAULT and $LATEST may have moved since the definitions were cached, so only fresh ones reject
+        }
+
+        final Optional<List<DocumentParameter>> definitions = describeDefinitions(proxy, request, logger);
+        if (!definitions.isPresent()) {
+            return;
+        }
+
+        final List<String> problems = findProblems(definitions.get(), parameters,
+            model.getAutomationTargetParameterName());
+        if (!problems.isEmpty()) {
+            throwInvalidParameters(model, problems);
+        }
+    }
+
+    private Optional<List<DocumentParameter>> describeDefinitions(final AmazonWebServicesClientProxy proxy,
+                                                                  final ResourceHandlerRequest<ResourceModel> request,
+                                                                  final Logger logger) {
+        final ResourceModel model = request.getDesiredResourceState();
+
+        final DescribeDocumentRequest describeDocumentRequest =
+            DescribeDocumentRequest.builder()
+                .name(model.getName())
+                .documentVersion(model.getDocumentVersion())
+                .build();
+
+        final List<DocumentParameter> definitions;
+        try {
+            definitions = proxy.injectCredentialsAndInvokeV2(describeDocumentRequest, ssmClient::describeDocument)
+                .document()
+                .parameters();
+        } catch (Exception e) {
+            // The write reports a missing document itself, anything else should not block it
+            logger.log(String.format("Skipping parameter validation, could not describe document %s: %s",
+                model.getName(), e.getMessage()));
+            return Optional.empty();
+        }
+
+        documentParameterCache.put(request.getAwsAccountId(), request.getRegion(),
+            model.getName(), model.getDocumentVersion(), definitions);
+        return Optional.of(definitions);
+    }
+
+    /**
+     * A numeric version always names the same document content, unlike $DEFAULT, $LATEST or no version at all.
+     */
+    private static boolean isPinnedVersion(final String documentVersion) {
+        return documentVersion != null && !documentVersion.isEmpty()
+            && documentVersion.chars().allMatch(Character::isDigit);
+    }
+
+    private static void throwInvalidParameters(final ResourceModel model, final List<String> problems) {
+        throw new CfnInvalidRequestException(String.format("Parameters do not match document %s: %s",
+            model.getName(), String.join("; ", problems)));
+    }
+
+    private static List<String> findProblems(final List<DocumentParameter> definitions,
+                                             final Map<String, List<String>> parameters,
+                                             final String automationTargetParameterName) {
+        final Map<String, DocumentParameter> definitionsByName = definitions.stream()
+            .collect(Collectors.toMap(DocumentParameter::name, Function.identity(), (first, second) -> first));
+
+        final List<String> problems = new ArrayList<>();
+
+        for (final Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            final DocumentParameter definition = definitionsByName.get(parameter.getKey());
+            if (definition == null) {
+                problems.add(String.format("unknown parameter %s", parameter.getKey()));
+            } else if (definition.type() == DocumentParameterType.STRING
+                && parameter.getValue() != null
+                && parameter.getValue().size() > 1) {
+                problems.add(String.format("parameter %s of type String takes a single value", parameter.getKey()));
+            }
+        }
+
+        for (final DocumentParameter definition : definitions) {
+            // Automation fills the target parameter in from the association's targets
+            if (definition.defaultValue() == null
+                && !parameters.containsKey(definition.name())
+                && !definition.name().equals(automationTargetParameterName)) {
+                problems.add(String.format("missing required parameter %s", definition.name()));
+            }
+        }
+
+        return problems;
+    }
+}
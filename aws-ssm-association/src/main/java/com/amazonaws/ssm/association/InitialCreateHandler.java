@@ -3,15 +3,22 @@ package com.amazonaws.ssm.association;
 import com.amazonaws.ssm.association.translator.AssociationDescriptionTranslator;
 import com.amazonaws.ssm.association.translator.ExceptionTranslator;
 import com.amazonaws.ssm.association.translator.request.CreateAssociationTranslator;
+import com.amazonaws.ssm.association.util.CreateReplayCache;
+import com.amazonaws.ssm.association.util.DocumentParameterCache;
+import com.amazonaws.ssm.association.util.RateControlAndScheduleValidator;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.AssociationDescription;
+import software.amazon.awssdk.services.ssm.model.AssociationDoesNotExistException;
 import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Optional;
+
 /**
  * Handles initial create requests for a given resource.
  */
@@ -22,6 +29,9 @@ public class InitialCreateHandler extends BaseHandler<CallbackContext> {
     private final AssociationDescriptionTranslator associationDescriptionTranslator;
     private final ExceptionTranslator exceptionTranslator;
     private final InProgressEventCreator inProgressEventCreator;
+    private final CreateReplayCache createReplayCache;
+    private final RateControlAndScheduleValidator rateControlAndScheduleValidator;
+    private final DocumentParameterValidator documentParameterValidator;
 
     /**
      * Constructor to use by dependencies. Processes initial CreateHandler requests.
@@ -34,6 +44,9 @@ public class InitialCreateHandler extends BaseHandler<CallbackContext> {
         this.associationDescriptionTranslator = new AssociationDescriptionTranslator();
         this.exceptionTranslator = new ExceptionTranslator();
         this.inProgressEventCreator = new InProgressEventCreator();
+        this.createReplayCache = CreateReplayCache.getInstance();
+        this.rateControlAndScheduleValidator = new RateControlAndScheduleValidator();
+        this.documentParameterValidator = new DocumentParameterValidator(ssmClient);
     }
 
     /**
@@ -51,11 +64,59 @@ public class InitialCreateHandler extends BaseHandler<CallbackContext> {
                          final ExceptionTranslator exceptionTranslator,
                          final InProgressEventCreator inProgressEventCreator) {
 
+        this(ssmClient, createAssociationTranslator, associationDescriptionTranslator, exceptionTranslator,
+            inProgressEventCreator, new CreateReplayCache());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ssmClient SsmClient implementation to use for API calls.
+     * @param createAssociationTranslator Translates ResourceModel objects into CreateAssociation requests.
+     * @param associationDescriptionTranslator Translates AssociationDescription into ResourceModel objects.
+     * @param exceptionTranslator Translates service model exceptions.
+     * @param inProgressEventCreator Creates InProgress ProgressEvent objects for progress chaining.
+     * @param createReplayCache Remembers the association created for each client request token.
+     */
+    InitialCreateHandler(final SsmClient ssmClient,
+                         final CreateAssociationTranslator createAssociationTranslator,
+                         final AssociationDescriptionTranslator associationDescriptionTranslator,
+                         final ExceptionTranslator exceptionTranslator,
+                         final InProgressEventCreator inProgressEventCreator,
+                         final CreateReplayCache createReplayCache) {
+
+        this(ssmClient, createAssociationTranslator, associationDescriptionTranslator, exceptionTranslator,
+            inProgressEventCreator, createReplayCache,
+            new DocumentParameterValidator(ssmClient, new DocumentParameterCache()));
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ssmClient SsmClient implementation to use for API calls.
+     * @param createAssociationTranslator Translates ResourceModel objects into CreateAssociation requests.
+     * @param associationDescriptionTranslator Translates AssociationDescription into ResourceModel objects.
+     * @param exceptionTranslator Translates service model exceptions.
+     * @param inProgressEventCreator Creates InProgress ProgressEvent objects for progress chaining.
+     * @param createReplayCache Remembers the association created for each client request token.
+     * @param documentParameterValidator Checks the association's Parameters against its document.
+     */
+    InitialCreateHandler(final SsmClient ssmClient,
+                         final CreateAssociationTranslator createAssociationTranslator,
+                         final AssociationDescriptionTranslator associationDescriptionTranslator,
+                         final ExceptionTranslator exceptionTranslator,
+                         final InProgressEventCreator inProgressEventCreator,
+                         final CreateReplayCache createReplayCache,
+                         final DocumentParameterValidator documentParameterValidator) {
+
         this.ssmClient = ssmClient;
         this.createAssociationTranslator = createAssociationTranslator;
         this.associationDescriptionTranslator = associationDescriptionTranslator;
         this.exceptionTranslator = exceptionTranslator;
         this.inProgressEventCreator = inProgressEventCreator;
+        this.createReplayCache = createReplayCache;
+        this.rateControlAndScheduleValidator = new RateControlAndScheduleValidator();
+        this.documentParameterValidator = documentParameterValidator;
     }
 
     @Override
@@ -67,6 +128,33 @@ public class InitialCreateHandler extends BaseHandler<CallbackContext> {
 
         final ResourceModel desiredModel = request.getDesiredResourceState();
 
+        // CloudFormation retries a timed out create with the same token, pick up the association it already created
+        final AssociationDescription resultAssociationDescription = describeReplayedAssociation(proxy, request, logger)
+            .orElseGet(() -> createAssociation(proxy, request, logger));
+
+        final ResourceModel resultModel =
+            associationDescriptionTranslator.associationDescriptionToResourceModel(resultAssociationDescription);
+
+        final Integer waitForSuccessTimeoutSeconds = desiredModel.getWaitForSuccessTimeoutSeconds();
+
+        if (waitForSuccessTimeoutSeconds == null) {
+            // return success without waiting for association to complete
+            return ProgressEvent.defaultSuccessHandler(resultModel);
+        } else {
+            // indicates a Create request that needs to wait for association to complete
+            return inProgressEventCreator.nextInProgressEvent(waitForSuccessTimeoutSeconds, resultModel);
+        }
+    }
+
+    private AssociationDescription createAssociation(final AmazonWebServicesClientProxy proxy,
+                                                     final ResourceHandlerRequest<ResourceModel> request,
+                                                     final Logger logger) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+
+        // Rejects what State Manager would reject anyway before spending a DescribeDocument on it
+        rateControlAndScheduleValidator.validate(desiredModel);
+        documentParameterValidator.validate(proxy, request, logger);
+
         final CreateAssociationRequest createAssociationRequest =
             createAssociationTranslator.resourceModelToRequest(desiredModel);
 
@@ -85,17 +173,47 @@ public class InitialCreateHandler extends BaseHandler<CallbackContext> {
             throw cfnException;
         }
 
-        final ResourceModel resultModel =
-            associationDescriptionTranslator.associationDescriptionToResourceModel(resultAssociationDescription);
+        createReplayCache.put(request.getClientRequestToken(), resultAssociationDescription.associationId());
 
-        final Integer waitForSuccessTimeoutSeconds = desiredModel.getWaitForSuccessTimeoutSeconds();
+        return resultAssociationDescription;
+    }
 
-        if (waitForSuccessTimeoutSeconds == null) {
-            // return success without waiting for association to complete
-            return ProgressEvent.defaultSuccessHandler(resultModel);
-        } else {
-            // indicates a Create request that needs to wait for association to complete
-            return inProgressEventCreator.nextInProgressEvent(waitForSuccessTimeoutSeconds, resultModel);
+    /**
+     * Describe the association created by an earlier attempt of the same create request.
+     *
+     * @return the association, or Optional.empty() when this is the first attempt or the association no longer exists
+     */
+    private Optional<AssociationDescription> describeReplayedAssociation(final AmazonWebServicesClientProxy proxy,
+                                                                         final ResourceHandlerRequest<ResourceModel> request,
+                                                                         final Logger logger) {
+        final Optional<String> createdAssociationId = createReplayCache.get(request.getClientRequestToken());
+
+        if (!createdAssociationId.isPresent()) {
+            return Optional.empty();
+        }
+
+        logger.log(String.format("Association %s was already created for clientRequestToken %s",
+            createdAssociationId.get(), request.getClientRequestToken()));
+
+        final DescribeAssociationRequest describeAssociationRequest =
+            DescribeAssociationRequest.builder()
+                .associationId(createdAssociationId.get())
+                .build();
+
+        try {
+            return Optional.of(
+                proxy.injectCredentialsAndInvokeV2(describeAssociationRequest, ssmClient::describeAssociation)
+                    .associationDescription());
+        } catch (AssociationDoesNotExistException e) {
+            createReplayCache.invalidate(request.getClientRequestToken());
+            return Optional.empty();
+        } catch (Exception e) {
+            final BaseHandlerException cfnException = exceptionTranslator
+                .translateFromServiceException(e, describeAssociationRequest, request.getDesiredResourceState());
+
+            logger.log(cfnException.getCause().getMessage());
+
+            throw cfnException;
         }
     }
 }
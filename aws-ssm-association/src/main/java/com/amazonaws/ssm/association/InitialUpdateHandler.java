@@ -3,6 +3,8 @@ package com.amazonaws.ssm.association;
 import com.amazonaws.ssm.association.translator.AssociationDescriptionTranslator;
 import com.amazonaws.ssm.association.translator.ExceptionTranslator;
 import com.amazonaws.ssm.association.translator.request.UpdateAssociationTranslator;
+import com.amazonaws.ssm.association.util.DocumentParameterCache;
+import com.amazonaws.ssm.association.util.RateControlAndScheduleValidator;
 import com.amazonaws.util.StringUtils;
 
 import software.amazon.awssdk.services.ssm.SsmClient;
@@ -25,6 +27,8 @@ public class InitialUpdateHandler extends BaseHandler<CallbackContext> {
     private final AssociationDescriptionTranslator associationDescriptionTranslator;
     private final ExceptionTranslator exceptionTranslator;
     private final InProgressEventCreator inProgressEventCreator;
+    private final RateControlAndScheduleValidator rateControlAndScheduleValidator;
+    private final DocumentParameterValidator documentParameterValidator;
 
     /**
      * Constructor to use by dependencies. Processes initial UpdateHandler requests.
@@ -35,6 +39,8 @@ public class InitialUpdateHandler extends BaseHandler<CallbackContext> {
         this.associationDescriptionTranslator = new AssociationDescriptionTranslator();
         this.exceptionTranslator = new ExceptionTranslator();
         this.inProgressEventCreator = new InProgressEventCreator();
+        this.rateControlAndScheduleValidator = new RateControlAndScheduleValidator();
+        this.documentParameterValidator = new DocumentParameterValidator(ssmClient);
     }
 
     /**
@@ -53,11 +59,35 @@ public class InitialUpdateHandler extends BaseHandler<CallbackContext> {
         final ExceptionTranslator exceptionTranslator,
         final InProgressEventCreator inProgressEventCreator) {
 
+        this(ssmClient, updateAssociationTranslator, associationDescriptionTranslator, exceptionTranslator,
+            inProgressEventCreator, new DocumentParameterValidator(ssmClient, new DocumentParameterCache()));
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ssmClient                        SsmClient implementation to use for API calls.
+     * @param updateAssociationTranslator      Translates ResourceModel objects into UpdateAssociation requests.
+     * @param associationDescriptionTranslator Translates AssociationDescription into ResourceModel objects.
+     * @param exceptionTranslator              Translates service model exceptions.
+     * @param inProgressEventCreator           Creates InProgress ProgressEvent objects for progress chaining.
+     * @param documentParameterValidator       Checks the association's Parameters against its document.
+     */
+    InitialUpdateHandler(
+        final SsmClient ssmClient,
+        final UpdateAssociationTranslator updateAssociationTranslator,
+        final AssociationDescriptionTranslator associationDescriptionTranslator,
+        final ExceptionTranslator exceptionTranslator,
+        final InProgressEventCreator inProgressEventCreator,
+        final DocumentParameterValidator documentParameterValidator) {
+
         this.ssmClient = ssmClient;
         this.updateAssociationTranslator = updateAssociationTranslator;
         this.associationDescriptionTranslator = associationDescriptionTranslator;
         this.exceptionTranslator = exceptionTranslator;
         this.inProgressEventCreator = inProgressEventCreator;
+        this.rateControlAndScheduleValidator = new RateControlAndScheduleValidator();
+        this.documentParameterValidator = documentParameterValidator;
     }
 
     @Override
@@ -78,6 +108,9 @@ public class InitialUpdateHandler extends BaseHandler<CallbackContext> {
                 "AssociationId must be present to update the existing association.");
         }
 
+        rateControlAndScheduleValidator.validate(requestModel);
+        documentParameterValidator.validate(proxy, request, logger);
+
         final UpdateAssociationRequest updateAssociationRequest =
             updateAssociationTranslator.resourceModelToRequest(requestModel);
 
@@ -1,6 +1,8 @@
 package com.amazonaws.ssm.association;
 
+import com.amazonaws.ssm.association.translator.AssociationTranslator;
 import com.amazonaws.ssm.association.translator.ExceptionTranslator;
+import com.amazonaws.ssm.association.translator.request.ListAssociationsTranslator;
 import com.amazonaws.ssm.association.util.ResourceHandlerRequestToStringConverter;
 import com.amazonaws.ssm.association.util.ResourceModelToStringConverter;
 import com.amazonaws.ssm.association.util.SsmClientBuilder;
@@ -18,12 +20,14 @@ import javax.annotation.Nullable;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class ListHandler extends BaseHandler<CallbackContext> {
+public class ListHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
 
     private final ExceptionTranslator exceptionTranslator;
     private final ResourceHandlerRequestToStringConverter requestToStringConverter;
+    private final ListAssociationsTranslator listAssociationsTranslator;
+    private final AssociationTranslator associationTranslator;
 
     private static final int MaxResults = 50;
 
@@ -33,6 +37,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
     ListHandler() {
         this.exceptionTranslator = new ExceptionTranslator();
         this.requestToStringConverter = new ResourceHandlerRequestToStringConverter(new ResourceModelToStringConverter());
+        this.listAssociationsTranslator = new ListAssociationsTranslator();
+        this.associationTranslator = new AssociationTranslator();
     }
 
     /**
@@ -40,25 +46,31 @@ public class ListHandler extends BaseHandler<CallbackContext> {
      *
      * @param exceptionTranslator Translates service model exceptions.
      * @param requestToStringConverter ResourceHandlerRequestToStringConverter used to convert requests to Strings.
+     * @param listAssociationsTranslator Translates the ResourceModel into a filtered ListAssociationsRequest.
+     * @param associationTranslator Translates Association into ResourceModel objects.
      */
     ListHandler(final ExceptionTranslator exceptionTranslator,
-                final ResourceHandlerRequestToStringConverter requestToStringConverter) {
+                final ResourceHandlerRequestToStringConverter requestToStringConverter,
+                final ListAssociationsTranslator listAssociationsTranslator,
+                final AssociationTranslator associationTranslator) {
         this.exceptionTranslator = exceptionTranslator;
         this.requestToStringConverter = requestToStringConverter;
+        this.listAssociationsTranslator = listAssociationsTranslator;
+        this.associationTranslator = associationTranslator;
     }
 
     private ListAssociationsRequest generateListAssociationsRequest(
         @Nullable final String nextToken,
         @Nullable final ResourceModel model) {
 
-        return ListAssociationsRequest.builder()
+        return listAssociationsTranslator.resourceModelToRequest(model).toBuilder()
             .maxResults(MaxResults)
             .nextToken(nextToken)
             .build();
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -78,9 +90,10 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final ListAssociationsResponse listAssociationsResponse =
                 proxy.injectCredentialsAndInvokeV2(listAssociationRequest, SSM_CLIENT::listAssociations);
 
+            // Association carries most of the model, so the page is returned without describing every association
             final List<ResourceModel> existingModels = listAssociationsResponse
                 .associations()
-                .stream().map(association -> ResourceModel.builder().associationId(association.associationId()).build()).collect(Collectors.toList());
+                .stream().map(associationTranslator::associationToResourceModel).collect(Collectors.toList());
 
             progressEvent.setResourceModels(existingModels);
             progressEvent.setStatus(OperationStatus.SUCCESS);
@@ -20,7 +20,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 /**
  * Handles read requests for a given resource.
  */
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
 
@@ -53,7 +53,7 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -13,7 +13,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 /**
  * Handles update requests on a given resource.
  */
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
 
@@ -48,7 +48,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
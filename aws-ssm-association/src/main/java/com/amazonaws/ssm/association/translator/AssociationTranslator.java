@@ -0,0 +1,70 @@
+package com.amazonaws.ssm.association.translator;
+
+import com.amazonaws.ssm.association.ResourceModel;
+import com.amazonaws.ssm.association.translator.property.TargetsListTranslator;
+import com.amazonaws.ssm.association.util.SimpleTypeValidator;
+import software.amazon.awssdk.services.ssm.model.Association;
+
+/**
+ * Object translator for converting State Manager's Association, as returned by ListAssociations, to ResourceModel object.
+ */
+public class AssociationTranslator {
+
+    private final SimpleTypeValidator simpleTypeValidator;
+    private final TargetsListTranslator targetsListTranslator;
+
+    /**
+     * Constructor that initializes all required fields.
+     */
+    public AssociationTranslator() {
+        this.simpleTypeValidator = new SimpleTypeValidator();
+        this.targetsListTranslator = new TargetsListTranslator();
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param simpleTypeValidator Validator for simple data types.
+     * @param targetsListTranslator PropertyTranslator for Targets List property.
+     */
+    public AssociationTranslator(final SimpleTypeValidator simpleTypeValidator,
+                                 final TargetsListTranslator targetsListTranslator) {
+        this.simpleTypeValidator = simpleTypeValidator;
+        this.targetsListTranslator = targetsListTranslator;
+    }
+
+    /**
+     * Converts State Manager's Association service object to ResourceModel. Association only carries a subset of
+     * the AssociationDescription fields; the properties it does not carry are left unset.
+     *
+     * @param association Association representing association to convert to the model.
+     * @return ResourceModel representation of the association.
+     */
+    public ResourceModel associationToResourceModel(final Association association) {
+
+        final ResourceModel model = new ResourceModel();
+
+        model.setAssociationId(association.associationId());
+        model.setName(association.name());
+
+        simpleTypeValidator.getValidatedString(association.associationName())
+            .ifPresent(model::setAssociationName);
+
+        simpleTypeValidator.getValidatedString(association.documentVersion())
+            .ifPresent(model::setDocumentVersion);
+
+        simpleTypeValidator.getValidatedString(association.instanceId())
+            .ifPresent(model::setInstanceId);
+
+        simpleTypeValidator.getValidatedString(association.scheduleExpression())
+            .ifPresent(model::setScheduleExpression);
+
+        targetsListTranslator.serviceModelPropertyToResourceModel(association.targets())
+            .ifPresent(model::setTargets);
+
+        simpleTypeValidator.getValidatedInteger(association.scheduleOffset())
+            .ifPresent(model::setScheduleOffset);
+
+        return model;
+    }
+}
@@ -1,10 +1,13 @@
 package com.amazonaws.ssm.association.translator;
 
 import com.amazonaws.ssm.association.ResourceModel;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.ssm.model.AssociationAlreadyExistsException;
 import software.amazon.awssdk.services.ssm.model.AssociationDoesNotExistException;
 import software.amazon.awssdk.services.ssm.model.AssociationLimitExceededException;
 import software.amazon.awssdk.services.ssm.model.AssociationVersionLimitExceededException;
+import software.amazon.awssdk.services.ssm.model.FailedCreateAssociation;
+import software.amazon.awssdk.services.ssm.model.Fault;
 import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
 import software.amazon.awssdk.services.ssm.model.InvalidAssociationVersionException;
 import software.amazon.awssdk.services.ssm.model.InvalidDocumentException;
@@ -14,6 +17,7 @@ import software.amazon.awssdk.services.ssm.model.InvalidOutputLocationException;
 import software.amazon.awssdk.services.ssm.model.InvalidParametersException;
 import software.amazon.awssdk.services.ssm.model.InvalidScheduleException;
 import software.amazon.awssdk.services.ssm.model.InvalidTargetException;
+import software.amazon.awssdk.services.ssm.model.SsmException;
 import software.amazon.awssdk.services.ssm.model.SsmRequest;
 import software.amazon.awssdk.services.ssm.model.TooManyUpdatesException;
 import software.amazon.awssdk.services.ssm.model.UnsupportedPlatformTypeException;
@@ -86,6 +90,37 @@ public class ExceptionTranslator {
         }
     }
 
+    /**
+     * Translates an entry that failed within a CreateAssociationBatch call to a CloudFormation exception.
+     * The batch response only reports a message and whether the fault was on the client or the server side,
+     * so the exception type is chosen by the fault.
+     *
+     * @param failure Failed entry returned by CreateAssociationBatch.
+     * @param request CreateAssociationBatch request the entry was part of.
+     * @param desiredResourceModel Resource model the failed entry was translated from.
+     * @return CloudFormation-type exception describing the failed entry.
+     */
+    public BaseHandlerException translateFromBatchFailure(final FailedCreateAssociation failure,
+                                                          final SsmRequest request,
+                                                          final ResourceModel desiredResourceModel) {
+        final AwsServiceException serviceException = SsmException.builder()
+            .message(String.format("%s: %s", getResourceModelIdentifier(desiredResourceModel), failure.message()))
+            .build();
+
+        if (failure.fault() == Fault.CLIENT) {
+
+            return new CfnInvalidRequestException(serviceException.getMessage(), serviceException);
+        } else if (failure.fault() == Fault.SERVER) {
+
+            return new CfnServiceInternalErrorException(
+                getClassNameWithoutRequestSuffix(request.getClass().getSimpleName()),
+                serviceException);
+        } else {
+            return new CfnGeneralServiceException(getClassNameWithoutRequestSuffix(request.getClass().getSimpleName()),
+                serviceException);
+        }
+    }
+
     /**
      * Removes suffix "Request" string from input class names.
      *
@@ -0,0 +1,94 @@
+package com.amazonaws.ssm.association.translator.request;
+
+import com.amazonaws.ssm.association.ResourceModel;
+import com.amazonaws.ssm.association.Target;
+import com.amazonaws.ssm.association.util.SimpleTypeValidator;
+import org.apache.commons.collections.CollectionUtils;
+import software.amazon.awssdk.services.ssm.model.AssociationFilter;
+import software.amazon.awssdk.services.ssm.model.AssociationFilterKey;
+import software.amazon.awssdk.services.ssm.model.ListAssociationsRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates ResourceModel objects into AWS SDK's ListAssociations requests, pushing the properties set on the
+ * model down to State Manager as association filters.
+ */
+public class ListAssociationsTranslator implements RequestTranslator<ListAssociationsRequest> {
+
+    private static final String RESOURCE_GROUP_TARGET_KEY = "resource-groups:Name";
+
+    private final SimpleTypeValidator simpleTypeValidator;
+
+    /**
+     * Constructor that initializes all required fields.
+     */
+    public ListAssociationsTranslator() {
+        this.simpleTypeValidator = new SimpleTypeValidator();
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param simpleTypeValidator Validator for simple data types.
+     */
+    public ListAssociationsTranslator(final SimpleTypeValidator simpleTypeValidator) {
+        this.simpleTypeValidator = simpleTypeValidator;
+    }
+
+    /**
+     * Converts ResourceModel object into ListAssociationsRequest.
+     *
+     * @param model ResourceModel to convert into a ListAssociationsRequest; null lists all associations.
+     * @return ListAssociationsRequest filtered by AssociationId, Name, AssociationName, InstanceId and
+     * ResourceGroupName when they are present on the model.
+     */
+    @Override
+    public ListAssociationsRequest resourceModelToRequest(final ResourceModel model) {
+        final ListAssociationsRequest.Builder listAssociationsRequestBuilder = ListAssociationsRequest.builder();
+
+        if (model == null) {
+            return listAssociationsRequestBuilder.build();
+        }
+
+        final List<AssociationFilter> filters = new ArrayList<>();
+
+        simpleTypeValidator.getValidatedString(model.getAssociationId())
+            .ifPresent(associationId -> filters.add(filter(AssociationFilterKey.ASSOCIATION_ID, associationId)));
+
+        simpleTypeValidator.getValidatedString(model.getName())
+            .ifPresent(name -> filters.add(filter(AssociationFilterKey.NAME, name)));
+
+        simpleTypeValidator.getValidatedString(model.getAssociationName())
+            .ifPresent(associationName -> filters.add(filter(AssociationFilterKey.ASSOCIATION_NAME, associationName)));
+
+        simpleTypeValidator.getValidatedString(model.getInstanceId())
+            .ifPresent(instanceId -> filters.add(filter(AssociationFilterKey.INSTANCE_ID, instanceId)));
+
+        if (CollectionUtils.isNotEmpty(model.getTargets())) {
+            for (final Target target : model.getTargets()) {
+                // The filter matches a single group, so only targets naming exactly one group can be pushed down
+                if (RESOURCE_GROUP_TARGET_KEY.equals(target.getKey())
+                    && target.getValues() != null
+                    && target.getValues().size() == 1) {
+                    filters.add(filter(AssociationFilterKey.RESOURCE_GROUP_NAME, target.getValues().get(0)));
+                }
+            }
+        }
+
+        // An empty filter list is rejected by the service, leave it unset instead
+        if (!filters.isEmpty()) {
+            listAssociationsRequestBuilder.associationFilterList(filters);
+        }
+
+        return listAssociationsRequestBuilder.build();
+    }
+
+    private static AssociationFilter filter(final AssociationFilterKey key, final String value) {
+        return AssociationFilter.builder()
+            .key(key)
+            .value(value)
+            .build();
+    }
+}
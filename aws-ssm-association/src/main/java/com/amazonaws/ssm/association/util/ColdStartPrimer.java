@@ -0,0 +1,105 @@
+package com.amazonaws.ssm.association.util;
+
+import com.amazonaws.ssm.association.CreateHandler;
+import com.amazonaws.ssm.association.DeleteHandler;
+import com.amazonaws.ssm.association.ListHandler;
+import com.amazonaws.ssm.association.ReadHandler;
+import com.amazonaws.ssm.association.UpdateHandler;
+import com.amazonaws.ssm.association.ResourceModel;
+import com.amazonaws.ssm.association.Target;
+import com.amazonaws.ssm.association.translator.AssociationDescriptionTranslator;
+import com.amazonaws.ssm.association.translator.request.CreateAssociationTranslator;
+import com.amazonaws.ssm.association.translator.request.UpdateAssociationTranslator;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.AssociationDescription;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Primes a fresh container before its first invocation. Building the SSM clients of the handlers, running a
+ * synthetic request through the SDK marshallers and signer against an in-process stub and running the translators
+ * once moves class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_ASSOCIATION_ID = "00000000-0000-0000-0000-000000000000";
+
+    private static final List<Class<?>> HANDLERS = Arrays.asList(
+            CreateHandler.class, ReadHandler.class, UpdateHandler.class, DeleteHandler.class, ListHandler.class);
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ColdStartPriming.initialize(HANDLERS);
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.createAssociation(new CreateAssociationTranslator().resourceModelToRequest(sampleModel()));
+        stubClient.describeAssociation(DescribeAssociationRequest.builder()
+                .associationId(SAMPLE_ASSOCIATION_ID)
+                .build());
+    }
+
+    private static void primeTranslators() {
+        new UpdateAssociationTranslator().resourceModelToRequest(sampleModel());
+        new AssociationDescriptionTranslator().associationDescriptionToResourceModel(AssociationDescription.builder()
+                .associationId(SAMPLE_ASSOCIATION_ID)
+                .name("AWS-RunShellScript")
+                .parameters(Collections.singletonMap("commands", Collections.singletonList("echo priming")))
+                .scheduleExpression("rate(30 minutes)")
+                .targets(software.amazon.awssdk.services.ssm.model.Target.builder()
+                        .key("InstanceIds")
+                        .values("i-00000000000000000")
+                        .build())
+                .build());
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .associationId(SAMPLE_ASSOCIATION_ID)
+                .name("AWS-RunShellScript")
+                .parameters(Collections.singletonMap("commands", Collections.singletonList("echo priming")))
+                .scheduleExpression("rate(30 minutes)")
+                .targets(Collections.singletonList(
+                        new Target("InstanceIds", Collections.singletonList("i-00000000000000000"))))
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.amazonaws.ssm.association.util;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.DocumentParameter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-local record of the parameter definitions of the documents associations point to, keyed by account,
+ * region, document name and version. Stacks tend to point many associations at the same document, so the
+ * definitions are described once and reused until they expire; the expiry bounds how long a new $DEFAULT or
+ * $LATEST version goes unnoticed.
+ */
+public class DocumentParameterCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    static final int MAX_ENTRIES = 500;
+
+    private static final String DEFAULT_VERSION = "$DEFAULT";
+
+    private static final DocumentParameterCache INSTANCE = new DocumentParameterCache();
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Clock clock;
+
+    public DocumentParameterCache() {
+        this(DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ttl how long the definitions of a document are kept
+     * @param clock clock used to expire entries
+     */
+    DocumentParameterCache(final Duration ttl, final Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the cache shared by all handlers running in this container
+     */
+    public static DocumentParameterCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Look up the parameter definitions of a document.
+     * @param accountId account the document is read from
+     * @param region region the document is read from
+     * @param documentName name or ARN of the document
+     * @param documentVersion version of the document, null for the default version
+     * @return the definitions, or Optional.empty() when nothing is cached or the entry expired
+     */
+    public Optional<List<DocumentParameter>> get(final String accountId,
+                                                 final String region,
+                                                 final String documentName,
+                                                 final String documentVersion) {
+        final String key = key(accountId, region, documentName, documentVersion);
+        final CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.getParameters());
+    }
+
+    /**
+     * Remember the parameter definitions of a document.
+     * @param accountId account the document was read from
+     * @param region region the document was read from
+     * @param documentName name or ARN of the document
+     * @param documentVersion version of the document, null for the default version
+     * @param parameters parameter definitions returned by DescribeDocument
+     */
+    public void put(final String accountId,
+                    final String region,
+                    final String documentName,
+                    final String documentVersion,
+                    final List<DocumentParameter> parameters) {
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(this::isExpired);
+            if (entries.size() >= MAX_ENTRIES) {
+                // The definitions only save a describe, so keep the memory bounded rather than the entry
+                return;
+            }
+        }
+        entries.put(key(accountId, region, documentName, documentVersion),
+            new CacheEntry(parameters, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private boolean isExpired(final CacheEntry entry) {
+        return !clock.instant().isBefore(entry.getExpiresAt());
+    }
+
+    private static String key(final String accountId,
+                              final String region,
+                              final String documentName,
+                              final String documentVersion) {
+        return String.join("|", accountId, region, documentName,
+            documentVersion == null ? DEFAULT_VERSION : documentVersion);
+    }
+
+    @Value
+    private static class CacheEntry {
+        List<DocumentParameter> parameters;
+        Instant expiresAt;
+    }
+}
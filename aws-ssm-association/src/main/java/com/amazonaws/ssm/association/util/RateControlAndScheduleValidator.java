@@ -0,0 +1,275 @@
+package com.amazonaws.ssm.association.util;
+
+import com.amazonaws.ssm.association.ResourceModel;
+import lombok.Value;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Validates the rate control and schedule properties of an association the way State Manager does, so that the
+ * most common invalid associations are rejected before any API call is made.
+ *
+ * Parsed schedule expressions are kept in a bounded container-wide cache, stacks tend to repeat the same few
+ * schedules across many associations.
+ */
+public class RateControlAndScheduleValidator {
+
+    static final int MAX_CACHED_EXPRESSIONS = 1000;
+
+    private static final int MAX_SCHEDULE_EXPRESSION_LENGTH = 256;
+    private static final int MIN_RATE_MINUTES = 30;
+    private static final int MIN_SCHEDULE_OFFSET = 1;
+    private static final int MAX_SCHEDULE_OFFSET = 6;
+
+    private static final Pattern MAX_CONCURRENCY = Pattern.compile("^([1-9][0-9]{0,6}|[1-9][0-9]%|[1-9]%|100%)$");
+    private static final Pattern MAX_ERRORS = Pattern.compile("^([1-9][0-9]{0,6}|0|[1-9][0-9]%|[0-9]%|100%)$");
+    private static final Pattern RATE = Pattern.compile("^rate\\((\\d{1,9}) (minutes?|hours?|days?)\\)$");
+    private static final Pattern CRON = Pattern.compile("^cron\\((.*)\\)$");
+    private static final Pattern NUMBER = Pattern.compile("^\\d{1,4}$");
+
+    private static final List<String> MONTHS =
+        Arrays.asList("JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC");
+    private static final List<String> DAYS = Arrays.asList("SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT");
+
+    private static final CronField SECONDS = new CronField("seconds", 0, 59, Collections.emptyList(), false);
+    private static final CronField MINUTES = new CronField("minutes", 0, 59, Collections.emptyList(), false);
+    private static final CronField HOURS = new CronField("hours", 0, 23, Collections.emptyList(), false);
+    private static final CronField DAY_OF_MONTH = new CronField("day-of-month", 1, 31, Collections.emptyList(), true);
+    private static final CronField MONTH = new CronField("month", 1, 12, MONTHS, false);
+    private static final CronField DAY_OF_WEEK = new CronField("day-of-week", 1, 7, DAYS, true);
+    private static final CronField YEAR = new CronField("year", 1970, 2199, Collections.emptyList(), false);
+
+    private static final List<CronField> SIX_FIELDS = Arrays.asList(MINUTES, HOURS, DAY_OF_MONTH, MONTH, DAY_OF_WEEK, YEAR);
+    private static final List<CronField> SEVEN_FIELDS =
+        Arrays.asList(SECONDS, MINUTES, HOURS, DAY_OF_MONTH, MONTH, DAY_OF_WEEK, YEAR);
+
+    private static final Map<String, ParsedSchedule> PARSED_SCHEDULES = new ConcurrentHashMap<>();
+
+    /**
+     * Validates MaxConcurrency, MaxErrors, ScheduleExpression, ScheduleOffset and ApplyOnlyAtCronInterval.
+     *
+     * @param model ResourceModel of the association to create or update.
+     * @throws CfnInvalidRequestException listing every invalid property or combination.
+     */
+    public void validate(final ResourceModel model) {
+        final List<String> problems = new ArrayList<>();
+
+        if (model.getMaxConcurrency() != null && !MAX_CONCURRENCY.matcher(model.getMaxConcurrency()).matches()) {
+            problems.add(String.format("MaxConcurrency %s must be a number from 1 or a percentage from 1%% to 100%%",
+                model.getMaxConcurrency()));
+        }
+
+        if (model.getMaxErrors() != null && !MAX_ERRORS.matcher(model.getMaxErrors()).matches()) {
+            problems.add(String.format("MaxErrors %s must be a number from 0 or a percentage from 0%% to 100%%",
+                model.getMaxErrors()));
+        }
+
+        final ParsedSchedule schedule = model.getScheduleExpression() == null
+            ? null
+            : parse(model.getScheduleExpression());
+        if (schedule != null && schedule.getProblem() != null) {
+            problems.add(schedule.getProblem());
+        }
+        final boolean cron = schedule != null && schedule.isCron() && schedule.getProblem() == null;
+
+        if (model.getScheduleOffset() != null) {
+            if (model.getScheduleOffset() < MIN_SCHEDULE_OFFSET || model.getScheduleOffset() > MAX_SCHEDULE_OFFSET) {
+                problems.add(String.format("ScheduleOffset %d must be from %d to %d days",
+                    model.getScheduleOffset(), MIN_SCHEDULE_OFFSET, MAX_SCHEDULE_OFFSET));
+            }
+            if (!cron) {
+                problems.add("ScheduleOffset can only be used with a cron ScheduleExpression");
+            }
+        }
+
+        if (Boolean.TRUE.equals(model.getApplyOnlyAtCronInterval()) && !cron) {
+            problems.add("ApplyOnlyAtCronInterval can only be used with a cron ScheduleExpression");
+        }
+
+        if (!problems.isEmpty()) {
+            throw new CfnInvalidRequestException(String.join("; ", problems));
+        }
+    }
+
+    /**
+     * Parses a schedule expression, reusing the result of earlier parses of the same expression.
+     */
+    static ParsedSchedule parse(final String expression) {
+        final ParsedSchedule cached = PARSED_SCHEDULES.get(expression);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ParsedSchedule parsed = parseUncached(expression);
+        // Expressions are only a few bytes, but keep the memory bounded against generated schedules
+        if (PARSED_SCHEDULES.size() < MAX_CACHED_EXPRESSIONS) {
+            PARSED_SCHEDULES.put(expression, parsed);
+        }
+        return parsed;
+    }
+
+    private static ParsedSchedule parseUncached(final String expression) {
+        if (expression.length() > MAX_SCHEDULE_EXPRESSION_LENGTH) {
+            return new ParsedSchedule(false, String.format("ScheduleExpression must be at most %d characters",
+                MAX_SCHEDULE_EXPRESSION_LENGTH));
+        }
+
+        final Matcher rate = RATE.matcher(expression);
+        if (rate.matches()) {
+            return new ParsedSchedule(false, validateRate(expression, Long.parseLong(rate.group(1)), rate.group(2)));
+        }
+
+        final Matcher cron = CRON.matcher(expression);
+        if (cron.matches()) {
+            return new ParsedSchedule(true, validateCron(expression, cron.group(1).trim()));
+        }
+
+        return new ParsedSchedule(false, String.format(
+            "ScheduleExpression %s must be a cron(...) or rate(...) expression", expression));
+    }
+
+    private static String validateRate(final String expression, final long value, final String unit) {
+        final long minutes;
+        if (unit.startsWith("minute")) {
+            minutes = value;
+        } else if (unit.startsWith("hour")) {
+            minutes = value * 60;
+        } else {
+            minutes = value * 60 * 24;
+        }
+
+        if (minutes < MIN_RATE_MINUTES) {
+            return String.format("ScheduleExpression %s must be at least %d minutes", expression, MIN_RATE_MINUTES);
+        }
+        return null;
+    }
+
+    private static String validateCron(final String expression, final String body) {
+        final String[] values = body.split("\\s+");
+        final List<CronField> fields;
+        if (values.length == SIX_FIELDS.size()) {
+            fields = SIX_FIELDS;
+        } else if (values.length == SEVEN_FIELDS.size()) {
+            fields = SEVEN_FIELDS;
+        } else {
+            return String.format("ScheduleExpression %s must have 6 or 7 cron fields", expression);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (!fields.get(i).accepts(values[i])) {
+                return String.format("ScheduleExpression %s has an invalid %s field %s",
+                    expression, fields.get(i).getName(), values[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Result of parsing a schedule expression.
+     */
+    @Value
+    static class ParsedSchedule {
+        boolean cron;
+
+        /**
+         * Why the expression is invalid, null when it is valid.
+         */
+        String problem;
+    }
+
+    @Value
+    private static class CronField {
+        String name;
+        int min;
+        int max;
+        List<String> names;
+
+        /**
+         * Whether ?, L, W and # are allowed, i.e. day-of-month and day-of-week.
+         */
+        boolean day;
+
+        boolean accepts(final String value) {
+            for (final String element : value.split(",", -1)) {
+                if (!acceptsElement(element.toUpperCase(Locale.ROOT))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean acceptsElement(final String element) {
+            final int slash = element.indexOf('/');
+            if (slash >= 0) {
+                final String step = element.substring(slash + 1);
+                if (!NUMBER.matcher(step).matches() || Integer.parseInt(step) == 0) {
+                    return false;
+                }
+                return acceptsRange(element.substring(0, slash));
+            }
+
+            if (day && element.equals("?")) {
+                return true;
+            }
+            if (day && isDaySpecial(element)) {
+                return true;
+            }
+            return acceptsRange(element);
+        }
+
+        private boolean acceptsRange(final String range) {
+            if (range.equals("*")) {
+                return true;
+            }
+            final int dash = range.indexOf('-', 1);
+            if (dash > 0) {
+                return acceptsValue(range.substring(0, dash)) && acceptsValue(range.substring(dash + 1));
+            }
+            return acceptsValue(range);
+        }
+
+        private boolean acceptsValue(final String value) {
+            if (NUMBER.matcher(value).matches()) {
+                final int number = Integer.parseInt(value);
+                return number >= min && number <= max;
+            }
+            return names.contains(value);
+        }
+
+        /**
+         * L and W of day-of-month, L and # of day-of-week.
+         */
+        private boolean isDaySpecial(final String element) {
+            if (element.equals("L")) {
+                return true;
+            }
+            if (names.isEmpty()) {
+                return element.equals("LW")
+                    || (element.startsWith("L-") && acceptsOffset(element.substring(2)))
+                    || (element.endsWith("W") && acceptsValue(element.substring(0, element.length() - 1)));
+            }
+            final int hash = element.indexOf('#');
+            if (hash > 0) {
+                final String occurrence = element.substring(hash + 1);
+                return acceptsValue(element.substring(0, hash))
+                    && NUMBER.matcher(occurrence).matches()
+                    && Integer.parseInt(occurrence) >= 1
+                    && Integer.parseInt(occurrence) <= 5;
+            }
+            return element.endsWith("L") && acceptsValue(element.substring(0, element.length() - 1));
+        }
+
+        private boolean acceptsOffset(final String offset) {
+            return NUMBER.matcher(offset).matches() && Integer.parseInt(offset) <= max - 1;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.amazonaws.ssm.association.util;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 /**
  * Builder of AWS SDK's SsmClient.
@@ -17,6 +18,7 @@ public class SsmClientBuilder {
         return SsmClient.builder()
             .overrideConfiguration(ClientOverrideConfiguration.builder()
                 .retryPolicy(RetryPolicy.builder().numRetries(16).build())
+                .addExecutionInterceptor(new ApiCallMetricsInterceptor())
                 .build())
             .build();
     }
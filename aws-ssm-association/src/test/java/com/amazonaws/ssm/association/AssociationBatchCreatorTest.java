@@ -0,0 +1,217 @@
+package com.amazonaws.ssm.association;
+
+import com.amazonaws.ssm.association.translator.AssociationDescriptionTranslator;
+import com.amazonaws.ssm.association.translator.ExceptionTranslator;
+import com.amazonaws.ssm.association.translator.request.CreateAssociationTranslator;
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.AssociationDescription;
+import software.amazon.awssdk.services.ssm.model.AssociationLimitExceededException;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequest;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequestEntry;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchResponse;
+import software.amazon.awssdk.services.ssm.model.FailedCreateAssociation;
+import software.amazon.awssdk.services.ssm.model.Fault;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.amazonaws.ssm.association.TestsInputs.DOCUMENT_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.MODEL_TARGETS;
+import static com.amazonaws.ssm.association.TestsInputs.SCHEDULE_EXPRESSION;
+import static com.amazonaws.ssm.association.TestsInputs.SERVICE_TARGETS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssociationBatchCreatorTest {
+
+    @Mock
+    private SsmClient ssmClient;
+
+    private AssociationBatchCreator associationBatchCreator;
+
+    @BeforeEach
+    void setup() {
+        associationBatchCreator = new AssociationBatchCreator(ssmClient, RateLimiter.create(1000), 2,
+            new CreateAssociationTranslator(), new AssociationDescriptionTranslator(), new ExceptionTranslator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifyNoMoreInteractions(ssmClient);
+    }
+
+    @Test
+    void createSendsBatchesOfTenAndKeysResultsByInputPosition() {
+        final List<ResourceModel> models = models(25);
+        when(ssmClient.createAssociationBatch(any(CreateAssociationBatchRequest.class))).thenAnswer(invocation -> {
+            final CreateAssociationBatchRequest request = invocation.getArgument(0);
+            return CreateAssociationBatchResponse.builder()
+                // successes come back in a different order than they were sent
+                .successful(request.entries().stream()
+                    .sorted((left, right) -> right.associationName().compareTo(left.associationName()))
+                    .map(AssociationBatchCreatorTest::created)
+                    .collect(Collectors.toList()))
+                .build();
+        });
+
+        final AssociationBatchCreator.BatchResult result = associationBatchCreator.create(models);
+
+        assertThat(result.getFailed()).isEmpty();
+        assertThat(result.getCreated()).hasSize(25);
+        result.getCreated().forEach((index, model) -> {
+            assertThat(model.getAssociationName()).isEqualTo(models.get(index).getAssociationName());
+            assertThat(model.getAssociationId()).isEqualTo("id-" + models.get(index).getAssociationName());
+            assertThat(model.getTargets()).isEqualTo(MODEL_TARGETS);
+        });
+
+        final ArgumentCaptor<CreateAssociationBatchRequest> requests =
+            ArgumentCaptor.forClass(CreateAssociationBatchRequest.class);
+        verify(ssmClient, times(3)).createAssociationBatch(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(request -> request.entries().size())
+            .containsExactlyInAnyOrder(10, 10, 5);
+    }
+
+    @Test
+    void createMapsPartialFailuresToTheFailedModels() {
+        final List<ResourceModel> models = models(3);
+        when(ssmClient.createAssociationBatch(any(CreateAssociationBatchRequest.class))).thenAnswer(invocation -> {
+            final CreateAssociationBatchRequest request = invocation.getArgument(0);
+            return CreateAssociationBatchResponse.builder()
+                .successful(created(request.entries().get(0)), created(request.entries().get(2)))
+                .failed(FailedCreateAssociation.builder()
+                    .entry(request.entries().get(1))
+                    .fault(Fault.CLIENT)
+                    .message("Invalid schedule")
+                    .build())
+                .build();
+        });
+
+        final AssociationBatchCreator.BatchResult result = associationBatchCreator.create(models);
+
+        assertThat(result.getCreated().keySet()).containsExactly(0, 2);
+        assertThat(result.getFailed().keySet()).containsExactly(1);
+        assertThat(result.getFailed().get(1))
+            .isInstanceOf(CfnInvalidRequestException.class)
+            .hasMessageContaining("Invalid schedule");
+
+        verify(ssmClient).createAssociationBatch(any(CreateAssociationBatchRequest.class));
+    }
+
+    @Test
+    void createSendsModelsThatCannotBeToldApartInSeparateCalls() {
+        final List<ResourceModel> models = new ArrayList<>(models(2));
+        models.add(ResourceModel.builder()
+            .name(DOCUMENT_NAME)
+            .associationName(models.get(0).getAssociationName())
+            .targets(MODEL_TARGETS)
+            .scheduleExpression("rate(1 day)")
+            .build());
+        when(ssmClient.createAssociationBatch(any(CreateAssociationBatchRequest.class))).thenAnswer(invocation -> {
+            final CreateAssociationBatchRequest request = invocation.getArgument(0);
+            return CreateAssociationBatchResponse.builder()
+                .successful(request.entries().stream()
+                    .map(AssociationBatchCreatorTest::created)
+                    .collect(Collectors.toList()))
+                .build();
+        });
+
+        final AssociationBatchCreator.BatchResult result = associationBatchCreator.create(models);
+
+        assertThat(result.getFailed()).isEmpty();
+        assertThat(result.getCreated().keySet()).containsExactly(0, 1, 2);
+        result.getCreated().forEach((index, model) ->
+            assertThat(model.getScheduleExpression()).isEqualTo(models.get(index).getScheduleExpression()));
+
+        final ArgumentCaptor<CreateAssociationBatchRequest> requests =
+            ArgumentCaptor.forClass(CreateAssociationBatchRequest.class);
+        verify(ssmClient, times(2)).createAssociationBatch(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(request -> request.entries().size())
+            .containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    void createFailsModelsWhoseResultCannotBeMatchedInsteadOfGuessing() {
+        final List<ResourceModel> models = models(2);
+        when(ssmClient.createAssociationBatch(any(CreateAssociationBatchRequest.class))).thenAnswer(invocation -> {
+            final CreateAssociationBatchRequest request = invocation.getArgument(0);
+            return CreateAssociationBatchResponse.builder()
+                .successful(created(request.entries().get(0)),
+                    created(request.entries().get(1).toBuilder().associationName("Renamed").build()))
+                .build();
+        });
+
+        final AssociationBatchCreator.BatchResult result = associationBatchCreator.create(models);
+
+        assertThat(result.getCreated().keySet()).containsExactly(0);
+        assertThat(result.getFailed().keySet()).containsExactly(1);
+        assertThat(result.getFailed().get(1)).isInstanceOf(CfnGeneralServiceException.class);
+        assertThat(result.getFailed().get(1).getCause())
+            .hasMessageContaining("CreateAssociationBatch returned no result that could be matched to this association");
+
+        verify(ssmClient).createAssociationBatch(any(CreateAssociationBatchRequest.class));
+    }
+
+    @Test
+    void createTranslatesAFailedCallForEveryModelOfTheBatch() {
+        final List<ResourceModel> models = models(2);
+        when(ssmClient.createAssociationBatch(any(CreateAssociationBatchRequest.class)))
+            .thenThrow(AssociationLimitExceededException.builder().message("Too many associations").build());
+
+        final AssociationBatchCreator.BatchResult result = associationBatchCreator.create(models);
+
+        assertThat(result.getCreated()).isEmpty();
+        assertThat(result.getFailed().keySet()).containsExactly(0, 1);
+        assertThat(result.getFailed().values()).allMatch(e -> e instanceof CfnServiceLimitExceededException);
+
+        verify(ssmClient).createAssociationBatch(any(CreateAssociationBatchRequest.class));
+    }
+
+    @Test
+    void createWithNoModelsDoesNotCallTheService() {
+        final AssociationBatchCreator.BatchResult result = associationBatchCreator.create(new ArrayList<>());
+
+        assertThat(result.getCreated()).isEmpty();
+        assertThat(result.getFailed()).isEmpty();
+    }
+
+    private static List<ResourceModel> models(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(index -> ResourceModel.builder()
+                .name(DOCUMENT_NAME)
+                .associationName(String.format("Association%02d", index))
+                .targets(MODEL_TARGETS)
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static AssociationDescription created(final CreateAssociationBatchRequestEntry entry) {
+        return AssociationDescription.builder()
+            .associationId("id-" + entry.associationName())
+            .associationName(entry.associationName())
+            .name(entry.name())
+            .targets(SERVICE_TARGETS)
+            .scheduleExpression(entry.scheduleExpression())
+            .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.amazonaws.ssm.association;
+
+import com.amazonaws.ssm.association.util.DocumentParameterCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.DocumentDescription;
+import software.amazon.awssdk.services.ssm.model.DocumentParameter;
+import software.amazon.awssdk.services.ssm.model.DocumentParameterType;
+import software.amazon.awssdk.services.ssm.model.InvalidDocumentException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentParameterValidatorTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String DOCUMENT_NAME = "AWS-RunShellScript";
+    private static final String DOCUMENT_VERSION = "2";
+
+    private static final DescribeDocumentRequest DESCRIBE_DOCUMENT_REQUEST = DescribeDocumentRequest.builder()
+        .name(DOCUMENT_NAME)
+        .documentVersion(DOCUMENT_VERSION)
+        .build();
+
+    private static final List<DocumentParameter> CACHED_DEFINITIONS = Collections.singletonList(
+        DocumentParameter.builder().name("commands").type(DocumentParameterType.STRING_LIST).build());
+
+    private DocumentParameterCache documentParameterCache;
+    private DocumentParameterValidator validator;
+    @Mock
+    private SsmClient ssmClient;
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        documentParameterCache = new DocumentParameterCache();
+        validator = new DocumentParameterValidator(ssmClient, documentParameterCache);
+    }
+
+    @Test
+    void validateAcceptsMatchingParametersAndDescribesTheDocumentOnce() {
+        stubDescribeDocument();
+
+        final Map<String, List<String>> parameters = new HashMap<>();
+        parameters.put("commands", Arrays.asList("echo one", "echo two"));
+        parameters.put("workingDirectory", Collections.singletonList("/tmp"));
+
+        validator.validate(proxy, request(parameters), logger);
+        validator.validate(proxy, request(parameters), logger);
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(eq(DESCRIBE_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, DescribeDocumentResponse>>any());
+    }
+
+    @Test
+    void validateRejectsUnknownMissingAndMistypedParameters() {
+        stubDescribeDocument();
+
+        final Map<String, List<String>> parameters = new HashMap<>();
+        parameters.put("comands", Collections.singletonList("echo one"));
+        parameters.put("workingDirectory", Arrays.asList("/tmp", "/var/tmp"));
+
+        final CfnInvalidRequestException exception = Assertions.assertThrows(CfnInvalidRequestException.class,
+            () -> validator.validate(proxy, request(parameters), logger));
+
+        assertThat(exception.getMessage())
+            .contains("unknown parameter comands")
+            .contains("parameter workingDirectory of type String takes a single value")
+            .contains("missing required parameter commands");
+    }
+
+    @Test
+    void validateSkipsWhenTheDocumentCannotBeDescribed() {
+        when(proxy.injectCredentialsAndInvokeV2(eq(DESCRIBE_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, DescribeDocumentResponse>>any()))
+            .thenThrow(InvalidDocumentException.builder().message("Document not found").build());
+
+        validator.validate(proxy, request(Collections.singletonMap("comands", Collections.singletonList("ls"))), logger);
+
+        verify(logger).log(ArgumentMatchers.contains("Skipping parameter validation"));
+    }
+
+    @Test
+    void validateSkipsRequestsWithoutAccountAndRegion() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().name(DOCUMENT_NAME).build())
+            .build();
+
+        validator.validate(proxy, request, logger);
+
+        verifyZeroInteractions(proxy);
+    }
+
+    @Test
+    void validateDescribesTheDefaultVersionAgainWhenCachedDefinitionsReject() {
+        documentParameterCache.put(ACCOUNT_ID, REGION, DOCUMENT_NAME, null, CACHED_DEFINITIONS);
+        final DescribeDocumentRequest describeDefaultVersionRequest = DescribeDocumentRequest.builder()
+            .name(DOCUMENT_NAME)
+            .build();
+        stubDescribeDocument(describeDefaultVersionRequest);
+
+        final Map<String, List<String>> parameters = new HashMap<>();
+        parameters.put("commands", Collections.singletonList("echo one"));
+        parameters.put("executionTimeout", Collections.singletonList("60"));
+
+        validator.validate(proxy, request(parameters, null), logger);
+
+        verify(proxy).injectCredentialsAndInvokeV2(eq(describeDefaultVersionRequest),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, DescribeDocumentResponse>>any());
+        assertThat(documentParameterCache.get(ACCOUNT_ID, REGION, DOCUMENT_NAME, null).get()).hasSize(3);
+    }
+
+    @Test
+    void validateRejectsFromCachedDefinitionsOfAPinnedVersion() {
+        documentParameterCache.put(ACCOUNT_ID, REGION, DOCUMENT_NAME, DOCUMENT_VERSION, CACHED_DEFINITIONS);
+
+        final Map<String, List<String>> parameters = new HashMap<>();
+        parameters.put("commands", Collections.singletonList("echo one"));
+        parameters.put("executionTimeout", Collections.singletonList("60"));
+
+        final CfnInvalidRequestException exception = Assertions.assertThrows(CfnInvalidRequestException.class,
+            () -> validator.validate(proxy, request(parameters), logger));
+
+        assertThat(exception.getMessage()).contains("unknown parameter executionTimeout");
+        verifyZeroInteractions(proxy);
+    }
+
+    private void stubDescribeDocument() {
+        stubDescribeDocument(DESCRIBE_DOCUMENT_REQUEST);
+    }
+
+    private void stubDescribeDocument(final DescribeDocumentRequest describeDocumentRequest) {
+        final DocumentDescription document = DocumentDescription.builder()
+            .name(DOCUMENT_NAME)
+            .parameters(
+                DocumentParameter.builder().name("commands").type(DocumentParameterType.STRING_LIST).build(),
+                DocumentParameter.builder().name("workingDirectory").type(DocumentParameterType.STRING)
+                    .defaultValue("").build(),
+                DocumentParameter.builder().name("executionTimeout").type(DocumentParameterType.STRING)
+                    .defaultValue("3600").build())
+            .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(eq(describeDocumentRequest),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, DescribeDocumentResponse>>any()))
+            .thenReturn(DescribeDocumentResponse.builder().document(document).build());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final Map<String, List<String>> parameters) {
+        return request(parameters, DOCUMENT_VERSION);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final Map<String, List<String>> parameters,
+                                                                 final String documentVersion) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(ACCOUNT_ID)
+            .region(REGION)
+            .desiredResourceState(ResourceModel.builder()
+                .name(DOCUMENT_NAME)
+                .documentVersion(documentVersion)
+                .parameters(parameters)
+                .build())
+            .build();
+    }
+}
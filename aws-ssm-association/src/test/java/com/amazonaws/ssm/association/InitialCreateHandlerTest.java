@@ -3,6 +3,7 @@ package com.amazonaws.ssm.association;
 import com.amazonaws.ssm.association.translator.AssociationDescriptionTranslator;
 import com.amazonaws.ssm.association.translator.ExceptionTranslator;
 import com.amazonaws.ssm.association.translator.request.CreateAssociationTranslator;
+import com.amazonaws.ssm.association.util.CreateReplayCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,10 @@ import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.AssociationDescription;
 import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
 import software.amazon.awssdk.services.ssm.model.CreateAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationResponse;
 import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -25,6 +29,7 @@ import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -33,8 +38,9 @@ import static org.mockito.Mockito.when;
 class InitialCreateHandlerTest {
 
     private static final String DOCUMENT_NAME = "TestDocument";
-    private static final String SCHEDULE_EXPRESSION = "rate(30)";
+    private static final String SCHEDULE_EXPRESSION = "rate(30 minutes)";
     private static final String ASSOCIATION_ID = "test-12345-associationId";
+    private static final String CLIENT_REQUEST_TOKEN = "FakeClientRequestToken";
 
     private InitialCreateHandler handler;
     @Mock
@@ -51,6 +57,8 @@ class InitialCreateHandlerTest {
     private ExceptionTranslator exceptionTranslator;
     @Mock
     private InProgressEventCreator inProgressEventCreator;
+    @Mock
+    private DocumentParameterValidator documentParameterValidator;
 
     @BeforeEach
     void setUp() {
@@ -223,4 +231,112 @@ class InitialCreateHandlerTest {
         verify(exceptionTranslator)
             .translateFromServiceException(serviceException, createAssociationRequest, model);
     }
+
+    @Test
+    void handleReplayedCreateRequestDescribesCreatedAssociation() {
+        final CreateReplayCache createReplayCache = new CreateReplayCache();
+        handler = new InitialCreateHandler(ssmClient,
+            createAssociationTranslator,
+            associationDescriptionTranslator,
+            exceptionTranslator,
+            inProgressEventCreator,
+            createReplayCache);
+        createReplayCache.put(CLIENT_REQUEST_TOKEN, ASSOCIATION_ID);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(DOCUMENT_NAME)
+            .scheduleExpression(SCHEDULE_EXPRESSION)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .clientRequestToken(CLIENT_REQUEST_TOKEN)
+            .build();
+
+        final AssociationDescription associationDescription =
+            AssociationDescription.builder()
+                .associationId(ASSOCIATION_ID)
+                .name(DOCUMENT_NAME)
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .build();
+
+        when(
+            proxy.injectCredentialsAndInvokeV2(
+                eq(DescribeAssociationRequest.builder().associationId(ASSOCIATION_ID).build()),
+                ArgumentMatchers.<Function<DescribeAssociationRequest, DescribeAssociationResponse>>any()))
+            .thenReturn(DescribeAssociationResponse.builder().associationDescription(associationDescription).build());
+
+        final ResourceModel expectedModel = ResourceModel.builder()
+            .associationId(ASSOCIATION_ID)
+            .name(DOCUMENT_NAME)
+            .scheduleExpression(SCHEDULE_EXPRESSION)
+            .build();
+
+        when(associationDescriptionTranslator.associationDescriptionToResourceModel(associationDescription))
+            .thenReturn(expectedModel);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+            = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isEqualTo(ProgressEvent.defaultSuccessHandler(expectedModel));
+        verifyZeroInteractions(createAssociationTranslator);
+        verifyZeroInteractions(exceptionTranslator);
+    }
+
+    @Test
+    void handleInitialCreateRequestWithInvalidParametersDoesNotCreate() {
+        handler = new InitialCreateHandler(ssmClient,
+            createAssociationTranslator,
+            associationDescriptionTranslator,
+            exceptionTranslator,
+            inProgressEventCreator,
+            new CreateReplayCache(),
+            documentParameterValidator);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(DOCUMENT_NAME)
+            .scheduleExpression(SCHEDULE_EXPRESSION)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        doThrow(new CfnInvalidRequestException("Parameters do not match document"))
+            .when(documentParameterValidator).validate(proxy, request, logger);
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> {
+            handler.handleRequest(proxy, request, null, logger);
+        });
+        verifyZeroInteractions(proxy);
+        verifyZeroInteractions(createAssociationTranslator);
+    }
+
+    @Test
+    void handleInitialCreateRequestWithScheduleOffsetOnRateDoesNotCreate() {
+        handler = new InitialCreateHandler(ssmClient,
+            createAssociationTranslator,
+            associationDescriptionTranslator,
+            exceptionTranslator,
+            inProgressEventCreator,
+            new CreateReplayCache(),
+            documentParameterValidator);
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(DOCUMENT_NAME)
+            .scheduleExpression(SCHEDULE_EXPRESSION)
+            .scheduleOffset(2)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> {
+            handler.handleRequest(proxy, request, null, logger);
+        });
+        verifyZeroInteractions(proxy);
+        verifyZeroInteractions(documentParameterValidator);
+        verifyZeroInteractions(createAssociationTranslator);
+    }
 }
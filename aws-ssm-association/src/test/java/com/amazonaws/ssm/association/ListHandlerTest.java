@@ -1,6 +1,8 @@
 package com.amazonaws.ssm.association;
 
+import com.amazonaws.ssm.association.translator.AssociationTranslator;
 import com.amazonaws.ssm.association.translator.ExceptionTranslator;
+import com.amazonaws.ssm.association.translator.request.ListAssociationsTranslator;
 import com.amazonaws.ssm.association.util.ResourceHandlerRequestToStringConverter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.ssm.model.Association;
+import software.amazon.awssdk.services.ssm.model.AssociationFilter;
+import software.amazon.awssdk.services.ssm.model.AssociationFilterKey;
 import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
 import software.amazon.awssdk.services.ssm.model.ListAssociationsRequest;
 import software.amazon.awssdk.services.ssm.model.ListAssociationsResponse;
@@ -22,7 +26,13 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.Arrays;
 import java.util.UUID;
 
+import static com.amazonaws.ssm.association.TestsInputs.ASSOCIATION_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.DOCUMENT_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.DOCUMENT_VERSION;
 import static com.amazonaws.ssm.association.TestsInputs.LOGGED_RESOURCE_HANDLER_REQUEST;
+import static com.amazonaws.ssm.association.TestsInputs.MODEL_TARGETS;
+import static com.amazonaws.ssm.association.TestsInputs.SCHEDULE_EXPRESSION;
+import static com.amazonaws.ssm.association.TestsInputs.SERVICE_TARGETS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -54,7 +64,8 @@ class ListHandlerTest {
 
     @BeforeEach
     void setup() {
-        handler = new ListHandler(exceptionTranslator, requestToStringConverter);
+        handler = new ListHandler(exceptionTranslator, requestToStringConverter,
+            new ListAssociationsTranslator(), new AssociationTranslator());
     }
 
     @Test
@@ -140,6 +151,53 @@ class ListHandlerTest {
         verifyZeroInteractions(exceptionTranslator);
     }
 
+    @Test
+    void handleRequest_HydratesModelsAndPushesFiltersDown() {
+        when(requestToStringConverter.convert(any())).thenReturn(LOGGED_RESOURCE_HANDLER_REQUEST);
+
+        final ListAssociationsRequest expectedListAssociationsRequest = ListAssociationsRequest.builder()
+            .associationFilterList(AssociationFilter.builder()
+                .key(AssociationFilterKey.NAME)
+                .value(DOCUMENT_NAME)
+                .build())
+            .nextToken(token1)
+            .maxResults(50)
+            .build();
+
+        final ListAssociationsResponse listAssociationsResponse = ListAssociationsResponse.builder()
+            .associations(Association.builder()
+                .associationId(AssociationId1)
+                .associationName(ASSOCIATION_NAME)
+                .name(DOCUMENT_NAME)
+                .documentVersion(DOCUMENT_VERSION)
+                .targets(SERVICE_TARGETS)
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .build())
+            .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(eq(expectedListAssociationsRequest), any())).thenReturn(listAssociationsResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .nextToken(token1)
+            .desiredResourceState(ResourceModel.builder().name(DOCUMENT_NAME).build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder()
+            .associationId(AssociationId1)
+            .associationName(ASSOCIATION_NAME)
+            .name(DOCUMENT_NAME)
+            .documentVersion(DOCUMENT_VERSION)
+            .targets(MODEL_TARGETS)
+            .scheduleExpression(SCHEDULE_EXPRESSION)
+            .build());
+        assertThat(response.getNextToken()).isNull();
+        verifyZeroInteractions(exceptionTranslator);
+    }
+
     @Test
     public void handleRequest_EmptyToken_throwsException() {
         final ResourceModel model = ResourceModel.builder()
@@ -155,6 +213,10 @@ class ListHandlerTest {
 
         final ListAssociationsRequest expectedListAssociationsRequest =
             ListAssociationsRequest.builder()
+                .associationFilterList(AssociationFilter.builder()
+                    .key(AssociationFilterKey.NAME)
+                    .value(AssociationId1)
+                    .build())
                 .nextToken("")
                 .maxResults(50)
                 .build();
@@ -0,0 +1,97 @@
+package com.amazonaws.ssm.association.translator;
+
+import com.amazonaws.ssm.association.ResourceModel;
+import com.amazonaws.ssm.association.translator.property.TargetsListTranslator;
+import com.amazonaws.ssm.association.util.SimpleTypeValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.ssm.model.Association;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.amazonaws.ssm.association.TestsInputs.ASSOCIATION_ID;
+import static com.amazonaws.ssm.association.TestsInputs.ASSOCIATION_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.ASSOCIATION_VERSION;
+import static com.amazonaws.ssm.association.TestsInputs.DOCUMENT_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.DOCUMENT_VERSION;
+import static com.amazonaws.ssm.association.TestsInputs.INSTANCE_ID;
+import static com.amazonaws.ssm.association.TestsInputs.LAST_EXECUTION_DATE;
+import static com.amazonaws.ssm.association.TestsInputs.MODEL_TARGETS;
+import static com.amazonaws.ssm.association.TestsInputs.SCHEDULE_EXPRESSION;
+import static com.amazonaws.ssm.association.TestsInputs.SCHEDULE_OFFSET;
+import static com.amazonaws.ssm.association.TestsInputs.SERVICE_TARGETS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssociationTranslatorTest {
+
+    @Mock
+    private TargetsListTranslator targetsListTranslator;
+
+    private AssociationTranslator associationTranslator;
+
+    @BeforeEach
+    void setUp() {
+        // not mocking out SimpleTypeValidator because of the simplicity of its logic
+        associationTranslator = new AssociationTranslator(new SimpleTypeValidator(), targetsListTranslator);
+    }
+
+    @Test
+    void associationToResourceModelWithAllParametersPresent() {
+        when(targetsListTranslator.serviceModelPropertyToResourceModel(SERVICE_TARGETS))
+            .thenReturn(Optional.of(MODEL_TARGETS));
+
+        final Association association =
+            Association.builder()
+                .associationId(ASSOCIATION_ID)
+                .associationName(ASSOCIATION_NAME)
+                .associationVersion(ASSOCIATION_VERSION)
+                .name(DOCUMENT_NAME)
+                .documentVersion(DOCUMENT_VERSION)
+                .instanceId(INSTANCE_ID)
+                .targets(SERVICE_TARGETS)
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .scheduleOffset(SCHEDULE_OFFSET)
+                .lastExecutionDate(LAST_EXECUTION_DATE)
+                .build();
+
+        final ResourceModel expectedModel =
+            ResourceModel.builder()
+                .associationId(ASSOCIATION_ID)
+                .associationName(ASSOCIATION_NAME)
+                .name(DOCUMENT_NAME)
+                .documentVersion(DOCUMENT_VERSION)
+                .instanceId(INSTANCE_ID)
+                .targets(MODEL_TARGETS)
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .scheduleOffset(SCHEDULE_OFFSET)
+                .build();
+
+        assertThat(associationTranslator.associationToResourceModel(association)).isEqualTo(expectedModel);
+    }
+
+    @Test
+    void associationToResourceModelWithNoTargetsSet() {
+        when(targetsListTranslator.serviceModelPropertyToResourceModel(Collections.emptyList()))
+            .thenReturn(Optional.empty());
+
+        final Association association =
+            Association.builder()
+                .associationId(ASSOCIATION_ID)
+                .name(DOCUMENT_NAME)
+                .build();
+
+        final ResourceModel expectedModel =
+            ResourceModel.builder()
+                .associationId(ASSOCIATION_ID)
+                .name(DOCUMENT_NAME)
+                .build();
+
+        assertThat(associationTranslator.associationToResourceModel(association)).isEqualTo(expectedModel);
+    }
+}
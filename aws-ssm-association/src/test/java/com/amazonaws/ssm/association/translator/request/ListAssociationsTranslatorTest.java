@@ -0,0 +1,81 @@
+package com.amazonaws.ssm.association.translator.request;
+
+import com.amazonaws.ssm.association.ResourceModel;
+import com.amazonaws.ssm.association.Target;
+import com.amazonaws.ssm.association.util.SimpleTypeValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ssm.model.AssociationFilter;
+import software.amazon.awssdk.services.ssm.model.AssociationFilterKey;
+import software.amazon.awssdk.services.ssm.model.ListAssociationsRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.amazonaws.ssm.association.TestsInputs.ASSOCIATION_ID;
+import static com.amazonaws.ssm.association.TestsInputs.ASSOCIATION_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.DOCUMENT_NAME;
+import static com.amazonaws.ssm.association.TestsInputs.INSTANCE_ID;
+import static com.amazonaws.ssm.association.TestsInputs.MODEL_TARGETS;
+import static com.amazonaws.ssm.association.TestsInputs.SCHEDULE_EXPRESSION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListAssociationsTranslatorTest {
+
+    private static final String RESOURCE_GROUP_NAME = "TestResourceGroup";
+
+    private ListAssociationsTranslator listAssociationsTranslator;
+
+    @BeforeEach
+    void setUp() {
+        // not mocking out SimpleTypeValidator because of the simplicity of its logic
+        listAssociationsTranslator = new ListAssociationsTranslator(new SimpleTypeValidator());
+    }
+
+    @Test
+    void resourceModelToRequestWithAllFilterablePropertiesPresent() {
+        final Target resourceGroupTarget = new Target();
+        resourceGroupTarget.setKey("resource-groups:Name");
+        resourceGroupTarget.setValues(Collections.singletonList(RESOURCE_GROUP_NAME));
+
+        final ResourceModel modelToTranslate =
+            ResourceModel.builder()
+                .associationId(ASSOCIATION_ID)
+                .name(DOCUMENT_NAME)
+                .associationName(ASSOCIATION_NAME)
+                .instanceId(INSTANCE_ID)
+                .targets(Arrays.asList(MODEL_TARGETS.get(0), resourceGroupTarget))
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .build();
+
+        final ListAssociationsRequest expectedRequest =
+            ListAssociationsRequest.builder()
+                .associationFilterList(
+                    filter(AssociationFilterKey.ASSOCIATION_ID, ASSOCIATION_ID),
+                    filter(AssociationFilterKey.NAME, DOCUMENT_NAME),
+                    filter(AssociationFilterKey.ASSOCIATION_NAME, ASSOCIATION_NAME),
+                    filter(AssociationFilterKey.INSTANCE_ID, INSTANCE_ID),
+                    filter(AssociationFilterKey.RESOURCE_GROUP_NAME, RESOURCE_GROUP_NAME))
+                .build();
+
+        assertThat(listAssociationsTranslator.resourceModelToRequest(modelToTranslate)).isEqualTo(expectedRequest);
+    }
+
+    @Test
+    void resourceModelToRequestWithNoFilterablePropertiesLeavesFiltersUnset() {
+        final ResourceModel modelToTranslate =
+            ResourceModel.builder()
+                .targets(MODEL_TARGETS)
+                .scheduleExpression(SCHEDULE_EXPRESSION)
+                .build();
+
+        final ListAssociationsRequest request = listAssociationsTranslator.resourceModelToRequest(modelToTranslate);
+
+        assertThat(request.hasAssociationFilterList()).isFalse();
+        assertThat(listAssociationsTranslator.resourceModelToRequest(null).hasAssociationFilterList()).isFalse();
+    }
+
+    private static AssociationFilter filter(final AssociationFilterKey key, final String value) {
+        return AssociationFilter.builder().key(key).value(value).build();
+    }
+}
@@ -10,9 +10,12 @@ import software.amazon.awssdk.services.ssm.model.AssociationAlreadyExistsExcepti
 import software.amazon.awssdk.services.ssm.model.AssociationDoesNotExistException;
 import software.amazon.awssdk.services.ssm.model.AssociationLimitExceededException;
 import software.amazon.awssdk.services.ssm.model.AssociationVersionLimitExceededException;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequest;
 import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
 import software.amazon.awssdk.services.ssm.model.DeleteAssociationRequest;
 import software.amazon.awssdk.services.ssm.model.DescribeAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.FailedCreateAssociation;
+import software.amazon.awssdk.services.ssm.model.Fault;
 import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
 import software.amazon.awssdk.services.ssm.model.InvalidAssociationVersionException;
 import software.amazon.awssdk.services.ssm.model.InvalidDocumentException;
@@ -275,4 +278,28 @@ class ExceptionTranslatorTest {
         final String expectedMessage = "Error occurred during operation 'UpdateAssociation'.";
         assertEquals(expectedMessage, cfnException.getMessage());
     }
+
+    @Test
+    void translateFromBatchFailureBySide() {
+        final CreateAssociationBatchRequest request = CreateAssociationBatchRequest.builder().build();
+        final FailedCreateAssociation clientFailure = FailedCreateAssociation.builder()
+            .fault(Fault.CLIENT)
+            .message("Document does not exist")
+            .build();
+        final FailedCreateAssociation serverFailure = FailedCreateAssociation.builder()
+            .fault(Fault.SERVER)
+            .message("Internal error")
+            .build();
+
+        final Exception clientException = exceptionTranslator
+            .translateFromBatchFailure(clientFailure, request, modelWithoutId);
+        final Exception serverException = exceptionTranslator
+            .translateFromBatchFailure(serverFailure, request, modelWithoutId);
+
+        assertTrue(clientException instanceof CfnInvalidRequestException);
+        assertTrue(clientException.getMessage().contains(
+            String.format("Name=%s,InstanceId=%s: Document does not exist", DOCUMENT_NAME, INSTANCE_ID)));
+        assertTrue(serverException instanceof CfnServiceInternalErrorException);
+        assertEquals("Internal error reported from downstream service during operation 'CreateAssociationBatch'.", serverException.getMessage());
+    }
 }
@@ -0,0 +1,86 @@
+package com.amazonaws.ssm.association.util;
+
+import com.amazonaws.ssm.association.ResourceModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateControlAndScheduleValidatorTest {
+
+    private final RateControlAndScheduleValidator validator = new RateControlAndScheduleValidator();
+
+    @Test
+    void validateAcceptsSchemaExamples() {
+        validator.validate(ResourceModel.builder()
+            .maxConcurrency("10%")
+            .maxErrors("0")
+            .scheduleExpression("cron(0 0 */1 * * ? *)")
+            .build());
+        validator.validate(ResourceModel.builder()
+            .maxConcurrency("100")
+            .maxErrors("100%")
+            .scheduleExpression("cron(28 21 ? * TUE#2 *)")
+            .scheduleOffset(3)
+            .applyOnlyAtCronInterval(true)
+            .build());
+        validator.validate(ResourceModel.builder().scheduleExpression("cron(0 16 ? * MON-FRI *)").build());
+        validator.validate(ResourceModel.builder().scheduleExpression("cron(0 8 L * ? *)").build());
+        validator.validate(ResourceModel.builder().scheduleExpression("rate(30 minutes)").build());
+        validator.validate(ResourceModel.builder().scheduleExpression("rate(1 hour)").build());
+        validator.validate(ResourceModel.builder().scheduleExpression("rate(7 days)").build());
+        validator.validate(ResourceModel.builder().build());
+    }
+
+    @Test
+    void validateRejectsInvalidRateControl() {
+        final CfnInvalidRequestException exception = Assertions.assertThrows(CfnInvalidRequestException.class,
+            () -> validator.validate(ResourceModel.builder().maxConcurrency("0").maxErrors("101%").build()));
+
+        assertThat(exception.getMessage())
+            .contains("MaxConcurrency 0")
+            .contains("MaxErrors 101%");
+    }
+
+    @Test
+    void validateRejectsInvalidScheduleExpressions() {
+        assertRejected("rate(30)", "must be a cron(...) or rate(...) expression");
+        assertRejected("rate(10 minutes)", "must be at least 30 minutes");
+        assertRejected("cron(0 16 * *)", "must have 6 or 7 cron fields");
+        assertRejected("cron(0 25 ? * TUE *)", "invalid hours field 25");
+        assertRejected("cron(0 16 ? * FUN *)", "invalid day-of-week field FUN");
+        assertRejected("cron(0 16 ? * TUE#6 *)", "invalid day-of-week field TUE#6");
+        assertRejected("cron(0 */0 ? * TUE *)", "invalid hours field */0");
+    }
+
+    @Test
+    void validateRejectsCronOnlyPropertiesWithoutCron() {
+        final CfnInvalidRequestException exception = Assertions.assertThrows(CfnInvalidRequestException.class,
+            () -> validator.validate(ResourceModel.builder()
+                .scheduleExpression("rate(1 day)")
+                .scheduleOffset(7)
+                .applyOnlyAtCronInterval(true)
+                .build()));
+
+        assertThat(exception.getMessage())
+            .contains("ScheduleOffset 7 must be from 1 to 6 days")
+            .contains("ScheduleOffset can only be used with a cron ScheduleExpression")
+            .contains("ApplyOnlyAtCronInterval can only be used with a cron ScheduleExpression");
+    }
+
+    @Test
+    void parseReusesParsedExpressions() {
+        final String expression = "cron(15 10 ? * SUN *)";
+
+        assertThat(RateControlAndScheduleValidator.parse(expression))
+            .isSameAs(RateControlAndScheduleValidator.parse(expression));
+    }
+
+    private void assertRejected(final String scheduleExpression, final String problem) {
+        final CfnInvalidRequestException exception = Assertions.assertThrows(CfnInvalidRequestException.class,
+            () -> validator.validate(ResourceModel.builder().scheduleExpression(scheduleExpression).build()));
+
+        assertThat(exception.getMessage()).contains(problem);
+    }
+}
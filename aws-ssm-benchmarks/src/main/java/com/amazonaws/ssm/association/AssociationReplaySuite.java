@@ -0,0 +1,32 @@
+package com.amazonaws.ssm.association;
+
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+
+/**
+ * The AWS::SSM::Association handlers driven by the replay harness, declared in the handler package because not every
+ * handler constructor is public.
+ * Associations created by the in-memory service never leave Pending, so the inputs do not wait for success. The
+ * instance id is unique per variant as well, since SSM rejects a second association of a document with an instance.
+ */
+public final class AssociationReplaySuite {
+
+    private AssociationReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::Association")
+                .moduleDirectory("aws-ssm-association")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("AssociationId")
+                .uniqueProperty("AssociationName")
+                .uniqueProperty("InstanceId")
+                .ignoredProperty("WaitForSuccessTimeoutSeconds")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .build();
+    }
+}
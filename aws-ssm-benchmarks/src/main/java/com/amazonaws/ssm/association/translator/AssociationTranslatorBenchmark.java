@@ -0,0 +1,135 @@
+package com.amazonaws.ssm.association.translator;
+
+import com.amazonaws.ssm.association.InstanceAssociationOutputLocation;
+import com.amazonaws.ssm.association.ResourceModel;
+import com.amazonaws.ssm.association.S3OutputLocation;
+import com.amazonaws.ssm.association.Target;
+import com.amazonaws.ssm.association.translator.request.CreateAssociationTranslator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.AssociationDescription;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
+import software.amazon.ssm.benchmarks.Scenario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks CreateAssociationTranslator and AssociationDescriptionTranslator, the translators every association
+ * create, read and list goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssociationTranslatorBenchmark {
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private final CreateAssociationTranslator createAssociationTranslator = new CreateAssociationTranslator();
+    private final AssociationDescriptionTranslator associationDescriptionTranslator = new AssociationDescriptionTranslator();
+
+    private ResourceModel model;
+    private AssociationDescription association;
+
+    @Setup
+    public void setup() {
+        final int targetCount = Scenario.size(scenario, 1, 50);
+        final int targetValueCount = Scenario.size(scenario, 3, 50);
+        final int parameterCount = Scenario.size(scenario, 2, 50);
+        final int parameterValueCount = Scenario.size(scenario, 1, 20);
+
+        final List<Target> targets = new ArrayList<>(targetCount);
+        final List<software.amazon.awssdk.services.ssm.model.Target> serviceTargets = new ArrayList<>(targetCount);
+        for (int i = 0; i < targetCount; i++) {
+            final List<String> values = new ArrayList<>(targetValueCount);
+            for (int j = 0; j < targetValueCount; j++) {
+                values.add(String.format("i-%017d", i * targetValueCount + j));
+            }
+            targets.add(new Target("tag:group-" + i, values));
+            serviceTargets.add(software.amazon.awssdk.services.ssm.model.Target.builder()
+                    .key("tag:group-" + i)
+                    .values(values)
+                    .build());
+        }
+
+        final Map<String, List<String>> parameters = new HashMap<>();
+        for (int i = 0; i < parameterCount; i++) {
+            final List<String> values = new ArrayList<>(parameterValueCount);
+            for (int j = 0; j < parameterValueCount; j++) {
+                values.add(Scenario.value("echo step " + j + " ", 200));
+            }
+            parameters.put("parameter" + i, values);
+        }
+
+        final List<String> calendarNames = Arrays.asList("change-calendar-1", "change-calendar-2");
+
+        model = ResourceModel.builder()
+                .name("AWS-RunShellScript")
+                .associationName("benchmark-association")
+                .documentVersion("$DEFAULT")
+                .parameters(parameters)
+                .scheduleExpression("cron(0 2 ? * SUN *)")
+                .targets(targets)
+                .outputLocation(new InstanceAssociationOutputLocation(
+                        new S3OutputLocation("us-east-1", "benchmark-bucket", "associations")))
+                .maxErrors("10%")
+                .maxConcurrency("25%")
+                .complianceSeverity("HIGH")
+                .syncCompliance("AUTO")
+                .calendarNames(calendarNames)
+                .scheduleOffset(3)
+                .applyOnlyAtCronInterval(true)
+                .build();
+
+        association = AssociationDescription.builder()
+                .associationId("b6b0f5b2-0b1e-4f5f-a0c7-4f3f6f3c2f11")
+                .name("AWS-RunShellScript")
+                .associationName("benchmark-association")
+                .documentVersion("$DEFAULT")
+                .parameters(parameters)
+                .scheduleExpression("cron(0 2 ? * SUN *)")
+                .targets(serviceTargets)
+                .outputLocation(software.amazon.awssdk.services.ssm.model.InstanceAssociationOutputLocation.builder()
+                        .s3Location(software.amazon.awssdk.services.ssm.model.S3OutputLocation.builder()
+                                .outputS3Region("us-east-1")
+                                .outputS3BucketName("benchmark-bucket")
+                                .outputS3KeyPrefix("associations")
+                                .build())
+                        .build())
+                .maxErrors("10%")
+                .maxConcurrency("25%")
+                .complianceSeverity("HIGH")
+                .syncCompliance("AUTO")
+                .calendarNames(calendarNames)
+                .scheduleOffset(3)
+                .applyOnlyAtCronInterval(true)
+                .build();
+    }
+
+    @Benchmark
+    public CreateAssociationRequest resourceModelToCreateAssociationRequest() {
+        return createAssociationTranslator.resourceModelToRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel associationDescriptionToResourceModel() {
+        return associationDescriptionTranslator.associationDescriptionToResourceModel(association);
+    }
+}
@@ -0,0 +1,106 @@
+package com.amazonaws.ssm.document;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.CreateDocumentRequest;
+import software.amazon.ssm.benchmarks.Scenario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks DocumentModelTranslator, whose cost is dominated by serializing the document content of the model
+ * (processDocumentContent) into JSON or YAML.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentModelTranslatorBenchmark {
+
+    /**
+     * SSM documents are limited to 64 KB of content.
+     */
+    private static final int MAX_CONTENT_BYTES = 64 * 1024;
+
+    private static final int REALISTIC_CONTENT_BYTES = 2 * 1024;
+
+    private static final Map<String, String> SYSTEM_TAGS =
+            Collections.singletonMap("aws:cloudformation:stack-name", "benchmark-stack");
+
+    private static final Map<String, String> RESOURCE_TAGS =
+            Collections.singletonMap("team", "benchmark");
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    @Param({"JSON", "YAML"})
+    public String documentFormat;
+
+    private final DocumentModelTranslator documentModelTranslator = DocumentModelTranslator.getInstance();
+
+    private ResourceModel model;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        model = ResourceModel.builder()
+                .content(commandDocument(Scenario.size(scenario, REALISTIC_CONTENT_BYTES, MAX_CONTENT_BYTES)))
+                .documentFormat(documentFormat)
+                .documentType("Command")
+                .targetType("/AWS::EC2::Instance")
+                .build();
+    }
+
+    @Benchmark
+    public CreateDocumentRequest generateCreateDocumentRequest() {
+        return documentModelTranslator.generateCreateDocumentRequest(model, "BenchmarkDocument", SYSTEM_TAGS,
+                RESOURCE_TAGS, "a2f5c8e4-1d3b-4f6a-9c7e-0b8d2e4f6a1c");
+    }
+
+    /**
+     * Builds a Command document with as many runShellScript steps as fit in the given number of bytes of JSON.
+     */
+    private static Map<String, Object> commandDocument(final int maxBytes) throws JsonProcessingException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final List<Object> mainSteps = new ArrayList<>();
+
+        final Map<String, Object> content = new LinkedHashMap<>();
+        content.put("schemaVersion", "2.2");
+        content.put("description", "Benchmark command document");
+        content.put("mainSteps", mainSteps);
+
+        while (true) {
+            final Map<String, Object> inputs = new LinkedHashMap<>();
+            inputs.put("runCommand", Collections.nCopies(8, Scenario.value("echo step " + mainSteps.size() + " ", 80)));
+            inputs.put("timeoutSeconds", "3600");
+
+            final Map<String, Object> step = new LinkedHashMap<>();
+            step.put("action", "aws:runShellScript");
+            step.put("name", "step" + mainSteps.size());
+            step.put("inputs", inputs);
+
+            mainSteps.add(step);
+            if (mapper.writeValueAsBytes(content).length > maxBytes) {
+                mainSteps.remove(mainSteps.size() - 1);
+                return content;
+            }
+        }
+    }
+}
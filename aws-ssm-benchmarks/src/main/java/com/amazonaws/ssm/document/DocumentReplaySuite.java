@@ -0,0 +1,28 @@
+package com.amazonaws.ssm.document;
+
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+
+/**
+ * The AWS::SSM::Document handlers driven by the replay harness, declared in the handler package because not every
+ * handler constructor is public.
+ */
+public final class DocumentReplaySuite {
+
+    private DocumentReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::Document")
+                .moduleDirectory("aws-ssm-document")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("Name")
+                .uniqueProperty("Name")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .build();
+    }
+}
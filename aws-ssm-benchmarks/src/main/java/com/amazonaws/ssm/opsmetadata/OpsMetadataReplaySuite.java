@@ -0,0 +1,27 @@
+package com.amazonaws.ssm.opsmetadata;
+
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+
+/**
+ * The AWS::SSM::OpsMetadata handlers driven by the replay harness.
+ */
+public final class OpsMetadataReplaySuite {
+
+    private OpsMetadataReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::OpsMetadata")
+                .moduleDirectory("aws-ssm-opsmetadata")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("OpsMetadataArn")
+                .uniqueProperty("ResourceId")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.amazonaws.ssm.opsmetadata.translator.property;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.MetadataValue;
+import software.amazon.ssm.benchmarks.Scenario;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks MetadataTranslator in both directions. The worst case is the OpsMetadata maximum of 50 keys with
+ * 4 KB values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataTranslatorBenchmark {
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private final MetadataTranslator metadataTranslator = new MetadataTranslator();
+
+    private Map<String, com.amazonaws.ssm.opsmetadata.MetadataValue> resourceModelMetadata;
+    private Map<String, MetadataValue> serviceModelMetadata;
+
+    @Setup
+    public void setup() {
+        final int keyCount = Scenario.size(scenario, 5, 50);
+        final int valueLength = Scenario.size(scenario, 64, 4096);
+
+        resourceModelMetadata = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            resourceModelMetadata.put("key" + i, com.amazonaws.ssm.opsmetadata.MetadataValue.builder()
+                    .value(Scenario.value("value" + i + "-", valueLength))
+                    .build());
+        }
+        serviceModelMetadata = metadataTranslator.resourceModelPropertyToServiceModel(resourceModelMetadata).orElse(null);
+    }
+
+    @Benchmark
+    public Optional<Map<String, MetadataValue>> resourceModelPropertyToServiceModel() {
+        return metadataTranslator.resourceModelPropertyToServiceModel(resourceModelMetadata);
+    }
+
+    @Benchmark
+    public Optional<Map<String, com.amazonaws.ssm.opsmetadata.MetadataValue>> serviceModelPropertyToResourceModel() {
+        return metadataTranslator.serviceModelPropertyToResourceModel(serviceModelMetadata);
+    }
+}
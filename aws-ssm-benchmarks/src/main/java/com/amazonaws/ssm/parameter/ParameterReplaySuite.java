@@ -0,0 +1,27 @@
+package com.amazonaws.ssm.parameter;
+
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+
+/**
+ * The AWS::SSM::Parameter handlers driven by the replay harness.
+ */
+public final class ParameterReplaySuite {
+
+    private ParameterReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::Parameter")
+                .moduleDirectory("aws-ssm-parameter")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("Name")
+                .uniqueProperty("Name")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.amazonaws.ssm.parameter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+import software.amazon.ssm.benchmarks.Scenario;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parameter Translator for the requests whose size grows with the template: PutParameter with the
+ * value and tags, and the DescribeParameters filters of a list request. The worst case is an 8 KB advanced value
+ * with 50 tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterTranslatorBenchmark {
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private ResourceModel model;
+    private Map<String, String> tags;
+
+    @Setup
+    public void setup() {
+        final int valueLength = Scenario.size(scenario, 256, 8192);
+        final int tagCount = Scenario.size(scenario, 3, 50);
+
+        tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put("key" + i, Scenario.value("value" + i + "-", 256));
+        }
+
+        model = ResourceModel.builder()
+                .name("/benchmark/application/database/connection-string")
+                .type("String")
+                .value(Scenario.value("value-", valueLength))
+                .description("benchmark")
+                .allowedPattern("^[a-zA-Z0-9-]+$")
+                .tier(Scenario.WORST_CASE.equals(scenario) ? "Advanced" : "Standard")
+                .dataType("text")
+                .tags(tags)
+                .build();
+    }
+
+    @Benchmark
+    public PutParameterRequest createPutParameterRequest() {
+        return Translator.createPutParameterRequest(model, tags);
+    }
+
+    @Benchmark
+    public PutParameterRequest updatePutParameterRequest() {
+        return Translator.updatePutParameterRequest(model);
+    }
+
+    @Benchmark
+    public List<ParameterStringFilter> translateToParameterFilters() {
+        return Translator.translateToParameterFilters(model);
+    }
+}
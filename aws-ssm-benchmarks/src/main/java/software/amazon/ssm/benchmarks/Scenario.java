@@ -0,0 +1,41 @@
+package software.amazon.ssm.benchmarks;
+
+/**
+ * Input sizes fed to the translator benchmarks.
+ */
+public final class Scenario {
+
+    /**
+     * Model sized like a typical template.
+     */
+    public static final String REALISTIC = "realistic";
+
+    /**
+     * Model at the service limits.
+     */
+    public static final String WORST_CASE = "worst-case";
+
+    private Scenario() {
+    }
+
+    /**
+     * @param scenario REALISTIC or WORST_CASE
+     * @param realistic size used by the realistic scenario
+     * @param worstCase size used by the worst case scenario
+     * @return the size for the scenario
+     */
+    public static int size(final String scenario, final int realistic, final int worstCase) {
+        return WORST_CASE.equals(scenario) ? worstCase : realistic;
+    }
+
+    /**
+     * @return a string of the given length, used as a parameter or metadata value
+     */
+    public static String value(final String prefix, final int length) {
+        final StringBuilder builder = new StringBuilder(length).append(prefix);
+        while (builder.length() < length) {
+            builder.append('x');
+        }
+        return builder.substring(0, Math.max(length, 0));
+    }
+}
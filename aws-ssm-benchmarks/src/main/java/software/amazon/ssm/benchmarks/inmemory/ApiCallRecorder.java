@@ -0,0 +1,87 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls made to {@link InMemorySsmClient} per operation, with the calls that were throttled and the
+ * error codes of the calls that failed.
+ */
+public class ApiCallRecorder {
+
+    private final ConcurrentMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> throttles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> errors = new ConcurrentHashMap<>();
+
+    void recordCall(final String operation) {
+        calls.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    void recordThrottle(final String operation) {
+        throttles.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    void recordError(final String operation, final String errorCode) {
+        errors.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(errorCode, key -> new LongAdder())
+                .increment();
+    }
+
+    public long getCallCount(final String operation) {
+        return sum(calls.get(operation));
+    }
+
+    public long getTotalCallCount() {
+        return calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getThrottleCount(final String operation) {
+        return sum(throttles.get(operation));
+    }
+
+    /**
+     * @return the statistics of every operation called so far, sorted by operation name
+     */
+    public Map<String, OperationStats> snapshot() {
+        final Map<String, OperationStats> snapshot = new TreeMap<>();
+        calls.forEach((operation, count) -> {
+            final Map<String, Long> errorCounts = new TreeMap<>();
+            errors.getOrDefault(operation, new ConcurrentHashMap<>())
+                    .forEach((errorCode, errorCount) -> errorCounts.put(errorCode, errorCount.sum()));
+            snapshot.put(operation, new OperationStats(count.sum(), getThrottleCount(operation),
+                    Collections.unmodifiableMap(errorCounts)));
+        });
+        return snapshot;
+    }
+
+    public void reset() {
+        calls.clear();
+        throttles.clear();
+        errors.clear();
+    }
+
+    private static long sum(final LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Value
+    public static class OperationStats {
+        long calls;
+
+        /**
+         * Calls rejected by the injected throttling, included in {@link #calls}.
+         */
+        long throttles;
+
+        /**
+         * Calls that failed with a modeled exception, by error code.
+         */
+        Map<String, Long> errors;
+    }
+}
@@ -0,0 +1,290 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import software.amazon.awssdk.services.ssm.model.Association;
+import software.amazon.awssdk.services.ssm.model.AssociationAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.AssociationDescription;
+import software.amazon.awssdk.services.ssm.model.AssociationDoesNotExistException;
+import software.amazon.awssdk.services.ssm.model.AssociationFilter;
+import software.amazon.awssdk.services.ssm.model.AssociationOverview;
+import software.amazon.awssdk.services.ssm.model.AssociationStatus;
+import software.amazon.awssdk.services.ssm.model.AssociationStatusName;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequest;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequestEntry;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchResponse;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.FailedCreateAssociation;
+import software.amazon.awssdk.services.ssm.model.Fault;
+import software.amazon.awssdk.services.ssm.model.InvalidAssociationVersionException;
+import software.amazon.awssdk.services.ssm.model.InvalidFilterKeyException;
+import software.amazon.awssdk.services.ssm.model.ListAssociationsRequest;
+import software.amazon.awssdk.services.ssm.model.ListAssociationsResponse;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+import software.amazon.awssdk.services.ssm.model.UpdateAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateAssociationResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * State Manager associations: Create, CreateAssociationBatch, Describe, Update, Delete and ListAssociations.
+ */
+class AssociationStore {
+
+    private static final int LIST_DEFAULT_MAX_RESULTS = 50;
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final String TAGGING_RESOURCE_TYPE = ResourceTypeForTagging.ASSOCIATION.toString();
+
+    private final EventuallyConsistentMap<String, AssociationDescription> associations;
+    private final TagStore tags;
+    private final SimulationSettings settings;
+
+    AssociationStore(final SimulationSettings settings, final TagStore tags) {
+        this.associations = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.tags = tags;
+        this.settings = settings;
+    }
+
+    synchronized CreateAssociationResponse createAssociation(final CreateAssociationRequest request) {
+        final AssociationDescription association = create(AssociationDescription.builder()
+                .name(request.name())
+                .instanceId(request.instanceId())
+                .documentVersion(request.documentVersion())
+                .parameters(request.hasParameters() ? request.parameters() : null)
+                .targets(request.hasTargets() ? request.targets() : null)
+                .scheduleExpression(request.scheduleExpression())
+                .scheduleOffset(request.scheduleOffset())
+                .outputLocation(request.outputLocation())
+                .associationName(request.associationName())
+                .automationTargetParameterName(request.automationTargetParameterName())
+                .maxErrors(request.maxErrors())
+                .maxConcurrency(request.maxConcurrency())
+                .complianceSeverity(request.complianceSeverityAsString())
+                .syncCompliance(request.syncComplianceAsString())
+                .applyOnlyAtCronInterval(request.applyOnlyAtCronInterval())
+                .calendarNames(request.hasCalendarNames() ? request.calendarNames() : null)
+                .targetLocations(request.hasTargetLocations() ? request.targetLocations() : null)
+                .targetMaps(request.hasTargetMaps() ? request.targetMaps() : null)
+                .build());
+
+        tags.register(TAGGING_RESOURCE_TYPE, association.associationId(), request.tags());
+        return CreateAssociationResponse.builder()
+                .associationDescription(association)
+                .build();
+    }
+
+    synchronized CreateAssociationBatchResponse createAssociationBatch(final CreateAssociationBatchRequest request) {
+        if (request.entries().isEmpty() || request.entries().size() > MAX_BATCH_ENTRIES) {
+            throw Errors.validation(String.format("Between 1 and %d entries are allowed.", MAX_BATCH_ENTRIES));
+        }
+
+        final List<AssociationDescription> successful = new ArrayList<>();
+        final List<FailedCreateAssociation> failed = new ArrayList<>();
+        for (CreateAssociationBatchRequestEntry entry : request.entries()) {
+            try {
+                final AssociationDescription association = create(AssociationDescription.builder()
+                        .name(entry.name())
+                        .instanceId(entry.instanceId())
+                        .documentVersion(entry.documentVersion())
+                        .parameters(entry.hasParameters() ? entry.parameters() : null)
+                        .targets(entry.hasTargets() ? entry.targets() : null)
+                        .scheduleExpression(entry.scheduleExpression())
+                        .scheduleOffset(entry.scheduleOffset())
+                        .outputLocation(entry.outputLocation())
+                        .associationName(entry.associationName())
+                        .automationTargetParameterName(entry.automationTargetParameterName())
+                        .maxErrors(entry.maxErrors())
+                        .maxConcurrency(entry.maxConcurrency())
+                        .complianceSeverity(entry.complianceSeverityAsString())
+                        .syncCompliance(entry.syncComplianceAsString())
+                        .applyOnlyAtCronInterval(entry.applyOnlyAtCronInterval())
+                        .calendarNames(entry.hasCalendarNames() ? entry.calendarNames() : null)
+                        .targetLocations(entry.hasTargetLocations() ? entry.targetLocations() : null)
+                        .targetMaps(entry.hasTargetMaps() ? entry.targetMaps() : null)
+                        .build());
+                tags.register(TAGGING_RESOURCE_TYPE, association.associationId(), null);
+                successful.add(association);
+            } catch (SsmException e) {
+                failed.add(FailedCreateAssociation.builder()
+                        .entry(entry)
+                        .message(e.awsErrorDetails().errorMessage())
+                        .fault(Fault.CLIENT)
+                        .build());
+            }
+        }
+
+        return CreateAssociationBatchResponse.builder()
+                .successful(successful)
+                .failed(failed)
+                .build();
+    }
+
+    synchronized DescribeAssociationResponse describeAssociation(final DescribeAssociationRequest request) {
+        final AssociationDescription association = find(associations.readAll(), request.associationId(),
+                request.name(), request.instanceId());
+        return DescribeAssociationResponse.builder()
+                .associationDescription(association)
+                .build();
+    }
+
+    synchronized UpdateAssociationResponse updateAssociation(final UpdateAssociationRequest request) {
+        final AssociationDescription existing = find(associations.latestAll(), request.associationId(), null, null);
+        if (request.associationVersion() != null && !request.associationVersion().equals(existing.associationVersion())) {
+            throw Errors.error(InvalidAssociationVersionException.builder(),
+                    String.format("Association version %s is not the latest version.", request.associationVersion()));
+        }
+
+        final Instant now = settings.getClock().instant();
+        final AssociationDescription updated = existing.toBuilder()
+                .name(request.name() == null ? existing.name() : request.name())
+                .documentVersion(request.documentVersion())
+                .parameters(request.hasParameters() ? request.parameters() : null)
+                .targets(request.hasTargets() ? request.targets() : existing.targets())
+                .scheduleExpression(request.scheduleExpression())
+                .scheduleOffset(request.scheduleOffset())
+                .outputLocation(request.outputLocation())
+                .associationName(request.associationName())
+                .automationTargetParameterName(request.automationTargetParameterName())
+                .maxErrors(request.maxErrors())
+                .maxConcurrency(request.maxConcurrency())
+                .complianceSeverity(request.complianceSeverityAsString())
+                .syncCompliance(request.syncComplianceAsString())
+                .applyOnlyAtCronInterval(request.applyOnlyAtCronInterval())
+                .calendarNames(request.hasCalendarNames() ? request.calendarNames() : null)
+                .targetLocations(request.hasTargetLocations() ? request.targetLocations() : null)
+                .targetMaps(request.hasTargetMaps() ? request.targetMaps() : null)
+                .associationVersion(Integer.toString(Integer.parseInt(existing.associationVersion()) + 1))
+                .lastUpdateAssociationDate(now)
+                .build();
+
+        associations.put(updated.associationId(), updated);
+        return UpdateAssociationResponse.builder()
+                .associationDescription(updated)
+                .build();
+    }
+
+    synchronized DeleteAssociationResponse deleteAssociation(final DeleteAssociationRequest request) {
+        final AssociationDescription existing = find(associations.latestAll(), request.associationId(),
+                request.name(), request.instanceId());
+        associations.remove(existing.associationId());
+        tags.unregister(TAGGING_RESOURCE_TYPE, existing.associationId());
+        return DeleteAssociationResponse.builder().build();
+    }
+
+    synchronized ListAssociationsResponse listAssociations(final ListAssociationsRequest request) {
+        Predicate<AssociationDescription> filter = association -> true;
+        for (AssociationFilter associationFilter : request.associationFilterList()) {
+            filter = filter.and(filter(associationFilter));
+        }
+
+        final List<Association> matching = associations.readAll().stream()
+                .filter(filter)
+                .map(AssociationStore::toAssociation)
+                .collect(Collectors.toList());
+        final Pages.Page<Association> page = Pages.page(matching, request.nextToken(), request.maxResults(),
+                LIST_DEFAULT_MAX_RESULTS);
+
+        return ListAssociationsResponse.builder()
+                .associations(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    private AssociationDescription create(final AssociationDescription association) {
+        if (association.instanceId() != null && association.name() != null
+                && associations.latestAll().stream().anyMatch(existing ->
+                        association.instanceId().equals(existing.instanceId())
+                                && association.name().equals(existing.name()))) {
+            throw Errors.error(AssociationAlreadyExistsException.builder(), "The specified association already exists.");
+        }
+
+        final Instant now = settings.getClock().instant();
+        final AssociationDescription created = association.toBuilder()
+                .associationId(UUID.randomUUID().toString())
+                .associationVersion("1")
+                .date(now)
+                .lastUpdateAssociationDate(now)
+                .status(AssociationStatus.builder()
+                        .date(now)
+                        .name(AssociationStatusName.PENDING)
+                        .message("Associated with " + association.name())
+                        .build())
+                .overview(AssociationOverview.builder()
+                        .status(AssociationStatusName.PENDING.toString())
+                        .build())
+                .build();
+
+        associations.put(created.associationId(), created);
+        return created;
+    }
+
+    private static AssociationDescription find(final List<AssociationDescription> candidates,
+                                               final String associationId,
+                                               final String name,
+                                               final String instanceId) {
+        final Optional<AssociationDescription> association = candidates.stream()
+                .filter(candidate -> associationId != null
+                        ? associationId.equals(candidate.associationId())
+                        : Objects.equals(name, candidate.name()) && Objects.equals(instanceId, candidate.instanceId()))
+                .findFirst();
+        return association.orElseThrow(() -> Errors.error(AssociationDoesNotExistException.builder(),
+                "The specified association does not exist."));
+    }
+
+    private static Predicate<AssociationDescription> filter(final AssociationFilter filter) {
+        final String value = filter.value();
+        switch (filter.keyAsString()) {
+            case "InstanceId":
+                return association -> value.equals(association.instanceId());
+            case "Name":
+                return association -> value.equals(association.name());
+            case "AssociationId":
+                return association -> value.equals(association.associationId());
+            case "AssociationName":
+                return association -> value.equals(association.associationName());
+            case "AssociationStatusName":
+                return association -> association.status() != null
+                        && value.equals(association.status().nameAsString());
+            case "LastExecutedBefore":
+                return association -> association.lastExecutionDate() != null
+                        && association.lastExecutionDate().isBefore(Instant.parse(value));
+            case "LastExecutedAfter":
+                return association -> association.lastExecutionDate() != null
+                        && association.lastExecutionDate().isAfter(Instant.parse(value));
+            case "ResourceGroupName":
+                return association -> association.targets().stream().anyMatch(target ->
+                        "resource-groups:Name".equals(target.key()) && target.values().contains(value));
+            default:
+                throw Errors.error(InvalidFilterKeyException.builder(),
+                        String.format("The filter key %s is not supported.", filter.keyAsString()));
+        }
+    }
+
+    private static Association toAssociation(final AssociationDescription association) {
+        return Association.builder()
+                .name(association.name())
+                .instanceId(association.instanceId())
+                .associationId(association.associationId())
+                .associationVersion(association.associationVersion())
+                .documentVersion(association.documentVersion())
+                .targets(association.hasTargets() ? association.targets() : null)
+                .lastExecutionDate(association.lastExecutionDate())
+                .overview(association.overview())
+                .scheduleExpression(association.scheduleExpression())
+                .associationName(association.associationName())
+                .scheduleOffset(association.scheduleOffset())
+                .targetMaps(association.hasTargetMaps() ? association.targetMaps() : null)
+                .build();
+    }
+}
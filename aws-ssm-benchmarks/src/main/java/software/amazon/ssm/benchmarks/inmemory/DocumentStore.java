@@ -0,0 +1,371 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.CreateDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.CreateDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.DocumentAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.DocumentDefaultVersionDescription;
+import software.amazon.awssdk.services.ssm.model.DocumentDescription;
+import software.amazon.awssdk.services.ssm.model.DocumentFilter;
+import software.amazon.awssdk.services.ssm.model.DocumentFormat;
+import software.amazon.awssdk.services.ssm.model.DocumentHashType;
+import software.amazon.awssdk.services.ssm.model.DocumentIdentifier;
+import software.amazon.awssdk.services.ssm.model.DocumentKeyValuesFilter;
+import software.amazon.awssdk.services.ssm.model.DocumentStatus;
+import software.amazon.awssdk.services.ssm.model.DocumentType;
+import software.amazon.awssdk.services.ssm.model.DuplicateDocumentContentException;
+import software.amazon.awssdk.services.ssm.model.DuplicateDocumentVersionNameException;
+import software.amazon.awssdk.services.ssm.model.GetDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.GetDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.InvalidDocumentContentException;
+import software.amazon.awssdk.services.ssm.model.InvalidDocumentException;
+import software.amazon.awssdk.services.ssm.model.InvalidDocumentOperationException;
+import software.amazon.awssdk.services.ssm.model.InvalidDocumentVersionException;
+import software.amazon.awssdk.services.ssm.model.InvalidFilterKeyException;
+import software.amazon.awssdk.services.ssm.model.ListDocumentsRequest;
+import software.amazon.awssdk.services.ssm.model.ListDocumentsResponse;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentDefaultVersionRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentDefaultVersionResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * SSM documents with their versions. A new version is reported as Creating or Updating until the consistency
+ * delay has passed, the way SSM processes documents asynchronously.
+ */
+class DocumentStore {
+
+    private static final int LIST_DEFAULT_MAX_RESULTS = 50;
+    private static final String LATEST_VERSION = "$LATEST";
+    private static final String DEFAULT_VERSION = "$DEFAULT";
+    private static final String TAGGING_RESOURCE_TYPE = ResourceTypeForTagging.DOCUMENT.toString();
+
+    private final EventuallyConsistentMap<String, StoredDocument> documents;
+    private final TagStore tags;
+    private final SimulationSettings settings;
+
+    DocumentStore(final SimulationSettings settings, final TagStore tags) {
+        // Documents are readable right after the write, only their status lags behind
+        this.documents = new EventuallyConsistentMap<>(Duration.ZERO, settings.getClock());
+        this.tags = tags;
+        this.settings = settings;
+    }
+
+    synchronized CreateDocumentResponse createDocument(final CreateDocumentRequest request) {
+        if (documents.latest(request.name()).isPresent()) {
+            throw Errors.error(DocumentAlreadyExistsException.builder(), "The specified document already exists.");
+        }
+        checkContent(request.content());
+
+        final Instant now = settings.getClock().instant();
+        final DocumentVersion version = new DocumentVersion("1", request.versionName(), request.content(),
+                request.documentFormat() == null ? DocumentFormat.JSON.toString() : request.documentFormatAsString(),
+                now);
+        final StoredDocument document = new StoredDocument(
+                request.name(),
+                request.displayName(),
+                request.documentType() == null ? DocumentType.COMMAND.toString() : request.documentTypeAsString(),
+                request.targetType(),
+                now,
+                "1",
+                Collections.singletonList(version));
+
+        tags.register(TAGGING_RESOURCE_TYPE, request.name(), request.tags());
+        documents.put(request.name(), document);
+        return CreateDocumentResponse.builder()
+                .documentDescription(describe(document, version, DocumentStatus.CREATING))
+                .build();
+    }
+
+    synchronized DescribeDocumentResponse describeDocument(final DescribeDocumentRequest request) {
+        final StoredDocument document = get(request.name());
+        final DocumentVersion version = version(document, request.documentVersion(), request.versionName());
+        return DescribeDocumentResponse.builder()
+                .document(describe(document, version, null))
+                .build();
+    }
+
+    synchronized GetDocumentResponse getDocument(final GetDocumentRequest request) {
+        final StoredDocument document = get(request.name());
+        final DocumentVersion version = version(document, request.documentVersion(), request.versionName());
+        return GetDocumentResponse.builder()
+                .name(document.getName())
+                .displayName(document.getDisplayName())
+                .createdDate(version.getCreatedDate())
+                .versionName(version.getVersionName())
+                .documentVersion(version.getDocumentVersion())
+                .status(status(version, DocumentStatus.CREATING))
+                .content(version.getContent())
+                .documentType(document.getDocumentType())
+                .documentFormat(version.getDocumentFormat())
+                .build();
+    }
+
+    synchronized UpdateDocumentResponse updateDocument(final UpdateDocumentRequest request) {
+        final StoredDocument document = get(request.name());
+        final DocumentVersion latest = document.latest();
+        if (request.documentVersion() != null && !LATEST_VERSION.equals(request.documentVersion())
+                && !latest.getDocumentVersion().equals(request.documentVersion())) {
+            throw Errors.error(InvalidDocumentVersionException.builder(),
+                    "The document version is not valid or does not exist.");
+        }
+        checkContent(request.content());
+        if (latest.getContent().equals(request.content())) {
+            throw Errors.error(DuplicateDocumentContentException.builder(),
+                    "The content of the association document matches another document.");
+        }
+        if (request.versionName() != null && document.getVersions().stream()
+                .anyMatch(version -> request.versionName().equals(version.getVersionName()))) {
+            throw Errors.error(DuplicateDocumentVersionNameException.builder(),
+                    "The version name has already been used in this document.");
+        }
+
+        final DocumentVersion version = new DocumentVersion(
+                Integer.toString(Integer.parseInt(latest.getDocumentVersion()) + 1),
+                request.versionName(),
+                request.content(),
+                request.documentFormat() == null ? latest.getDocumentFormat() : request.documentFormatAsString(),
+                settings.getClock().instant());
+        final List<DocumentVersion> versions = new ArrayList<>(document.getVersions());
+        versions.add(version);
+        final StoredDocument updated = new StoredDocument(document.getName(),
+                request.displayName() == null ? document.getDisplayName() : request.displayName(),
+                document.getDocumentType(),
+                request.targetType() == null ? document.getTargetType() : request.targetType(),
+                document.getCreatedDate(),
+                document.getDefaultVersion(),
+                Collections.unmodifiableList(versions));
+
+        documents.put(updated.getName(), updated);
+        return UpdateDocumentResponse.builder()
+                .documentDescription(describe(updated, version, DocumentStatus.UPDATING))
+                .build();
+    }
+
+    synchronized UpdateDocumentDefaultVersionResponse updateDocumentDefaultVersion(
+            final UpdateDocumentDefaultVersionRequest request) {
+        final StoredDocument document = get(request.name());
+        final DocumentVersion version = version(document, request.documentVersion(), null);
+        documents.put(document.getName(), new StoredDocument(document.getName(), document.getDisplayName(),
+                document.getDocumentType(), document.getTargetType(), document.getCreatedDate(),
+                version.getDocumentVersion(), document.getVersions()));
+
+        return UpdateDocumentDefaultVersionResponse.builder()
+                .description(DocumentDefaultVersionDescription.builder()
+                        .name(document.getName())
+                        .defaultVersion(version.getDocumentVersion())
+                        .defaultVersionName(version.getVersionName())
+                        .build())
+                .build();
+    }
+
+    synchronized DeleteDocumentResponse deleteDocument(final DeleteDocumentRequest request) {
+        final StoredDocument document = get(request.name());
+        if (request.documentVersion() == null && request.versionName() == null) {
+            documents.remove(document.getName());
+            tags.unregister(TAGGING_RESOURCE_TYPE, document.getName());
+            return DeleteDocumentResponse.builder().build();
+        }
+
+        final DocumentVersion version = version(document, request.documentVersion(), request.versionName());
+        if (version.getDocumentVersion().equals(document.getDefaultVersion())) {
+            throw Errors.error(InvalidDocumentOperationException.builder(),
+                    "The default version of a document cannot be deleted.");
+        }
+        final List<DocumentVersion> versions = document.getVersions().stream()
+                .filter(candidate -> candidate != version)
+                .collect(Collectors.toList());
+        documents.put(document.getName(), new StoredDocument(document.getName(), document.getDisplayName(),
+                document.getDocumentType(), document.getTargetType(), document.getCreatedDate(),
+                document.getDefaultVersion(), Collections.unmodifiableList(versions)));
+        return DeleteDocumentResponse.builder().build();
+    }
+
+    synchronized ListDocumentsResponse listDocuments(final ListDocumentsRequest request) {
+        Predicate<StoredDocument> filter = document -> true;
+        for (DocumentFilter documentFilter : request.documentFilterList()) {
+            filter = filter.and(filter(documentFilter.keyAsString(),
+                    Collections.singletonList(documentFilter.value())));
+        }
+        for (DocumentKeyValuesFilter keyValuesFilter : request.filters()) {
+            filter = filter.and(filter(keyValuesFilter.key(), keyValuesFilter.values()));
+        }
+
+        final List<DocumentIdentifier> matching = documents.readAll().stream()
+                .filter(filter)
+                .map(this::toIdentifier)
+                .collect(Collectors.toList());
+        final Pages.Page<DocumentIdentifier> page = Pages.page(matching, request.nextToken(), request.maxResults(),
+                LIST_DEFAULT_MAX_RESULTS);
+
+        return ListDocumentsResponse.builder()
+                .documentIdentifiers(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    private StoredDocument get(final String name) {
+        return documents.latest(name).orElseThrow(() -> Errors.error(InvalidDocumentException.builder(),
+                String.format("Document with name %s does not exist.", name)));
+    }
+
+    private static DocumentVersion version(final StoredDocument document,
+                                           final String documentVersion,
+                                           final String versionName) {
+        final Optional<DocumentVersion> version;
+        if (versionName != null) {
+            version = document.getVersions().stream()
+                    .filter(candidate -> versionName.equals(candidate.getVersionName()))
+                    .findFirst();
+        } else if (documentVersion == null || DEFAULT_VERSION.equals(documentVersion)) {
+            version = document.find(document.getDefaultVersion());
+        } else if (LATEST_VERSION.equals(documentVersion)) {
+            version = Optional.of(document.latest());
+        } else {
+            version = document.find(documentVersion);
+        }
+        return version.orElseThrow(() -> Errors.error(InvalidDocumentVersionException.builder(),
+                "The document version is not valid or does not exist."));
+    }
+
+    private DocumentDescription describe(final StoredDocument document,
+                                         final DocumentVersion version,
+                                         final DocumentStatus pendingStatus) {
+        final List<Tag> documentTags = tags.tagsOf(TAGGING_RESOURCE_TYPE, document.getName()).entrySet().stream()
+                .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+
+        return DocumentDescription.builder()
+                .name(document.getName())
+                .displayName(document.getDisplayName())
+                .versionName(version.getVersionName())
+                .documentVersion(version.getDocumentVersion())
+                .latestVersion(document.latest().getDocumentVersion())
+                .defaultVersion(document.getDefaultVersion())
+                .createdDate(version.getCreatedDate())
+                .status(pendingStatus == null
+                        ? status(version, version.getDocumentVersion().equals("1")
+                                ? DocumentStatus.CREATING
+                                : DocumentStatus.UPDATING)
+                        : pendingStatus)
+                .documentType(document.getDocumentType())
+                .documentFormat(version.getDocumentFormat())
+                .targetType(document.getTargetType())
+                .hash(sha256(version.getContent()))
+                .hashType(DocumentHashType.SHA256)
+                .owner(settings.getAccountId())
+                .tags(documentTags)
+                .build();
+    }
+
+    private DocumentStatus status(final DocumentVersion version, final DocumentStatus pendingStatus) {
+        final Instant activeAt = version.getCreatedDate().plus(settings.getConsistencyDelay());
+        return settings.getClock().instant().isBefore(activeAt) ? pendingStatus : DocumentStatus.ACTIVE;
+    }
+
+    private DocumentIdentifier toIdentifier(final StoredDocument document) {
+        final DocumentVersion version = document.find(document.getDefaultVersion()).orElse(document.latest());
+        return DocumentIdentifier.builder()
+                .name(document.getName())
+                .displayName(document.getDisplayName())
+                .createdDate(document.getCreatedDate())
+                .owner(settings.getAccountId())
+                .versionName(version.getVersionName())
+                .documentVersion(version.getDocumentVersion())
+                .documentType(document.getDocumentType())
+                .documentFormat(version.getDocumentFormat())
+                .targetType(document.getTargetType())
+                .build();
+    }
+
+    private Predicate<StoredDocument> filter(final String key, final List<String> values) {
+        switch (key) {
+            case "Name":
+                return document -> values.contains(document.getName());
+            case "DocumentType":
+                return document -> values.contains(document.getDocumentType());
+            case "TargetType":
+                return document -> values.contains(document.getTargetType());
+            case "Owner":
+                // Every stored document is owned by the calling account
+                return document -> values.contains("Self") || values.contains(settings.getAccountId());
+            default:
+                if (key.startsWith("tag:")) {
+                    final String tagKey = key.substring("tag:".length());
+                    return document -> {
+                        final Map<String, String> documentTags = tags.tagsOf(TAGGING_RESOURCE_TYPE, document.getName());
+                        return documentTags.containsKey(tagKey)
+                                && (values.isEmpty() || values.contains(documentTags.get(tagKey)));
+                    };
+                }
+                throw Errors.error(InvalidFilterKeyException.builder(),
+                        String.format("The filter key %s is not supported.", key));
+        }
+    }
+
+    private static void checkContent(final String content) {
+        if (content == null || content.isEmpty()) {
+            throw Errors.error(InvalidDocumentContentException.builder(), "The content for the document is not valid.");
+        }
+    }
+
+    private static String sha256(final String content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return BinaryUtils.toHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Value
+    private static class StoredDocument {
+        String name;
+        String displayName;
+        String documentType;
+        String targetType;
+        Instant createdDate;
+        String defaultVersion;
+        List<DocumentVersion> versions;
+
+        DocumentVersion latest() {
+            return versions.get(versions.size() - 1);
+        }
+
+        Optional<DocumentVersion> find(final String documentVersion) {
+            return versions.stream()
+                    .filter(version -> Objects.equals(documentVersion, version.getDocumentVersion()))
+                    .findFirst();
+        }
+    }
+
+    @Value
+    private static class DocumentVersion {
+        String documentVersion;
+        String versionName;
+        String content;
+        String documentFormat;
+        Instant createdDate;
+    }
+}
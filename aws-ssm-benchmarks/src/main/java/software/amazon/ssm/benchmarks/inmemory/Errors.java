@@ -0,0 +1,54 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+
+/**
+ * Builds the modeled SSM exceptions thrown by the in-memory stores, with the error details the SDK would
+ * unmarshall from a real error response.
+ */
+final class Errors {
+
+    private static final String EXCEPTION_SUFFIX = "Exception";
+
+    private Errors() {
+    }
+
+    /**
+     * @param builder builder of the modeled exception, for example ParameterNotFoundException.builder()
+     * @param message error message
+     * @return the exception, with an error code derived from its type
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends SsmException> T error(final SsmException.Builder builder, final String message) {
+        final String type = builder.build().getClass().getSimpleName();
+        final String errorCode = type.endsWith(EXCEPTION_SUFFIX)
+                ? type.substring(0, type.length() - EXCEPTION_SUFFIX.length())
+                : type;
+
+        return (T) builder
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .serviceName("Ssm")
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .build())
+                .build();
+    }
+
+    /**
+     * @return the unmodeled error SSM returns when a request fails input validation
+     */
+    static SsmException validation(final String message) {
+        return (SsmException) SsmException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .serviceName("Ssm")
+                        .errorCode("ValidationException")
+                        .errorMessage(message)
+                        .build())
+                .build();
+    }
+}
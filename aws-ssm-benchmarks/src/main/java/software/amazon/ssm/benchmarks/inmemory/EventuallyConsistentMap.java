@@ -0,0 +1,128 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keyed store where a write becomes visible to reads only once the consistency delay has passed. Writes and the
+ * checks guarding them (already exists, does not exist) see the latest value, like the SSM write path does.
+ */
+class EventuallyConsistentMap<K, V> {
+
+    private final Map<K, Deque<Version<V>>> versions = new LinkedHashMap<>();
+    private final Duration consistencyDelay;
+    private final Clock clock;
+
+    EventuallyConsistentMap(final Duration consistencyDelay, final Clock clock) {
+        this.consistencyDelay = consistencyDelay;
+        this.clock = clock;
+    }
+
+    synchronized void put(final K key, final V value) {
+        write(key, value);
+    }
+
+    synchronized void remove(final K key) {
+        write(key, null);
+    }
+
+    /**
+     * @return the value as last written, regardless of the consistency delay
+     */
+    synchronized Optional<V> latest(final K key) {
+        final Deque<Version<V>> history = versions.get(key);
+        return history == null ? Optional.empty() : Optional.ofNullable(history.peekLast().value);
+    }
+
+    /**
+     * @return the newest value that is visible to readers
+     */
+    synchronized Optional<V> read(final K key) {
+        final Deque<Version<V>> history = versions.get(key);
+        return history == null ? Optional.empty() : visible(history);
+    }
+
+    /**
+     * @return every visible value, in the order the keys were first written
+     */
+    synchronized List<V> readAll() {
+        final List<V> values = new ArrayList<>(versions.size());
+        for (Deque<Version<V>> history : versions.values()) {
+            visible(history).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    /**
+     * @return every value as last written, in the order the keys were first written
+     */
+    synchronized List<V> latestAll() {
+        final List<V> values = new ArrayList<>(versions.size());
+        for (Deque<Version<V>> history : versions.values()) {
+            final V value = history.peekLast().value;
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private void write(final K key, final V value) {
+        final Deque<Version<V>> history = versions.computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (consistencyDelay.isZero()) {
+            history.clear();
+        }
+        history.addLast(new Version<>(clock.instant(), value));
+        prune(key, history);
+    }
+
+    private Optional<V> visible(final Deque<Version<V>> history) {
+        final Instant visibleBefore = clock.instant().minus(consistencyDelay);
+        final Iterator<Version<V>> newestFirst = history.descendingIterator();
+        while (newestFirst.hasNext()) {
+            final Version<V> version = newestFirst.next();
+            if (!version.writtenAt.isAfter(visibleBefore)) {
+                return Optional.ofNullable(version.value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Drop the versions hidden by a newer visible one, and the key once only a visible tombstone is left.
+     */
+    private void prune(final K key, final Deque<Version<V>> history) {
+        final Instant visibleBefore = clock.instant().minus(consistencyDelay);
+        while (history.size() > 1) {
+            final Iterator<Version<V>> oldestFirst = history.iterator();
+            oldestFirst.next();
+            if (oldestFirst.next().writtenAt.isAfter(visibleBefore)) {
+                break;
+            }
+            history.removeFirst();
+        }
+        if (history.size() == 1 && history.peekFirst().value == null
+                && !history.peekFirst().writtenAt.isAfter(visibleBefore)) {
+            versions.remove(key);
+        }
+    }
+
+    private static final class Version<V> {
+        private final Instant writtenAt;
+        private final V value;
+
+        private Version(final Instant writtenAt, final V value) {
+            this.writtenAt = writtenAt;
+            this.value = value;
+        }
+    }
+}
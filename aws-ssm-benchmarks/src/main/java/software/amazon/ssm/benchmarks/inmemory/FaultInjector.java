@@ -0,0 +1,65 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the latency and throttling of {@link SimulationSettings} to a call.
+ */
+class FaultInjector {
+
+    static final String THROTTLING_ERROR_CODE = "ThrottlingException";
+
+    private final SimulationSettings settings;
+    private final Random random;
+
+    FaultInjector(final SimulationSettings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.getSeed());
+    }
+
+    /**
+     * Sleep for the configured latency plus a random share of the jitter.
+     */
+    void delay() {
+        long delayNanos = settings.getLatency().toNanos();
+        final long jitterNanos = settings.getLatencyJitter().toNanos();
+        if (jitterNanos > 0) {
+            delayNanos += (long) (random.nextDouble() * jitterNanos);
+        }
+        if (delayNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return true if the call should be rejected as throttled
+     */
+    boolean shouldThrottle() {
+        return settings.getThrottleRate() > 0 && random.nextDouble() < settings.getThrottleRate();
+    }
+
+    /**
+     * @return the exception SSM returns when the request rate is exceeded
+     */
+    static SsmException throttlingException(final String operation) {
+        return (SsmException) SsmException.builder()
+                .message("Rate exceeded")
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .serviceName("Ssm")
+                        .errorCode(THROTTLING_ERROR_CODE)
+                        .errorMessage(String.format("Rate exceeded for %s", operation))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Connects an {@link InMemorySsmClient} to the handlers.
+ *
+ * Handlers built on ProxyClient call the client returned by {@link #proxyClient}. Handlers that build their own
+ * SsmClient and pass its methods to AmazonWebServicesClientProxy.injectCredentialsAndInvokeV2 are served by the
+ * proxy returned by {@link #clientProxy}, which routes every request, synchronous or asynchronous, to the in-memory
+ * client by request type.
+ */
+public final class InMemoryProxies {
+
+    public static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+
+    private static final long DEFAULT_REMAINING_TIME_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private InMemoryProxies() {
+    }
+
+    public static AmazonWebServicesClientProxy clientProxy(final InMemorySsmClient ssmClient) {
+        return clientProxy(ssmClient, new LoggerProxy(), () -> DEFAULT_REMAINING_TIME_MILLIS);
+    }
+
+    /**
+     * @param ssmClient client every request is sent to
+     * @param logger logger of the proxy
+     * @param remainingTimeMillis remaining time of the simulated handler invocation
+     * @return a proxy sending every SSM request to the in-memory client
+     */
+    public static AmazonWebServicesClientProxy clientProxy(final InMemorySsmClient ssmClient,
+                                                           final LoggerProxy logger,
+                                                           final Supplier<Long> remainingTimeMillis) {
+        return new InMemoryClientProxy(ssmClient, logger, remainingTimeMillis);
+    }
+
+    /**
+     * @param proxy proxy returned by {@link #clientProxy}
+     * @param ssmClient client handed to the handler
+     * @return a ProxyClient whose client() is the in-memory client
+     */
+    public static ProxyClient<SsmClient> proxyClient(final AmazonWebServicesClientProxy proxy,
+                                                     final InMemorySsmClient ssmClient) {
+        return proxy.newProxy(() -> ssmClient);
+    }
+
+    private static class InMemoryClientProxy extends AmazonWebServicesClientProxy {
+
+        private final InMemorySsmClient ssmClient;
+
+        InMemoryClientProxy(final InMemorySsmClient ssmClient,
+                            final LoggerProxy logger,
+                            final Supplier<Long> remainingTimeMillis) {
+            super(logger, CREDENTIALS, remainingTimeMillis);
+            this.ssmClient = ssmClient;
+        }
+
+        /**
+         * The function may be bound to a real client built by the handler, so the request is dispatched by type
+         * instead of being passed to it.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResultT> requestFunction) {
+            return (ResultT) ssmClient.invoke(request);
+        }
+
+        /**
+         * Same as {@link #injectCredentialsAndInvokeV2}, the returned future is already complete.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT extends AwsRequest, ResultT extends AwsResponse> CompletableFuture<ResultT> injectCredentialsAndInvokeV2Async(
+                final RequestT request,
+                final Function<RequestT, CompletableFuture<ResultT>> requestFunction) {
+            final CompletableFuture<ResultT> future = new CompletableFuture<>();
+            try {
+                future.complete((ResultT) ssmClient.invoke(request));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+    }
+}
@@ -0,0 +1,566 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Getter;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchRequest;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationBatchResponse;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.CreateAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.CreateDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.CreateDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.CreateMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.CreateMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.CreateOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.CreateOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.CreatePatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.CreatePatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteParameterRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteParameterResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersResponse;
+import software.amazon.awssdk.services.ssm.model.DeletePatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.DeletePatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.DeregisterPatchBaselineForPatchGroupRequest;
+import software.amazon.awssdk.services.ssm.model.DeregisterPatchBaselineForPatchGroupResponse;
+import software.amazon.awssdk.services.ssm.model.DeregisterTargetFromMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeregisterTargetFromMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DeregisterTaskFromMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeregisterTaskFromMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTargetsRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTargetsResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTasksRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTasksResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowsRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowsResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesRequest;
+import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesResponse;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.GetDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.GetDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowTaskRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowTaskResponse;
+import software.amazon.awssdk.services.ssm.model.GetOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.GetOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.GetParameterRequest;
+import software.amazon.awssdk.services.ssm.model.GetParameterResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.ListAssociationsRequest;
+import software.amazon.awssdk.services.ssm.model.ListAssociationsResponse;
+import software.amazon.awssdk.services.ssm.model.ListDocumentsRequest;
+import software.amazon.awssdk.services.ssm.model.ListDocumentsResponse;
+import software.amazon.awssdk.services.ssm.model.ListOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.ListOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+import software.amazon.awssdk.services.ssm.model.PutParameterResponse;
+import software.amazon.awssdk.services.ssm.model.RegisterDefaultPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterDefaultPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.RegisterPatchBaselineForPatchGroupRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterPatchBaselineForPatchGroupResponse;
+import software.amazon.awssdk.services.ssm.model.RegisterTargetWithMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterTargetWithMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.RegisterTaskWithMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterTaskWithMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+import software.amazon.awssdk.services.ssm.model.UpdateAssociationRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateAssociationResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentDefaultVersionRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentDefaultVersionResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateDocumentResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTargetRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTargetResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTaskRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTaskResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.UpdatePatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.UpdatePatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateResourceDataSyncResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link SsmClient} backed by in-memory stores, for running handler flows such as create, stabilize, read and
+ * update at volume without an AWS account. Every call goes through the latency, throttling and eventual
+ * consistency described by {@link SimulationSettings} and is counted by the {@link ApiCallRecorder}.
+ * Operations without a store throw UnsupportedOperationException.
+ *
+ * Use {@link InMemoryProxies} to hand the client to handlers through the ProxyClient and
+ * AmazonWebServicesClientProxy seams.
+ */
+public class InMemorySsmClient implements SsmClient {
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    @Getter
+    private final SimulationSettings settings;
+
+    @Getter
+    private final ApiCallRecorder recorder = new ApiCallRecorder();
+
+    private final FaultInjector faultInjector;
+    private final ParameterStore parameters;
+    private final AssociationStore associations;
+    private final DocumentStore documents;
+    private final MaintenanceWindowStore maintenanceWindows;
+    private final PatchBaselineStore patchBaselines;
+    private final OpsMetadataStore opsMetadata;
+    private final ResourceDataSyncStore resourceDataSyncs;
+    private final TagStore tags;
+    private final Map<Class<?>, Function<AwsRequest, AwsResponse>> operations = new HashMap<>();
+
+    public InMemorySsmClient() {
+        this(SimulationSettings.defaults());
+    }
+
+    public InMemorySsmClient(final SimulationSettings settings) {
+        this.settings = settings;
+        this.faultInjector = new FaultInjector(settings);
+        this.tags = new TagStore();
+        this.parameters = new ParameterStore(settings, tags);
+        this.associations = new AssociationStore(settings, tags);
+        this.documents = new DocumentStore(settings, tags);
+        this.maintenanceWindows = new MaintenanceWindowStore(settings, tags);
+        this.patchBaselines = new PatchBaselineStore(settings, tags);
+        this.opsMetadata = new OpsMetadataStore(settings, tags);
+        this.resourceDataSyncs = new ResourceDataSyncStore(settings);
+
+        register(PutParameterRequest.class, this::putParameter);
+        register(GetParameterRequest.class, this::getParameter);
+        register(GetParametersRequest.class, this::getParameters);
+        register(GetParametersByPathRequest.class, this::getParametersByPath);
+        register(DescribeParametersRequest.class, this::describeParameters);
+        register(DeleteParameterRequest.class, this::deleteParameter);
+        register(DeleteParametersRequest.class, this::deleteParameters);
+        register(CreateAssociationRequest.class, this::createAssociation);
+        register(CreateAssociationBatchRequest.class, this::createAssociationBatch);
+        register(DescribeAssociationRequest.class, this::describeAssociation);
+        register(UpdateAssociationRequest.class, this::updateAssociation);
+        register(DeleteAssociationRequest.class, this::deleteAssociation);
+        register(ListAssociationsRequest.class, this::listAssociations);
+        register(CreateDocumentRequest.class, this::createDocument);
+        register(DescribeDocumentRequest.class, this::describeDocument);
+        register(GetDocumentRequest.class, this::getDocument);
+        register(UpdateDocumentRequest.class, this::updateDocument);
+        register(UpdateDocumentDefaultVersionRequest.class, this::updateDocumentDefaultVersion);
+        register(DeleteDocumentRequest.class, this::deleteDocument);
+        register(ListDocumentsRequest.class, this::listDocuments);
+        register(CreateMaintenanceWindowRequest.class, this::createMaintenanceWindow);
+        register(GetMaintenanceWindowRequest.class, this::getMaintenanceWindow);
+        register(UpdateMaintenanceWindowRequest.class, this::updateMaintenanceWindow);
+        register(DeleteMaintenanceWindowRequest.class, this::deleteMaintenanceWindow);
+        register(DescribeMaintenanceWindowsRequest.class, this::describeMaintenanceWindows);
+        register(RegisterTargetWithMaintenanceWindowRequest.class, this::registerTargetWithMaintenanceWindow);
+        register(UpdateMaintenanceWindowTargetRequest.class, this::updateMaintenanceWindowTarget);
+        register(DeregisterTargetFromMaintenanceWindowRequest.class, this::deregisterTargetFromMaintenanceWindow);
+        register(DescribeMaintenanceWindowTargetsRequest.class, this::describeMaintenanceWindowTargets);
+        register(RegisterTaskWithMaintenanceWindowRequest.class, this::registerTaskWithMaintenanceWindow);
+        register(GetMaintenanceWindowTaskRequest.class, this::getMaintenanceWindowTask);
+        register(UpdateMaintenanceWindowTaskRequest.class, this::updateMaintenanceWindowTask);
+        register(DeregisterTaskFromMaintenanceWindowRequest.class, this::deregisterTaskFromMaintenanceWindow);
+        register(DescribeMaintenanceWindowTasksRequest.class, this::describeMaintenanceWindowTasks);
+        register(CreatePatchBaselineRequest.class, this::createPatchBaseline);
+        register(GetPatchBaselineRequest.class, this::getPatchBaseline);
+        register(UpdatePatchBaselineRequest.class, this::updatePatchBaseline);
+        register(DeletePatchBaselineRequest.class, this::deletePatchBaseline);
+        register(DescribePatchBaselinesRequest.class, this::describePatchBaselines);
+        register(RegisterPatchBaselineForPatchGroupRequest.class, this::registerPatchBaselineForPatchGroup);
+        register(DeregisterPatchBaselineForPatchGroupRequest.class, this::deregisterPatchBaselineForPatchGroup);
+        register(GetDefaultPatchBaselineRequest.class, this::getDefaultPatchBaseline);
+        register(RegisterDefaultPatchBaselineRequest.class, this::registerDefaultPatchBaseline);
+        register(CreateOpsMetadataRequest.class, this::createOpsMetadata);
+        register(GetOpsMetadataRequest.class, this::getOpsMetadata);
+        register(UpdateOpsMetadataRequest.class, this::updateOpsMetadata);
+        register(DeleteOpsMetadataRequest.class, this::deleteOpsMetadata);
+        register(ListOpsMetadataRequest.class, this::listOpsMetadata);
+        register(CreateResourceDataSyncRequest.class, this::createResourceDataSync);
+        register(ListResourceDataSyncRequest.class, this::listResourceDataSync);
+        register(UpdateResourceDataSyncRequest.class, this::updateResourceDataSync);
+        register(DeleteResourceDataSyncRequest.class, this::deleteResourceDataSync);
+        register(AddTagsToResourceRequest.class, this::addTagsToResource);
+        register(RemoveTagsFromResourceRequest.class, this::removeTagsFromResource);
+        register(ListTagsForResourceRequest.class, this::listTagsForResource);
+    }
+
+    /**
+     * Run a request against the matching operation, whatever function the caller meant to invoke it with.
+     * Used by {@link InMemoryProxies} for handlers that call a client they built themselves.
+     * @param request SSM request
+     * @return the response of the operation
+     */
+    public AwsResponse invoke(final AwsRequest request) {
+        final Function<AwsRequest, AwsResponse> operation = operations.get(request.getClass());
+        if (operation == null) {
+            throw new UnsupportedOperationException(operationName(request) + " is not supported by " + serviceName());
+        }
+        return operation.apply(request);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Parameter Store
+
+    @Override
+    public PutParameterResponse putParameter(final PutParameterRequest request) {
+        return call(request, parameters::putParameter);
+    }
+
+    @Override
+    public GetParameterResponse getParameter(final GetParameterRequest request) {
+        return call(request, parameters::getParameter);
+    }
+
+    @Override
+    public GetParametersResponse getParameters(final GetParametersRequest request) {
+        return call(request, parameters::getParameters);
+    }
+
+    @Override
+    public GetParametersByPathResponse getParametersByPath(final GetParametersByPathRequest request) {
+        return call(request, parameters::getParametersByPath);
+    }
+
+    @Override
+    public DescribeParametersResponse describeParameters(final DescribeParametersRequest request) {
+        return call(request, parameters::describeParameters);
+    }
+
+    @Override
+    public DeleteParameterResponse deleteParameter(final DeleteParameterRequest request) {
+        return call(request, parameters::deleteParameter);
+    }
+
+    @Override
+    public DeleteParametersResponse deleteParameters(final DeleteParametersRequest request) {
+        return call(request, parameters::deleteParameters);
+    }
+
+    // State Manager associations
+
+    @Override
+    public CreateAssociationResponse createAssociation(final CreateAssociationRequest request) {
+        return call(request, associations::createAssociation);
+    }
+
+    @Override
+    public CreateAssociationBatchResponse createAssociationBatch(final CreateAssociationBatchRequest request) {
+        return call(request, associations::createAssociationBatch);
+    }
+
+    @Override
+    public DescribeAssociationResponse describeAssociation(final DescribeAssociationRequest request) {
+        return call(request, associations::describeAssociation);
+    }
+
+    @Override
+    public UpdateAssociationResponse updateAssociation(final UpdateAssociationRequest request) {
+        return call(request, associations::updateAssociation);
+    }
+
+    @Override
+    public DeleteAssociationResponse deleteAssociation(final DeleteAssociationRequest request) {
+        return call(request, associations::deleteAssociation);
+    }
+
+    @Override
+    public ListAssociationsResponse listAssociations(final ListAssociationsRequest request) {
+        return call(request, associations::listAssociations);
+    }
+
+    // Documents
+
+    @Override
+    public CreateDocumentResponse createDocument(final CreateDocumentRequest request) {
+        return call(request, documents::createDocument);
+    }
+
+    @Override
+    public DescribeDocumentResponse describeDocument(final DescribeDocumentRequest request) {
+        return call(request, documents::describeDocument);
+    }
+
+    @Override
+    public GetDocumentResponse getDocument(final GetDocumentRequest request) {
+        return call(request, documents::getDocument);
+    }
+
+    @Override
+    public UpdateDocumentResponse updateDocument(final UpdateDocumentRequest request) {
+        return call(request, documents::updateDocument);
+    }
+
+    @Override
+    public UpdateDocumentDefaultVersionResponse updateDocumentDefaultVersion(final UpdateDocumentDefaultVersionRequest request) {
+        return call(request, documents::updateDocumentDefaultVersion);
+    }
+
+    @Override
+    public DeleteDocumentResponse deleteDocument(final DeleteDocumentRequest request) {
+        return call(request, documents::deleteDocument);
+    }
+
+    @Override
+    public ListDocumentsResponse listDocuments(final ListDocumentsRequest request) {
+        return call(request, documents::listDocuments);
+    }
+
+    // Maintenance windows, targets and tasks
+
+    @Override
+    public CreateMaintenanceWindowResponse createMaintenanceWindow(final CreateMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::createMaintenanceWindow);
+    }
+
+    @Override
+    public GetMaintenanceWindowResponse getMaintenanceWindow(final GetMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::getMaintenanceWindow);
+    }
+
+    @Override
+    public UpdateMaintenanceWindowResponse updateMaintenanceWindow(final UpdateMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::updateMaintenanceWindow);
+    }
+
+    @Override
+    public DeleteMaintenanceWindowResponse deleteMaintenanceWindow(final DeleteMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::deleteMaintenanceWindow);
+    }
+
+    @Override
+    public DescribeMaintenanceWindowsResponse describeMaintenanceWindows(final DescribeMaintenanceWindowsRequest request) {
+        return call(request, maintenanceWindows::describeMaintenanceWindows);
+    }
+
+    @Override
+    public RegisterTargetWithMaintenanceWindowResponse registerTargetWithMaintenanceWindow(final RegisterTargetWithMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::registerTargetWithMaintenanceWindow);
+    }
+
+    @Override
+    public UpdateMaintenanceWindowTargetResponse updateMaintenanceWindowTarget(final UpdateMaintenanceWindowTargetRequest request) {
+        return call(request, maintenanceWindows::updateMaintenanceWindowTarget);
+    }
+
+    @Override
+    public DeregisterTargetFromMaintenanceWindowResponse deregisterTargetFromMaintenanceWindow(final DeregisterTargetFromMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::deregisterTargetFromMaintenanceWindow);
+    }
+
+    @Override
+    public DescribeMaintenanceWindowTargetsResponse describeMaintenanceWindowTargets(final DescribeMaintenanceWindowTargetsRequest request) {
+        return call(request, maintenanceWindows::describeMaintenanceWindowTargets);
+    }
+
+    @Override
+    public RegisterTaskWithMaintenanceWindowResponse registerTaskWithMaintenanceWindow(final RegisterTaskWithMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::registerTaskWithMaintenanceWindow);
+    }
+
+    @Override
+    public GetMaintenanceWindowTaskResponse getMaintenanceWindowTask(final GetMaintenanceWindowTaskRequest request) {
+        return call(request, maintenanceWindows::getMaintenanceWindowTask);
+    }
+
+    @Override
+    public UpdateMaintenanceWindowTaskResponse updateMaintenanceWindowTask(final UpdateMaintenanceWindowTaskRequest request) {
+        return call(request, maintenanceWindows::updateMaintenanceWindowTask);
+    }
+
+    @Override
+    public DeregisterTaskFromMaintenanceWindowResponse deregisterTaskFromMaintenanceWindow(final DeregisterTaskFromMaintenanceWindowRequest request) {
+        return call(request, maintenanceWindows::deregisterTaskFromMaintenanceWindow);
+    }
+
+    @Override
+    public DescribeMaintenanceWindowTasksResponse describeMaintenanceWindowTasks(final DescribeMaintenanceWindowTasksRequest request) {
+        return call(request, maintenanceWindows::describeMaintenanceWindowTasks);
+    }
+
+    // Patch baselines
+
+    @Override
+    public CreatePatchBaselineResponse createPatchBaseline(final CreatePatchBaselineRequest request) {
+        return call(request, patchBaselines::createPatchBaseline);
+    }
+
+    @Override
+    public GetPatchBaselineResponse getPatchBaseline(final GetPatchBaselineRequest request) {
+        return call(request, patchBaselines::getPatchBaseline);
+    }
+
+    @Override
+    public UpdatePatchBaselineResponse updatePatchBaseline(final UpdatePatchBaselineRequest request) {
+        return call(request, patchBaselines::updatePatchBaseline);
+    }
+
+    @Override
+    public DeletePatchBaselineResponse deletePatchBaseline(final DeletePatchBaselineRequest request) {
+        return call(request, patchBaselines::deletePatchBaseline);
+    }
+
+    @Override
+    public DescribePatchBaselinesResponse describePatchBaselines(final DescribePatchBaselinesRequest request) {
+        return call(request, patchBaselines::describePatchBaselines);
+    }
+
+    @Override
+    public RegisterPatchBaselineForPatchGroupResponse registerPatchBaselineForPatchGroup(final RegisterPatchBaselineForPatchGroupRequest request) {
+        return call(request, patchBaselines::registerPatchBaselineForPatchGroup);
+    }
+
+    @Override
+    public DeregisterPatchBaselineForPatchGroupResponse deregisterPatchBaselineForPatchGroup(final DeregisterPatchBaselineForPatchGroupRequest request) {
+        return call(request, patchBaselines::deregisterPatchBaselineForPatchGroup);
+    }
+
+    @Override
+    public GetDefaultPatchBaselineResponse getDefaultPatchBaseline(final GetDefaultPatchBaselineRequest request) {
+        return call(request, patchBaselines::getDefaultPatchBaseline);
+    }
+
+    @Override
+    public RegisterDefaultPatchBaselineResponse registerDefaultPatchBaseline(final RegisterDefaultPatchBaselineRequest request) {
+        return call(request, patchBaselines::registerDefaultPatchBaseline);
+    }
+
+    // OpsMetadata
+
+    @Override
+    public CreateOpsMetadataResponse createOpsMetadata(final CreateOpsMetadataRequest request) {
+        return call(request, opsMetadata::createOpsMetadata);
+    }
+
+    @Override
+    public GetOpsMetadataResponse getOpsMetadata(final GetOpsMetadataRequest request) {
+        return call(request, opsMetadata::getOpsMetadata);
+    }
+
+    @Override
+    public UpdateOpsMetadataResponse updateOpsMetadata(final UpdateOpsMetadataRequest request) {
+        return call(request, opsMetadata::updateOpsMetadata);
+    }
+
+    @Override
+    public DeleteOpsMetadataResponse deleteOpsMetadata(final DeleteOpsMetadataRequest request) {
+        return call(request, opsMetadata::deleteOpsMetadata);
+    }
+
+    @Override
+    public ListOpsMetadataResponse listOpsMetadata(final ListOpsMetadataRequest request) {
+        return call(request, opsMetadata::listOpsMetadata);
+    }
+
+    // Resource data syncs
+
+    @Override
+    public CreateResourceDataSyncResponse createResourceDataSync(final CreateResourceDataSyncRequest request) {
+        return call(request, resourceDataSyncs::createResourceDataSync);
+    }
+
+    @Override
+    public ListResourceDataSyncResponse listResourceDataSync(final ListResourceDataSyncRequest request) {
+        return call(request, resourceDataSyncs::listResourceDataSync);
+    }
+
+    @Override
+    public UpdateResourceDataSyncResponse updateResourceDataSync(final UpdateResourceDataSyncRequest request) {
+        return call(request, resourceDataSyncs::updateResourceDataSync);
+    }
+
+    @Override
+    public DeleteResourceDataSyncResponse deleteResourceDataSync(final DeleteResourceDataSyncRequest request) {
+        return call(request, resourceDataSyncs::deleteResourceDataSync);
+    }
+
+    // Tags
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        return call(request, tags::addTagsToResource);
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        return call(request, tags::removeTagsFromResource);
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call(request, tags::listTagsForResource);
+    }
+
+    private <Q extends AwsRequest, R extends AwsResponse> void register(final Class<Q> requestType,
+                                                                          final Function<Q, R> operation) {
+        operations.put(requestType, request -> operation.apply(requestType.cast(request)));
+    }
+
+    private <Q extends AwsRequest, R> R call(final Q request, final Function<Q, R> operation) {
+        final String operationName = operationName(request);
+        recorder.recordCall(operationName);
+        faultInjector.delay();
+        if (faultInjector.shouldThrottle()) {
+            recorder.recordThrottle(operationName);
+            recorder.recordError(operationName, FaultInjector.THROTTLING_ERROR_CODE);
+            throw FaultInjector.throttlingException(operationName);
+        }
+        try {
+            return operation.apply(request);
+        } catch (SsmException e) {
+            recorder.recordError(operationName, e.awsErrorDetails().errorCode());
+            throw e;
+        }
+    }
+
+    private static String operationName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+}
@@ -0,0 +1,460 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import software.amazon.awssdk.services.ssm.model.CreateMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.CreateMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DeregisterTargetFromMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeregisterTargetFromMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DeregisterTaskFromMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeregisterTaskFromMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTargetsRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTargetsResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTasksRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTasksResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowsRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowsResponse;
+import software.amazon.awssdk.services.ssm.model.DoesNotExistException;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowTaskRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowTaskResponse;
+import software.amazon.awssdk.services.ssm.model.InvalidFilterKeyException;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowFilter;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowIdentity;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTarget;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTask;
+import software.amazon.awssdk.services.ssm.model.RegisterTargetWithMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterTargetWithMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.RegisterTaskWithMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterTaskWithMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+import software.amazon.awssdk.services.ssm.model.TargetInUseException;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTargetRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTargetResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTaskRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTaskResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Maintenance windows together with the targets and tasks registered with them.
+ */
+class MaintenanceWindowStore {
+
+    private static final int DESCRIBE_DEFAULT_MAX_RESULTS = 10;
+    private static final String WINDOW_TARGET_IDS = "WindowTargetIds";
+    private static final String TAGGING_RESOURCE_TYPE = ResourceTypeForTagging.MAINTENANCE_WINDOW.toString();
+
+    private final EventuallyConsistentMap<String, GetMaintenanceWindowResponse> windows;
+    private final EventuallyConsistentMap<String, MaintenanceWindowTarget> targets;
+    private final EventuallyConsistentMap<String, GetMaintenanceWindowTaskResponse> tasks;
+    private final TagStore tags;
+    private final SimulationSettings settings;
+
+    MaintenanceWindowStore(final SimulationSettings settings, final TagStore tags) {
+        this.windows = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.targets = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.tasks = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.tags = tags;
+        this.settings = settings;
+    }
+
+    synchronized CreateMaintenanceWindowResponse createMaintenanceWindow(final CreateMaintenanceWindowRequest request) {
+        final Instant now = settings.getClock().instant();
+        final String windowId = String.format("mw-%017x", ThreadLocalRandom.current().nextLong() >>> 4);
+        windows.put(windowId, GetMaintenanceWindowResponse.builder()
+                .windowId(windowId)
+                .name(request.name())
+                .description(request.description())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .schedule(request.schedule())
+                .scheduleTimezone(request.scheduleTimezone())
+                .scheduleOffset(request.scheduleOffset())
+                .duration(request.duration())
+                .cutoff(request.cutoff())
+                .allowUnassociatedTargets(request.allowUnassociatedTargets())
+                .enabled(true)
+                .createdDate(now)
+                .modifiedDate(now)
+                .build());
+
+        tags.register(TAGGING_RESOURCE_TYPE, windowId, request.tags());
+        return CreateMaintenanceWindowResponse.builder()
+                .windowId(windowId)
+                .build();
+    }
+
+    synchronized GetMaintenanceWindowResponse getMaintenanceWindow(final GetMaintenanceWindowRequest request) {
+        return windows.read(request.windowId()).orElseThrow(() -> windowNotFound(request.windowId()));
+    }
+
+    synchronized UpdateMaintenanceWindowResponse updateMaintenanceWindow(final UpdateMaintenanceWindowRequest request) {
+        final GetMaintenanceWindowResponse existing = latestWindow(request.windowId());
+        final boolean replace = Boolean.TRUE.equals(request.replace());
+
+        final GetMaintenanceWindowResponse updated = existing.toBuilder()
+                .name(pick(replace, request.name(), existing.name()))
+                .description(pick(replace, request.description(), existing.description()))
+                .startDate(pick(replace, request.startDate(), existing.startDate()))
+                .endDate(pick(replace, request.endDate(), existing.endDate()))
+                .schedule(pick(replace, request.schedule(), existing.schedule()))
+                .scheduleTimezone(pick(replace, request.scheduleTimezone(), existing.scheduleTimezone()))
+                .scheduleOffset(pick(replace, request.scheduleOffset(), existing.scheduleOffset()))
+                .duration(pick(replace, request.duration(), existing.duration()))
+                .cutoff(pick(replace, request.cutoff(), existing.cutoff()))
+                .allowUnassociatedTargets(pick(replace, request.allowUnassociatedTargets(),
+                        existing.allowUnassociatedTargets()))
+                .enabled(request.enabled() == null ? existing.enabled() : request.enabled())
+                .modifiedDate(settings.getClock().instant())
+                .build();
+        windows.put(updated.windowId(), updated);
+
+        return UpdateMaintenanceWindowResponse.builder()
+                .windowId(updated.windowId())
+                .name(updated.name())
+                .description(updated.description())
+                .startDate(updated.startDate())
+                .endDate(updated.endDate())
+                .schedule(updated.schedule())
+                .scheduleTimezone(updated.scheduleTimezone())
+                .scheduleOffset(updated.scheduleOffset())
+                .duration(updated.duration())
+                .cutoff(updated.cutoff())
+                .allowUnassociatedTargets(updated.allowUnassociatedTargets())
+                .enabled(updated.enabled())
+                .build();
+    }
+
+    synchronized DeleteMaintenanceWindowResponse deleteMaintenanceWindow(final DeleteMaintenanceWindowRequest request) {
+        // Deleting a window that does not exist succeeds
+        if (windows.latest(request.windowId()).isPresent()) {
+            windows.remove(request.windowId());
+            tags.unregister(TAGGING_RESOURCE_TYPE, request.windowId());
+            targets.latestAll().stream()
+                    .filter(target -> request.windowId().equals(target.windowId()))
+                    .forEach(target -> targets.remove(target.windowTargetId()));
+            tasks.latestAll().stream()
+                    .filter(task -> request.windowId().equals(task.windowId()))
+                    .forEach(task -> tasks.remove(task.windowTaskId()));
+        }
+        return DeleteMaintenanceWindowResponse.builder()
+                .windowId(request.windowId())
+                .build();
+    }
+
+    synchronized DescribeMaintenanceWindowsResponse describeMaintenanceWindows(
+            final DescribeMaintenanceWindowsRequest request) {
+        final Predicate<GetMaintenanceWindowResponse> filter = filters(request.filters(), key -> {
+            switch (key) {
+                case "Name":
+                    return GetMaintenanceWindowResponse::name;
+                case "Enabled":
+                    return window -> String.valueOf(window.enabled()).toLowerCase(Locale.ROOT);
+                default:
+                    return null;
+            }
+        });
+
+        final List<MaintenanceWindowIdentity> matching = windows.readAll().stream()
+                .filter(filter)
+                .map(window -> MaintenanceWindowIdentity.builder()
+                        .windowId(window.windowId())
+                        .name(window.name())
+                        .description(window.description())
+                        .enabled(window.enabled())
+                        .duration(window.duration())
+                        .cutoff(window.cutoff())
+                        .schedule(window.schedule())
+                        .scheduleTimezone(window.scheduleTimezone())
+                        .scheduleOffset(window.scheduleOffset())
+                        .startDate(window.startDate())
+                        .endDate(window.endDate())
+                        .build())
+                .collect(Collectors.toList());
+        final Pages.Page<MaintenanceWindowIdentity> page = Pages.page(matching, request.nextToken(),
+                request.maxResults(), DESCRIBE_DEFAULT_MAX_RESULTS);
+
+        return DescribeMaintenanceWindowsResponse.builder()
+                .windowIdentities(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized RegisterTargetWithMaintenanceWindowResponse registerTargetWithMaintenanceWindow(
+            final RegisterTargetWithMaintenanceWindowRequest request) {
+        latestWindow(request.windowId());
+
+        final String windowTargetId = UUID.randomUUID().toString();
+        targets.put(windowTargetId, MaintenanceWindowTarget.builder()
+                .windowId(request.windowId())
+                .windowTargetId(windowTargetId)
+                .resourceType(request.resourceTypeAsString())
+                .targets(request.targets())
+                .ownerInformation(request.ownerInformation())
+                .name(request.name())
+                .description(request.description())
+                .build());
+
+        return RegisterTargetWithMaintenanceWindowResponse.builder()
+                .windowTargetId(windowTargetId)
+                .build();
+    }
+
+    synchronized UpdateMaintenanceWindowTargetResponse updateMaintenanceWindowTarget(
+            final UpdateMaintenanceWindowTargetRequest request) {
+        final MaintenanceWindowTarget existing = latestTarget(request.windowId(), request.windowTargetId());
+        final boolean replace = Boolean.TRUE.equals(request.replace());
+
+        final MaintenanceWindowTarget updated = existing.toBuilder()
+                .targets(request.hasTargets() ? request.targets() : replace ? null : existing.targets())
+                .ownerInformation(pick(replace, request.ownerInformation(), existing.ownerInformation()))
+                .name(pick(replace, request.name(), existing.name()))
+                .description(pick(replace, request.description(), existing.description()))
+                .build();
+        targets.put(updated.windowTargetId(), updated);
+
+        return UpdateMaintenanceWindowTargetResponse.builder()
+                .windowId(updated.windowId())
+                .windowTargetId(updated.windowTargetId())
+                .targets(updated.targets())
+                .ownerInformation(updated.ownerInformation())
+                .name(updated.name())
+                .description(updated.description())
+                .build();
+    }
+
+    synchronized DeregisterTargetFromMaintenanceWindowResponse deregisterTargetFromMaintenanceWindow(
+            final DeregisterTargetFromMaintenanceWindowRequest request) {
+        latestTarget(request.windowId(), request.windowTargetId());
+        if (Boolean.TRUE.equals(request.safe()) && tasks.latestAll().stream().anyMatch(task ->
+                task.targets().stream().anyMatch(target -> WINDOW_TARGET_IDS.equals(target.key())
+                        && target.values().contains(request.windowTargetId())))) {
+            throw Errors.error(TargetInUseException.builder(),
+                    "This Target cannot be deregistered because it is still referenced in Task.");
+        }
+        targets.remove(request.windowTargetId());
+
+        return DeregisterTargetFromMaintenanceWindowResponse.builder()
+                .windowId(request.windowId())
+                .windowTargetId(request.windowTargetId())
+                .build();
+    }
+
+    synchronized DescribeMaintenanceWindowTargetsResponse describeMaintenanceWindowTargets(
+            final DescribeMaintenanceWindowTargetsRequest request) {
+        final Predicate<MaintenanceWindowTarget> filter = filters(request.filters(), key -> {
+            switch (key) {
+                case "WindowTargetId":
+                    return MaintenanceWindowTarget::windowTargetId;
+                case "OwnerInformation":
+                    return MaintenanceWindowTarget::ownerInformation;
+                case "ResourceType":
+                    return MaintenanceWindowTarget::resourceTypeAsString;
+                default:
+                    return null;
+            }
+        });
+
+        final List<MaintenanceWindowTarget> matching = targets.readAll().stream()
+                .filter(target -> request.windowId().equals(target.windowId()))
+                .filter(filter)
+                .collect(Collectors.toList());
+        final Pages.Page<MaintenanceWindowTarget> page = Pages.page(matching, request.nextToken(),
+                request.maxResults(), DESCRIBE_DEFAULT_MAX_RESULTS);
+
+        return DescribeMaintenanceWindowTargetsResponse.builder()
+                .targets(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized RegisterTaskWithMaintenanceWindowResponse registerTaskWithMaintenanceWindow(
+            final RegisterTaskWithMaintenanceWindowRequest request) {
+        latestWindow(request.windowId());
+
+        final String windowTaskId = UUID.randomUUID().toString();
+        tasks.put(windowTaskId, GetMaintenanceWindowTaskResponse.builder()
+                .windowId(request.windowId())
+                .windowTaskId(windowTaskId)
+                .targets(request.hasTargets() ? request.targets() : null)
+                .taskArn(request.taskArn())
+                .serviceRoleArn(request.serviceRoleArn())
+                .taskType(request.taskTypeAsString())
+                .taskParameters(request.hasTaskParameters() ? request.taskParameters() : null)
+                .taskInvocationParameters(request.taskInvocationParameters())
+                .priority(request.priority())
+                .maxConcurrency(request.maxConcurrency())
+                .maxErrors(request.maxErrors())
+                .loggingInfo(request.loggingInfo())
+                .name(request.name())
+                .description(request.description())
+                .cutoffBehavior(request.cutoffBehaviorAsString())
+                .build());
+
+        return RegisterTaskWithMaintenanceWindowResponse.builder()
+                .windowTaskId(windowTaskId)
+                .build();
+    }
+
+    synchronized GetMaintenanceWindowTaskResponse getMaintenanceWindowTask(final GetMaintenanceWindowTaskRequest request) {
+        return tasks.read(request.windowTaskId())
+                .filter(task -> task.windowId().equals(request.windowId()))
+                .orElseThrow(() -> notFound("Task", request.windowTaskId()));
+    }
+
+    synchronized UpdateMaintenanceWindowTaskResponse updateMaintenanceWindowTask(
+            final UpdateMaintenanceWindowTaskRequest request) {
+        final GetMaintenanceWindowTaskResponse existing = latestTask(request.windowId(), request.windowTaskId());
+        final boolean replace = Boolean.TRUE.equals(request.replace());
+
+        final GetMaintenanceWindowTaskResponse updated = existing.toBuilder()
+                .targets(request.hasTargets() ? request.targets() : replace ? null : existing.targets())
+                .taskArn(pick(false, request.taskArn(), existing.taskArn()))
+                .serviceRoleArn(pick(replace, request.serviceRoleArn(), existing.serviceRoleArn()))
+                .taskParameters(request.hasTaskParameters()
+                        ? request.taskParameters()
+                        : replace ? null : existing.taskParameters())
+                .taskInvocationParameters(pick(replace, request.taskInvocationParameters(),
+                        existing.taskInvocationParameters()))
+                .priority(pick(replace, request.priority(), existing.priority()))
+                .maxConcurrency(pick(replace, request.maxConcurrency(), existing.maxConcurrency()))
+                .maxErrors(pick(replace, request.maxErrors(), existing.maxErrors()))
+                .loggingInfo(pick(replace, request.loggingInfo(), existing.loggingInfo()))
+                .name(pick(replace, request.name(), existing.name()))
+                .description(pick(replace, request.description(), existing.description()))
+                .cutoffBehavior(pick(replace, request.cutoffBehaviorAsString(), existing.cutoffBehaviorAsString()))
+                .build();
+        tasks.put(updated.windowTaskId(), updated);
+
+        return UpdateMaintenanceWindowTaskResponse.builder()
+                .windowId(updated.windowId())
+                .windowTaskId(updated.windowTaskId())
+                .targets(updated.targets())
+                .taskArn(updated.taskArn())
+                .serviceRoleArn(updated.serviceRoleArn())
+                .taskParameters(updated.taskParameters())
+                .taskInvocationParameters(updated.taskInvocationParameters())
+                .priority(updated.priority())
+                .maxConcurrency(updated.maxConcurrency())
+                .maxErrors(updated.maxErrors())
+                .loggingInfo(updated.loggingInfo())
+                .name(updated.name())
+                .description(updated.description())
+                .cutoffBehavior(updated.cutoffBehaviorAsString())
+                .build();
+    }
+
+    synchronized DeregisterTaskFromMaintenanceWindowResponse deregisterTaskFromMaintenanceWindow(
+            final DeregisterTaskFromMaintenanceWindowRequest request) {
+        latestTask(request.windowId(), request.windowTaskId());
+        tasks.remove(request.windowTaskId());
+        return DeregisterTaskFromMaintenanceWindowResponse.builder()
+                .windowId(request.windowId())
+                .windowTaskId(request.windowTaskId())
+                .build();
+    }
+
+    synchronized DescribeMaintenanceWindowTasksResponse describeMaintenanceWindowTasks(
+            final DescribeMaintenanceWindowTasksRequest request) {
+        final Predicate<GetMaintenanceWindowTaskResponse> filter = filters(request.filters(), key -> {
+            switch (key) {
+                case "WindowTaskId":
+                    return GetMaintenanceWindowTaskResponse::windowTaskId;
+                case "TaskArn":
+                    return GetMaintenanceWindowTaskResponse::taskArn;
+                case "Priority":
+                    return task -> String.valueOf(task.priority());
+                case "TaskType":
+                    return GetMaintenanceWindowTaskResponse::taskTypeAsString;
+                default:
+                    return null;
+            }
+        });
+
+        final List<MaintenanceWindowTask> matching = tasks.readAll().stream()
+                .filter(task -> request.windowId().equals(task.windowId()))
+                .filter(filter)
+                .map(task -> MaintenanceWindowTask.builder()
+                        .windowId(task.windowId())
+                        .windowTaskId(task.windowTaskId())
+                        .taskArn(task.taskArn())
+                        .type(task.taskTypeAsString())
+                        .targets(task.targets())
+                        .taskParameters(task.taskParameters())
+                        .priority(task.priority())
+                        .loggingInfo(task.loggingInfo())
+                        .serviceRoleArn(task.serviceRoleArn())
+                        .maxConcurrency(task.maxConcurrency())
+                        .maxErrors(task.maxErrors())
+                        .name(task.name())
+                        .description(task.description())
+                        .cutoffBehavior(task.cutoffBehaviorAsString())
+                        .build())
+                .collect(Collectors.toList());
+        final Pages.Page<MaintenanceWindowTask> page = Pages.page(matching, request.nextToken(),
+                request.maxResults(), DESCRIBE_DEFAULT_MAX_RESULTS);
+
+        return DescribeMaintenanceWindowTasksResponse.builder()
+                .tasks(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    private GetMaintenanceWindowResponse latestWindow(final String windowId) {
+        return windows.latest(windowId).orElseThrow(() -> windowNotFound(windowId));
+    }
+
+    private MaintenanceWindowTarget latestTarget(final String windowId, final String windowTargetId) {
+        latestWindow(windowId);
+        return targets.latest(windowTargetId)
+                .filter(target -> target.windowId().equals(windowId))
+                .orElseThrow(() -> notFound("Target", windowTargetId));
+    }
+
+    private GetMaintenanceWindowTaskResponse latestTask(final String windowId, final String windowTaskId) {
+        latestWindow(windowId);
+        return tasks.latest(windowTaskId)
+                .filter(task -> task.windowId().equals(windowId))
+                .orElseThrow(() -> notFound("Task", windowTaskId));
+    }
+
+    /**
+     * A replacing update clears the properties missing from the request, any other update keeps them.
+     */
+    private static <T> T pick(final boolean replace, final T requested, final T existing) {
+        return replace || requested != null ? requested : existing;
+    }
+
+    private static <T> Predicate<T> filters(final List<MaintenanceWindowFilter> filters,
+                                            final Function<String, Function<T, String>> properties) {
+        Predicate<T> predicate = item -> true;
+        for (MaintenanceWindowFilter filter : filters) {
+            final Function<T, String> property = properties.apply(filter.key());
+            if (property == null) {
+                throw Errors.error(InvalidFilterKeyException.builder(),
+                        String.format("The filter key %s is not supported.", filter.key()));
+            }
+            predicate = predicate.and(item -> filter.values().contains(property.apply(item)));
+        }
+        return predicate;
+    }
+
+    private static DoesNotExistException windowNotFound(final String windowId) {
+        return notFound("Maintenance window", windowId);
+    }
+
+    private static DoesNotExistException notFound(final String type, final String id) {
+        return Errors.error(DoesNotExistException.builder(), String.format("%s %s does not exist", type, id));
+    }
+}
@@ -0,0 +1,153 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.CreateOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.CreateOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.GetOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.GetOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.ListOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.ListOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.MetadataValue;
+import software.amazon.awssdk.services.ssm.model.OpsMetadata;
+import software.amazon.awssdk.services.ssm.model.OpsMetadataAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.OpsMetadataKeyLimitExceededException;
+import software.amazon.awssdk.services.ssm.model.OpsMetadataNotFoundException;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+import software.amazon.awssdk.services.ssm.model.UpdateOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateOpsMetadataResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * OpsMetadata objects keyed by ARN. GetOpsMetadata pages through the metadata keys.
+ */
+class OpsMetadataStore {
+
+    static final int MAX_METADATA_KEYS = 50;
+
+    private static final int GET_DEFAULT_MAX_RESULTS = 10;
+    private static final int LIST_DEFAULT_MAX_RESULTS = 10;
+    private static final String TAGGING_RESOURCE_TYPE = ResourceTypeForTagging.OPS_METADATA.toString();
+
+    private final EventuallyConsistentMap<String, StoredOpsMetadata> opsMetadata;
+    private final TagStore tags;
+    private final SimulationSettings settings;
+
+    OpsMetadataStore(final SimulationSettings settings, final TagStore tags) {
+        this.opsMetadata = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.tags = tags;
+        this.settings = settings;
+    }
+
+    synchronized CreateOpsMetadataResponse createOpsMetadata(final CreateOpsMetadataRequest request) {
+        final String resourceId = request.resourceId();
+        final String arn = String.format("arn:aws:ssm:%s:%s:opsmetadata/%s", settings.getRegion(),
+                settings.getAccountId(), resourceId.startsWith("/") ? resourceId.substring(1) : resourceId);
+        if (opsMetadata.latest(arn).isPresent()) {
+            throw Errors.error(OpsMetadataAlreadyExistsException.builder(),
+                    String.format("OpsMetadata for resource %s already exists.", resourceId));
+        }
+        final Map<String, MetadataValue> metadata = new LinkedHashMap<>(request.metadata());
+        checkKeyLimit(metadata);
+
+        final Instant now = settings.getClock().instant();
+        opsMetadata.put(arn, new StoredOpsMetadata(arn, resourceId, Collections.unmodifiableMap(metadata), now, now));
+        // OpsMetadata is tagged by the part of the ARN following the resource type
+        tags.register(TAGGING_RESOURCE_TYPE, tagResourceId(arn), request.tags());
+
+        return CreateOpsMetadataResponse.builder()
+                .opsMetadataArn(arn)
+                .build();
+    }
+
+    synchronized GetOpsMetadataResponse getOpsMetadata(final GetOpsMetadataRequest request) {
+        final StoredOpsMetadata stored = opsMetadata.read(request.opsMetadataArn())
+                .orElseThrow(() -> notFound(request.opsMetadataArn()));
+        final List<Map.Entry<String, MetadataValue>> entries = new ArrayList<>(stored.getMetadata().entrySet());
+        final Pages.Page<Map.Entry<String, MetadataValue>> page = Pages.page(entries, request.nextToken(),
+                request.maxResults(), GET_DEFAULT_MAX_RESULTS);
+
+        final Map<String, MetadataValue> metadata = new LinkedHashMap<>();
+        page.getItems().forEach(entry -> metadata.put(entry.getKey(), entry.getValue()));
+        return GetOpsMetadataResponse.builder()
+                .resourceId(stored.getResourceId())
+                .metadata(metadata)
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized UpdateOpsMetadataResponse updateOpsMetadata(final UpdateOpsMetadataRequest request) {
+        final StoredOpsMetadata stored = opsMetadata.latest(request.opsMetadataArn())
+                .orElseThrow(() -> notFound(request.opsMetadataArn()));
+
+        final Map<String, MetadataValue> metadata = new LinkedHashMap<>(stored.getMetadata());
+        metadata.putAll(request.metadataToUpdate());
+        request.keysToDelete().forEach(metadata::remove);
+        checkKeyLimit(metadata);
+
+        opsMetadata.put(stored.getArn(), new StoredOpsMetadata(stored.getArn(), stored.getResourceId(),
+                Collections.unmodifiableMap(metadata), stored.getCreationDate(), settings.getClock().instant()));
+        return UpdateOpsMetadataResponse.builder()
+                .opsMetadataArn(stored.getArn())
+                .build();
+    }
+
+    synchronized DeleteOpsMetadataResponse deleteOpsMetadata(final DeleteOpsMetadataRequest request) {
+        final StoredOpsMetadata stored = opsMetadata.latest(request.opsMetadataArn())
+                .orElseThrow(() -> notFound(request.opsMetadataArn()));
+        opsMetadata.remove(stored.getArn());
+        tags.unregister(TAGGING_RESOURCE_TYPE, tagResourceId(stored.getArn()));
+        return DeleteOpsMetadataResponse.builder().build();
+    }
+
+    synchronized ListOpsMetadataResponse listOpsMetadata(final ListOpsMetadataRequest request) {
+        final List<OpsMetadata> all = opsMetadata.readAll().stream()
+                .map(stored -> OpsMetadata.builder()
+                        .resourceId(stored.getResourceId())
+                        .opsMetadataArn(stored.getArn())
+                        .creationDate(stored.getCreationDate())
+                        .lastModifiedDate(stored.getLastModifiedDate())
+                        .build())
+                .collect(Collectors.toList());
+        final Pages.Page<OpsMetadata> page = Pages.page(all, request.nextToken(), request.maxResults(),
+                LIST_DEFAULT_MAX_RESULTS);
+
+        return ListOpsMetadataResponse.builder()
+                .opsMetadataList(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    private static String tagResourceId(final String arn) {
+        return arn.substring(arn.indexOf('/'));
+    }
+
+    private static void checkKeyLimit(final Map<String, MetadataValue> metadata) {
+        if (metadata.size() > MAX_METADATA_KEYS) {
+            throw Errors.error(OpsMetadataKeyLimitExceededException.builder(),
+                    String.format("OpsMetadata can have at most %d keys.", MAX_METADATA_KEYS));
+        }
+    }
+
+    private static OpsMetadataNotFoundException notFound(final String arn) {
+        return Errors.error(OpsMetadataNotFoundException.builder(),
+                String.format("OpsMetadata %s does not exist.", arn));
+    }
+
+    @Value
+    private static class StoredOpsMetadata {
+        String arn;
+        String resourceId;
+        Map<String, MetadataValue> metadata;
+        Instant creationDate;
+        Instant lastModifiedDate;
+    }
+}
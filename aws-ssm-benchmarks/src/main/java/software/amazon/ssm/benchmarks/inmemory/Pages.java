@@ -0,0 +1,46 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.InvalidNextTokenException;
+
+import java.util.List;
+
+/**
+ * Splits the result of a List or Describe call into pages. The next token is the offset of the next page.
+ */
+final class Pages {
+
+    private Pages() {
+    }
+
+    static <T> Page<T> page(final List<T> items,
+                            final String nextToken,
+                            final Integer maxResults,
+                            final int defaultMaxResults) {
+        final int offset = offset(nextToken, items.size());
+        final int pageSize = maxResults == null ? defaultMaxResults : maxResults;
+        final int end = Math.min(items.size(), offset + pageSize);
+        return new Page<>(items.subList(offset, end), end < items.size() ? Integer.toString(end) : null);
+    }
+
+    private static int offset(final String nextToken, final int size) {
+        if (nextToken == null) {
+            return 0;
+        }
+        try {
+            final int offset = Integer.parseInt(nextToken);
+            if (offset >= 0 && offset <= size) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw Errors.error(InvalidNextTokenException.builder(), "The specified token is not valid.");
+    }
+
+    @Value
+    static class Page<T> {
+        List<T> items;
+        String nextToken;
+    }
+}
@@ -0,0 +1,356 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.DeleteParameterRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteParameterResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.GetParameterRequest;
+import software.amazon.awssdk.services.ssm.model.GetParameterResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+import software.amazon.awssdk.services.ssm.model.InvalidFilterKeyException;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.model.ParameterAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.ParameterInlinePolicy;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterNotFoundException;
+import software.amazon.awssdk.services.ssm.model.ParameterPatternMismatchException;
+import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
+import software.amazon.awssdk.services.ssm.model.ParameterTier;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+import software.amazon.awssdk.services.ssm.model.ParametersFilter;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+import software.amazon.awssdk.services.ssm.model.PutParameterResponse;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Parameter Store: PutParameter, GetParameter(s), GetParametersByPath, DescribeParameters and DeleteParameter(s).
+ */
+class ParameterStore {
+
+    static final int STANDARD_VALUE_MAX_LENGTH = 4 * 1024;
+    static final int ADVANCED_VALUE_MAX_LENGTH = 8 * 1024;
+
+    private static final int MAX_NAMES_PER_CALL = 10;
+    private static final int DESCRIBE_DEFAULT_MAX_RESULTS = 10;
+    private static final int GET_BY_PATH_DEFAULT_MAX_RESULTS = 10;
+    private static final String TAG_FILTER_PREFIX = "tag:";
+    private static final String PATH_SEPARATOR = "/";
+    private static final String DEFAULT_KEY_ID = "alias/aws/ssm";
+    private static final String DEFAULT_DATA_TYPE = "text";
+    private static final String TAGGING_RESOURCE_TYPE = ResourceTypeForTagging.PARAMETER.toString();
+
+    private final EventuallyConsistentMap<String, StoredParameter> parameters;
+    private final TagStore tags;
+    private final SimulationSettings settings;
+
+    ParameterStore(final SimulationSettings settings, final TagStore tags) {
+        this.parameters = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.tags = tags;
+        this.settings = settings;
+    }
+
+    synchronized PutParameterResponse putParameter(final PutParameterRequest request) {
+        final Optional<StoredParameter> existing = parameters.latest(request.name());
+        if (existing.isPresent() && !Boolean.TRUE.equals(request.overwrite())) {
+            throw Errors.error(ParameterAlreadyExistsException.builder(),
+                    "The parameter already exists. To overwrite this value, set the overwrite option in the request to true.");
+        }
+        final ParameterMetadata previous = existing.map(StoredParameter::getMetadata).orElse(null);
+
+        final String allowedPattern = request.allowedPattern() != null
+                ? request.allowedPattern()
+                : previous == null ? null : previous.allowedPattern();
+        if (allowedPattern != null && !request.value().matches(allowedPattern)) {
+            throw Errors.error(ParameterPatternMismatchException.builder(),
+                    String.format("Parameter value, cannot be validated against allowedPattern: %s", allowedPattern));
+        }
+
+        final String type = request.type() != null
+                ? request.typeAsString()
+                : previous == null ? ParameterType.STRING.toString() : previous.typeAsString();
+        final String tier = tier(request, previous);
+
+        final ParameterMetadata metadata = ParameterMetadata.builder()
+                .name(request.name())
+                .type(type)
+                .keyId(ParameterType.SECURE_STRING.toString().equals(type)
+                        ? request.keyId() == null ? DEFAULT_KEY_ID : request.keyId()
+                        : null)
+                .lastModifiedDate(settings.getClock().instant())
+                .lastModifiedUser(String.format("arn:aws:iam::%s:user/benchmark", settings.getAccountId()))
+                .description(request.description() != null
+                        ? request.description()
+                        : previous == null ? null : previous.description())
+                .allowedPattern(allowedPattern)
+                .version(previous == null ? 1L : previous.version() + 1)
+                .tier(tier)
+                .policies(request.policies() == null
+                        ? Collections.emptyList()
+                        : Collections.singletonList(ParameterInlinePolicy.builder()
+                                .policyText(request.policies())
+                                .policyStatus("Pending")
+                                .build()))
+                .dataType(request.dataType() != null
+                        ? request.dataType()
+                        : previous == null ? DEFAULT_DATA_TYPE : previous.dataType())
+                .build();
+
+        if (!existing.isPresent()) {
+            tags.register(TAGGING_RESOURCE_TYPE, request.name(), request.tags());
+        }
+        parameters.put(request.name(), new StoredParameter(metadata, request.value()));
+
+        return PutParameterResponse.builder()
+                .version(metadata.version())
+                .tier(tier)
+                .build();
+    }
+
+    synchronized GetParameterResponse getParameter(final GetParameterRequest request) {
+        return GetParameterResponse.builder()
+                .parameter(read(request.name()).orElseThrow(() -> notFound(request.name())))
+                .build();
+    }
+
+    synchronized GetParametersResponse getParameters(final GetParametersRequest request) {
+        checkNameCount(request.names());
+        final List<Parameter> found = new ArrayList<>();
+        final List<String> invalid = new ArrayList<>();
+        for (String name : request.names()) {
+            final Optional<Parameter> parameter = read(name);
+            if (parameter.isPresent()) {
+                found.add(parameter.get());
+            } else {
+                invalid.add(name);
+            }
+        }
+        return GetParametersResponse.builder()
+                .parameters(found)
+                .invalidParameters(invalid)
+                .build();
+    }
+
+    synchronized GetParametersByPathResponse getParametersByPath(final GetParametersByPathRequest request) {
+        final Predicate<ParameterMetadata> filter = pathFilter(request.path(), Boolean.TRUE.equals(request.recursive()))
+                .and(stringFilters(request.parameterFilters()));
+
+        final List<StoredParameter> matching = parameters.readAll().stream()
+                .filter(parameter -> filter.test(parameter.getMetadata()))
+                .collect(Collectors.toList());
+        final Pages.Page<StoredParameter> page = Pages.page(matching, request.nextToken(), request.maxResults(),
+                GET_BY_PATH_DEFAULT_MAX_RESULTS);
+
+        return GetParametersByPathResponse.builder()
+                .parameters(page.getItems().stream().map(this::toParameter).collect(Collectors.toList()))
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized DescribeParametersResponse describeParameters(final DescribeParametersRequest request) {
+        final Predicate<ParameterMetadata> filter = legacyFilters(request.filters())
+                .and(stringFilters(request.parameterFilters()));
+
+        final List<ParameterMetadata> matching = parameters.readAll().stream()
+                .map(StoredParameter::getMetadata)
+                .filter(filter)
+                .collect(Collectors.toList());
+        final Pages.Page<ParameterMetadata> page = Pages.page(matching, request.nextToken(), request.maxResults(),
+                DESCRIBE_DEFAULT_MAX_RESULTS);
+
+        return DescribeParametersResponse.builder()
+                .parameters(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized DeleteParameterResponse deleteParameter(final DeleteParameterRequest request) {
+        if (!delete(request.name())) {
+            throw notFound(request.name());
+        }
+        return DeleteParameterResponse.builder().build();
+    }
+
+    synchronized DeleteParametersResponse deleteParameters(final DeleteParametersRequest request) {
+        checkNameCount(request.names());
+        final List<String> deleted = new ArrayList<>();
+        final List<String> invalid = new ArrayList<>();
+        for (String name : request.names()) {
+            (delete(name) ? deleted : invalid).add(name);
+        }
+        return DeleteParametersResponse.builder()
+                .deletedParameters(deleted)
+                .invalidParameters(invalid)
+                .build();
+    }
+
+    private boolean delete(final String name) {
+        if (!parameters.latest(name).isPresent()) {
+            return false;
+        }
+        parameters.remove(name);
+        tags.unregister(TAGGING_RESOURCE_TYPE, name);
+        return true;
+    }
+
+    private Optional<Parameter> read(final String name) {
+        return parameters.read(name).map(this::toParameter);
+    }
+
+    private Parameter toParameter(final StoredParameter parameter) {
+        final ParameterMetadata metadata = parameter.getMetadata();
+        return Parameter.builder()
+                .name(metadata.name())
+                .type(metadata.type())
+                .value(parameter.getValue())
+                .version(metadata.version())
+                .lastModifiedDate(metadata.lastModifiedDate())
+                .arn(String.format("arn:aws:ssm:%s:%s:parameter/%s", settings.getRegion(), settings.getAccountId(),
+                        metadata.name().startsWith(PATH_SEPARATOR) ? metadata.name().substring(1) : metadata.name()))
+                .dataType(metadata.dataType())
+                .build();
+    }
+
+    private static String tier(final PutParameterRequest request, final ParameterMetadata previous) {
+        final int length = request.value().length();
+        final String requested = request.tier() != null
+                ? request.tierAsString()
+                : previous == null ? ParameterTier.STANDARD.toString() : previous.tierAsString();
+
+        final String tier;
+        if (ParameterTier.INTELLIGENT_TIERING.toString().equals(requested)) {
+            tier = length > STANDARD_VALUE_MAX_LENGTH || request.policies() != null
+                    ? ParameterTier.ADVANCED.toString()
+                    : ParameterTier.STANDARD.toString();
+        } else {
+            tier = requested;
+        }
+
+        final int maxLength = ParameterTier.ADVANCED.toString().equals(tier)
+                ? ADVANCED_VALUE_MAX_LENGTH
+                : STANDARD_VALUE_MAX_LENGTH;
+        if (length > maxLength) {
+            throw Errors.validation(String.format(
+                    "Parameter value of %d characters exceeds the %d characters allowed by the %s tier.",
+                    length, maxLength, tier));
+        }
+        return tier;
+    }
+
+    private static Predicate<ParameterMetadata> pathFilter(final String path, final boolean recursive) {
+        final String prefix = path.endsWith(PATH_SEPARATOR) ? path : path + PATH_SEPARATOR;
+        return metadata -> metadata.name().startsWith(prefix)
+                && (recursive || !metadata.name().substring(prefix.length()).contains(PATH_SEPARATOR));
+    }
+
+    private static Predicate<ParameterMetadata> legacyFilters(final List<ParametersFilter> filters) {
+        Predicate<ParameterMetadata> predicate = metadata -> true;
+        for (ParametersFilter filter : filters) {
+            final List<String> values = filter.values();
+            switch (filter.keyAsString()) {
+                case "Name":
+                    predicate = predicate.and(metadata -> values.contains(metadata.name()));
+                    break;
+                case "Type":
+                    predicate = predicate.and(metadata -> values.contains(metadata.typeAsString()));
+                    break;
+                case "KeyId":
+                    predicate = predicate.and(metadata -> values.contains(metadata.keyId()));
+                    break;
+                default:
+                    throw invalidFilterKey(filter.keyAsString());
+            }
+        }
+        return predicate;
+    }
+
+    private Predicate<ParameterMetadata> stringFilters(final List<ParameterStringFilter> filters) {
+        Predicate<ParameterMetadata> predicate = metadata -> true;
+        for (ParameterStringFilter filter : filters) {
+            predicate = predicate.and(stringFilter(filter));
+        }
+        return predicate;
+    }
+
+    private Predicate<ParameterMetadata> stringFilter(final ParameterStringFilter filter) {
+        final String key = filter.key();
+        final String option = filter.option() == null ? "Equals" : filter.option();
+        final List<String> values = filter.values();
+
+        if (key.startsWith(TAG_FILTER_PREFIX)) {
+            final String tagKey = key.substring(TAG_FILTER_PREFIX.length());
+            return metadata -> {
+                final Map<String, String> parameterTags = tags.tagsOf(TAGGING_RESOURCE_TYPE, metadata.name());
+                return parameterTags.containsKey(tagKey)
+                        && (values.isEmpty() || matches(option, parameterTags.get(tagKey), values));
+            };
+        }
+
+        switch (key) {
+            case "Name":
+                return metadata -> matches(option, metadata.name(), values);
+            case "Path":
+                return metadata -> values.stream().anyMatch(path ->
+                        pathFilter(path, "Recursive".equals(option)).test(metadata));
+            case "Type":
+                return metadata -> values.contains(metadata.typeAsString());
+            case "KeyId":
+                return metadata -> values.contains(metadata.keyId());
+            case "Tier":
+                return metadata -> values.contains(metadata.tierAsString());
+            case "DataType":
+                return metadata -> values.contains(metadata.dataType());
+            default:
+                throw invalidFilterKey(key);
+        }
+    }
+
+    private static boolean matches(final String option, final String actual, final List<String> values) {
+        if (actual == null) {
+            return false;
+        }
+        switch (option) {
+            case "BeginsWith":
+                return values.stream().anyMatch(actual::startsWith);
+            case "Contains":
+                return values.stream().anyMatch(actual::contains);
+            default:
+                return values.contains(actual);
+        }
+    }
+
+    private static void checkNameCount(final List<String> names) {
+        if (names.isEmpty() || names.size() > MAX_NAMES_PER_CALL) {
+            throw Errors.validation(String.format("Between 1 and %d parameter names are allowed.", MAX_NAMES_PER_CALL));
+        }
+    }
+
+    private static InvalidFilterKeyException invalidFilterKey(final String key) {
+        return Errors.error(InvalidFilterKeyException.builder(),
+                String.format("The filter key %s is not supported.", key));
+    }
+
+    private static ParameterNotFoundException notFound(final String name) {
+        return Errors.error(ParameterNotFoundException.builder(),
+                String.format("Parameter %s not found.", name));
+    }
+
+    @Value
+    private static class StoredParameter {
+        ParameterMetadata metadata;
+        String value;
+    }
+}
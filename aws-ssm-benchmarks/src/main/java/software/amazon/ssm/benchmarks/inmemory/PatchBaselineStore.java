@@ -0,0 +1,293 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.AlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.CreatePatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.CreatePatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.DeletePatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.DeletePatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.DeregisterPatchBaselineForPatchGroupRequest;
+import software.amazon.awssdk.services.ssm.model.DeregisterPatchBaselineForPatchGroupResponse;
+import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesRequest;
+import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesResponse;
+import software.amazon.awssdk.services.ssm.model.DoesNotExistException;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.InvalidFilterKeyException;
+import software.amazon.awssdk.services.ssm.model.OperatingSystem;
+import software.amazon.awssdk.services.ssm.model.PatchBaselineIdentity;
+import software.amazon.awssdk.services.ssm.model.PatchOrchestratorFilter;
+import software.amazon.awssdk.services.ssm.model.RegisterDefaultPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterDefaultPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.RegisterPatchBaselineForPatchGroupRequest;
+import software.amazon.awssdk.services.ssm.model.RegisterPatchBaselineForPatchGroupResponse;
+import software.amazon.awssdk.services.ssm.model.ResourceInUseException;
+import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
+import software.amazon.awssdk.services.ssm.model.UpdatePatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.UpdatePatchBaselineResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Custom patch baselines, their patch group registrations and the default baseline of each operating system.
+ * Until a custom baseline is registered as the default, GetDefaultPatchBaseline returns the ARN of an AWS managed
+ * baseline, like it does for a new account.
+ */
+class PatchBaselineStore {
+
+    private static final int DESCRIBE_DEFAULT_MAX_RESULTS = 100;
+    private static final String TAGGING_RESOURCE_TYPE = ResourceTypeForTagging.PATCH_BASELINE.toString();
+
+    private final EventuallyConsistentMap<String, GetPatchBaselineResponse> baselines;
+    /**
+     * Baseline ID registered for every operating system and patch group.
+     */
+    private final Map<PatchGroupKey, String> patchGroups = new HashMap<>();
+    /**
+     * Default baseline ID (custom) or ARN (AWS managed) by operating system.
+     */
+    private final Map<String, String> defaultBaselines = new HashMap<>();
+    private final TagStore tags;
+    private final SimulationSettings settings;
+
+    PatchBaselineStore(final SimulationSettings settings, final TagStore tags) {
+        this.baselines = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.tags = tags;
+        this.settings = settings;
+    }
+
+    synchronized CreatePatchBaselineResponse createPatchBaseline(final CreatePatchBaselineRequest request) {
+        final Instant now = settings.getClock().instant();
+        final String baselineId = String.format("pb-%017x", ThreadLocalRandom.current().nextLong() >>> 4);
+        baselines.put(baselineId, GetPatchBaselineResponse.builder()
+                .baselineId(baselineId)
+                .name(request.name())
+                .operatingSystem(request.operatingSystem() == null
+                        ? OperatingSystem.WINDOWS.toString()
+                        : request.operatingSystemAsString())
+                .globalFilters(request.globalFilters())
+                .approvalRules(request.approvalRules())
+                .approvedPatches(request.hasApprovedPatches() ? request.approvedPatches() : null)
+                .approvedPatchesComplianceLevel(request.approvedPatchesComplianceLevelAsString())
+                .approvedPatchesEnableNonSecurity(request.approvedPatchesEnableNonSecurity())
+                .rejectedPatches(request.hasRejectedPatches() ? request.rejectedPatches() : null)
+                .rejectedPatchesAction(request.rejectedPatchesActionAsString())
+                .description(request.description())
+                .sources(request.hasSources() ? request.sources() : null)
+                .createdDate(now)
+                .modifiedDate(now)
+                .build());
+
+        tags.register(TAGGING_RESOURCE_TYPE, baselineId, request.tags());
+        return CreatePatchBaselineResponse.builder()
+                .baselineId(baselineId)
+                .build();
+    }
+
+    synchronized GetPatchBaselineResponse getPatchBaseline(final GetPatchBaselineRequest request) {
+        final GetPatchBaselineResponse baseline = baselines.read(request.baselineId())
+                .orElseThrow(() -> notFound(request.baselineId()));
+        return baseline.toBuilder()
+                .patchGroups(patchGroupsOf(baseline.baselineId()))
+                .build();
+    }
+
+    synchronized UpdatePatchBaselineResponse updatePatchBaseline(final UpdatePatchBaselineRequest request) {
+        final GetPatchBaselineResponse existing = latest(request.baselineId());
+        final boolean replace = Boolean.TRUE.equals(request.replace());
+
+        final GetPatchBaselineResponse updated = existing.toBuilder()
+                .name(pick(replace, request.name(), existing.name()))
+                .globalFilters(pick(replace, request.globalFilters(), existing.globalFilters()))
+                .approvalRules(pick(replace, request.approvalRules(), existing.approvalRules()))
+                .approvedPatches(request.hasApprovedPatches()
+                        ? request.approvedPatches()
+                        : replace ? null : existing.approvedPatches())
+                .approvedPatchesComplianceLevel(pick(replace, request.approvedPatchesComplianceLevelAsString(),
+                        existing.approvedPatchesComplianceLevelAsString()))
+                .approvedPatchesEnableNonSecurity(pick(replace, request.approvedPatchesEnableNonSecurity(),
+                        existing.approvedPatchesEnableNonSecurity()))
+                .rejectedPatches(request.hasRejectedPatches()
+                        ? request.rejectedPatches()
+                        : replace ? null : existing.rejectedPatches())
+                .rejectedPatchesAction(pick(replace, request.rejectedPatchesActionAsString(),
+                        existing.rejectedPatchesActionAsString()))
+                .description(pick(replace, request.description(), existing.description()))
+                .sources(request.hasSources() ? request.sources() : replace ? null : existing.sources())
+                .modifiedDate(settings.getClock().instant())
+                .build();
+        baselines.put(updated.baselineId(), updated);
+
+        return UpdatePatchBaselineResponse.builder()
+                .baselineId(updated.baselineId())
+                .name(updated.name())
+                .operatingSystem(updated.operatingSystemAsString())
+                .globalFilters(updated.globalFilters())
+                .approvalRules(updated.approvalRules())
+                .approvedPatches(updated.approvedPatches())
+                .approvedPatchesComplianceLevel(updated.approvedPatchesComplianceLevelAsString())
+                .approvedPatchesEnableNonSecurity(updated.approvedPatchesEnableNonSecurity())
+                .rejectedPatches(updated.rejectedPatches())
+                .rejectedPatchesAction(updated.rejectedPatchesActionAsString())
+                .createdDate(updated.createdDate())
+                .modifiedDate(updated.modifiedDate())
+                .description(updated.description())
+                .sources(updated.sources())
+                .build();
+    }
+
+    synchronized DeletePatchBaselineResponse deletePatchBaseline(final DeletePatchBaselineRequest request) {
+        final String baselineId = request.baselineId();
+        if (baselines.latest(baselineId).isPresent()) {
+            if (patchGroups.containsValue(baselineId) || defaultBaselines.containsValue(baselineId)) {
+                throw Errors.error(ResourceInUseException.builder(),
+                        String.format("Patch baseline %s is in use.", baselineId));
+            }
+            baselines.remove(baselineId);
+            tags.unregister(TAGGING_RESOURCE_TYPE, baselineId);
+        }
+        return DeletePatchBaselineResponse.builder()
+                .baselineId(baselineId)
+                .build();
+    }
+
+    synchronized DescribePatchBaselinesResponse describePatchBaselines(final DescribePatchBaselinesRequest request) {
+        Predicate<GetPatchBaselineResponse> filter = baseline -> true;
+        for (PatchOrchestratorFilter orchestratorFilter : request.filters()) {
+            filter = filter.and(filter(orchestratorFilter));
+        }
+
+        final List<PatchBaselineIdentity> matching = baselines.readAll().stream()
+                .filter(filter)
+                .map(baseline -> PatchBaselineIdentity.builder()
+                        .baselineId(baseline.baselineId())
+                        .baselineName(baseline.name())
+                        .operatingSystem(baseline.operatingSystemAsString())
+                        .baselineDescription(baseline.description())
+                        .defaultBaseline(baseline.baselineId()
+                                .equals(defaultBaselines.get(baseline.operatingSystemAsString())))
+                        .build())
+                .collect(Collectors.toList());
+        final Pages.Page<PatchBaselineIdentity> page = Pages.page(matching, request.nextToken(), request.maxResults(),
+                DESCRIBE_DEFAULT_MAX_RESULTS);
+
+        return DescribePatchBaselinesResponse.builder()
+                .baselineIdentities(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized RegisterPatchBaselineForPatchGroupResponse registerPatchBaselineForPatchGroup(
+            final RegisterPatchBaselineForPatchGroupRequest request) {
+        final GetPatchBaselineResponse baseline = latest(request.baselineId());
+        final PatchGroupKey key = new PatchGroupKey(baseline.operatingSystemAsString(), request.patchGroup());
+        if (patchGroups.containsKey(key)) {
+            throw Errors.error(AlreadyExistsException.builder(), String.format(
+                    "Patch Group %s is already registered with a baseline for %s.", key.getPatchGroup(),
+                    key.getOperatingSystem()));
+        }
+        patchGroups.put(key, baseline.baselineId());
+
+        return RegisterPatchBaselineForPatchGroupResponse.builder()
+                .baselineId(baseline.baselineId())
+                .patchGroup(request.patchGroup())
+                .build();
+    }
+
+    synchronized DeregisterPatchBaselineForPatchGroupResponse deregisterPatchBaselineForPatchGroup(
+            final DeregisterPatchBaselineForPatchGroupRequest request) {
+        final GetPatchBaselineResponse baseline = latest(request.baselineId());
+        final PatchGroupKey key = new PatchGroupKey(baseline.operatingSystemAsString(), request.patchGroup());
+        if (!baseline.baselineId().equals(patchGroups.get(key))) {
+            throw Errors.error(DoesNotExistException.builder(), String.format(
+                    "Patch Group %s is not registered with baseline %s.", request.patchGroup(), baseline.baselineId()));
+        }
+        patchGroups.remove(key);
+
+        return DeregisterPatchBaselineForPatchGroupResponse.builder()
+                .baselineId(baseline.baselineId())
+                .patchGroup(request.patchGroup())
+                .build();
+    }
+
+    synchronized GetDefaultPatchBaselineResponse getDefaultPatchBaseline(final GetDefaultPatchBaselineRequest request) {
+        final String operatingSystem = request.operatingSystem() == null
+                ? OperatingSystem.WINDOWS.toString()
+                : request.operatingSystemAsString();
+        return GetDefaultPatchBaselineResponse.builder()
+                .baselineId(defaultBaselines.getOrDefault(operatingSystem, awsManagedBaselineArn(operatingSystem)))
+                .operatingSystem(operatingSystem)
+                .build();
+    }
+
+    synchronized RegisterDefaultPatchBaselineResponse registerDefaultPatchBaseline(
+            final RegisterDefaultPatchBaselineRequest request) {
+        final GetPatchBaselineResponse baseline = latest(request.baselineId());
+        defaultBaselines.put(baseline.operatingSystemAsString(), baseline.baselineId());
+        return RegisterDefaultPatchBaselineResponse.builder()
+                .baselineId(baseline.baselineId())
+                .build();
+    }
+
+    private GetPatchBaselineResponse latest(final String baselineId) {
+        return baselines.latest(baselineId).orElseThrow(() -> notFound(baselineId));
+    }
+
+    private List<String> patchGroupsOf(final String baselineId) {
+        final List<String> groups = new ArrayList<>();
+        patchGroups.forEach((key, registeredBaselineId) -> {
+            if (registeredBaselineId.equals(baselineId)) {
+                groups.add(key.getPatchGroup());
+            }
+        });
+        return groups;
+    }
+
+    private String awsManagedBaselineArn(final String operatingSystem) {
+        return String.format("arn:aws:ssm:%s:%s:patchbaseline/pb-%017x", settings.getRegion(),
+                settings.getAccountId(), operatingSystem.hashCode() & 0xffffffffL);
+    }
+
+    private static Predicate<GetPatchBaselineResponse> filter(final PatchOrchestratorFilter filter) {
+        final List<String> values = filter.values();
+        switch (filter.key()) {
+            case "NAME_PREFIX":
+                return baseline -> values.stream().anyMatch(prefix -> baseline.name().startsWith(prefix));
+            case "OPERATING_SYSTEM":
+                return baseline -> values.contains(baseline.operatingSystemAsString());
+            case "OWNER":
+                // Only custom baselines are stored
+                return baseline -> values.contains("Self");
+            default:
+                throw Errors.error(InvalidFilterKeyException.builder(),
+                        String.format("The filter key %s is not supported.", filter.key()));
+        }
+    }
+
+    /**
+     * A replacing update clears the properties missing from the request, any other update keeps them.
+     */
+    private static <T> T pick(final boolean replace, final T requested, final T existing) {
+        return replace || requested != null ? requested : existing;
+    }
+
+    private static DoesNotExistException notFound(final String baselineId) {
+        return Errors.error(DoesNotExistException.builder(),
+                String.format("Patch Baseline %s does not exist.", baselineId));
+    }
+
+    @Value
+    private static class PatchGroupKey {
+        String operatingSystem;
+        String patchGroup;
+    }
+}
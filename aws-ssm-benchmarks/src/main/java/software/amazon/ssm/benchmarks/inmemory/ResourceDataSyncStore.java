@@ -0,0 +1,112 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.DeleteResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.LastResourceDataSyncStatus;
+import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncItem;
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncNotFoundException;
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncSource;
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncSourceWithState;
+import software.amazon.awssdk.services.ssm.model.UpdateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateResourceDataSyncResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Resource data syncs keyed by sync name. A new sync is listed once the consistency delay has passed and reports
+ * a successful first sync.
+ */
+class ResourceDataSyncStore {
+
+    private static final int LIST_DEFAULT_MAX_RESULTS = 50;
+    private static final String SOURCE_STATE_ACTIVE = "Active";
+
+    private final EventuallyConsistentMap<String, ResourceDataSyncItem> syncs;
+    private final SimulationSettings settings;
+
+    ResourceDataSyncStore(final SimulationSettings settings) {
+        this.syncs = new EventuallyConsistentMap<>(settings.getConsistencyDelay(), settings.getClock());
+        this.settings = settings;
+    }
+
+    synchronized CreateResourceDataSyncResponse createResourceDataSync(final CreateResourceDataSyncRequest request) {
+        if (syncs.latest(request.syncName()).isPresent()) {
+            throw Errors.error(ResourceDataSyncAlreadyExistsException.builder().syncName(request.syncName()),
+                    String.format("Sync %s already exists.", request.syncName()));
+        }
+
+        final Instant now = settings.getClock().instant();
+        syncs.put(request.syncName(), ResourceDataSyncItem.builder()
+                .syncName(request.syncName())
+                .syncType(request.syncType())
+                .syncSource(withState(request.syncSource()))
+                .s3Destination(request.s3Destination())
+                .syncCreatedTime(now)
+                .syncLastModifiedTime(now)
+                .lastSyncTime(now)
+                .lastSuccessfulSyncTime(now)
+                .lastStatus(LastResourceDataSyncStatus.SUCCESSFUL)
+                .build());
+
+        return CreateResourceDataSyncResponse.builder().build();
+    }
+
+    synchronized ListResourceDataSyncResponse listResourceDataSync(final ListResourceDataSyncRequest request) {
+        final List<ResourceDataSyncItem> matching = syncs.readAll().stream()
+                .filter(sync -> request.syncType() == null || request.syncType().equals(sync.syncType()))
+                .collect(Collectors.toList());
+        final Pages.Page<ResourceDataSyncItem> page = Pages.page(matching, request.nextToken(), request.maxResults(),
+                LIST_DEFAULT_MAX_RESULTS);
+
+        return ListResourceDataSyncResponse.builder()
+                .resourceDataSyncItems(page.getItems())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
+    synchronized UpdateResourceDataSyncResponse updateResourceDataSync(final UpdateResourceDataSyncRequest request) {
+        final ResourceDataSyncItem existing = latest(request.syncName(), request.syncType());
+        syncs.put(existing.syncName(), existing.toBuilder()
+                .syncSource(withState(request.syncSource()))
+                .syncLastModifiedTime(settings.getClock().instant())
+                .build());
+        return UpdateResourceDataSyncResponse.builder().build();
+    }
+
+    synchronized DeleteResourceDataSyncResponse deleteResourceDataSync(final DeleteResourceDataSyncRequest request) {
+        final ResourceDataSyncItem existing = latest(request.syncName(), request.syncType());
+        syncs.remove(existing.syncName());
+        return DeleteResourceDataSyncResponse.builder().build();
+    }
+
+    private ResourceDataSyncItem latest(final String syncName, final String syncType) {
+        return syncs.latest(syncName)
+                .filter(sync -> syncType == null || Objects.equals(syncType, sync.syncType()))
+                .orElseThrow(() -> Errors.error(ResourceDataSyncNotFoundException.builder()
+                                .syncName(syncName)
+                                .syncType(syncType),
+                        String.format("Sync %s does not exist.", syncName)));
+    }
+
+    private static ResourceDataSyncSourceWithState withState(final ResourceDataSyncSource source) {
+        if (source == null) {
+            return null;
+        }
+        return ResourceDataSyncSourceWithState.builder()
+                .sourceType(source.sourceType())
+                .awsOrganizationsSource(source.awsOrganizationsSource())
+                .sourceRegions(source.sourceRegions())
+                .includeFutureRegions(source.includeFutureRegions())
+                .enableAllOpsDataSources(source.enableAllOpsDataSources())
+                .state(SOURCE_STATE_ACTIVE)
+                .build();
+    }
+}
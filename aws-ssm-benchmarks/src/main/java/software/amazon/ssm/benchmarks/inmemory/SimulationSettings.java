@@ -0,0 +1,62 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Service behavior injected by {@link InMemorySsmClient}. The defaults describe an instant, never throttling,
+ * strongly consistent service.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SimulationSettings {
+
+    /**
+     * Minimum time every call takes.
+     */
+    @Builder.Default
+    Duration latency = Duration.ZERO;
+
+    /**
+     * Upper bound of the random time added to {@link #latency}.
+     */
+    @Builder.Default
+    Duration latencyJitter = Duration.ZERO;
+
+    /**
+     * Fraction of calls, between 0 and 1, rejected with a ThrottlingException before reaching the store.
+     */
+    @Builder.Default
+    double throttleRate = 0;
+
+    /**
+     * How long a write stays invisible to Get, Describe and List calls.
+     */
+    @Builder.Default
+    Duration consistencyDelay = Duration.ZERO;
+
+    /**
+     * Seed of the random source used for jitter and throttling, so a run can be reproduced.
+     */
+    @Builder.Default
+    long seed = 0L;
+
+    @Builder.Default
+    String accountId = "123456789012";
+
+    @Builder.Default
+    String region = "us-east-1";
+
+    /**
+     * Clock deciding when writes become visible and stamping created and modified dates.
+     */
+    @Builder.Default
+    Clock clock = Clock.systemUTC();
+
+    public static SimulationSettings defaults() {
+        return SimulationSettings.builder().build();
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.ssm.model.InvalidResourceIdException;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.awssdk.services.ssm.model.TooManyTagsErrorException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Tags of every taggable resource held by the other stores. Resources are registered when they are created, so
+ * tagging a resource that does not exist fails like it does in SSM.
+ */
+class TagStore {
+
+    static final int MAX_TAGS_PER_RESOURCE = 50;
+
+    private final Map<ResourceKey, Map<String, String>> tags = new HashMap<>();
+
+    synchronized void register(final String resourceType, final String resourceId, final List<Tag> initialTags) {
+        final Map<String, String> resourceTags = new LinkedHashMap<>();
+        if (initialTags != null) {
+            initialTags.forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+        }
+        checkLimit(resourceTags);
+        tags.put(new ResourceKey(resourceType, resourceId), resourceTags);
+    }
+
+    synchronized void unregister(final String resourceType, final String resourceId) {
+        tags.remove(new ResourceKey(resourceType, resourceId));
+    }
+
+    /**
+     * @return a copy of the tags of the resource, empty when the resource is unknown
+     */
+    synchronized Map<String, String> tagsOf(final String resourceType, final String resourceId) {
+        final Map<String, String> resourceTags = tags.get(new ResourceKey(resourceType, resourceId));
+        return resourceTags == null ? Collections.emptyMap() : new LinkedHashMap<>(resourceTags);
+    }
+
+    synchronized AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        final Map<String, String> resourceTags = get(request.resourceTypeAsString(), request.resourceId());
+        final Map<String, String> updatedTags = new LinkedHashMap<>(resourceTags);
+        request.tags().forEach(tag -> updatedTags.put(tag.key(), tag.value()));
+        checkLimit(updatedTags);
+        resourceTags.putAll(updatedTags);
+        return AddTagsToResourceResponse.builder().build();
+    }
+
+    synchronized RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        get(request.resourceTypeAsString(), request.resourceId()).keySet().removeAll(request.tagKeys());
+        return RemoveTagsFromResourceResponse.builder().build();
+    }
+
+    synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return ListTagsForResourceResponse.builder()
+                .tagList(get(request.resourceTypeAsString(), request.resourceId()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private Map<String, String> get(final String resourceType, final String resourceId) {
+        final Map<String, String> resourceTags = tags.get(new ResourceKey(resourceType, resourceId));
+        if (resourceTags == null) {
+            throw Errors.error(InvalidResourceIdException.builder(),
+                    String.format("%s %s does not exist.", resourceType, resourceId));
+        }
+        return resourceTags;
+    }
+
+    private static void checkLimit(final Map<String, String> resourceTags) {
+        if (resourceTags.size() > MAX_TAGS_PER_RESOURCE) {
+            throw Errors.error(TooManyTagsErrorException.builder(),
+                    String.format("A resource can have at most %d tags.", MAX_TAGS_PER_RESOURCE));
+        }
+    }
+
+    @Value
+    private static class ResourceKey {
+        String resourceType;
+        String resourceId;
+    }
+}
@@ -0,0 +1,88 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Metrics of a reference replay run, stored as a JSON object of metric name to value, and the tolerances a later
+ * run is held to.
+ *
+ * Latencies may grow by 50% plus a millisecond of scheduling noise and allocations by 20%. SSM calls per flow and
+ * failed flows are deterministic and may not grow at all. Metrics that are not in the baseline, such as those of a
+ * new handler, are never regressions, but a baseline metric the run no longer reports is, so that a handler whose
+ * inputs stopped replaying cannot pass unnoticed.
+ */
+public class Baseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final double LATENCY_TOLERANCE = 0.5;
+    private static final double LATENCY_SLACK_MILLIS = 1;
+    private static final double ALLOCATION_TOLERANCE = 0.2;
+    private static final double EPSILON = 1e-9;
+
+    private final Map<String, Double> metrics;
+
+    public Baseline(final Map<String, Double> metrics) {
+        this.metrics = new TreeMap<>(metrics);
+    }
+
+    public static Baseline load(final Path file) {
+        try {
+            return new Baseline(MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Double>>() { }));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read replay baseline " + file, e);
+        }
+    }
+
+    public void save(final Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            MAPPER.writeValue(file.toFile(), metrics);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write replay baseline " + file, e);
+        }
+    }
+
+    /**
+     * @param report report of the run to check
+     * @return one line for every metric of the report that regressed past its tolerance or is missing from it,
+     * empty when none did
+     */
+    public List<String> regressions(final ReplayReport report) {
+        final List<String> regressions = new ArrayList<>();
+        metrics.keySet().stream()
+                .filter(name -> !report.getMetrics().containsKey(name))
+                .forEach(name -> regressions.add(String.format("%s is missing from the run", name)));
+        report.getMetrics().forEach((name, value) -> {
+            final Double baseline = metrics.get(name);
+            if (baseline != null && value > limit(name, baseline)) {
+                regressions.add(String.format("%s regressed from %.3f to %.3f, limit %.3f",
+                        name, baseline, value, limit(name, baseline)));
+            }
+        });
+        return regressions;
+    }
+
+    private static double limit(final String name, final double baseline) {
+        if (name.endsWith("Millis")) {
+            return baseline * (1 + LATENCY_TOLERANCE) + LATENCY_SLACK_MILLIS;
+        }
+        if (name.endsWith("BytesPerFlow")) {
+            return baseline * (1 + ALLOCATION_TOLERANCE);
+        }
+        return baseline + EPSILON;
+    }
+}
@@ -0,0 +1,23 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Value;
+
+/**
+ * One create, and optionally update, desired state read from the contract inputs of a module.
+ */
+@Value
+public class ContractInput {
+
+    /**
+     * File the input was read from, with a variant suffix for generated variants.
+     */
+    String source;
+
+    ObjectNode createState;
+
+    /**
+     * Desired state of the update, null when the input has none.
+     */
+    ObjectNode updateState;
+}
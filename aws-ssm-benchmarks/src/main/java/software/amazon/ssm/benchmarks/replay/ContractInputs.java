@@ -0,0 +1,223 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the handler inputs shipped with a module, in every layout the modules use:
+ *
+ * <ul>
+ *     <li>{@code inputs/} and {@code old_inputs/}: {@code inputs_N_create.json} with an optional
+ *     {@code inputs_N_update.json}, the {@code _invalid} inputs are skipped</li>
+ *     <li>{@code contract-tests-artifacts/inputs_N.json}: {@code CreateInputs} with {@code PatchInputs} applied
+ *     to get the update</li>
+ *     <li>{@code sam-tests/*.json}: the desired state of a create request</li>
+ * </ul>
+ *
+ * Contract test placeholders such as {@code {{ContractTestRegion}}} are replaced before the inputs are parsed.
+ */
+public final class ContractInputs {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([^}\\s]+)\\s*}}");
+
+    private static final Pattern CREATE_INPUT = Pattern.compile("(inputs_\\d+)_create\\.json");
+
+    private ContractInputs() {
+    }
+
+    /**
+     * @param moduleDirectory directory of the handler module
+     * @param placeholders values of the contract test placeholders, unknown placeholders are replaced by their name
+     * @return every input of the module, sorted by file
+     */
+    public static List<ContractInput> load(final Path moduleDirectory, final Map<String, String> placeholders) {
+        final List<ContractInput> inputs = new ArrayList<>();
+        for (String directory : new String[] {"inputs", "old_inputs"}) {
+            for (Path create : list(moduleDirectory.resolve(directory))) {
+                final Matcher matcher = CREATE_INPUT.matcher(create.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                final Path update = create.resolveSibling(matcher.group(1) + "_update.json");
+                inputs.add(new ContractInput(moduleDirectory.relativize(create).toString(),
+                        read(create, placeholders),
+                        Files.exists(update) ? read(update, placeholders) : null));
+            }
+        }
+        for (Path artifact : list(moduleDirectory.resolve("contract-tests-artifacts"))) {
+            final ObjectNode contractInput = read(artifact, placeholders);
+            if (!contractInput.has("CreateInputs")) {
+                continue;
+            }
+            final ObjectNode createState = (ObjectNode) contractInput.get("CreateInputs");
+            ObjectNode updateState = null;
+            if (contractInput.has("PatchInputs")) {
+                updateState = applyPatch(createState, (ArrayNode) contractInput.get("PatchInputs"));
+            } else if (contractInput.has("UpdateInputs")) {
+                updateState = (ObjectNode) contractInput.get("UpdateInputs");
+            }
+            inputs.add(new ContractInput(moduleDirectory.relativize(artifact).toString(), createState, updateState));
+        }
+        for (Path samTest : list(moduleDirectory.resolve("sam-tests"))) {
+            final ObjectNode samEvent = read(samTest, placeholders);
+            final JsonNode desiredState = samEvent.path("request").path("desiredResourceState");
+            if (desiredState.isObject() && "CREATE".equals(samEvent.path("action").asText())) {
+                inputs.add(new ContractInput(moduleDirectory.relativize(samTest).toString(),
+                        (ObjectNode) desiredState, null));
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Generate a copy of an input whose naming properties are unique to the variant.
+     * @param input input to copy
+     * @param variant number of the variant, part of the suffix
+     * @param uniqueProperties top level string properties to suffix
+     * @param ignoredProperties top level properties to remove
+     * @return the variant
+     */
+    public static ContractInput variant(final ContractInput input,
+                                        final String variant,
+                                        final List<String> uniqueProperties,
+                                        final List<String> ignoredProperties) {
+        return new ContractInput(input.getSource() + "#" + variant,
+                vary(input.getCreateState(), variant, uniqueProperties, ignoredProperties),
+                input.getUpdateState() == null
+                        ? null
+                        : vary(input.getUpdateState(), variant, uniqueProperties, ignoredProperties));
+    }
+
+    private static ObjectNode vary(final ObjectNode state,
+                                   final String variant,
+                                   final List<String> uniqueProperties,
+                                   final List<String> ignoredProperties) {
+        final ObjectNode copy = state.deepCopy();
+        copy.remove(ignoredProperties);
+        for (String property : uniqueProperties) {
+            if (copy.path(property).isTextual()) {
+                copy.put(property, copy.get(property).asText() + "-" + variant);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Apply the add, replace and remove operations of an RFC 6902 JSON patch, which is what the contract tests use.
+     */
+    static ObjectNode applyPatch(final ObjectNode document, final ArrayNode patch) {
+        final ObjectNode patched = document.deepCopy();
+        for (JsonNode operation : patch) {
+            final String op = operation.path("op").asText();
+            final List<String> path = parsePath(operation.path("path").asText());
+            final JsonNode parent = resolve(patched, path.subList(0, path.size() - 1));
+            final String last = path.get(path.size() - 1);
+            switch (op) {
+                case "add":
+                case "replace":
+                    set(parent, last, operation.get("value"), "add".equals(op));
+                    break;
+                case "remove":
+                    remove(parent, last);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported patch operation " + op);
+            }
+        }
+        return patched;
+    }
+
+    private static void set(final JsonNode parent, final String key, final JsonNode value, final boolean insert) {
+        if (parent.isObject()) {
+            ((ObjectNode) parent).set(key, value);
+        } else if (parent.isArray()) {
+            final ArrayNode array = (ArrayNode) parent;
+            if ("-".equals(key)) {
+                array.add(value);
+            } else if (insert) {
+                array.insert(Integer.parseInt(key), value);
+            } else {
+                array.set(Integer.parseInt(key), value);
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot set " + key + " on " + parent);
+        }
+    }
+
+    private static void remove(final JsonNode parent, final String key) {
+        if (parent.isObject()) {
+            ((ObjectNode) parent).remove(key);
+        } else if (parent.isArray()) {
+            ((ArrayNode) parent).remove(Integer.parseInt(key));
+        }
+    }
+
+    private static JsonNode resolve(final JsonNode root, final List<String> path) {
+        JsonNode node = root;
+        for (String segment : path) {
+            node = node.isArray() ? node.path(Integer.parseInt(segment)) : node.path(segment);
+            if (node.isMissingNode()) {
+                throw new IllegalArgumentException("Patch path " + path + " does not exist");
+            }
+        }
+        return node;
+    }
+
+    private static List<String> parsePath(final String pointer) {
+        if (!pointer.startsWith("/")) {
+            throw new IllegalArgumentException("Invalid patch path " + pointer);
+        }
+        final List<String> segments = new ArrayList<>();
+        for (String segment : pointer.substring(1).split("/", -1)) {
+            segments.add(segment.replace("~1", "/").replace("~0", "~"));
+        }
+        return segments;
+    }
+
+    private static ObjectNode read(final Path file, final Map<String, String> placeholders) {
+        try {
+            final String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            final Matcher matcher = PLACEHOLDER.matcher(content);
+            final StringBuffer replaced = new StringBuffer();
+            while (matcher.find()) {
+                matcher.appendReplacement(replaced,
+                        Matcher.quoteReplacement(placeholders.getOrDefault(matcher.group(1), matcher.group(1))));
+            }
+            matcher.appendTail(replaced);
+            return (ObjectNode) MAPPER.readTree(replaced.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read contract input " + file, e);
+        }
+    }
+
+    private static List<Path> list(final Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list contract inputs in " + directory, e);
+        }
+    }
+}
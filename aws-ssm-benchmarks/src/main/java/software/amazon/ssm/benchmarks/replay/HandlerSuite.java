@@ -0,0 +1,91 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The handlers of one resource type and what the replay harness needs to know to drive them with the contract
+ * inputs of their module.
+ */
+@Value
+@Builder
+public class HandlerSuite<ModelT, ContextT> {
+
+    String resourceType;
+
+    /**
+     * Directory of the handler module, relative to the repository root, holding its contract inputs.
+     */
+    String moduleDirectory;
+
+    Class<ModelT> modelClass;
+
+    /**
+     * Property of the primary identifier, copied from the created model into the update, read and delete requests.
+     */
+    String identifierProperty;
+
+    /**
+     * Top level string properties that name the resource. Generated variants suffix them so that concurrent flows
+     * do not collide on the same resource.
+     */
+    @Singular
+    List<String> uniqueProperties;
+
+    /**
+     * Top level properties removed from every input, for behavior the in-memory service does not simulate.
+     */
+    @Singular
+    List<String> ignoredProperties;
+
+    Handler<ModelT, ContextT> createHandler;
+
+    Handler<ModelT, ContextT> readHandler;
+
+    Handler<ModelT, ContextT> updateHandler;
+
+    Handler<ModelT, ContextT> deleteHandler;
+
+    Handler<ModelT, ContextT> listHandler;
+
+    /**
+     * Creates the resources the inputs reference but do not create themselves, null when they reference none.
+     */
+    Prerequisite prerequisite;
+
+    /**
+     * The public entry point every generated BaseHandler exposes.
+     */
+    @FunctionalInterface
+    public interface Handler<ModelT, ContextT> {
+        ProgressEvent<ModelT, ContextT> handleRequest(AmazonWebServicesClientProxy proxy,
+                                                      ResourceHandlerRequest<ModelT> request,
+                                                      ContextT callbackContext,
+                                                      Logger logger);
+    }
+
+    /**
+     * Resources a flow needs before its create, such as the maintenance window of a task. They are created and
+     * deleted through the same proxy as the flow, so their SSM calls count towards the calls per flow.
+     */
+    public interface Prerequisite {
+        /**
+         * @return top level string properties that reference the created resources, set on the create and update
+         * state of the flow
+         */
+        Map<String, String> create(AmazonWebServicesClientProxy proxy);
+
+        /**
+         * @param properties the properties returned by {@link #create(AmazonWebServicesClientProxy)}
+         */
+        void delete(AmazonWebServicesClientProxy proxy, Map<String, String> properties);
+    }
+}
@@ -0,0 +1,353 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.ssm.benchmarks.inmemory.ApiCallRecorder;
+import software.amazon.ssm.benchmarks.inmemory.InMemoryProxies;
+import software.amazon.ssm.benchmarks.inmemory.InMemorySsmClient;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays the contract inputs of every handler module against an {@link InMemorySsmClient}.
+ *
+ * Every variant of every input runs one flow: create, read, update when the input has an update, list and delete,
+ * the way CloudFormation would drive the handlers, handing IN_PROGRESS events back until they complete. Flows of a
+ * resource type run concurrently on {@link ReplaySettings#getConcurrency()} threads sharing one in-memory service.
+ *
+ * Resources the inputs reference but do not create, such as the maintenance window of a task, are created before
+ * the flow and deleted after it by the {@link HandlerSuite.Prerequisite} of the suite.
+ *
+ * For every resource type the report holds the p50 and p99 latency of every action, the SSM calls per flow by
+ * operation, the bytes allocated per flow and the failed flows per round. Allocations are measured on the thread
+ * running the flow, work a handler hands to its own executors is not included.
+ */
+public class ReplayHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final Logger LOGGER = message -> { };
+
+    private static final String CREATE = "Create";
+    private static final String READ = "Read";
+    private static final String UPDATE = "Update";
+    private static final String LIST = "List";
+    private static final String DELETE = "Delete";
+
+    private final ReplaySettings settings;
+
+    public ReplayHarness(final ReplaySettings settings) {
+        this.settings = settings;
+    }
+
+    public ReplayReport run(final List<HandlerSuite<?, ?>> suites) {
+        if (System.getProperty("aws.region") == null) {
+            // Handlers build their SDK clients in static initializers, which need a region
+            System.setProperty("aws.region", settings.getSimulation().getRegion());
+        }
+
+        final Map<String, Double> metrics = new TreeMap<>();
+        final Set<String> failures = new TreeSet<>();
+        for (HandlerSuite<?, ?> suite : suites) {
+            run(suite, metrics, failures);
+        }
+        return new ReplayReport(Collections.unmodifiableMap(metrics), Collections.unmodifiableSet(failures));
+    }
+
+    private <ModelT, ContextT> void run(final HandlerSuite<ModelT, ContextT> suite,
+                                        final Map<String, Double> metrics,
+                                        final Set<String> failures) {
+        final List<ContractInput> inputs = ContractInputs.load(
+                settings.getModulesDirectory().resolve(suite.getModuleDirectory()), settings.placeholders());
+        if (inputs.isEmpty()) {
+            return;
+        }
+
+        final InMemorySsmClient ssmClient = new InMemorySsmClient(settings.getSimulation());
+        final AmazonWebServicesClientProxy proxy = InMemoryProxies.clientProxy(ssmClient);
+        final ExecutorService executor = Executors.newFixedThreadPool(settings.getConcurrency());
+        try {
+            for (int round = 0; round < settings.getWarmupRounds(); round++) {
+                runRound(suite, inputs, "w" + round, proxy, executor);
+            }
+            ssmClient.getRecorder().reset();
+
+            final List<FlowResult> results = new ArrayList<>();
+            for (int round = 0; round < settings.getRounds(); round++) {
+                results.addAll(runRound(suite, inputs, "r" + round, proxy, executor));
+            }
+            report(suite.getResourceType(), results, ssmClient.getRecorder(), metrics, failures);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <ModelT, ContextT> List<FlowResult> runRound(final HandlerSuite<ModelT, ContextT> suite,
+                                                         final List<ContractInput> inputs,
+                                                         final String round,
+                                                         final AmazonWebServicesClientProxy proxy,
+                                                         final ExecutorService executor) {
+        final List<Callable<FlowResult>> flows = new ArrayList<>();
+        for (ContractInput input : inputs) {
+            for (int variant = 0; variant < settings.getVariants(); variant++) {
+                final ContractInput variantInput = ContractInputs.variant(input, round + "v" + variant,
+                        suite.getUniqueProperties(), suite.getIgnoredProperties());
+                flows.add(() -> new Flow<>(suite, variantInput, proxy).run());
+            }
+        }
+
+        final List<FlowResult> results = new ArrayList<>(flows.size());
+        try {
+            for (Future<FlowResult> result : executor.invokeAll(flows)) {
+                results.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying " + suite.getResourceType(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Replay of " + suite.getResourceType() + " failed", e.getCause());
+        }
+        return results;
+    }
+
+    private void report(final String resourceType,
+                        final List<FlowResult> results,
+                        final ApiCallRecorder recorder,
+                        final Map<String, Double> metrics,
+                        final Set<String> failures) {
+        final Map<String, List<Long>> latencies = new TreeMap<>();
+        long allocatedBytes = 0;
+        int failedFlows = 0;
+        for (FlowResult result : results) {
+            result.latencyNanos.forEach((action, nanos) ->
+                    latencies.computeIfAbsent(action, key -> new ArrayList<>()).add(nanos));
+            allocatedBytes += result.allocatedBytes;
+            if (result.failure != null) {
+                failedFlows++;
+                failures.add(resourceType + " " + result.source + ": " + result.failure);
+            }
+        }
+
+        latencies.forEach((action, nanos) -> {
+            Collections.sort(nanos);
+            metrics.put(resourceType + "/" + action + "/p50Millis", percentile(nanos, 0.50) / 1e6);
+            metrics.put(resourceType + "/" + action + "/p99Millis", percentile(nanos, 0.99) / 1e6);
+        });
+        recorder.snapshot().forEach((operation, stats) ->
+                metrics.put(resourceType + "/" + operation + "/callsPerFlow", (double) stats.getCalls() / results.size()));
+        if (allocatedBytes >= 0) {
+            metrics.put(resourceType + "/allocatedBytesPerFlow", (double) allocatedBytes / results.size());
+        }
+        metrics.put(resourceType + "/failedFlowsPerRound", (double) failedFlows / settings.getRounds());
+    }
+
+    /**
+     * Nearest rank percentile of sorted values.
+     */
+    static long percentile(final List<Long> sortedValues, final double percentile) {
+        final int rank = (int) Math.ceil(percentile * sortedValues.size());
+        return sortedValues.get(Math.max(rank, 1) - 1);
+    }
+
+    /**
+     * @return bytes allocated so far by the current thread, or -1 when the JVM cannot tell
+     */
+    private static long allocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static final class FlowResult {
+        private final String source;
+        private final Map<String, Long> latencyNanos;
+        private final long allocatedBytes;
+        private final String failure;
+
+        private FlowResult(final String source,
+                           final Map<String, Long> latencyNanos,
+                           final long allocatedBytes,
+                           final String failure) {
+            this.source = source;
+            this.latencyNanos = latencyNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.failure = failure;
+        }
+    }
+
+    private static final class FlowFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private FlowFailedException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * One create, read, update, list and delete of a contract input variant.
+     */
+    private final class Flow<ModelT, ContextT> {
+
+        private final HandlerSuite<ModelT, ContextT> suite;
+        private final ContractInput input;
+        private final AmazonWebServicesClientProxy proxy;
+        private final Map<String, Long> latencyNanos = new TreeMap<>();
+
+        private Flow(final HandlerSuite<ModelT, ContextT> suite,
+                     final ContractInput input,
+                     final AmazonWebServicesClientProxy proxy) {
+            this.suite = suite;
+            this.input = input;
+            this.proxy = proxy;
+        }
+
+        FlowResult run() {
+            final long allocatedBefore = allocatedBytes();
+            String failure = null;
+            try {
+                replay();
+            } catch (FlowFailedException e) {
+                failure = e.getMessage();
+            }
+            final long allocatedAfter = allocatedBytes();
+            return new FlowResult(input.getSource(), latencyNanos,
+                    allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore, failure);
+        }
+
+        private void replay() {
+            if (suite.getPrerequisite() == null) {
+                replay(Collections.emptyMap());
+                return;
+            }
+
+            final Map<String, String> prerequisites;
+            try {
+                prerequisites = suite.getPrerequisite().create(proxy);
+            } catch (RuntimeException e) {
+                throw new FlowFailedException("Creating the prerequisites threw " + e);
+            }
+            try {
+                replay(prerequisites);
+            } finally {
+                try {
+                    suite.getPrerequisite().delete(proxy, prerequisites);
+                } catch (RuntimeException e) {
+                    throw new FlowFailedException("Deleting the prerequisites threw " + e);
+                }
+            }
+        }
+
+        private void replay(final Map<String, String> prerequisites) {
+            final ModelT created = invoke(CREATE, suite.getCreateHandler(),
+                    request(toModel(withProperties(input.getCreateState(), prerequisites)), null));
+            ModelT current = created;
+            FlowFailedException failure = null;
+            try {
+                invoke(READ, suite.getReadHandler(), request(current, null));
+                if (input.getUpdateState() != null && suite.getUpdateHandler() != null) {
+                    final ObjectNode updateState = withProperties(input.getUpdateState(), prerequisites);
+                    final JsonNode identifier = MAPPER.valueToTree(created).get(suite.getIdentifierProperty());
+                    if (identifier != null) {
+                        updateState.set(suite.getIdentifierProperty(), identifier);
+                    }
+                    current = invoke(UPDATE, suite.getUpdateHandler(), request(toModel(updateState), created));
+                }
+                if (suite.getListHandler() != null) {
+                    invoke(LIST, suite.getListHandler(), request(toModel(MAPPER.createObjectNode()), null));
+                }
+            } catch (FlowFailedException e) {
+                failure = e;
+            }
+            // Always clean up, so the resource does not leak into the following flows
+            invoke(DELETE, suite.getDeleteHandler(), request(current, null));
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private ModelT invoke(final String action,
+                              final HandlerSuite.Handler<ModelT, ContextT> handler,
+                              final ResourceHandlerRequest<ModelT> request) {
+            final long start = System.nanoTime();
+            ProgressEvent<ModelT, ContextT> event;
+            try {
+                event = handler.handleRequest(proxy, request, null, LOGGER);
+                int callbacks = 0;
+                while (event.isInProgress()) {
+                    if (++callbacks > settings.getMaxCallbacks()) {
+                        throw new FlowFailedException(action + " still in progress after "
+                                + settings.getMaxCallbacks() + " callbacks");
+                    }
+                    if (event.getResourceModel() != null) {
+                        request.setDesiredResourceState(event.getResourceModel());
+                    }
+                    event = handler.handleRequest(proxy, request, event.getCallbackContext(), LOGGER);
+                }
+            } catch (RuntimeException e) {
+                if (e instanceof FlowFailedException) {
+                    throw e;
+                }
+                throw new FlowFailedException(action + " threw " + e);
+            } finally {
+                latencyNanos.put(action, System.nanoTime() - start);
+            }
+
+            if (event.isFailed()) {
+                throw new FlowFailedException(action + " failed with " + event.getErrorCode() + ": " + event.getMessage());
+            }
+            return event.getResourceModel() == null ? request.getDesiredResourceState() : event.getResourceModel();
+        }
+
+        private ResourceHandlerRequest<ModelT> request(final ModelT desiredState, final ModelT previousState) {
+            return ResourceHandlerRequest.<ModelT>builder()
+                    .clientRequestToken(UUID.nameUUIDFromBytes(
+                            (input.getSource() + "/" + latencyNanos.size()).getBytes(StandardCharsets.UTF_8)).toString())
+                    .desiredResourceState(desiredState)
+                    .previousResourceState(previousState)
+                    .desiredResourceTags(Collections.emptyMap())
+                    .previousResourceTags(Collections.emptyMap())
+                    .logicalResourceIdentifier("ReplayResource")
+                    .awsAccountId(settings.getSimulation().getAccountId())
+                    .awsPartition("aws")
+                    .region(settings.getSimulation().getRegion())
+                    .build();
+        }
+
+        private ObjectNode withProperties(final ObjectNode state, final Map<String, String> properties) {
+            final ObjectNode copy = state.deepCopy();
+            properties.forEach(copy::put);
+            return copy;
+        }
+
+        private ModelT toModel(final ObjectNode state) {
+            return MAPPER.convertValue(state, suite.getModelClass());
+        }
+    }
+}
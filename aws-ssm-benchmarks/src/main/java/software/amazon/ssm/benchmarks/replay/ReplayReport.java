@@ -0,0 +1,35 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of a replay run.
+ */
+@Value
+public class ReplayReport {
+
+    /**
+     * Metrics of the measured rounds, sorted by name. Names are {@code <resource type>/<metric>} for the flow
+     * metrics, {@code <resource type>/<action>/<metric>} for the handler latencies and
+     * {@code <resource type>/<SSM operation>/callsPerFlow} for the SSM calls.
+     */
+    Map<String, Double> metrics;
+
+    /**
+     * Why flows failed, one line per input and failure.
+     */
+    Set<String> failures;
+
+    /**
+     * @return the metrics, one per line, followed by the failures
+     */
+    public String format() {
+        final StringBuilder builder = new StringBuilder();
+        metrics.forEach((name, value) -> builder.append(String.format("%-80s %14.3f%n", name, value)));
+        failures.forEach(failure -> builder.append("FAILED ").append(failure).append(System.lineSeparator()));
+        return builder.toString();
+    }
+}
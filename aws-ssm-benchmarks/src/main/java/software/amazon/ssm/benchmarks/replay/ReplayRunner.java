@@ -0,0 +1,37 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Replays the contract inputs of every handler and compares the result with a baseline.
+ *
+ * Usage: {@code ReplayRunner <baseline.json> [<output.json>]}. The metrics of the run are written to the output
+ * file, which can be committed as the next baseline. Exits with 1 when a metric regressed past the baseline.
+ * The harness is configured with the {@code replay.*} system properties of {@link ReplaySettings}.
+ */
+public class ReplayRunner {
+
+    public static void main(final String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <baseline.json> [<output.json>]");
+            System.exit(2);
+        }
+        final Path baselineFile = Paths.get(args[0]);
+        final Path outputFile = Paths.get(args.length > 1 ? args[1] : "replay-results.json");
+
+        final ReplayReport report = new ReplayHarness(ReplaySettings.fromSystemProperties()).run(ReplaySuites.all());
+        System.out.print(report.format());
+        new Baseline(report.getMetrics()).save(outputFile);
+
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline at " + baselineFile + ", results written to " + outputFile);
+            return;
+        }
+        final List<String> regressions = Baseline.load(baselineFile).regressions(report);
+        regressions.forEach(System.err::println);
+        System.exit(regressions.isEmpty() ? 0 : 1);
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.ssm.benchmarks.inmemory.SimulationSettings;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How the replay harness drives the handlers. Every setting can be overridden with a {@code replay.*} system
+ * property, see {@link #fromSystemProperties()}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ReplaySettings {
+
+    /**
+     * Directory holding the handler modules, the repository root.
+     */
+    @Builder.Default
+    Path modulesDirectory = Paths.get("..");
+
+    /**
+     * Number of flows running at the same time against the in-memory service.
+     */
+    @Builder.Default
+    int concurrency = 8;
+
+    /**
+     * Number of generated variants of every contract input, each one names its resources differently.
+     */
+    @Builder.Default
+    int variants = 4;
+
+    /**
+     * Rounds run before measuring, to load classes and warm up the JIT.
+     */
+    @Builder.Default
+    int warmupRounds = 1;
+
+    /**
+     * Measured rounds, every round replays every variant of every input once.
+     */
+    @Builder.Default
+    int rounds = 3;
+
+    /**
+     * How many times an IN_PROGRESS event is handed back to the handler before the flow is failed.
+     */
+    @Builder.Default
+    int maxCallbacks = 20;
+
+    @Builder.Default
+    SimulationSettings simulation = SimulationSettings.defaults();
+
+    public static ReplaySettings defaults() {
+        return ReplaySettings.builder().build();
+    }
+
+    /**
+     * @return the defaults, overridden by the {@code replay.modules.dir}, {@code replay.concurrency},
+     * {@code replay.variants}, {@code replay.warmupRounds}, {@code replay.rounds} and {@code replay.maxCallbacks}
+     * system properties
+     */
+    public static ReplaySettings fromSystemProperties() {
+        final ReplaySettings defaults = defaults();
+        return defaults.toBuilder()
+                .modulesDirectory(Paths.get(System.getProperty("replay.modules.dir",
+                        defaults.getModulesDirectory().toString())))
+                .concurrency(Integer.getInteger("replay.concurrency", defaults.getConcurrency()))
+                .variants(Integer.getInteger("replay.variants", defaults.getVariants()))
+                .warmupRounds(Integer.getInteger("replay.warmupRounds", defaults.getWarmupRounds()))
+                .rounds(Integer.getInteger("replay.rounds", defaults.getRounds()))
+                .maxCallbacks(Integer.getInteger("replay.maxCallbacks", defaults.getMaxCallbacks()))
+                .build();
+    }
+
+    /**
+     * @return values of the contract test placeholders found in the inputs
+     */
+    public Map<String, String> placeholders() {
+        final Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("ContractTestRegion", simulation.getRegion());
+        placeholders.put("region", simulation.getRegion());
+        placeholders.put("ContractTestAccountId", simulation.getAccountId());
+        placeholders.put("account", simulation.getAccountId());
+        placeholders.put("ContractTestArnPartition", "aws");
+        placeholders.put("ContractTestResourceGroupName", "replay");
+        placeholders.put("ContractTestResourceGroupArn", String.format("arn:aws:resource-groups:%s:%s:group/replay",
+                simulation.getRegion(), simulation.getAccountId()));
+        return placeholders;
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import com.amazonaws.ssm.association.AssociationReplaySuite;
+import com.amazonaws.ssm.document.DocumentReplaySuite;
+import com.amazonaws.ssm.opsmetadata.OpsMetadataReplaySuite;
+import com.amazonaws.ssm.parameter.ParameterReplaySuite;
+import software.amazon.ssm.maintenancewindowtask.MaintenanceWindowTaskReplaySuite;
+import software.amazon.ssm.patchbaseline.PatchBaselineReplaySuite;
+import software.amazon.ssm.resourcedatasync.ResourceDataSyncReplaySuite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every handler module with contract inputs.
+ */
+public final class ReplaySuites {
+
+    private ReplaySuites() {
+    }
+
+    public static List<HandlerSuite<?, ?>> all() {
+        final List<HandlerSuite<?, ?>> suites = new ArrayList<>();
+        suites.add(AssociationReplaySuite.create());
+        suites.add(DocumentReplaySuite.create());
+        suites.add(MaintenanceWindowTaskReplaySuite.create());
+        suites.add(OpsMetadataReplaySuite.create());
+        suites.add(ParameterReplaySuite.create());
+        suites.add(PatchBaselineReplaySuite.create());
+        suites.add(ResourceDataSyncReplaySuite.create());
+        return suites;
+    }
+}
@@ -0,0 +1,109 @@
+package software.amazon.ssm.maintenancewindow.translator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.CreateMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowResponse;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowRequest;
+import software.amazon.ssm.benchmarks.Scenario;
+import software.amazon.ssm.maintenancewindow.ResourceModel;
+import software.amazon.ssm.maintenancewindow.translator.request.CreateMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindow.translator.request.UpdateMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindow.translator.resourcemodel.GetMaintenanceWindowTranslator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the maintenance window request and resource model translators. A maintenance window has no lists
+ * besides its tags, so the worst case is the maximum description length with 50 resource tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaintenanceWindowTranslatorBenchmark {
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private final CreateMaintenanceWindowTranslator createMaintenanceWindowTranslator = new CreateMaintenanceWindowTranslator();
+    private final UpdateMaintenanceWindowTranslator updateMaintenanceWindowTranslator = new UpdateMaintenanceWindowTranslator();
+    private final GetMaintenanceWindowTranslator getMaintenanceWindowTranslator = new GetMaintenanceWindowTranslator();
+
+    private ResourceModel model;
+    private Map<String, String> resourceTags;
+    private Map<String, String> systemTags;
+    private GetMaintenanceWindowResponse getMaintenanceWindowResponse;
+
+    @Setup
+    public void setup() {
+        final int descriptionLength = Scenario.size(scenario, 64, 128);
+        final int tagCount = Scenario.size(scenario, 3, 50);
+
+        resourceTags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            resourceTags.put("key" + i, Scenario.value("value" + i + "-", 256));
+        }
+        systemTags = new HashMap<>();
+        systemTags.put("aws:cloudformation:stack-name", "benchmark");
+        systemTags.put("aws:cloudformation:logical-id", "MaintenanceWindow");
+        systemTags.put("aws:cloudformation:stack-id",
+                "arn:aws:cloudformation:us-east-1:123456789012:stack/benchmark/e32eecb2-646c-4f4b-8ed1-000000000000");
+
+        model = ResourceModel.builder()
+                .windowId("mw-0123456789abcdef0")
+                .name("benchmark-window")
+                .description(Scenario.value("description-", descriptionLength))
+                .allowUnassociatedTargets(false)
+                .cutoff(1)
+                .duration(4)
+                .schedule("cron(0 4 ? * SUN *)")
+                .scheduleTimezone("America/Los_Angeles")
+                .scheduleOffset(2)
+                .startDate("2024-01-01T00:00:00Z")
+                .endDate("2030-01-01T00:00:00Z")
+                .build();
+
+        getMaintenanceWindowResponse = GetMaintenanceWindowResponse.builder()
+                .windowId(model.getWindowId())
+                .name(model.getName())
+                .description(model.getDescription())
+                .allowUnassociatedTargets(model.getAllowUnassociatedTargets())
+                .cutoff(model.getCutoff())
+                .duration(model.getDuration())
+                .schedule(model.getSchedule())
+                .scheduleTimezone(model.getScheduleTimezone())
+                .scheduleOffset(model.getScheduleOffset())
+                .startDate(model.getStartDate())
+                .endDate(model.getEndDate())
+                .build();
+    }
+
+    @Benchmark
+    public CreateMaintenanceWindowRequest createMaintenanceWindowRequest() {
+        return createMaintenanceWindowTranslator.resourceModelToRequest(model, resourceTags, systemTags);
+    }
+
+    @Benchmark
+    public UpdateMaintenanceWindowRequest updateMaintenanceWindowRequest() {
+        return updateMaintenanceWindowTranslator.resourceModelToRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel getMaintenanceWindowResponseToResourceModel() {
+        return getMaintenanceWindowTranslator.getMaintenanceWindowResponseToResourceModel(getMaintenanceWindowResponse);
+    }
+}
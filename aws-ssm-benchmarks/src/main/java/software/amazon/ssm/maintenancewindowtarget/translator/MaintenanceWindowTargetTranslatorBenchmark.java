@@ -0,0 +1,103 @@
+package software.amazon.ssm.maintenancewindowtarget.translator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTargetsResponse;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTarget;
+import software.amazon.awssdk.services.ssm.model.RegisterTargetWithMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowTargetRequest;
+import software.amazon.ssm.benchmarks.Scenario;
+import software.amazon.ssm.maintenancewindowtarget.ResourceModel;
+import software.amazon.ssm.maintenancewindowtarget.Target;
+import software.amazon.ssm.maintenancewindowtarget.translator.property.TargetsListTranslator;
+import software.amazon.ssm.maintenancewindowtarget.translator.request.GetMaintenanceWindowTargetTranslator;
+import software.amazon.ssm.maintenancewindowtarget.translator.request.RegisterTargetWithMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindowtarget.translator.request.UpdateMaintenanceWindowTargetTranslator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the maintenance window target request translators and the translation of a described target back
+ * into a resource model. The worst case registers 5 targets of 50 instance IDs each, the service maximum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaintenanceWindowTargetTranslatorBenchmark {
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private final RegisterTargetWithMaintenanceWindowTranslator registerTranslator = new RegisterTargetWithMaintenanceWindowTranslator();
+    private final UpdateMaintenanceWindowTargetTranslator updateTranslator = new UpdateMaintenanceWindowTargetTranslator();
+    private final GetMaintenanceWindowTargetTranslator getTranslator = new GetMaintenanceWindowTargetTranslator();
+
+    private ResourceModel model;
+    private DescribeMaintenanceWindowTargetsResponse describeResponse;
+
+    @Setup
+    public void setup() {
+        final int targetCount = Scenario.size(scenario, 1, 5);
+        final int targetValueCount = Scenario.size(scenario, 3, 50);
+
+        final List<Target> targets = new ArrayList<>(targetCount);
+        for (int i = 0; i < targetCount; i++) {
+            final List<String> values = new ArrayList<>(targetValueCount);
+            for (int j = 0; j < targetValueCount; j++) {
+                values.add(String.format("i-%017d", i * targetValueCount + j));
+            }
+            targets.add(Target.builder().key("InstanceIds").values(values).build());
+        }
+
+        model = ResourceModel.builder()
+                .windowId("mw-0123456789abcdef0")
+                .windowTargetId("e32eecb2-646c-4f4b-8ed1-000000000000")
+                .resourceType("INSTANCE")
+                .name("benchmark-target")
+                .description(Scenario.value("description-", 128))
+                .ownerInformation(Scenario.value("owner-", 128))
+                .targets(targets)
+                .build();
+
+        describeResponse = DescribeMaintenanceWindowTargetsResponse.builder()
+                .targets(MaintenanceWindowTarget.builder()
+                        .windowId(model.getWindowId())
+                        .windowTargetId(model.getWindowTargetId())
+                        .resourceType(model.getResourceType())
+                        .name(model.getName())
+                        .description(model.getDescription())
+                        .ownerInformation(model.getOwnerInformation())
+                        .targets(new TargetsListTranslator().resourceModelPropertyToServiceModel(targets).orElse(null))
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public RegisterTargetWithMaintenanceWindowRequest registerTargetWithMaintenanceWindowRequest() {
+        return registerTranslator.resourceModelToRequest(model);
+    }
+
+    @Benchmark
+    public UpdateMaintenanceWindowTargetRequest updateMaintenanceWindowTargetRequest() {
+        return updateTranslator.resourceModelToRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel describeResponseToResourceModel() {
+        return getTranslator.responseToResourceModel(describeResponse);
+    }
+}
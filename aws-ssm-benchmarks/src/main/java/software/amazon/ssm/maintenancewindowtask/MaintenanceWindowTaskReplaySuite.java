@@ -0,0 +1,66 @@
+package software.amazon.ssm.maintenancewindowtask;
+
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.CreateMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteMaintenanceWindowRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+import software.amazon.ssm.maintenancewindowtask.util.ClientBuilder;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The AWS::SSM::MaintenanceWindowTask handlers driven by the replay harness, declared in the handler package because
+ * the handler constructors are package private. Every flow registers its task with a maintenance window of its own,
+ * created the way the contract test dependencies create it.
+ */
+public final class MaintenanceWindowTaskReplaySuite {
+
+    private static final String WINDOW_ID = "WindowId";
+
+    private MaintenanceWindowTaskReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::MaintenanceWindowTask")
+                .moduleDirectory("aws-ssm-maintenancewindowtask")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("WindowTaskId")
+                .uniqueProperty("Name")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .prerequisite(new MaintenanceWindowPrerequisite())
+                .build();
+    }
+
+    private static final class MaintenanceWindowPrerequisite implements HandlerSuite.Prerequisite {
+
+        @Override
+        public Map<String, String> create(final AmazonWebServicesClientProxy proxy) {
+            final SsmClient ssmClient = ClientBuilder.getClient();
+            final String windowId = proxy.injectCredentialsAndInvokeV2(CreateMaintenanceWindowRequest.builder()
+                            .name("ssm-maintenancewindowtask-replay")
+                            .allowUnassociatedTargets(true)
+                            .cutoff(1)
+                            .duration(2)
+                            .schedule("cron(0 4 ? * SUN *)")
+                            .build(),
+                    ssmClient::createMaintenanceWindow)
+                    .windowId();
+            return Collections.singletonMap(WINDOW_ID, windowId);
+        }
+
+        @Override
+        public void delete(final AmazonWebServicesClientProxy proxy, final Map<String, String> properties) {
+            proxy.injectCredentialsAndInvokeV2(DeleteMaintenanceWindowRequest.builder()
+                            .windowId(properties.get(WINDOW_ID))
+                            .build(),
+                    ClientBuilder.getClient()::deleteMaintenanceWindow);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package software.amazon.ssm.maintenancewindowtask.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTaskInvocationParameters;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTaskParameterValueExpression;
+import software.amazon.ssm.benchmarks.Scenario;
+import software.amazon.ssm.maintenancewindowtask.MaintenanceWindowAutomationParameters;
+import software.amazon.ssm.maintenancewindowtask.MaintenanceWindowRunCommandParameters;
+import software.amazon.ssm.maintenancewindowtask.Target;
+import software.amazon.ssm.maintenancewindowtask.TaskInvocationParameters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ResourceRequestTranslator and ResponseResourceTranslator for the properties of a maintenance window
+ * task that grow with the template: targets, task parameters and automation/run command parameter maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaintenanceWindowTaskTranslatorBenchmark {
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private List<Target> targets;
+    private Map<String, List<String>> taskParameters;
+    private TaskInvocationParameters taskInvocationParameters;
+
+    private List<software.amazon.awssdk.services.ssm.model.Target> responseTargets;
+    private Map<String, MaintenanceWindowTaskParameterValueExpression> responseTaskParameters;
+    private MaintenanceWindowTaskInvocationParameters responseTaskInvocationParameters;
+
+    @Setup
+    public void setup() {
+        final int targetCount = Scenario.size(scenario, 1, 50);
+        final int targetValueCount = Scenario.size(scenario, 3, 50);
+        final int parameterCount = Scenario.size(scenario, 3, 100);
+        final int parameterValueCount = Scenario.size(scenario, 1, 10);
+
+        targets = new ArrayList<>(targetCount);
+        for (int i = 0; i < targetCount; i++) {
+            final List<String> values = new ArrayList<>(targetValueCount);
+            for (int j = 0; j < targetValueCount; j++) {
+                values.add(String.format("e32eecb2-646c-4f4b-8ed1-%012d", i * targetValueCount + j));
+            }
+            targets.add(Target.builder().key("WindowTargetIds").values(values).build());
+        }
+
+        taskParameters = new HashMap<>();
+        for (int i = 0; i < parameterCount; i++) {
+            final List<String> values = new ArrayList<>(parameterValueCount);
+            for (int j = 0; j < parameterValueCount; j++) {
+                values.add(Scenario.value("{{TARGET_ID}}-" + j + "-", 120));
+            }
+            taskParameters.put("Parameter" + i, values);
+        }
+
+        taskInvocationParameters = TaskInvocationParameters.builder()
+                .maintenanceWindowAutomationParameters(MaintenanceWindowAutomationParameters.builder()
+                        .documentVersion("$LATEST")
+                        .parameters(taskParameters)
+                        .build())
+                .maintenanceWindowRunCommandParameters(MaintenanceWindowRunCommandParameters.builder()
+                        .comment("benchmark")
+                        .outputS3BucketName("benchmark-bucket")
+                        .outputS3KeyPrefix("maintenance-window")
+                        .timeoutSeconds(600)
+                        .parameters(taskParameters)
+                        .build())
+                .build();
+
+        responseTargets = ResourceRequestTranslator.translateToRequestTargets(targets).orElse(null);
+        responseTaskParameters = ResourceRequestTranslator.translateToRequestTaskParameters(taskParameters).orElse(null);
+        responseTaskInvocationParameters = ResourceRequestTranslator
+                .translateToRequestTaskInvocationParameters(taskInvocationParameters).orElse(null);
+    }
+
+    @Benchmark
+    public Optional<List<software.amazon.awssdk.services.ssm.model.Target>> translateToRequestTargets() {
+        return ResourceRequestTranslator.translateToRequestTargets(targets);
+    }
+
+    @Benchmark
+    public Optional<Map<String, MaintenanceWindowTaskParameterValueExpression>> translateToRequestTaskParameters() {
+        return ResourceRequestTranslator.translateToRequestTaskParameters(taskParameters);
+    }
+
+    @Benchmark
+    public Optional<MaintenanceWindowTaskInvocationParameters> translateToRequestTaskInvocationParameters() {
+        return ResourceRequestTranslator.translateToRequestTaskInvocationParameters(taskInvocationParameters);
+    }
+
+    @Benchmark
+    public Optional<List<Target>> translateToResourceModelTargets() {
+        return ResponseResourceTranslator.translateToResourceModelTargets(responseTargets);
+    }
+
+    @Benchmark
+    public Optional<Map<String, List<String>>> translateToResourceModelTaskParameters() {
+        return ResponseResourceTranslator.translateToResourceModelTaskParameters(responseTaskParameters);
+    }
+
+    @Benchmark
+    public Optional<TaskInvocationParameters> translateToResourceModelTaskInvocationParameters() {
+        return ResponseResourceTranslator.translateToResourceModelTaskInvocationParameters(responseTaskInvocationParameters);
+    }
+}
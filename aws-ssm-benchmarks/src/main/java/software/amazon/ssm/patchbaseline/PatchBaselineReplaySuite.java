@@ -0,0 +1,27 @@
+package software.amazon.ssm.patchbaseline;
+
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+
+/**
+ * The AWS::SSM::PatchBaseline handlers driven by the replay harness.
+ */
+public final class PatchBaselineReplaySuite {
+
+    private PatchBaselineReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::PatchBaseline")
+                .moduleDirectory("aws-ssm-patchbaseline")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("Id")
+                .uniqueProperty("Name")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .build();
+    }
+}
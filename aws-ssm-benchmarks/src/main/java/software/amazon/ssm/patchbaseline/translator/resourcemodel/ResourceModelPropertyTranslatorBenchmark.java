@@ -0,0 +1,131 @@
+package software.amazon.ssm.patchbaseline.translator.resourcemodel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.PatchFilterGroup;
+import software.amazon.awssdk.services.ssm.model.PatchRuleGroup;
+import software.amazon.awssdk.services.ssm.model.PatchSource;
+import software.amazon.ssm.benchmarks.Scenario;
+import software.amazon.ssm.patchbaseline.PatchFilter;
+import software.amazon.ssm.patchbaseline.Rule;
+import software.amazon.ssm.patchbaseline.RuleGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ResourceModelPropertyTranslator for approval rules, global filters and sources. The worst case uses
+ * the schema maximums: 10 rules of 4 filters with 20 values each, and 20 sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceModelPropertyTranslatorBenchmark {
+
+    private static final String[] FILTER_KEYS = {"PRODUCT", "CLASSIFICATION", "MSRC_SEVERITY", "PATCH_SET"};
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private RuleGroup approvalRules;
+    private software.amazon.ssm.patchbaseline.PatchFilterGroup globalFilters;
+    private List<software.amazon.ssm.patchbaseline.PatchSource> sources;
+
+    private PatchRuleGroup requestApprovalRules;
+    private PatchFilterGroup requestGlobalFilters;
+    private List<PatchSource> requestSources;
+
+    @Setup
+    public void setup() {
+        final int ruleCount = Scenario.size(scenario, 3, 10);
+        final int filterCount = Scenario.size(scenario, 2, FILTER_KEYS.length);
+        final int valueCount = Scenario.size(scenario, 2, 20);
+        final int sourceCount = Scenario.size(scenario, 1, 20);
+
+        final List<Rule> rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            rules.add(Rule.builder()
+                    .approveAfterDays(i)
+                    .complianceLevel("HIGH")
+                    .enableNonSecurity(false)
+                    .patchFilterGroup(patchFilterGroup(filterCount, valueCount))
+                    .build());
+        }
+        approvalRules = RuleGroup.builder().patchRules(rules).build();
+        globalFilters = patchFilterGroup(filterCount, valueCount);
+
+        sources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            final List<String> products = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                products.add("AmazonLinux2.0." + j);
+            }
+            sources.add(software.amazon.ssm.patchbaseline.PatchSource.builder()
+                    .name("source-" + i)
+                    .products(products)
+                    .configuration(Scenario.value("[main]\nname=repo" + i + "\n", 512))
+                    .build());
+        }
+
+        requestApprovalRules = ResourceModelPropertyTranslator.translateToRequestApprovalRules(approvalRules).orElse(null);
+        requestGlobalFilters = ResourceModelPropertyTranslator.translateToRequestGlobalFilters(globalFilters).orElse(null);
+        requestSources = ResourceModelPropertyTranslator.translateToRequestSources(sources).orElse(null);
+    }
+
+    @Benchmark
+    public Optional<PatchRuleGroup> translateToRequestApprovalRules() {
+        return ResourceModelPropertyTranslator.translateToRequestApprovalRules(approvalRules);
+    }
+
+    @Benchmark
+    public Optional<RuleGroup> translateToResourceModelApprovalRules() {
+        return ResourceModelPropertyTranslator.translateToResourceModelApprovalRules(requestApprovalRules);
+    }
+
+    @Benchmark
+    public Optional<PatchFilterGroup> translateToRequestGlobalFilters() {
+        return ResourceModelPropertyTranslator.translateToRequestGlobalFilters(globalFilters);
+    }
+
+    @Benchmark
+    public Optional<software.amazon.ssm.patchbaseline.PatchFilterGroup> translateToResourceModelGlobalFilters() {
+        return ResourceModelPropertyTranslator.translateToResourceModelGlobalFilters(requestGlobalFilters);
+    }
+
+    @Benchmark
+    public Optional<List<PatchSource>> translateToRequestSources() {
+        return ResourceModelPropertyTranslator.translateToRequestSources(sources);
+    }
+
+    @Benchmark
+    public Optional<List<software.amazon.ssm.patchbaseline.PatchSource>> translateToResourceModelSources() {
+        return ResourceModelPropertyTranslator.translateToResourceModelSources(requestSources);
+    }
+
+    private static software.amazon.ssm.patchbaseline.PatchFilterGroup patchFilterGroup(final int filterCount,
+                                                                                        final int valueCount) {
+        final List<PatchFilter> filters = new ArrayList<>(filterCount);
+        for (int i = 0; i < filterCount; i++) {
+            final List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(FILTER_KEYS[i] + "_VALUE_" + j);
+            }
+            filters.add(PatchFilter.builder().key(FILTER_KEYS[i]).values(values).build());
+        }
+        return software.amazon.ssm.patchbaseline.PatchFilterGroup.builder().patchFilters(filters).build();
+    }
+}
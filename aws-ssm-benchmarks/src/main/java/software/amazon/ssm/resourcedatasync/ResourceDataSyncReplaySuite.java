@@ -0,0 +1,27 @@
+package software.amazon.ssm.resourcedatasync;
+
+import software.amazon.ssm.benchmarks.replay.HandlerSuite;
+
+/**
+ * The AWS::SSM::ResourceDataSync handlers driven by the replay harness.
+ */
+public final class ResourceDataSyncReplaySuite {
+
+    private ResourceDataSyncReplaySuite() {
+    }
+
+    public static HandlerSuite<ResourceModel, CallbackContext> create() {
+        return HandlerSuite.<ResourceModel, CallbackContext>builder()
+                .resourceType("AWS::SSM::ResourceDataSync")
+                .moduleDirectory("aws-ssm-resourcedatasync")
+                .modelClass(ResourceModel.class)
+                .identifierProperty("SyncName")
+                .uniqueProperty("SyncName")
+                .createHandler(new CreateHandler()::handleRequest)
+                .readHandler(new ReadHandler()::handleRequest)
+                .updateHandler(new UpdateHandler()::handleRequest)
+                .deleteHandler(new DeleteHandler()::handleRequest)
+                .listHandler(new ListHandler()::handleRequest)
+                .build();
+    }
+}
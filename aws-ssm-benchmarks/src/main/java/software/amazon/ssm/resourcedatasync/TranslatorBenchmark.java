@@ -0,0 +1,86 @@
+package software.amazon.ssm.resourcedatasync;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncItem;
+import software.amazon.ssm.benchmarks.Scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Translator for a SyncFromSource resource data sync over an AWS Organizations source. The worst case
+ * syncs from every commercial region and 1000 organizational units.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final String[] REGIONS = {
+            "us-east-1", "us-east-2", "us-west-1", "us-west-2", "ca-central-1", "eu-west-1", "eu-west-2", "eu-west-3",
+            "eu-central-1", "eu-north-1", "eu-south-1", "ap-south-1", "ap-northeast-1", "ap-northeast-2",
+            "ap-northeast-3", "ap-southeast-1", "ap-southeast-2", "ap-east-1", "sa-east-1", "me-south-1", "af-south-1"
+    };
+
+    @Param({Scenario.REALISTIC, Scenario.WORST_CASE})
+    public String scenario;
+
+    private ResourceModel model;
+    private ResourceDataSyncItem resourceDataSyncItem;
+
+    @Setup
+    public void setup() {
+        final int regionCount = Scenario.size(scenario, 2, REGIONS.length);
+        final int organizationalUnitCount = Scenario.size(scenario, 5, 1000);
+
+        final List<String> sourceRegions = new ArrayList<>(regionCount);
+        for (int i = 0; i < regionCount; i++) {
+            sourceRegions.add(REGIONS[i]);
+        }
+
+        final List<String> organizationalUnits = new ArrayList<>(organizationalUnitCount);
+        for (int i = 0; i < organizationalUnitCount; i++) {
+            organizationalUnits.add(String.format("ou-ab12-%08d", i));
+        }
+
+        model = ResourceModel.builder()
+                .syncName("benchmark-sync")
+                .syncType("SyncFromSource")
+                .syncSource(SyncSource.builder()
+                        .sourceType("AwsOrganizations")
+                        .sourceRegions(sourceRegions)
+                        .includeFutureRegions(true)
+                        .awsOrganizationsSource(AwsOrganizationsSource.builder()
+                                .organizationSourceType("OrganizationalUnits")
+                                .organizationalUnits(organizationalUnits)
+                                .build())
+                        .build())
+                .build();
+        resourceDataSyncItem = Translator.createResourceDataSyncItemFromResourceModel(model);
+    }
+
+    @Benchmark
+    public CreateResourceDataSyncRequest createResourceDataSyncRequest() {
+        return Translator.createResourceDataSyncRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel createResourceModelFromResourceDataSyncItem() {
+        return Translator.createResourceModelFromResourceDataSyncItem(resourceDataSyncItem);
+    }
+}
@@ -0,0 +1,173 @@
+package software.amazon.ssm.benchmarks.inmemory;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ssm.model.CreateOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.GetOpsMetadataRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.OpsMetadataNotFoundException;
+import software.amazon.awssdk.services.ssm.model.ParameterAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+import software.amazon.awssdk.services.ssm.model.SsmException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InMemorySsmClientTest {
+
+    private static final Duration CONSISTENCY_DELAY = Duration.ofSeconds(5);
+
+    @Test
+    public void putParameter_thenGetParameters() {
+        final InMemorySsmClient ssmClient = new InMemorySsmClient();
+        ssmClient.putParameter(putParameterRequest("/app/name", "value"));
+
+        final GetParametersResponse response = ssmClient.getParameters(GetParametersRequest.builder()
+                .names("/app/name", "/app/missing")
+                .build());
+
+        assertThat(response.parameters()).hasSize(1);
+        assertThat(response.parameters().get(0).value()).isEqualTo("value");
+        assertThat(response.parameters().get(0).version()).isEqualTo(1L);
+        assertThat(response.invalidParameters()).containsExactly("/app/missing");
+        assertThat(ssmClient.getRecorder().getTotalCallCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void putParameter_alreadyExists() {
+        final InMemorySsmClient ssmClient = new InMemorySsmClient();
+        ssmClient.putParameter(putParameterRequest("/app/name", "value"));
+
+        assertThatThrownBy(() -> ssmClient.putParameter(putParameterRequest("/app/name", "other")))
+                .isInstanceOf(ParameterAlreadyExistsException.class);
+        assertThat(ssmClient.getRecorder().snapshot().get("PutParameter").getErrors())
+                .containsEntry("ParameterAlreadyExists", 1L);
+    }
+
+    @Test
+    public void describeParameters_filtersAndPages() {
+        final InMemorySsmClient ssmClient = new InMemorySsmClient();
+        ssmClient.putParameter(putParameterRequest("CFN-one", "1"));
+        ssmClient.putParameter(putParameterRequest("CFN-two", "2"));
+        ssmClient.putParameter(putParameterRequest("other", "3"));
+
+        final DescribeParametersRequest request = DescribeParametersRequest.builder()
+                .parameterFilters(ParameterStringFilter.builder().key("Name").option("BeginsWith").values("CFN-").build())
+                .maxResults(1)
+                .build();
+        final DescribeParametersResponse firstPage = ssmClient.describeParameters(request);
+        final DescribeParametersResponse secondPage = ssmClient.describeParameters(request.toBuilder()
+                .nextToken(firstPage.nextToken())
+                .build());
+
+        assertThat(firstPage.parameters().get(0).name()).isEqualTo("CFN-one");
+        assertThat(secondPage.parameters().get(0).name()).isEqualTo("CFN-two");
+        assertThat(secondPage.nextToken()).isNull();
+    }
+
+    @Test
+    public void eventualConsistency_writeVisibleAfterDelay() {
+        final MutableClock clock = new MutableClock();
+        final InMemorySsmClient ssmClient = new InMemorySsmClient(SimulationSettings.builder()
+                .consistencyDelay(CONSISTENCY_DELAY)
+                .clock(clock)
+                .build());
+
+        final String arn = ssmClient.createOpsMetadata(CreateOpsMetadataRequest.builder()
+                .resourceId("arn:aws:resource-groups:us-east-1:123456789012:group/MyGroup")
+                .build()).opsMetadataArn();
+        final GetOpsMetadataRequest getRequest = GetOpsMetadataRequest.builder().opsMetadataArn(arn).build();
+
+        assertThatThrownBy(() -> ssmClient.getOpsMetadata(getRequest)).isInstanceOf(OpsMetadataNotFoundException.class);
+        clock.advance(CONSISTENCY_DELAY);
+        assertThat(ssmClient.getOpsMetadata(getRequest).resourceId()).endsWith("group/MyGroup");
+    }
+
+    @Test
+    public void eventualConsistency_resourceDataSyncListedAfterDelay() {
+        final MutableClock clock = new MutableClock();
+        final InMemorySsmClient ssmClient = new InMemorySsmClient(SimulationSettings.builder()
+                .consistencyDelay(CONSISTENCY_DELAY)
+                .clock(clock)
+                .build());
+
+        ssmClient.createResourceDataSync(CreateResourceDataSyncRequest.builder()
+                .syncName("sync")
+                .syncType("SyncFromSource")
+                .build());
+        final ListResourceDataSyncRequest listRequest = ListResourceDataSyncRequest.builder()
+                .syncType("SyncFromSource")
+                .build();
+
+        assertThat(ssmClient.listResourceDataSync(listRequest).resourceDataSyncItems()).isEmpty();
+        clock.advance(CONSISTENCY_DELAY);
+        assertThat(ssmClient.listResourceDataSync(listRequest).resourceDataSyncItems()).hasSize(1);
+    }
+
+    @Test
+    public void throttling_rejectsCall() {
+        final InMemorySsmClient ssmClient = new InMemorySsmClient(SimulationSettings.builder()
+                .throttleRate(1.0)
+                .build());
+
+        assertThatThrownBy(() -> ssmClient.putParameter(putParameterRequest("/app/name", "value")))
+                .isInstanceOfSatisfying(SsmException.class, e -> assertThat(e.isThrottlingException()).isTrue());
+        assertThat(ssmClient.getRecorder().getThrottleCount("PutParameter")).isEqualTo(1);
+    }
+
+    @Test
+    public void clientProxy_dispatchesByRequestType() {
+        final InMemorySsmClient ssmClient = new InMemorySsmClient();
+        final AmazonWebServicesClientProxy proxy = InMemoryProxies.clientProxy(ssmClient);
+
+        proxy.injectCredentialsAndInvokeV2(putParameterRequest("/app/name", "value"), request -> {
+            throw new AssertionError("the request must not reach a real client");
+        });
+
+        assertThat(ssmClient.getRecorder().getCallCount("PutParameter")).isEqualTo(1);
+        assertThat(InMemoryProxies.proxyClient(proxy, ssmClient).client()).isSameAs(ssmClient);
+    }
+
+    private static PutParameterRequest putParameterRequest(final String name, final String value) {
+        return PutParameterRequest.builder()
+                .name(name)
+                .value(value)
+                .type("String")
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2020-06-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContractInputsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void applyPatch_replacesAddsAndRemoves() throws Exception {
+        final ObjectNode document = (ObjectNode) MAPPER.readTree(
+                "{\"Name\":\"a\",\"Tags\":[{\"Key\":\"k\",\"Value\":\"v\"}],\"Description\":\"d\"}");
+        final ArrayNode patch = (ArrayNode) MAPPER.readTree("["
+                + "{\"op\":\"replace\",\"path\":\"/Tags/0/Value\",\"value\":\"v2\"},"
+                + "{\"op\":\"add\",\"path\":\"/Tags/-\",\"value\":{\"Key\":\"k2\",\"Value\":\"v3\"}},"
+                + "{\"op\":\"remove\",\"path\":\"/Description\"}]");
+
+        final ObjectNode patched = ContractInputs.applyPatch(document, patch);
+
+        assertThat(patched.toString())
+                .isEqualTo("{\"Name\":\"a\",\"Tags\":[{\"Key\":\"k\",\"Value\":\"v2\"},{\"Key\":\"k2\",\"Value\":\"v3\"}]}");
+        assertThat(document.get("Description").asText()).isEqualTo("d");
+    }
+
+    @Test
+    public void variant_suffixesUniquePropertiesAndDropsIgnoredOnes() throws Exception {
+        final ContractInput input = new ContractInput("inputs/inputs_1_create.json",
+                (ObjectNode) MAPPER.readTree("{\"Name\":\"a\",\"Wait\":60}"),
+                (ObjectNode) MAPPER.readTree("{\"Name\":\"a\",\"Wait\":60,\"Description\":\"d\"}"));
+
+        final ContractInput variant = ContractInputs.variant(input, "r0v1",
+                Collections.singletonList("Name"), Collections.singletonList("Wait"));
+
+        assertThat(variant.getSource()).isEqualTo("inputs/inputs_1_create.json#r0v1");
+        assertThat(variant.getCreateState().toString()).isEqualTo("{\"Name\":\"a-r0v1\"}");
+        assertThat(variant.getUpdateState().toString()).isEqualTo("{\"Name\":\"a-r0v1\",\"Description\":\"d\"}");
+    }
+
+    @Test
+    public void load_readsEveryInputLayout() {
+        final List<ContractInput> inputs = ContractInputs.load(
+                ReplaySettings.fromSystemProperties().getModulesDirectory().resolve("aws-ssm-association"),
+                ReplaySettings.defaults().placeholders());
+
+        assertThat(inputs).extracting(ContractInput::getSource).contains(
+                Paths.get("contract-tests-artifacts", "inputs_1.json").toString(),
+                Paths.get("inputs", "inputs_1_create.json").toString(),
+                Paths.get("sam-tests", "create.json").toString());
+        assertThat(inputs).extracting(ContractInput::getSource)
+                .noneMatch(source -> source.contains("invalid"));
+        assertThat(inputs).allMatch(input -> !input.getCreateState().toString().contains("{{"));
+        assertThat(inputs.get(0).getUpdateState().get("MaxConcurrency").asText()).isEqualTo("100%");
+    }
+}
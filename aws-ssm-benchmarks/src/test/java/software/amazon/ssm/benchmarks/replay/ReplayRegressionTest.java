@@ -0,0 +1,71 @@
+package software.amazon.ssm.benchmarks.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplayRegressionTest {
+
+    @Test
+    public void replayDoesNotRegressPastBaseline() {
+        final Path baselineFile = Paths.get(System.getProperty("replay.baseline", "src/test/resources/replay-baseline.json"));
+        assertThat(baselineFile).as("Replay baseline").exists();
+
+        final ReplayReport report = new ReplayHarness(ReplaySettings.fromSystemProperties()).run(ReplaySuites.all());
+        new Baseline(report.getMetrics())
+                .save(Paths.get(System.getProperty("replay.output", "target/replay-results.json")));
+
+        assertThat(Baseline.load(baselineFile).regressions(report))
+                .as("Regressions, failed flows: %s", report.getFailures())
+                .isEmpty();
+    }
+
+    @Test
+    public void regressions_holdEveryMetricToItsTolerance() {
+        final Map<String, Double> baseline = new HashMap<>();
+        baseline.put("AWS::SSM::Document/Create/p99Millis", 10.0);
+        baseline.put("AWS::SSM::Document/CreateDocument/callsPerFlow", 1.0);
+        baseline.put("AWS::SSM::Document/allocatedBytesPerFlow", 1000.0);
+        baseline.put("AWS::SSM::Document/failedFlowsPerRound", 0.0);
+
+        final Map<String, Double> withinTolerance = new HashMap<>();
+        withinTolerance.put("AWS::SSM::Document/Create/p99Millis", 15.9);
+        withinTolerance.put("AWS::SSM::Document/CreateDocument/callsPerFlow", 1.0);
+        withinTolerance.put("AWS::SSM::Document/allocatedBytesPerFlow", 1199.0);
+        withinTolerance.put("AWS::SSM::Document/failedFlowsPerRound", 0.0);
+        withinTolerance.put("AWS::SSM::Parameter/PutParameter/callsPerFlow", 3.0);
+
+        final Map<String, Double> regressed = new HashMap<>();
+        regressed.put("AWS::SSM::Document/Create/p99Millis", 16.1);
+        regressed.put("AWS::SSM::Document/CreateDocument/callsPerFlow", 1.25);
+        regressed.put("AWS::SSM::Document/allocatedBytesPerFlow", 1201.0);
+        regressed.put("AWS::SSM::Document/failedFlowsPerRound", 1.0);
+
+        assertThat(new Baseline(baseline).regressions(report(withinTolerance))).isEmpty();
+        assertThat(new Baseline(baseline).regressions(report(regressed))).hasSize(4);
+    }
+
+    @Test
+    public void regressions_reportBaselineMetricsMissingFromTheRun() {
+        final Map<String, Double> baseline = new HashMap<>();
+        baseline.put("AWS::SSM::Document/failedFlowsPerRound", 0.0);
+        baseline.put("AWS::SSM::Parameter/failedFlowsPerRound", 0.0);
+
+        final Map<String, Double> withoutParameter = new HashMap<>();
+        withoutParameter.put("AWS::SSM::Document/failedFlowsPerRound", 0.0);
+
+        assertThat(new Baseline(baseline).regressions(report(withoutParameter)))
+                .containsExactly("AWS::SSM::Parameter/failedFlowsPerRound is missing from the run");
+    }
+
+    private static ReplayReport report(final Map<String, Double> metrics) {
+        return new ReplayReport(metrics, Collections.unmodifiableSet(new TreeSet<>()));
+    }
+}
@@ -0,0 +1,4 @@
+package com.amazonaws.ssm.association.translator.jmh_generated;
+public class AssociationTranslatorBenchmark_jmhType extends AssociationTranslatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.amazonaws.ssm.document.jmh_generated;
+public class DocumentModelTranslatorBenchmark_jmhType extends DocumentModelTranslatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.amazonaws.ssm.opsmetadata.translator.property.jmh_generated;
+public class MetadataTranslatorBenchmark_jmhType extends MetadataTranslatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.amazonaws.ssm.parameter.jmh_generated;
+public class ParameterTranslatorBenchmark_jmhType extends ParameterTranslatorBenchmark_jmhType_B3 {
+}
+
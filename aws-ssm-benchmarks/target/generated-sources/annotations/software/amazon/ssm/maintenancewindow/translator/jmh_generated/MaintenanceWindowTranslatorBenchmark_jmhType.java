@@ -0,0 +1,4 @@
+package software.amazon.ssm.maintenancewindow.translator.jmh_generated;
+public class MaintenanceWindowTranslatorBenchmark_jmhType extends MaintenanceWindowTranslatorBenchmark_jmhType_B3 {
+}
+
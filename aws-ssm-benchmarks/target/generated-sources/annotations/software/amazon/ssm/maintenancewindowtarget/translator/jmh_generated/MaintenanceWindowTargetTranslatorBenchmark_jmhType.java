@@ -0,0 +1,4 @@
+package software.amazon.ssm.maintenancewindowtarget.translator.jmh_generated;
+public class MaintenanceWindowTargetTranslatorBenchmark_jmhType extends MaintenanceWindowTargetTranslatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package software.amazon.ssm.maintenancewindowtask.util.jmh_generated;
+public class MaintenanceWindowTaskTranslatorBenchmark_jmhType extends MaintenanceWindowTaskTranslatorBenchmark_jmhType_B3 {
+}
+
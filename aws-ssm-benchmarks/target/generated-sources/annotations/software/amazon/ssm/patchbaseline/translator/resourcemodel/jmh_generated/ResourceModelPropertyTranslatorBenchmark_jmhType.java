@@ -0,0 +1,4 @@
+package software.amazon.ssm.patchbaseline.translator.resourcemodel.jmh_generated;
+public class ResourceModelPropertyTranslatorBenchmark_jmhType extends ResourceModelPropertyTranslatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package software.amazon.ssm.resourcedatasync.jmh_generated;
+public class TranslatorBenchmark_jmhType extends TranslatorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,230 @@
+package software.amazon.ssm.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The SSM calls made by one handler invocation and the order they depend on each other. A call starts as soon as
+ * every call it depends on succeeded, so independent calls run concurrently and the invocation takes as long as its
+ * critical path instead of the sum of its calls.
+ *
+ * Calls are expected to be started with AmazonWebServicesClientProxy.injectCredentialsAndInvokeV2Async, so they
+ * carry the handler credentials the same way the synchronous calls do.
+ *
+ * A graph can be limited to a number of calls in flight, for handlers that fan out over a page of resources. Calls
+ * that are ready while the limit is reached start in declaration order as running calls complete.
+ */
+public class AsyncCallGraph {
+
+    private final List<Call<?>> calls = new ArrayList<>();
+    private final int maxConcurrentCalls;
+    private final Deque<Runnable> waitingCalls = new ArrayDeque<>();
+    private int runningCalls;
+
+    public AsyncCallGraph() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxConcurrentCalls number of calls that may be in flight at the same time
+     */
+    public AsyncCallGraph(final int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be at least 1");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Declare a call that depends on other calls, or on nothing.
+     * @param invocation starts the call
+     * @param dependencies calls that have to succeed before this one starts
+     * @return the declared call
+     */
+    public <T> Call<T> call(final Supplier<CompletableFuture<T>> invocation, final Call<?>... dependencies) {
+        final CompletableFuture<T> future = whenSucceeded(Arrays.asList(dependencies))
+                .thenCompose(ignored -> schedule(invocation));
+        return add(future);
+    }
+
+    /**
+     * Declare a call that needs the result of another call.
+     * @param dependency call whose result the invocation needs
+     * @param invocation starts the call from the dependency result
+     * @return the declared call
+     */
+    public <D, T> Call<T> call(final Call<D> dependency, final Function<D, CompletableFuture<T>> invocation) {
+        final CompletableFuture<T> future = whenSucceeded(Collections.<Call<?>>singletonList(dependency))
+                .thenCompose(ignored -> schedule(() -> invocation.apply(dependency.future.join())));
+        return add(future);
+    }
+
+    /**
+     * Wait for every declared call. When calls failed, the failure of the first one in declaration order is thrown
+     * with the failures of the others added as suppressed exceptions, so the reported error does not depend on
+     * which call happened to fail first. Calls skipped because a dependency failed are not reported.
+     */
+    public void await() {
+        RuntimeException failure = null;
+        // Calls can fail with the same exception instance, which must neither suppress itself nor be added twice
+        final Set<Throwable> reported = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Call<?> call : calls) {
+            final Throwable cause = call.awaitFailure();
+            if (cause == null || cause instanceof DependencyFailedException || !reported.add(cause)) {
+                continue;
+            }
+            if (failure == null) {
+                failure = asRuntimeException(cause);
+            } else {
+                failure.addSuppressed(cause);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> Call<T> add(final CompletableFuture<T> future) {
+        final Call<T> call = new Call<>(future);
+        calls.add(call);
+        return call;
+    }
+
+    private static CompletableFuture<Void> whenSucceeded(final List<Call<?>> dependencies) {
+        final CompletableFuture<?>[] futures = dependencies.stream()
+                .map(dependency -> dependency.future)
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(futures).handle((ignored, e) -> {
+            if (e != null) {
+                throw new DependencyFailedException();
+            }
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> schedule(final Supplier<CompletableFuture<T>> invocation) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Runnable startCall = () -> start(invocation).whenComplete((value, e) -> {
+            release();
+            if (e != null) {
+                result.completeExceptionally(unwrap(e));
+            } else {
+                result.complete(value);
+            }
+        });
+        synchronized (this) {
+            if (runningCalls >= maxConcurrentCalls) {
+                waitingCalls.add(startCall);
+                return result;
+            }
+            runningCalls++;
+        }
+        startCall.run();
+        return result;
+    }
+
+    /**
+     * Hand the slot of a completed call to the next waiting call, or free it when no call is waiting.
+     */
+    private void release() {
+        final Runnable next;
+        synchronized (this) {
+            next = waitingCalls.poll();
+            if (next == null) {
+                runningCalls--;
+                return;
+            }
+        }
+        next.run();
+    }
+
+    private static <T> CompletableFuture<T> start(final Supplier<CompletableFuture<T>> invocation) {
+        final CompletableFuture<T> future;
+        try {
+            future = invocation.get();
+        } catch (RuntimeException e) {
+            return failed(e);
+        }
+        return future == null ? failed(new IllegalStateException("Call did not return a future")) : future;
+    }
+
+    private static <T> CompletableFuture<T> failed(final Throwable cause) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static RuntimeException asRuntimeException(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+
+    /**
+     * A call declared in the graph.
+     */
+    public static final class Call<T> {
+        private final CompletableFuture<T> future;
+
+        private Call(final CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * @return the call result, only available once {@link AsyncCallGraph#await()} returned
+         */
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("The call graph has not been awaited");
+            }
+            return future.join();
+        }
+
+        /**
+         * @return true if the call completed successfully
+         */
+        public boolean succeeded() {
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+
+        private Throwable awaitFailure() {
+            try {
+                future.join();
+                return null;
+            } catch (CompletionException | CancellationException e) {
+                return unwrap(e);
+            }
+        }
+    }
+
+    /**
+     * Fails a call whose dependency failed, without it ever being started.
+     */
+    private static class DependencyFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,153 @@
+package software.amazon.ssm.common;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+
+import java.io.ByteArrayInputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Priming of a fresh container before its first invocation. Each module keeps the steps specific to its resource in
+ * its own primer, this class runs them, keeps how long they took or why they failed while the container has no logger
+ * yet, and reports that through the logger of the first invocation.
+ */
+public class ColdStartPriming {
+
+    private static final URI STUB_ENDPOINT = URI.create("http://localhost");
+    private static final String STUB_CREDENTIAL = "priming";
+    private static final String STUB_RESPONSE_BODY = "{}";
+
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private volatile Duration duration;
+    private volatile Throwable failure;
+
+    /**
+     * Run priming steps.
+     *
+     * @param steps the priming steps
+     * @return how long the steps took
+     */
+    public static Duration time(final Runnable steps) {
+        final long start = System.nanoTime();
+        steps.run();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Prime the container from its init phase. Priming is best effort and must never fail the container, so any
+     * failure, including an error thrown while initializing a class, is kept for {@link #report(Consumer)}.
+     *
+     * @param prime primes the container and returns how long it took
+     */
+    public void primeOnInit(final Supplier<Duration> prime) {
+        try {
+            duration = prime.get();
+        } catch (final Throwable e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation after {@link #primeOnInit(Supplier)}.
+     * Later invocations log nothing.
+     *
+     * @param log writes a line to the log of the handler invocation
+     */
+    public void report(final Consumer<String> log) {
+        final Duration primed = duration;
+        final Throwable failed = failure;
+        if (primed == null && failed == null || !reported.compareAndSet(false, true)) {
+            return;
+        }
+        if (failed != null) {
+            final StringWriter stackTrace = new StringWriter();
+            failed.printStackTrace(new PrintWriter(stackTrace));
+            log.accept(String.format("WARN Cold start priming failed, the first invocation loads what it skipped: %s",
+                    stackTrace));
+        } else {
+            log.accept(String.format("INFO Cold start priming took %d ms", primed.toMillis()));
+        }
+    }
+
+    /**
+     * Initialize classes, e.g. handlers that build the SSM clients they keep for the lifetime of the container.
+     *
+     * @param classes the classes to initialize
+     */
+    public static void initialize(final Collection<Class<?>> classes) {
+        for (final Class<?> type : classes) {
+            try {
+                Class.forName(type.getName(), true, type.getClassLoader());
+            } catch (final ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Build a client that runs requests through the SDK marshallers and signer against an in-process stub, without
+     * resolving credentials or opening a connection, and without the API call metrics interceptor.
+     *
+     * @param builder builder of the client, e.g. SsmClient.builder()
+     * @return the stub client
+     */
+    public static <B extends AwsClientBuilder<B, C> & AwsSyncClientBuilder<B, C>, C> C stubClient(final B builder) {
+        return builder
+                .httpClient(new StubHttpClient())
+                .region(Region.US_EAST_1)
+                .endpointOverride(STUB_ENDPOINT)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(STUB_CREDENTIAL, STUB_CREDENTIAL)))
+                .build();
+    }
+
+    /**
+     * Answers every request with an empty JSON document, which every SSM operation unmarshalls into an empty
+     * response, without opening a connection.
+     */
+    private static class StubHttpClient implements SdkHttpClient {
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder()
+                                    .statusCode(HttpURLConnection.HTTP_OK)
+                                    .putHeader("Content-Type", "application/x-amz-json-1.1")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(
+                                    new ByteArrayInputStream(STUB_RESPONSE_BODY.getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package software.amazon.ssm.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Container-wide collector of the SSM API calls made during a handler invocation. Calls are recorded by
+ * {@link ApiCallMetricsInterceptor} and published at the end of every invocation as CloudWatch Embedded
+ * Metric Format log lines, with the resource type, action and SSM operation as dimensions.
+ */
+public class ApiCallMetrics {
+
+    static final String NAMESPACE = "AWS/CloudFormation/SSM";
+
+    /**
+     * CloudWatch accepts at most 100 values in a single EMF metric array.
+     */
+    static final int MAX_VALUES_PER_LINE = 100;
+
+    private static final String UNKNOWN_OPERATION = "Unknown";
+
+    private static final String LATENCY_DEFINITION = "{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}";
+
+    private static final String COUNTER_DEFINITIONS = LATENCY_DEFINITION
+            + ",{\"Name\":\"Calls\",\"Unit\":\"Count\"}"
+            + ",{\"Name\":\"Attempts\",\"Unit\":\"Count\"}"
+            + ",{\"Name\":\"Retries\",\"Unit\":\"Count\"}"
+            + ",{\"Name\":\"Throttles\",\"Unit\":\"Count\"}";
+
+    private static final String ERROR_DEFINITION = "{\"Name\":\"Errors\",\"Unit\":\"Count\"}";
+
+    /**
+     * Entries are never removed, a drain resets each operation in place so that a call recorded concurrently
+     * is published either with this invocation or with the next one, never lost.
+     */
+    private static final ConcurrentMap<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Handlers invoked from another handler, e.g. a create that reads the resource it created, leave publishing
+     * to the outermost one so that all the calls of an invocation are reported under its action.
+     */
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Record a completed API call.
+     * @param operation SSM operation name, e.g. DescribeAssociation
+     * @param latencyMillis time spent in the call, including retries
+     * @param attempts number of HTTP attempts made for the call
+     * @param errorCode error code of a failed call, or null if the call succeeded
+     * @param throttled whether the call failed because it was throttled
+     */
+    public static void record(final String operation,
+                              final long latencyMillis,
+                              final int attempts,
+                              final String errorCode,
+                              final boolean throttled) {
+        OPERATIONS.computeIfAbsent(operation == null ? UNKNOWN_OPERATION : operation, key -> new OperationMetrics())
+                .record(latencyMillis, attempts, errorCode, throttled);
+    }
+
+    /**
+     * Run a handler invocation and publish the calls recorded during it once it returns, unless it was invoked
+     * from another handler invocation.
+     * @param resourceType CloudFormation type of the handler, e.g. AWS::SSM::Association
+     * @param action handler action, e.g. Create
+     * @param log writes a line to the log of the handler invocation
+     * @param invocation the handler invocation
+     * @return the result of the invocation
+     */
+    public static <T> T publishAfter(final String resourceType,
+                                     final String action,
+                                     final Consumer<String> log,
+                                     final Supplier<T> invocation) {
+        final int depth = DEPTH.get();
+        DEPTH.set(depth + 1);
+        try {
+            return invocation.get();
+        } finally {
+            DEPTH.set(depth);
+            if (depth == 0) {
+                publish(resourceType, action, log);
+            }
+        }
+    }
+
+    /**
+     * Log the calls recorded since the last publish as EMF lines and start over.
+     * @param resourceType CloudFormation type of the handler, e.g. AWS::SSM::Association
+     * @param action handler action, e.g. Create
+     * @param log writes a line to the log of the handler invocation
+     */
+    public static void publish(final String resourceType, final String action, final Consumer<String> log) {
+        for (String line : drain(resourceType, action, System.currentTimeMillis())) {
+            log.accept(line);
+        }
+    }
+
+    static List<String> drain(final String resourceType, final String action, final long timestamp) {
+        final List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, OperationMetrics> entry : new TreeMap<>(OPERATIONS).entrySet()) {
+            entry.getValue().drainLines(resourceType, action, entry.getKey(), timestamp, lines);
+        }
+        return lines;
+    }
+
+    private static class OperationMetrics {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, Integer> errors = new TreeMap<>();
+        private int attempts;
+        private int throttles;
+
+        synchronized void record(final long latencyMillis, final int attempts, final String errorCode, final boolean throttled) {
+            latencies.add(latencyMillis);
+            this.attempts += attempts;
+            if (throttled) {
+                throttles++;
+            }
+            if (errorCode != null) {
+                errors.merge(errorCode, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Add the lines of the calls recorded so far and reset the counters, atomically with respect to record.
+         */
+        synchronized void drainLines(final String resourceType, final String action, final String operation, final long timestamp, final List<String> lines) {
+            for (int from = 0; from < latencies.size(); from += MAX_VALUES_PER_LINE) {
+                final List<Long> chunk = latencies.subList(from, Math.min(from + MAX_VALUES_PER_LINE, latencies.size()));
+                final StringBuilder metrics = new StringBuilder()
+                        .append("\"Latency\":[").append(chunk.stream().map(String::valueOf).collect(Collectors.joining(","))).append(']');
+                // Counters are only written once so that they are not summed again for every latency chunk
+                if (from == 0) {
+                    metrics.append(",\"Calls\":").append(latencies.size())
+                            .append(",\"Attempts\":").append(attempts)
+                            .append(",\"Retries\":").append(attempts - latencies.size())
+                            .append(",\"Throttles\":").append(throttles);
+                }
+                lines.add(emfLine(timestamp, resourceType, action, operation, null,
+                        from == 0 ? COUNTER_DEFINITIONS : LATENCY_DEFINITION, metrics.toString()));
+            }
+            for (Map.Entry<String, Integer> error : errors.entrySet()) {
+                lines.add(emfLine(timestamp, resourceType, action, operation, error.getKey(),
+                        ERROR_DEFINITION, "\"Errors\":" + error.getValue()));
+            }
+
+            latencies.clear();
+            errors.clear();
+            attempts = 0;
+            throttles = 0;
+        }
+    }
+
+    private static String emfLine(final long timestamp,
+                                  final String resourceType,
+                                  final String action,
+                                  final String operation,
+                                  final String errorCode,
+                                  final String metricDefinitions,
+                                  final String metricValues) {
+        final List<String> dimensions = new ArrayList<>();
+        Collections.addAll(dimensions, "ResourceType", "Action", "Operation");
+        if (errorCode != null) {
+            dimensions.add("ErrorCode");
+        }
+
+        final StringBuilder line = new StringBuilder()
+                .append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":").append(quote(NAMESPACE))
+                .append(",\"Dimensions\":[[")
+                .append(dimensions.stream().map(ApiCallMetrics::quote).collect(Collectors.joining(",")))
+                .append("]],\"Metrics\":[").append(metricDefinitions).append("]}]}")
+                .append(",\"ResourceType\":").append(quote(resourceType))
+                .append(",\"Action\":").append(quote(action))
+                .append(",\"Operation\":").append(quote(operation));
+        if (errorCode != null) {
+            line.append(",\"ErrorCode\":").append(quote(errorCode));
+        }
+        return line.append(',').append(metricValues).append('}').toString();
+    }
+
+    private static String quote(final String value) {
+        final StringBuilder quoted = new StringBuilder("\"");
+        for (char c : String.valueOf(value).toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
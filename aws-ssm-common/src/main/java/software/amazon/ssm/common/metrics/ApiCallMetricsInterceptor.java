@@ -0,0 +1,74 @@
+package software.amazon.ssm.common.metrics;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the latency, number of attempts and error code of every call made by an SSM client into
+ * {@link ApiCallMetrics}.
+ */
+public class ApiCallMetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("ApiCallMetricsStartNanos");
+    private static final ExecutionAttribute<AtomicInteger> ATTEMPTS = new ExecutionAttribute<>("ApiCallMetricsAttempts");
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+        executionAttributes.putAttribute(ATTEMPTS, new AtomicInteger());
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        final AtomicInteger attempts = executionAttributes.getAttribute(ATTEMPTS);
+        if (attempts != null) {
+            attempts.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        record(executionAttributes, null);
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        record(executionAttributes, context.exception());
+    }
+
+    private static void record(final ExecutionAttributes executionAttributes, final Throwable exception) {
+        final Long startNanos = executionAttributes.getAttribute(START_NANOS);
+        final AtomicInteger attempts = executionAttributes.getAttribute(ATTEMPTS);
+        if (startNanos == null || attempts == null) {
+            return;
+        }
+
+        ApiCallMetrics.record(
+                executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                attempts.get(),
+                errorCode(exception),
+                exception instanceof SdkServiceException && ((SdkServiceException) exception).isThrottlingException());
+    }
+
+    private static String errorCode(final Throwable exception) {
+        if (exception == null) {
+            return null;
+        }
+        if (exception instanceof AwsServiceException && ((AwsServiceException) exception).awsErrorDetails() != null) {
+            final String errorCode = ((AwsServiceException) exception).awsErrorDetails().errorCode();
+            if (errorCode != null) {
+                return errorCode;
+            }
+        }
+        return exception.getClass().getSimpleName();
+    }
+}
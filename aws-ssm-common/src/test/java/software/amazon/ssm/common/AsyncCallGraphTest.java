@@ -0,0 +1,169 @@
+package software.amazon.ssm.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncCallGraphTest {
+
+    @Test
+    public void testIndependentCallsStartBeforeAnyCompletes() {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        final AsyncCallGraph.Call<String> firstCall = calls.call(() -> {
+            started.add("first");
+            return first;
+        });
+        final AsyncCallGraph.Call<String> secondCall = calls.call(() -> {
+            started.add("second");
+            return second;
+        });
+
+        assertThat(started).containsExactly("first", "second");
+
+        first.complete("a");
+        second.complete("b");
+        calls.await();
+
+        assertThat(firstCall.get()).isEqualTo("a");
+        assertThat(secondCall.get()).isEqualTo("b");
+    }
+
+    @Test
+    public void testDependentCallStartsWithDependencyResult() {
+        final CompletableFuture<String> create = new CompletableFuture<>();
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        final AsyncCallGraph.Call<String> createCall = calls.call(() -> create);
+        final AsyncCallGraph.Call<String> registerCall = calls.call(createCall, id -> {
+            started.add(id);
+            return CompletableFuture.completedFuture("registered " + id);
+        });
+
+        assertThat(started).isEmpty();
+
+        create.complete("pb-1");
+        calls.await();
+
+        assertThat(started).containsExactly("pb-1");
+        assertThat(registerCall.get()).isEqualTo("registered pb-1");
+    }
+
+    @Test
+    public void testDependentsOfFailedCallAreSkipped() {
+        final IllegalArgumentException failure = new IllegalArgumentException("create failed");
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        final AsyncCallGraph.Call<String> createCall = calls.call(() -> {
+            throw failure;
+        });
+        final AsyncCallGraph.Call<String> registerCall = calls.call(createCall, id -> {
+            started.add(id);
+            return CompletableFuture.completedFuture(id);
+        });
+
+        assertThatThrownBy(calls::await).isSameAs(failure).hasNoSuppressedExceptions();
+        assertThat(started).isEmpty();
+        assertThat(createCall.succeeded()).isFalse();
+        assertThat(registerCall.succeeded()).isFalse();
+    }
+
+    @Test
+    public void testSharedFailureIsThrownOnce() {
+        final IllegalStateException failure = new IllegalStateException("throttled");
+
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        calls.call(() -> {
+            throw failure;
+        });
+        calls.call(() -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(calls::await).isSameAs(failure).hasNoSuppressedExceptions();
+    }
+
+    @Test
+    public void testFirstDeclaredFailureIsThrownWithOthersSuppressed() {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        final IllegalStateException firstFailure = new IllegalStateException("first");
+        final IllegalStateException secondFailure = new IllegalStateException("second");
+
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        calls.call(() -> first);
+        calls.call(() -> CompletableFuture.completedFuture("ok"));
+        calls.call(() -> second);
+
+        // The later declared call fails first, the reported failure must not depend on that
+        second.completeExceptionally(secondFailure);
+        first.completeExceptionally(firstFailure);
+
+        assertThatThrownBy(calls::await).isSameAs(firstFailure);
+        assertThat(firstFailure.getSuppressed()).containsExactly(secondFailure);
+    }
+
+    @Test
+    public void testCallWaitsForEveryDependency() {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        final AsyncCallGraph.Call<String> firstCall = calls.call(() -> first);
+        final AsyncCallGraph.Call<String> secondCall = calls.call(() -> second);
+        calls.call(() -> {
+            started.add("last");
+            return CompletableFuture.completedFuture("last");
+        }, firstCall, secondCall);
+
+        first.complete("a");
+        assertThat(started).isEmpty();
+
+        second.complete("b");
+        calls.await();
+        assertThat(started).containsExactly("last");
+    }
+
+    @Test
+    public void testLimitedGraphStartsWaitingCallsAsRunningCallsComplete() {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        final CompletableFuture<String> third = new CompletableFuture<>();
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        final AsyncCallGraph calls = new AsyncCallGraph(2);
+        calls.call(() -> {
+            started.add("first");
+            return first;
+        });
+        calls.call(() -> {
+            started.add("second");
+            return second;
+        });
+        final AsyncCallGraph.Call<String> thirdCall = calls.call(() -> {
+            started.add("third");
+            return third;
+        });
+
+        assertThat(started).containsExactly("first", "second");
+
+        second.completeExceptionally(new IllegalStateException("second"));
+        assertThat(started).containsExactly("first", "second", "third");
+
+        first.complete("a");
+        third.complete("c");
+        assertThatThrownBy(calls::await).hasMessage("second");
+        assertThat(thirdCall.get()).isEqualTo("c");
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.ssm.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowResponse;
+import software.amazon.ssm.common.metrics.ApiCallMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColdStartPrimingTest {
+
+    private static final String RESOURCE_TYPE = "AWS::SSM::MaintenanceWindow";
+
+    @Test
+    public void reportLogsDurationOnlyOnFirstInvocation() {
+        final ColdStartPriming priming = new ColdStartPriming();
+        final List<String> logged = new ArrayList<>();
+
+        priming.primeOnInit(() -> Duration.ofMillis(1234));
+        priming.report(logged::add);
+        priming.report(logged::add);
+
+        assertThat(logged).containsExactly("INFO Cold start priming took 1234 ms");
+    }
+
+    @Test
+    public void reportLogsFailureOfPrimingOnInit() {
+        final ColdStartPriming priming = new ColdStartPriming();
+        final List<String> logged = new ArrayList<>();
+
+        priming.primeOnInit(() -> {
+            throw new ExceptionInInitializerError("handler failed to initialize");
+        });
+        priming.report(logged::add);
+
+        assertThat(logged).hasSize(1);
+        assertThat(logged.get(0)).startsWith("WARN Cold start priming failed")
+                .contains("ExceptionInInitializerError", "handler failed to initialize");
+    }
+
+    @Test
+    public void reportLogsNothingWhenNotPrimed() {
+        final List<String> logged = new ArrayList<>();
+
+        new ColdStartPriming().report(logged::add);
+
+        assertThat(logged).isEmpty();
+    }
+
+    @Test
+    public void stubClientAnswersWithoutReachingTheServiceOrRecordingMetrics() {
+        ApiCallMetrics.publish(RESOURCE_TYPE, "Setup", line -> { });
+
+        try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+            final GetMaintenanceWindowResponse response = stubClient.getMaintenanceWindow(
+                    GetMaintenanceWindowRequest.builder().windowId("mw-00000000000000000").build());
+
+            assertThat(response.windowId()).isNull();
+        }
+
+        final List<String> published = new ArrayList<>();
+        ApiCallMetrics.publish(RESOURCE_TYPE, "Create", published::add);
+        assertThat(published).isEmpty();
+    }
+}
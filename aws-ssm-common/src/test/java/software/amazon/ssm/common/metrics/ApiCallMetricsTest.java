@@ -0,0 +1,158 @@
+package software.amazon.ssm.common.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApiCallMetricsTest {
+
+    private static final String RESOURCE_TYPE = "AWS::SSM::MaintenanceWindow";
+
+    private static final long TIMESTAMP = 1600000000000L;
+
+    private static final Pattern CALLS = Pattern.compile("\"Calls\":(\\d+)");
+
+    @BeforeEach
+    public void setup() {
+        ApiCallMetrics.drain(RESOURCE_TYPE, "Setup", TIMESTAMP);
+    }
+
+    @Test
+    public void drainWritesOneLinePerOperationAndErrorCode() {
+        ApiCallMetrics.record("GetMaintenanceWindow", 12, 1, null, false);
+        ApiCallMetrics.record("GetMaintenanceWindow", 30, 3, "ThrottlingException", true);
+        ApiCallMetrics.record("CreateMaintenanceWindow", 5, 1, null, false);
+
+        final List<String> lines = ApiCallMetrics.drain(RESOURCE_TYPE, "Create", TIMESTAMP);
+
+        assertThat(lines).containsExactly(
+                "{\"_aws\":{\"Timestamp\":1600000000000,\"CloudWatchMetrics\":[{\"Namespace\":\"AWS/CloudFormation/SSM\""
+                        + ",\"Dimensions\":[[\"ResourceType\",\"Action\",\"Operation\"]],\"Metrics\":["
+                        + "{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"},{\"Name\":\"Calls\",\"Unit\":\"Count\"}"
+                        + ",{\"Name\":\"Attempts\",\"Unit\":\"Count\"},{\"Name\":\"Retries\",\"Unit\":\"Count\"}"
+                        + ",{\"Name\":\"Throttles\",\"Unit\":\"Count\"}]}]}"
+                        + ",\"ResourceType\":\"AWS::SSM::MaintenanceWindow\",\"Action\":\"Create\",\"Operation\":\"CreateMaintenanceWindow\""
+                        + ",\"Latency\":[5],\"Calls\":1,\"Attempts\":1,\"Retries\":0,\"Throttles\":0}",
+                "{\"_aws\":{\"Timestamp\":1600000000000,\"CloudWatchMetrics\":[{\"Namespace\":\"AWS/CloudFormation/SSM\""
+                        + ",\"Dimensions\":[[\"ResourceType\",\"Action\",\"Operation\"]],\"Metrics\":["
+                        + "{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"},{\"Name\":\"Calls\",\"Unit\":\"Count\"}"
+                        + ",{\"Name\":\"Attempts\",\"Unit\":\"Count\"},{\"Name\":\"Retries\",\"Unit\":\"Count\"}"
+                        + ",{\"Name\":\"Throttles\",\"Unit\":\"Count\"}]}]}"
+                        + ",\"ResourceType\":\"AWS::SSM::MaintenanceWindow\",\"Action\":\"Create\",\"Operation\":\"GetMaintenanceWindow\""
+                        + ",\"Latency\":[12,30],\"Calls\":2,\"Attempts\":4,\"Retries\":2,\"Throttles\":1}",
+                "{\"_aws\":{\"Timestamp\":1600000000000,\"CloudWatchMetrics\":[{\"Namespace\":\"AWS/CloudFormation/SSM\""
+                        + ",\"Dimensions\":[[\"ResourceType\",\"Action\",\"Operation\",\"ErrorCode\"]],\"Metrics\":["
+                        + "{\"Name\":\"Errors\",\"Unit\":\"Count\"}]}]}"
+                        + ",\"ResourceType\":\"AWS::SSM::MaintenanceWindow\",\"Action\":\"Create\",\"Operation\":\"GetMaintenanceWindow\""
+                        + ",\"ErrorCode\":\"ThrottlingException\",\"Errors\":1}");
+        assertThat(ApiCallMetrics.drain(RESOURCE_TYPE, "Create", TIMESTAMP)).isEmpty();
+    }
+
+    @Test
+    public void drainSplitsLatenciesIntoChunksAndCountsOnce() {
+        for (int i = 0; i < ApiCallMetrics.MAX_VALUES_PER_LINE + 1; i++) {
+            ApiCallMetrics.record("DescribeMaintenanceWindows", 1, 1, null, false);
+        }
+
+        final List<String> lines = ApiCallMetrics.drain(RESOURCE_TYPE, "List", TIMESTAMP);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"Calls\":101");
+        assertThat(lines.get(1)).endsWith("\"Latency\":[1]}").doesNotContain("\"Calls\"");
+    }
+
+    @Test
+    public void interceptorRecordsAttemptsAndErrorCode() {
+        final ApiCallMetricsInterceptor interceptor = new ApiCallMetricsInterceptor();
+        final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "CreateMaintenanceWindow");
+        final Context.FailedExecution failedExecution = mock(Context.FailedExecution.class);
+        when(failedExecution.exception()).thenReturn(AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("IdempotentParameterMismatch").build())
+                .build());
+
+        interceptor.beforeExecution(null, executionAttributes);
+        interceptor.beforeTransmission(null, executionAttributes);
+        interceptor.beforeTransmission(null, executionAttributes);
+        interceptor.onExecutionFailure(failedExecution, executionAttributes);
+
+        final List<String> lines = ApiCallMetrics.drain(RESOURCE_TYPE, "Create", TIMESTAMP);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"Operation\":\"CreateMaintenanceWindow\"", "\"Attempts\":2", "\"Throttles\":0");
+        assertThat(lines.get(1)).endsWith("\"ErrorCode\":\"IdempotentParameterMismatch\",\"Errors\":1}");
+    }
+
+    @Test
+    public void publishAfterPublishesNestedCallsOnceUnderOutermostAction() {
+        final List<String> published = new ArrayList<>();
+
+        ApiCallMetrics.publishAfter(RESOURCE_TYPE, "Create", published::add, () -> {
+            ApiCallMetrics.record("CreateMaintenanceWindow", 1, 1, null, false);
+            return ApiCallMetrics.publishAfter(RESOURCE_TYPE, "Read", published::add, () -> {
+                ApiCallMetrics.record("GetMaintenanceWindow", 1, 1, null, false);
+                return null;
+            });
+        });
+
+        assertThat(published).hasSize(2);
+        assertThat(published).allMatch(line -> line.contains("\"Action\":\"Create\""));
+    }
+
+    @Test
+    public void drainDoesNotLoseCallsRecordedConcurrently() throws Exception {
+        final int threads = 4;
+        final int callsPerThread = 10000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> recorders = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                recorders.add(executor.submit(() -> {
+                    for (int call = 0; call < callsPerThread; call++) {
+                        ApiCallMetrics.record("GetMaintenanceWindow", 1, 1, null, false);
+                    }
+                }));
+            }
+
+            long published = 0;
+            while (recorders.stream().anyMatch(recorder -> !recorder.isDone())) {
+                published += countCalls(ApiCallMetrics.drain(RESOURCE_TYPE, "Read", TIMESTAMP));
+            }
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+            published += countCalls(ApiCallMetrics.drain(RESOURCE_TYPE, "Read", TIMESTAMP));
+
+            assertThat(published).isEqualTo((long) threads * callsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long countCalls(final List<String> lines) {
+        long calls = 0;
+        for (String line : lines) {
+            final Matcher matcher = CALLS.matcher(line);
+            if (matcher.find()) {
+                calls += Long.parseLong(matcher.group(1));
+            }
+        }
+        return calls;
+    }
+}
@@ -0,0 +1,39 @@
+package com.amazonaws.ssm.document;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.ssm.common.metrics.ApiCallMetrics;
+
+/**
+ * Base of the handlers that call SSM, publishes the API call metrics recorded by the client once per invocation and
+ * reports cold start priming on the first invocation.
+ */
+public abstract class BaseHandlerWithMetrics extends BaseHandler<CallbackContext> {
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+
+        ColdStartPrimer.report(logger);
+        return ApiCallMetrics.publishAfter(ResourceModel.TYPE_NAME, getAction(), logger::log,
+            () -> doHandleRequest(proxy, request, callbackContext, logger));
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+        AmazonWebServicesClientProxy proxy,
+        ResourceHandlerRequest<ResourceModel> request,
+        CallbackContext callbackContext,
+        Logger logger);
+
+    /**
+     * @return the action of this handler as reported in the API call metrics, e.g. Create for the CreateHandler
+     */
+    protected String getAction() {
+        return getClass().getSimpleName().replaceFirst("Handler$", "");
+    }
+}
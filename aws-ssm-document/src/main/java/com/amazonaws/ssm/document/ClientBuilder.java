@@ -9,8 +9,10 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientBuilder {
@@ -31,12 +33,34 @@ public class ClientBuilder {
     private static final ClientOverrideConfiguration CLIENT_OVERRIDE_CONFIGURATION =
         ClientOverrideConfiguration.builder()
             .retryPolicy(RETRY_POLICY)
+            .addExecutionInterceptor(new ApiCallMetricsInterceptor())
             .build();
 
+    /**
+     * Returns the SsmClient shared by every handler in this container, built on first use.
+     */
     static SsmClient getClient() {
-        return SsmClient.builder()
+        return ClientHolder.CLIENT;
+    }
+
+    /**
+     * Returns the SsmAsyncClient shared by every handler in this container, for handlers that run independent calls
+     * concurrently. Built on first use with the same configuration overrides as {@link #getClient()}.
+     */
+    static SsmAsyncClient getAsyncClient() {
+        return AsyncClientHolder.CLIENT;
+    }
+
+    private static class ClientHolder {
+        private static final SsmClient CLIENT = SsmClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
                 .overrideConfiguration(CLIENT_OVERRIDE_CONFIGURATION)
                 .build();
     }
+
+    private static class AsyncClientHolder {
+        private static final SsmAsyncClient CLIENT = SsmAsyncClient.builder()
+                .overrideConfiguration(CLIENT_OVERRIDE_CONFIGURATION)
+                .build();
+    }
 }
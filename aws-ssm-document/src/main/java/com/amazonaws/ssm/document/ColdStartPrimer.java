@@ -0,0 +1,105 @@
+package com.amazonaws.ssm.document;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DocumentFormat;
+import software.amazon.awssdk.services.ssm.model.DocumentStatus;
+import software.amazon.awssdk.services.ssm.model.GetDocumentResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Primes a fresh container before its first invocation. Building the shared SsmClient, running a synthetic
+ * request through the SDK marshallers and signer against an in-process stub and running the translators once moves
+ * class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_LOGICAL_RESOURCE_ID = "PrimingDocument";
+    private static final String SAMPLE_REQUEST_TOKEN = "00000000-0000-0000-0000-000000000000";
+    private static final Map<String, Object> SAMPLE_CONTENT = ImmutableMap.of(
+            "schemaVersion", "2.2",
+            "mainSteps", Collections.singletonList(ImmutableMap.of(
+                    "action", "aws:runShellScript",
+                    "name", "priming",
+                    "inputs", ImmutableMap.of("runCommand", Collections.singletonList("echo priming")))));
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ClientBuilder.getClient();
+            ClientBuilder.getAsyncClient();
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        final DocumentModelTranslator translator = DocumentModelTranslator.getInstance();
+        final ResourceModel model = sampleModel(DocumentFormat.JSON);
+
+        stubClient.createDocument(translator.generateCreateDocumentRequest(model, SAMPLE_LOGICAL_RESOURCE_ID,
+                null, null, SAMPLE_REQUEST_TOKEN));
+        stubClient.getDocument(translator.generateGetDocumentRequest(model));
+        stubClient.describeDocument(translator.generateDescribeDocumentRequest(model));
+    }
+
+    /**
+     * Both the JSON and the YAML mapper are primed, the YAML one is the more expensive to initialize.
+     */
+    private static void primeTranslators() {
+        final DocumentModelTranslator translator = DocumentModelTranslator.getInstance();
+        translator.generateCreateDocumentRequest(sampleModel(DocumentFormat.YAML), SAMPLE_LOGICAL_RESOURCE_ID,
+                null, null, SAMPLE_REQUEST_TOKEN);
+        translator.generateUpdateDocumentRequest(sampleModel(DocumentFormat.YAML));
+
+        DocumentResponseModelTranslator.getInstance().generateResourceInformation(GetDocumentResponse.builder()
+                .name(SAMPLE_LOGICAL_RESOURCE_ID)
+                .documentFormat(DocumentFormat.JSON)
+                .content("{}")
+                .status(DocumentStatus.ACTIVE)
+                .build(), Collections.emptyMap());
+    }
+
+    private static ResourceModel sampleModel(final DocumentFormat documentFormat) {
+        return ResourceModel.builder()
+                .name(SAMPLE_LOGICAL_RESOURCE_ID)
+                .content(SAMPLE_CONTENT)
+                .documentFormat(documentFormat.toString())
+                .documentType("Command")
+                .build();
+    }
+}
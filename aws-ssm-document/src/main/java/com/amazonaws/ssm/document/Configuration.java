@@ -7,6 +7,11 @@ import org.json.JSONTokener;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // Configuration is created while the container initializes, before the first invocation
+        ColdStartPrimer.primeOnInit();
+    }
+
     public Configuration() {
         super("aws-ssm-document.json");
     }
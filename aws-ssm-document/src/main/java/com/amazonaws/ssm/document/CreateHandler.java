@@ -23,7 +23,7 @@ import static com.amazonaws.ssm.document.tags.TagUtil.TAGGING_PERMISSION_MESSAGE
  * Create a new AWS::SSM::Document resource.
  */
 @RequiredArgsConstructor
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerWithMetrics {
     /**
      * Time period after which the Handler should be called again to check the status of the request.
      */
@@ -62,7 +62,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
      * Handles the new Create request for the resource.
      */
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
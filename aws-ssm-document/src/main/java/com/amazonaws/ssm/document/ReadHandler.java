@@ -5,7 +5,8 @@ import com.google.common.annotations.VisibleForTesting;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import java.util.Map;
-import software.amazon.awssdk.services.ssm.SsmClient;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.model.DescribeDocumentRequest;
 import software.amazon.awssdk.services.ssm.model.DescribeDocumentResponse;
 import software.amazon.awssdk.services.ssm.model.GetDocumentRequest;
@@ -16,12 +17,13 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.ssm.common.AsyncCallGraph;
 
 /**
  * Get AWS::SSM::Document resource.
  */
 @RequiredArgsConstructor
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerWithMetrics {
 
     private static final String OPERATION_NAME = "AWS::SSM::GetDocument";
     private static final String ACCESS_DENIED_ERROR_CODE = "AccessDeniedException";
@@ -33,7 +35,7 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     private final DocumentResponseModelTranslator documentResponseModelTranslator;
 
     @NonNull
-    private final SsmClient ssmClient;
+    private final SsmAsyncClient ssmAsyncClient;
 
     @NonNull
     private final TagReader tagReader;
@@ -46,12 +48,12 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
     @VisibleForTesting
     public ReadHandler() {
-        this(DocumentModelTranslator.getInstance(), DocumentResponseModelTranslator.getInstance(), ClientBuilder.getClient(),
+        this(DocumentModelTranslator.getInstance(), DocumentResponseModelTranslator.getInstance(), ClientBuilder.getAsyncClient(),
             TagReader.getInstance(), DocumentExceptionTranslator.getInstance(), SafeLogger.getInstance());
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -65,31 +67,51 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final DescribeDocumentRequest describeDocumentRequest = documentModelTranslator.generateDescribeDocumentRequest(model);
 
+        // The document, its tags and its description are independent, so they are read concurrently
+        final AsyncCallGraph calls = new AsyncCallGraph();
+        final AsyncCallGraph.Call<GetDocumentResponse> getDocumentCall = calls.call(() ->
+                proxy.injectCredentialsAndInvokeV2Async(getDocumentRequest, ssmAsyncClient::getDocument));
+        final AsyncCallGraph.Call<Map<String, String>> documentTagsCall = calls.call(() ->
+                tagReader.getDocumentTagsAsync(model.getName(), ssmAsyncClient, proxy));
+        final AsyncCallGraph.Call<DescribeDocumentResponse> describeDocumentCall = calls.call(() ->
+                proxy.injectCredentialsAndInvokeV2Async(describeDocumentRequest, ssmAsyncClient::describeDocument)
+                        .exceptionally(e -> softFailDescribeDocument(e, describeDocumentRequest, logger)));
+
         try {
-            final GetDocumentResponse getDocumentResponse = proxy.injectCredentialsAndInvokeV2(getDocumentRequest, ssmClient::getDocument);
-
-            final Map<String, String> documentTags = tagReader.getDocumentTags(model.getName(), ssmClient, proxy);
-            final ResourceInformation resourceInformation =
-                    documentResponseModelTranslator.generateResourceInformation(getDocumentResponse, documentTags);
-
-            try {
-                final DescribeDocumentResponse describeDocumentResponse = proxy.injectCredentialsAndInvokeV2(describeDocumentRequest, ssmClient::describeDocument);
-
-                resourceInformation.getResourceModel().setTargetType(describeDocumentResponse.document().targetType());
-            } catch(SsmException e) {
-                if (!ACCESS_DENIED_ERROR_CODE.equalsIgnoreCase(e.awsErrorDetails().errorCode())) {
-                    throw e;
-                }
-                logger.log(String.format("Soft fail describe document in ReadHandler due to insufficient permissions %s",
-                        describeDocumentRequest.name()));
-            }
-
-            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModel(resourceInformation.getResourceModel())
-                    .status(OperationStatus.SUCCESS)
-                    .build();
+            calls.await();
         } catch (final SsmException e) {
             throw exceptionTranslator.getCfnException(e, model.getName(), OPERATION_NAME, logger);
         }
+
+        final ResourceInformation resourceInformation =
+                documentResponseModelTranslator.generateResourceInformation(getDocumentCall.get(), documentTagsCall.get());
+
+        final DescribeDocumentResponse describeDocumentResponse = describeDocumentCall.get();
+        if (describeDocumentResponse != null) {
+            resourceInformation.getResourceModel().setTargetType(describeDocumentResponse.document().targetType());
+        }
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModel(resourceInformation.getResourceModel())
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    /**
+     * Describe document only adds the target type, so a caller without permission to describe still gets the document.
+     * @return null when the failure is soft, otherwise rethrows it
+     */
+    private DescribeDocumentResponse softFailDescribeDocument(final Throwable throwable,
+                                                              final DescribeDocumentRequest describeDocumentRequest,
+                                                              final Logger logger) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (!(cause instanceof SsmException)
+                || !ACCESS_DENIED_ERROR_CODE.equalsIgnoreCase(((SsmException) cause).awsErrorDetails().errorCode())) {
+            throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(cause);
+        }
+        logger.log(String.format("Soft fail describe document in ReadHandler due to insufficient permissions %s",
+                describeDocumentRequest.name()));
+        return null;
     }
 }
@@ -31,7 +31,7 @@ import java.util.Objects;
  * Update AWS::SSM::Document resource.
  */
 @RequiredArgsConstructor
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerWithMetrics {
 
     /**
      * Time period after which the Handler should be called again to check the status of the request.
@@ -72,7 +72,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -1,9 +1,11 @@
 package com.amazonaws.ssm.document.tags;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import com.google.common.collect.ImmutableList;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
@@ -61,14 +63,27 @@ public class TagClient {
     public List<Tag> listTags(@NonNull final String documentName,
                               @NonNull final SsmClient ssmClient,
                               @NonNull final AmazonWebServicesClientProxy proxy) {
-        final ListTagsForResourceRequest listTagsForResourceRequest = ListTagsForResourceRequest.builder()
+        final ListTagsForResourceResponse listTagsForResourceResult =
+            proxy.injectCredentialsAndInvokeV2(buildListTagsRequest(documentName), ssmClient::listTagsForResource);
+
+        return getTagList(listTagsForResourceResult);
+    }
+
+    public CompletableFuture<List<Tag>> listTagsAsync(@NonNull final String documentName,
+                                                      @NonNull final SsmAsyncClient ssmAsyncClient,
+                                                      @NonNull final AmazonWebServicesClientProxy proxy) {
+        return proxy.injectCredentialsAndInvokeV2Async(buildListTagsRequest(documentName), ssmAsyncClient::listTagsForResource)
+            .thenApply(this::getTagList);
+    }
+
+    private ListTagsForResourceRequest buildListTagsRequest(final String documentName) {
+        return ListTagsForResourceRequest.builder()
             .resourceId(documentName)
             .resourceType(ResourceTypeForTagging.DOCUMENT)
             .build();
+    }
 
-        final ListTagsForResourceResponse listTagsForResourceResult =
-            proxy.injectCredentialsAndInvokeV2(listTagsForResourceRequest, ssmClient::listTagsForResource);
-
+    private List<Tag> getTagList(final ListTagsForResourceResponse listTagsForResourceResult) {
         return listTagsForResourceResult.hasTagList() ? ImmutableList.copyOf(listTagsForResourceResult.tagList()) : ImmutableList.of();
     }
 
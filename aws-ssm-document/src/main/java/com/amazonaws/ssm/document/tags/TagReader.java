@@ -8,7 +8,9 @@ import lombok.RequiredArgsConstructor;
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -36,6 +38,13 @@ public class TagReader {
         return translateTags(documentTags);
     }
 
+    public CompletableFuture<Map<String, String>> getDocumentTagsAsync(@NonNull final String documentName,
+                                                                       @NonNull final SsmAsyncClient ssmAsyncClient,
+                                                                       @NonNull final AmazonWebServicesClientProxy proxy) {
+        return tagClient.listTagsAsync(documentName, ssmAsyncClient, proxy)
+            .thenApply(this::translateTags);
+    }
+
     private Map<String, String> translateTags(final List<Tag> tags) {
         return tags.stream()
             .collect(ImmutableMap.toImmutableMap(Tag::key, Tag::value));
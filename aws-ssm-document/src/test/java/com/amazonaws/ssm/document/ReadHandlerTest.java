@@ -6,10 +6,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
-import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.model.DescribeDocumentRequest;
 import software.amazon.awssdk.services.ssm.model.DescribeDocumentResponse;
 import software.amazon.awssdk.services.ssm.model.DocumentDescription;
@@ -25,8 +26,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -90,7 +92,7 @@ public class ReadHandlerTest {
     private DocumentResponseModelTranslator documentResponseModelTranslator;
 
     @Mock
-    private SsmClient ssmClient;
+    private SsmAsyncClient ssmAsyncClient;
 
     @Mock
     private TagReader tagReader;
@@ -115,7 +117,7 @@ public class ReadHandlerTest {
     @BeforeEach
     public void setup() {
         unitUnderTest = new ReadHandler(documentModelTranslator, documentResponseModelTranslator,
-            ssmClient, tagReader, exceptionTranslator, safeLogger);
+            ssmAsyncClient, tagReader, exceptionTranslator, safeLogger);
     }
 
     @Test
@@ -135,9 +137,14 @@ public class ReadHandlerTest {
 
         when(documentModelTranslator.generateGetDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_GET_DOCUMENT_REQUEST);
         when(documentModelTranslator.generateDescribeDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_DESCRIBE_DOCUMENT_REQUEST);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_GET_DOCUMENT_REQUEST), any())).thenReturn(SAMPLE_GET_DOCUMENT_RESPONSE);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST), any())).thenReturn(SAMPLE_DESCRIBE_DOCUMENT_RESPONSE);
-        when(tagReader.getDocumentTags(SAMPLE_DOCUMENT_NAME, ssmClient, proxy)).thenReturn(SAMPLE_TAG_MAP);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_GET_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<GetDocumentRequest, CompletableFuture<GetDocumentResponse>>>any()))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_GET_DOCUMENT_RESPONSE));
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, CompletableFuture<DescribeDocumentResponse>>>any()))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_DESCRIBE_DOCUMENT_RESPONSE));
+        when(tagReader.getDocumentTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_TAG_MAP));
         when(documentResponseModelTranslator.generateResourceInformation(SAMPLE_GET_DOCUMENT_RESPONSE, SAMPLE_TAG_MAP))
             .thenReturn(expectedResourceInformation);
 
@@ -164,11 +171,16 @@ public class ReadHandlerTest {
 
         when(documentModelTranslator.generateGetDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_GET_DOCUMENT_REQUEST);
         when(documentModelTranslator.generateDescribeDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_DESCRIBE_DOCUMENT_REQUEST);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_GET_DOCUMENT_REQUEST), any())).thenReturn(SAMPLE_GET_DOCUMENT_RESPONSE);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST), any())).thenThrow(ssmException);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_GET_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<GetDocumentRequest, CompletableFuture<GetDocumentResponse>>>any()))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_GET_DOCUMENT_RESPONSE));
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, CompletableFuture<DescribeDocumentResponse>>>any()))
+            .thenReturn(failedFuture(ssmException));
         when(ssmException.awsErrorDetails()).thenReturn(awsErrorDetails);
         when(awsErrorDetails.errorCode()).thenReturn("AccessDeniedException");
-        when(tagReader.getDocumentTags(SAMPLE_DOCUMENT_NAME, ssmClient, proxy)).thenReturn(SAMPLE_TAG_MAP);
+        when(tagReader.getDocumentTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_TAG_MAP));
         when(documentResponseModelTranslator.generateResourceInformation(SAMPLE_GET_DOCUMENT_RESPONSE, SAMPLE_TAG_MAP))
                 .thenReturn(expectedResourceInformation);
 
@@ -182,7 +194,15 @@ public class ReadHandlerTest {
     @Test
     public void testHandleRequest_GetDocumentThrowsSsmException_verifyExceptionReturned() {
         when(documentModelTranslator.generateGetDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_GET_DOCUMENT_REQUEST);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_GET_DOCUMENT_REQUEST), any())).thenThrow(ssmException);
+        when(documentModelTranslator.generateDescribeDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_DESCRIBE_DOCUMENT_REQUEST);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_GET_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<GetDocumentRequest, CompletableFuture<GetDocumentResponse>>>any()))
+            .thenReturn(failedFuture(ssmException));
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, CompletableFuture<DescribeDocumentResponse>>>any()))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_DESCRIBE_DOCUMENT_RESPONSE));
+        when(tagReader.getDocumentTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_TAG_MAP));
         when(exceptionTranslator.getCfnException(ssmException, SAMPLE_DOCUMENT_NAME, OPERATION_NAME, logger)).thenReturn(cfnException);
 
         Assertions.assertThrows(CfnGeneralServiceException.class, () -> unitUnderTest.handleRequest(proxy, SAMPLE_RESOURCE_HANDLER_REQUEST, null, logger));
@@ -193,12 +213,24 @@ public class ReadHandlerTest {
     public void testHandleRequest_DescribeThrowsSsmException_verifyExceptionReturned() {
         when(documentModelTranslator.generateGetDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_GET_DOCUMENT_REQUEST);
         when(documentModelTranslator.generateDescribeDocumentRequest(SAMPLE_RESOURCE_MODEL)).thenReturn(SAMPLE_DESCRIBE_DOCUMENT_REQUEST);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_GET_DOCUMENT_REQUEST), any())).thenReturn(SAMPLE_GET_DOCUMENT_RESPONSE);
-        when(proxy.injectCredentialsAndInvokeV2(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST), any())).thenThrow(ssmException);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_GET_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<GetDocumentRequest, CompletableFuture<GetDocumentResponse>>>any()))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_GET_DOCUMENT_RESPONSE));
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(SAMPLE_DESCRIBE_DOCUMENT_REQUEST),
+            ArgumentMatchers.<Function<DescribeDocumentRequest, CompletableFuture<DescribeDocumentResponse>>>any()))
+            .thenReturn(failedFuture(ssmException));
         when(ssmException.awsErrorDetails()).thenReturn(awsErrorDetails);
+        when(tagReader.getDocumentTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_TAG_MAP));
         when(exceptionTranslator.getCfnException(ssmException, SAMPLE_DOCUMENT_NAME, OPERATION_NAME, logger)).thenReturn(cfnException);
 
         Assertions.assertThrows(CfnGeneralServiceException.class, () -> unitUnderTest.handleRequest(proxy, SAMPLE_RESOURCE_HANDLER_REQUEST, null, logger));
         verify(safeLogger).safeLogDocumentInformation(SAMPLE_RESOURCE_MODEL, null, SAMPLE_ACCOUNT_ID, SAMPLE_SYSTEM_TAGS, logger);
     }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable cause) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
 }
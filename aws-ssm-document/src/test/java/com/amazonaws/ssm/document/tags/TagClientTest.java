@@ -3,13 +3,17 @@ package com.amazonaws.ssm.document.tags;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
@@ -33,6 +37,9 @@ public class TagClientTest {
     @Mock
     private SsmClient ssmClient;
 
+    @Mock
+    private SsmAsyncClient ssmAsyncClient;
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -97,4 +104,23 @@ public class TagClientTest {
         Assertions.assertEquals(SAMPLE_TAGS, tags);
 
     }
+
+    @Test
+    public void testListTagsAsync_verifyCall() {
+        final ListTagsForResourceRequest listTagsRequest = ListTagsForResourceRequest.builder()
+            .resourceType(ResourceTypeForTagging.DOCUMENT)
+            .resourceId(SAMPLE_DOCUMENT_NAME)
+            .build();
+
+        final ListTagsForResourceResponse resourceResponse = ListTagsForResourceResponse.builder()
+            .tagList(SAMPLE_TAGS)
+            .build();
+        Mockito.when(proxy.injectCredentialsAndInvokeV2Async(eq(listTagsRequest),
+            ArgumentMatchers.<Function<ListTagsForResourceRequest, CompletableFuture<ListTagsForResourceResponse>>>any()))
+            .thenReturn(CompletableFuture.completedFuture(resourceResponse));
+
+        final List<Tag> tags = unitUnderTest.listTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy).join();
+
+        Assertions.assertEquals(SAMPLE_TAGS, tags);
+    }
 }
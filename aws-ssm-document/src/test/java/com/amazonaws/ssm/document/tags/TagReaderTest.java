@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -33,6 +35,9 @@ public class TagReaderTest {
     @Mock
     private SsmClient ssmClient;
 
+    @Mock
+    private SsmAsyncClient ssmAsyncClient;
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -52,4 +57,13 @@ public class TagReaderTest {
 
         Assertions.assertEquals(SAMPLE_TAG_MAP, unitUnderTest.getDocumentTags(SAMPLE_DOCUMENT_NAME, ssmClient, proxy));
     }
+
+    @Test
+    public void testGetDocumentTagsAsync_verifyResponse() {
+        Mockito.when(tagClient.listTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy))
+            .thenReturn(CompletableFuture.completedFuture(SAMPLE_EXISTING_TAGS));
+
+        Assertions.assertEquals(SAMPLE_TAG_MAP,
+            unitUnderTest.getDocumentTagsAsync(SAMPLE_DOCUMENT_NAME, ssmAsyncClient, proxy).join());
+    }
 }
@@ -1,10 +1,16 @@
 package software.amazon.ssm.maintenancewindow;
 
+import software.amazon.ssm.maintenancewindow.util.ColdStartPrimer;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // Configuration is created while the container initializes, before the first invocation
+        ColdStartPrimer.primeOnInit();
+    }
+
     public Configuration() {
         super("aws-ssm-maintenancewindow.json");
     }
@@ -13,7 +13,7 @@ import software.amazon.ssm.maintenancewindow.translator.request.CreateMaintenanc
 import software.amazon.ssm.maintenancewindow.translator.ExceptionTranslator;
 import software.amazon.ssm.maintenancewindow.util.ClientBuilder;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
     private final CreateMaintenanceWindowTranslator createMaintenanceWindowTranslator;
@@ -36,7 +36,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
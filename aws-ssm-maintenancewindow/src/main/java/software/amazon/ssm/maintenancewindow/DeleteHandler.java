@@ -13,7 +13,7 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.ssm.maintenancewindow.translator.ExceptionTranslator;
 import software.amazon.ssm.maintenancewindow.util.ClientBuilder;
 
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
     private final ExceptionTranslator exceptionTranslator;
@@ -32,7 +32,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -15,7 +15,7 @@ import software.amazon.ssm.maintenancewindow.translator.ExceptionTranslator;
 import software.amazon.ssm.maintenancewindow.translator.resourcemodel.GetMaintenanceWindowTranslator;
 import software.amazon.ssm.maintenancewindow.util.ClientBuilder;
 
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
 
@@ -39,7 +39,7 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -1,7 +1,10 @@
 package software.amazon.ssm.maintenancewindow;
 
 import com.amazonaws.util.StringUtils;
-import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceResponse;
 import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowRequest;
 import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowResponse;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -15,6 +18,7 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.ssm.maintenancewindow.translator.ExceptionTranslator;
 import software.amazon.ssm.maintenancewindow.translator.resourcemodel.UpdateMaintenanceWindowToResourceModelTranslator;
 import software.amazon.ssm.maintenancewindow.translator.request.UpdateMaintenanceWindowTranslator;
+import software.amazon.ssm.common.AsyncCallGraph;
 import software.amazon.ssm.maintenancewindow.util.ClientBuilder;
 import software.amazon.ssm.maintenancewindow.translator.resourcemodel.ResourceModelPropertyTranslator;
 import software.amazon.ssm.maintenancewindow.util.TagUtil;
@@ -25,11 +29,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerWithMetrics {
 
-    private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
+    private static final SsmAsyncClient SSM_ASYNC_CLIENT = ClientBuilder.getAsyncClient();
 
     private final UpdateMaintenanceWindowTranslator updateMaintenanceWindowTranslator;
     private final UpdateMaintenanceWindowToResourceModelTranslator updateMaintenanceWindowToResourceModelTranslator;
@@ -57,7 +62,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -83,13 +88,27 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                 updateMaintenanceWindowTranslator.resourceModelToRequest(model);
 
         try {
-            final UpdateMaintenanceWindowResponse response =
-                    proxy.injectCredentialsAndInvokeV2(updateMaintenanceWindowRequest, SSM_CLIENT::updateMaintenanceWindow);
+            // The window and its current tags are independent, so they are read and updated concurrently. Tags are
+            // only changed once the window is updated, and the removed and added tags are changed concurrently.
+            final Set<software.amazon.awssdk.services.ssm.model.Tag> newTags =
+                    desiredTags(request.getDesiredResourceTags(), request.getSystemTags());
+
+            final AsyncCallGraph calls = new AsyncCallGraph();
+            final AsyncCallGraph.Call<UpdateMaintenanceWindowResponse> updateCall = calls.call(() ->
+                    proxy.injectCredentialsAndInvokeV2Async(updateMaintenanceWindowRequest,
+                            SSM_ASYNC_CLIENT::updateMaintenanceWindow));
+            final AsyncCallGraph.Call<ListTagsForResourceResponse> listTagsCall = calls.call(() ->
+                    proxy.injectCredentialsAndInvokeV2Async(TagUtil.buildListTagsForResourceRequest(windowId),
+                            SSM_ASYNC_CLIENT::listTagsForResource));
+            calls.call(() -> removeTags(windowId, tagsToRemove(existingTags(listTagsCall.get()), newTags), proxy),
+                    updateCall, listTagsCall);
+            calls.call(() -> addTags(windowId, tagsToAdd(existingTags(listTagsCall.get()), newTags), proxy),
+                    updateCall, listTagsCall);
+            calls.await();
 
             final ResourceModel updatedModel =
-                    updateMaintenanceWindowToResourceModelTranslator.updateMaintenanceWindowResponseToResourceModel(response);
+                    updateMaintenanceWindowToResourceModelTranslator.updateMaintenanceWindowResponseToResourceModel(updateCall.get());
 
-            updateTags(request.getDesiredResourceTags(), request.getSystemTags(), windowId, proxy);
             progressEvent.setResourceModel(updatedModel);
 
             progressEvent.setStatus(OperationStatus.SUCCESS);
@@ -106,33 +125,52 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         return progressEvent;
     }
 
-    private void updateTags(final Map<String, String> resourceModelTags,
-                            final Map<String, String> systemTags,
-                            final String windowId,
-                            final AmazonWebServicesClientProxy proxy) {
+    private Set<software.amazon.awssdk.services.ssm.model.Tag> desiredTags(final Map<String, String> resourceModelTags,
+                                                                        final Map<String, String> systemTags) {
         final List<Tag> consolidatedTags = TagUtil.consolidateTags(resourceModelTags, systemTags);
-        final Set<software.amazon.awssdk.services.ssm.model.Tag> newTags =
-                TagUtil.translateTagsToSdk(consolidatedTags)
-                        == null ? Collections.emptySet() : new HashSet<>(TagUtil.translateTagsToSdk(consolidatedTags));
-        final Set<software.amazon.awssdk.services.ssm.model.Tag> existingTags =
-                new HashSet<software.amazon.awssdk.services.ssm.model.Tag>(proxy.injectCredentialsAndInvokeV2(
-                        TagUtil.buildListTagsForResourceRequest(windowId),
-                        SSM_CLIENT::listTagsForResource).tagList());
+        return TagUtil.translateTagsToSdk(consolidatedTags)
+                == null ? Collections.emptySet() : new HashSet<>(TagUtil.translateTagsToSdk(consolidatedTags));
+    }
+
+    private Set<software.amazon.awssdk.services.ssm.model.Tag> existingTags(final ListTagsForResourceResponse response) {
+        return new HashSet<software.amazon.awssdk.services.ssm.model.Tag>(response.tagList());
+    }
 
+    private List<String> tagsToRemove(final Set<software.amazon.awssdk.services.ssm.model.Tag> existingTags,
+                                      final Set<software.amazon.awssdk.services.ssm.model.Tag> newTags) {
         final List<String> tagsToRemove = existingTags.stream()
                 .filter(tag -> !newTags.contains(tag))
                 .map(tag -> tag.key())
                 .collect(Collectors.toList());
         // request.getSystemTag() is null
         tagsToRemove.removeIf(tagKey -> tagKey.toLowerCase().startsWith("aws:"));
+        return tagsToRemove;
+    }
 
-        final List<software.amazon.awssdk.services.ssm.model.Tag> tagsToAdd = newTags.stream()
+    private List<software.amazon.awssdk.services.ssm.model.Tag> tagsToAdd(final Set<software.amazon.awssdk.services.ssm.model.Tag> existingTags,
+                                                                         final Set<software.amazon.awssdk.services.ssm.model.Tag> newTags) {
+        return newTags.stream()
                 .filter(tag -> !existingTags.contains(tag))
                 .collect(Collectors.toList());
+    }
 
-        if (!CollectionUtils.isNullOrEmpty(tagsToRemove))
-            proxy.injectCredentialsAndInvokeV2(TagUtil.buildRemoveTagsFromResourceRequest(windowId, tagsToRemove), SSM_CLIENT::removeTagsFromResource);
-        if (!CollectionUtils.isNullOrEmpty(tagsToAdd))
-            proxy.injectCredentialsAndInvokeV2(TagUtil.buildAddTagsToResourceRequest(windowId, tagsToAdd), SSM_CLIENT::addTagsToResource);
+    private CompletableFuture<RemoveTagsFromResourceResponse> removeTags(final String windowId,
+                                                                          final List<String> tagsToRemove,
+                                                                          final AmazonWebServicesClientProxy proxy) {
+        if (CollectionUtils.isNullOrEmpty(tagsToRemove)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return proxy.injectCredentialsAndInvokeV2Async(TagUtil.buildRemoveTagsFromResourceRequest(windowId, tagsToRemove),
+                SSM_ASYNC_CLIENT::removeTagsFromResource);
+    }
+
+    private CompletableFuture<AddTagsToResourceResponse> addTags(final String windowId,
+                                                                 final List<software.amazon.awssdk.services.ssm.model.Tag> tagsToAdd,
+                                                                 final AmazonWebServicesClientProxy proxy) {
+        if (CollectionUtils.isNullOrEmpty(tagsToAdd)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return proxy.injectCredentialsAndInvokeV2Async(TagUtil.buildAddTagsToResourceRequest(windowId, tagsToAdd),
+                SSM_ASYNC_CLIENT::addTagsToResource);
     }
 }
@@ -2,8 +2,11 @@ package software.amazon.ssm.maintenancewindow.util;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientBuilder {
@@ -15,6 +18,27 @@ public class ClientBuilder {
     public static SsmClient getClient() {
         return SsmClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Returns the SsmAsyncClient shared by every handler in this container, for handlers that run independent calls
+     * concurrently. Built on first use with the same configuration overrides as {@link #getClient()}.
+     *
+     * @return Configured SsmAsyncClient.
+     */
+    public static SsmAsyncClient getAsyncClient() {
+        return AsyncClientHolder.CLIENT;
+    }
+
+    private static class AsyncClientHolder {
+        private static final SsmAsyncClient CLIENT = SsmAsyncClient.builder()
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
+                        .build())
                 .build();
     }
 }
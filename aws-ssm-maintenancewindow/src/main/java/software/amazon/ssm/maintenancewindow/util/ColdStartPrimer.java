@@ -0,0 +1,103 @@
+package software.amazon.ssm.maintenancewindow.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowRequest;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowResponse;
+import software.amazon.ssm.maintenancewindow.CreateHandler;
+import software.amazon.ssm.maintenancewindow.DeleteHandler;
+import software.amazon.ssm.maintenancewindow.ListHandler;
+import software.amazon.ssm.maintenancewindow.ReadHandler;
+import software.amazon.ssm.maintenancewindow.UpdateHandler;
+import software.amazon.ssm.maintenancewindow.ResourceModel;
+import software.amazon.ssm.maintenancewindow.translator.request.CreateMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindow.translator.request.UpdateMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindow.translator.resourcemodel.GetMaintenanceWindowTranslator;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Primes a fresh container before its first invocation. Building the SSM clients of the handlers, running a
+ * synthetic request through the SDK marshallers and signer against an in-process stub and running the translators
+ * once moves class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_WINDOW_ID = "mw-00000000000000000";
+
+    private static final List<Class<?>> HANDLERS = Arrays.asList(
+            CreateHandler.class, ReadHandler.class, UpdateHandler.class, DeleteHandler.class, ListHandler.class);
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ColdStartPriming.initialize(HANDLERS);
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.createMaintenanceWindow(new CreateMaintenanceWindowTranslator()
+                .resourceModelToRequest(sampleModel(), Collections.emptyMap(), Collections.emptyMap()));
+        stubClient.getMaintenanceWindow(GetMaintenanceWindowRequest.builder()
+                .windowId(SAMPLE_WINDOW_ID)
+                .build());
+    }
+
+    private static void primeTranslators() {
+        new UpdateMaintenanceWindowTranslator().resourceModelToRequest(sampleModel());
+        new GetMaintenanceWindowTranslator().getMaintenanceWindowResponseToResourceModel(GetMaintenanceWindowResponse.builder()
+                .windowId(SAMPLE_WINDOW_ID)
+                .name("priming")
+                .schedule("rate(7 days)")
+                .duration(2)
+                .cutoff(1)
+                .allowUnassociatedTargets(false)
+                .build());
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .windowId(SAMPLE_WINDOW_ID)
+                .name("priming")
+                .schedule("rate(7 days)")
+                .duration(2)
+                .cutoff(1)
+                .allowUnassociatedTargets(false)
+                .build();
+    }
+}
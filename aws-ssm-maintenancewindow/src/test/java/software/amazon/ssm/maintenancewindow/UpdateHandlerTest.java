@@ -2,9 +2,13 @@ package software.amazon.ssm.maintenancewindow;
 
 import org.junit.jupiter.api.Assertions;
 import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.ssm.model.AddTagsToResourceResponse;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceResponse;
 import software.amazon.awssdk.services.ssm.model.TooManyUpdatesException;
 import software.amazon.awssdk.services.ssm.model.UpdateMaintenanceWindowRequest;
@@ -26,9 +30,14 @@ import software.amazon.ssm.maintenancewindow.translator.resourcemodel.UpdateMain
 import software.amazon.ssm.maintenancewindow.translator.request.UpdateMaintenanceWindowTranslator;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -41,6 +50,7 @@ import static software.amazon.ssm.maintenancewindow.TestConstants.RESOURCE_TYPE;
 import static software.amazon.ssm.maintenancewindow.TestConstants.SERVICE_MODEL_TAG_WITHOUT_RESOURCE_TAGS;
 import static software.amazon.ssm.maintenancewindow.TestConstants.SERVICE_MODEL_TAG_WITH_RESOURCE_TAGS;
 import static software.amazon.ssm.maintenancewindow.TestConstants.SYSTEM_TAGS;
+import static software.amazon.ssm.maintenancewindow.TestConstants.TAGS_TO_REMOVE;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -121,16 +131,16 @@ public class UpdateHandlerTest {
                 .thenReturn(desiredModel);
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedUpdateMaintenanceWindowRequest),
-                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, UpdateMaintenanceWindowResponse>>any()))
-                .thenReturn(result);
+                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, CompletableFuture<UpdateMaintenanceWindowResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(result));
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedListTagsForResourceRequest),
-                        ArgumentMatchers.<Function<ListTagsForResourceRequest, ListTagsForResourceResponse>>any()))
-                .thenReturn(listTagsForResourceResponse);
+                        ArgumentMatchers.<Function<ListTagsForResourceRequest, CompletableFuture<ListTagsForResourceResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(listTagsForResourceResponse));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -189,16 +199,22 @@ public class UpdateHandlerTest {
                 .thenReturn(desiredModel);
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedUpdateMaintenanceWindowRequest),
-                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, UpdateMaintenanceWindowResponse>>any()))
-                .thenReturn(result);
+                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, CompletableFuture<UpdateMaintenanceWindowResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(result));
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedListTagsForResourceRequest),
-                        ArgumentMatchers.<Function<ListTagsForResourceRequest, ListTagsForResourceResponse>>any()))
-                .thenReturn(listTagsForResourceResponse);
+                        ArgumentMatchers.<Function<ListTagsForResourceRequest, CompletableFuture<ListTagsForResourceResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(listTagsForResourceResponse));
+
+        when(
+                proxy.injectCredentialsAndInvokeV2Async(
+                        any(RemoveTagsFromResourceRequest.class),
+                        ArgumentMatchers.<Function<RemoveTagsFromResourceRequest, CompletableFuture<RemoveTagsFromResourceResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(RemoveTagsFromResourceResponse.builder().build()));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -207,6 +223,12 @@ public class UpdateHandlerTest {
                 ProgressEvent.defaultSuccessHandler(desiredModel);
 
         assertThat(response).isEqualTo(expectedProgressEvent);
+        // Tags are diffed as sets, so only the removed keys are pinned and not their order
+        verify(proxy).injectCredentialsAndInvokeV2Async(
+                argThat((AwsRequest awsRequest) -> awsRequest instanceof RemoveTagsFromResourceRequest
+                        && WINDOW_ID.equals(((RemoveTagsFromResourceRequest) awsRequest).resourceId())
+                        && new HashSet<>(((RemoveTagsFromResourceRequest) awsRequest).tagKeys()).equals(new HashSet<>(TAGS_TO_REMOVE))),
+                ArgumentMatchers.<Function<AwsRequest, CompletableFuture<AwsResponse>>>any());
         verifyZeroInteractions(exceptionTranslator);
     }
 
@@ -257,16 +279,22 @@ public class UpdateHandlerTest {
                 .thenReturn(desiredModel);
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedUpdateMaintenanceWindowRequest),
-                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, UpdateMaintenanceWindowResponse>>any()))
-                .thenReturn(result);
+                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, CompletableFuture<UpdateMaintenanceWindowResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(result));
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedListTagsForResourceRequest),
-                        ArgumentMatchers.<Function<ListTagsForResourceRequest, ListTagsForResourceResponse>>any()))
-                .thenReturn(listTagsForResourceResponse);
+                        ArgumentMatchers.<Function<ListTagsForResourceRequest, CompletableFuture<ListTagsForResourceResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(listTagsForResourceResponse));
+
+        when(
+                proxy.injectCredentialsAndInvokeV2Async(
+                        any(AddTagsToResourceRequest.class),
+                        ArgumentMatchers.<Function<AddTagsToResourceRequest, CompletableFuture<AddTagsToResourceResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(AddTagsToResourceResponse.builder().build()));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -275,6 +303,13 @@ public class UpdateHandlerTest {
                 ProgressEvent.defaultSuccessHandler(desiredModel);
 
         assertThat(response).isEqualTo(expectedProgressEvent);
+        verify(proxy).injectCredentialsAndInvokeV2Async(
+                argThat((AwsRequest awsRequest) -> awsRequest instanceof AddTagsToResourceRequest
+                        && WINDOW_ID.equals(((AddTagsToResourceRequest) awsRequest).resourceId())
+                        && ((AddTagsToResourceRequest) awsRequest).tags().stream()
+                        .collect(Collectors.toMap(tag -> tag.key(), tag -> tag.value()))
+                        .equals(RESOURCE_TAGS)),
+                ArgumentMatchers.<Function<AwsRequest, CompletableFuture<AwsResponse>>>any());
         verifyZeroInteractions(exceptionTranslator);
     }
 
@@ -339,10 +374,10 @@ public class UpdateHandlerTest {
         final TooManyUpdatesException serviceException = TooManyUpdatesException.builder().build();
 
         when(
-                proxy.injectCredentialsAndInvokeV2(
+                proxy.injectCredentialsAndInvokeV2Async(
                         eq(expectedUpdateMaintenanceWindowRequest),
-                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, UpdateMaintenanceWindowResponse>>any()))
-                .thenThrow(serviceException);
+                        ArgumentMatchers.<Function<UpdateMaintenanceWindowRequest, CompletableFuture<UpdateMaintenanceWindowResponse>>>any()))
+                .thenReturn(failedFuture(serviceException));
 
         when(
                 exceptionTranslator.translateFromServiceException(
@@ -359,4 +394,10 @@ public class UpdateHandlerTest {
                         serviceException,
                         expectedUpdateMaintenanceWindowRequest);
     }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable cause) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
 }
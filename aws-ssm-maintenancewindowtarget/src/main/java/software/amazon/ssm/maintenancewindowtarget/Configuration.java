@@ -1,7 +1,14 @@
 package software.amazon.ssm.maintenancewindowtarget;
 
+import software.amazon.ssm.maintenancewindowtarget.util.ColdStartPrimer;
+
 class Configuration extends BaseConfiguration {
 
+    static {
+        // Configuration is created while the container initializes, before the first invocation
+        ColdStartPrimer.primeOnInit();
+    }
+
     public Configuration() {
         super("aws-ssm-maintenancewindowtarget.json");
     }
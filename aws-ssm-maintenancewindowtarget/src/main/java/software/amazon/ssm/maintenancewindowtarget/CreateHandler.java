@@ -15,7 +15,7 @@ import software.amazon.ssm.maintenancewindowtarget.util.SsmClientBuilder;
 import software.amazon.ssm.maintenancewindowtarget.util.ResourceHandlerRequestToStringConverter;
 import software.amazon.ssm.maintenancewindowtarget.util.ResourceModelToStringConverter;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
 
@@ -45,7 +45,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
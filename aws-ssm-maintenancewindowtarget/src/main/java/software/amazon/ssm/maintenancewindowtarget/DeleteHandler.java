@@ -17,7 +17,7 @@ import software.amazon.ssm.maintenancewindowtarget.util.ResourceModelToStringCon
 
 import java.util.Optional;
 
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
     private final ExceptionTranslator exceptionTranslator;
@@ -41,7 +41,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -17,7 +17,7 @@ import software.amazon.ssm.maintenancewindowtarget.util.ResourceHandlerRequestTo
 import software.amazon.ssm.maintenancewindowtarget.util.ResourceModelToStringConverter;
 import software.amazon.ssm.maintenancewindowtarget.util.SsmClientBuilder;
 
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = SsmClientBuilder.getClient();
 
@@ -47,7 +47,7 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
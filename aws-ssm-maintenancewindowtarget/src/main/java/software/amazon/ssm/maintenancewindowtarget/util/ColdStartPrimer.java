@@ -0,0 +1,106 @@
+package software.amazon.ssm.maintenancewindowtarget.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeMaintenanceWindowTargetsResponse;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTarget;
+import software.amazon.ssm.maintenancewindowtarget.CreateHandler;
+import software.amazon.ssm.maintenancewindowtarget.DeleteHandler;
+import software.amazon.ssm.maintenancewindowtarget.ListHandler;
+import software.amazon.ssm.maintenancewindowtarget.ReadHandler;
+import software.amazon.ssm.maintenancewindowtarget.UpdateHandler;
+import software.amazon.ssm.maintenancewindowtarget.ResourceModel;
+import software.amazon.ssm.maintenancewindowtarget.Target;
+import software.amazon.ssm.maintenancewindowtarget.translator.request.GetMaintenanceWindowTargetTranslator;
+import software.amazon.ssm.maintenancewindowtarget.translator.request.RegisterTargetWithMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindowtarget.translator.request.UpdateMaintenanceWindowTargetTranslator;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Primes a fresh container before its first invocation. Building the SSM clients of the handlers, running a
+ * synthetic request through the SDK marshallers and signer against an in-process stub and running the translators
+ * once moves class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_WINDOW_ID = "mw-00000000000000000";
+    private static final String SAMPLE_WINDOW_TARGET_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String SAMPLE_INSTANCE_ID = "i-00000000000000000";
+
+    private static final List<Class<?>> HANDLERS = Arrays.asList(
+            CreateHandler.class, ReadHandler.class, UpdateHandler.class, DeleteHandler.class, ListHandler.class);
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ColdStartPriming.initialize(HANDLERS);
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.registerTargetWithMaintenanceWindow(
+                new RegisterTargetWithMaintenanceWindowTranslator().resourceModelToRequest(sampleModel()));
+        stubClient.describeMaintenanceWindowTargets(
+                new GetMaintenanceWindowTargetTranslator().resourceModelToRequest(sampleModel()));
+    }
+
+    private static void primeTranslators() {
+        new UpdateMaintenanceWindowTargetTranslator().resourceModelToRequest(sampleModel());
+        new GetMaintenanceWindowTargetTranslator().responseToResourceModel(DescribeMaintenanceWindowTargetsResponse.builder()
+                .targets(MaintenanceWindowTarget.builder()
+                        .windowId(SAMPLE_WINDOW_ID)
+                        .windowTargetId(SAMPLE_WINDOW_TARGET_ID)
+                        .resourceType("INSTANCE")
+                        .targets(software.amazon.awssdk.services.ssm.model.Target.builder()
+                                .key("InstanceIds")
+                                .values(SAMPLE_INSTANCE_ID)
+                                .build())
+                        .build())
+                .build());
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .windowId(SAMPLE_WINDOW_ID)
+                .windowTargetId(SAMPLE_WINDOW_TARGET_ID)
+                .resourceType("INSTANCE")
+                .targets(Collections.singletonList(new Target("InstanceIds", Collections.singletonList(SAMPLE_INSTANCE_ID))))
+                .build();
+    }
+}
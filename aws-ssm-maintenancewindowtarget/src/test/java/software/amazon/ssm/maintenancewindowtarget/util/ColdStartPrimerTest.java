@@ -0,0 +1,32 @@
+package software.amazon.ssm.maintenancewindowtarget.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColdStartPrimerTest {
+
+    private static final String REGION_PROPERTY = "aws.region";
+
+    @BeforeAll
+    public static void setup() {
+        // The clients of the handlers are built from the default region provider chain, the stub client does not need it
+        System.setProperty(REGION_PROPERTY, "us-east-1");
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        System.clearProperty(REGION_PROPERTY);
+    }
+
+    @Test
+    public void primeRunsWithoutReachingTheService() {
+        final Duration elapsed = ColdStartPrimer.prime();
+
+        assertThat(elapsed).isGreaterThan(Duration.ZERO);
+    }
+}
@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.ssm.model.RegisterTaskWithMaintenanceWind
 import software.amazon.awssdk.services.ssm.model.RegisterTaskWithMaintenanceWindowResponse;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -12,21 +13,28 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.ssm.maintenancewindowtask.translator.ExceptionTranslator;
 import software.amazon.ssm.maintenancewindowtask.translator.request.RegisterTaskWithMaintenanceWindowTranslator;
 import software.amazon.ssm.maintenancewindowtask.util.ClientBuilder;
+import software.amazon.ssm.maintenancewindowtask.util.CreateReplayCache;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceHandlerRequestToStringConverter;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceModelToStringConverter;
 
+import java.util.Optional;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+
+public class CreateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
     private final RegisterTaskWithMaintenanceWindowTranslator registerTaskWithMaintenanceWindowTranslator;
     private final ExceptionTranslator exceptionTranslator;
     private final ResourceHandlerRequestToStringConverter requestToStringConverter;
+    private final CreateReplayCache createReplayCache;
+    private final BaseHandler<CallbackContext> readHandler;
 
     CreateHandler() {
         this.registerTaskWithMaintenanceWindowTranslator = new RegisterTaskWithMaintenanceWindowTranslator();
         this.exceptionTranslator = new ExceptionTranslator();
         requestToStringConverter = new ResourceHandlerRequestToStringConverter(new ResourceModelToStringConverter());
+        this.createReplayCache = CreateReplayCache.getInstance();
+        this.readHandler = new ReadHandler();
     }
 
     /**
@@ -39,13 +47,33 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     CreateHandler(final RegisterTaskWithMaintenanceWindowTranslator registerTaskWithMaintenanceWindowTranslator,
                   final ExceptionTranslator exceptionTranslator,
                   final ResourceHandlerRequestToStringConverter requestToStringConverter) {
+        this(registerTaskWithMaintenanceWindowTranslator, exceptionTranslator, requestToStringConverter,
+                new CreateReplayCache(), new ReadHandler());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param registerTaskWithMaintenanceWindowTranslator Translates ResourceModel objects into RegisterTaskWithMaintenanceWindow requests.
+     * @param exceptionTranslator Used for translating service model exceptions.
+     * @param requestToStringConverter ResourceHandlerRequestToStringConverter used to convert requests to Strings.
+     * @param createReplayCache Remembers the window task created for each client request token.
+     * @param readHandler Reads the window task when a create is replayed.
+     */
+    CreateHandler(final RegisterTaskWithMaintenanceWindowTranslator registerTaskWithMaintenanceWindowTranslator,
+                  final ExceptionTranslator exceptionTranslator,
+                  final ResourceHandlerRequestToStringConverter requestToStringConverter,
+                  final CreateReplayCache createReplayCache,
+                  final BaseHandler<CallbackContext> readHandler) {
         this.registerTaskWithMaintenanceWindowTranslator = registerTaskWithMaintenanceWindowTranslator;
         this.exceptionTranslator = exceptionTranslator;
         this.requestToStringConverter = requestToStringConverter;
+        this.createReplayCache = createReplayCache;
+        this.readHandler = readHandler;
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -57,12 +85,27 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
         final ResourceModel model = request.getDesiredResourceState();
 
+        // CloudFormation retries a timed out create with the same token, read the task it already registered
+        final Optional<String> createdWindowTaskId = createReplayCache.get(request.getClientRequestToken());
+        if (createdWindowTaskId.isPresent()) {
+            model.setWindowTaskId(createdWindowTaskId.get());
+            try {
+                return readHandler.handleRequest(proxy, request, callbackContext, logger);
+            } catch (CfnNotFoundException e) {
+                createReplayCache.invalidate(request.getClientRequestToken());
+                model.setWindowTaskId(null);
+            }
+        }
+
         final ProgressEvent<ResourceModel, CallbackContext> progressEvent = new ProgressEvent<>();
         progressEvent.setResourceModel(request.getPreviousResourceState());
         progressEvent.setStatus(OperationStatus.FAILED);
 
+        // The client token makes SSM return the same task when a retry lands on another container
         final RegisterTaskWithMaintenanceWindowRequest registerTaskWithMaintenanceWindowTaskRequest =
-                registerTaskWithMaintenanceWindowTranslator.resourceModelToRequest(model);
+                registerTaskWithMaintenanceWindowTranslator.resourceModelToRequest(model).toBuilder()
+                        .clientToken(request.getClientRequestToken())
+                        .build();
 
         final RegisterTaskWithMaintenanceWindowResponse response;
 
@@ -70,6 +113,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             response = proxy.injectCredentialsAndInvokeV2(registerTaskWithMaintenanceWindowTaskRequest, SSM_CLIENT::registerTaskWithMaintenanceWindow);
 
             model.setWindowTaskId(response.windowTaskId());
+            createReplayCache.put(request.getClientRequestToken(), response.windowTaskId());
 
             progressEvent.setStatus(OperationStatus.SUCCESS);
             progressEvent.setResourceModel(model);
@@ -16,7 +16,7 @@ import software.amazon.ssm.maintenancewindowtask.util.ClientBuilder;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceHandlerRequestToStringConverter;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceModelToStringConverter;
 
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
     private final DeregisterTaskFromMaintenanceWindowTranslator deregisterTaskFromMaintenanceWindowTranslator;
@@ -45,7 +45,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -17,7 +17,7 @@ import software.amazon.ssm.maintenancewindowtask.util.ClientBuilder;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceHandlerRequestToStringConverter;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceModelToStringConverter;
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient SSM_CLIENT = ClientBuilder.getClient();
 
@@ -46,7 +46,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
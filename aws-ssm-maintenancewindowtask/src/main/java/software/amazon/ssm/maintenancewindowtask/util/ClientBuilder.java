@@ -2,8 +2,10 @@ package software.amazon.ssm.maintenancewindowtask.util;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientBuilder {
@@ -11,6 +13,9 @@ public class ClientBuilder {
     public static SsmClient getClient() {
         return SsmClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
+                        .build())
                 .build();
     }
 }
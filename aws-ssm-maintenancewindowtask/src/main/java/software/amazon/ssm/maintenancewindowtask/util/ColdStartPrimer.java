@@ -0,0 +1,127 @@
+package software.amazon.ssm.maintenancewindowtask.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetMaintenanceWindowTaskResponse;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowRunCommandParameters;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTaskInvocationParameters;
+import software.amazon.awssdk.services.ssm.model.MaintenanceWindowTaskType;
+import software.amazon.ssm.maintenancewindowtask.CreateHandler;
+import software.amazon.ssm.maintenancewindowtask.DeleteHandler;
+import software.amazon.ssm.maintenancewindowtask.ListHandler;
+import software.amazon.ssm.maintenancewindowtask.ReadHandler;
+import software.amazon.ssm.maintenancewindowtask.UpdateHandler;
+import software.amazon.ssm.maintenancewindowtask.ResourceModel;
+import software.amazon.ssm.maintenancewindowtask.Target;
+import software.amazon.ssm.maintenancewindowtask.TaskInvocationParameters;
+import software.amazon.ssm.maintenancewindowtask.translator.request.GetMaintenanceWindowTaskTranslator;
+import software.amazon.ssm.maintenancewindowtask.translator.request.RegisterTaskWithMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindowtask.translator.request.UpdateMaintenanceWindowTaskTranslator;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Primes a fresh container before its first invocation. Building the SSM clients of the handlers, running a
+ * synthetic request through the SDK marshallers and signer against an in-process stub and running the translators
+ * once moves class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_WINDOW_ID = "mw-00000000000000000";
+    private static final String SAMPLE_WINDOW_TASK_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String SAMPLE_WINDOW_TARGET_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String SAMPLE_TASK_ARN = "AWS-RunShellScript";
+
+    private static final List<Class<?>> HANDLERS = Arrays.asList(
+            CreateHandler.class, ReadHandler.class, UpdateHandler.class, DeleteHandler.class, ListHandler.class);
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ColdStartPriming.initialize(HANDLERS);
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.registerTaskWithMaintenanceWindow(
+                new RegisterTaskWithMaintenanceWindowTranslator().resourceModelToRequest(sampleModel()));
+        stubClient.getMaintenanceWindowTask(new GetMaintenanceWindowTaskTranslator().resourceModelToRequest(sampleModel()));
+    }
+
+    private static void primeTranslators() {
+        new UpdateMaintenanceWindowTaskTranslator().resourceModelToRequest(sampleModel());
+        new GetMaintenanceWindowTaskTranslator().responseToResourceModel(GetMaintenanceWindowTaskResponse.builder()
+                .windowId(SAMPLE_WINDOW_ID)
+                .windowTaskId(SAMPLE_WINDOW_TASK_ID)
+                .taskArn(SAMPLE_TASK_ARN)
+                .taskType(MaintenanceWindowTaskType.RUN_COMMAND)
+                .priority(1)
+                .targets(software.amazon.awssdk.services.ssm.model.Target.builder()
+                        .key("WindowTargetIds")
+                        .values(SAMPLE_WINDOW_TARGET_ID)
+                        .build())
+                .taskInvocationParameters(MaintenanceWindowTaskInvocationParameters.builder()
+                        .runCommand(MaintenanceWindowRunCommandParameters.builder()
+                                .comment("priming")
+                                .timeoutSeconds(600)
+                                .build())
+                        .build())
+                .build());
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .windowId(SAMPLE_WINDOW_ID)
+                .windowTaskId(SAMPLE_WINDOW_TASK_ID)
+                .taskArn(SAMPLE_TASK_ARN)
+                .taskType(MaintenanceWindowTaskType.RUN_COMMAND.toString())
+                .priority(1)
+                .targets(Collections.singletonList(Target.builder()
+                        .key("WindowTargetIds")
+                        .values(Collections.singletonList(SAMPLE_WINDOW_TARGET_ID))
+                        .build()))
+                .taskInvocationParameters(TaskInvocationParameters.builder()
+                        .maintenanceWindowRunCommandParameters(
+                                software.amazon.ssm.maintenancewindowtask.MaintenanceWindowRunCommandParameters.builder()
+                                        .comment("priming")
+                                        .timeoutSeconds(600)
+                                        .build())
+                        .build())
+                .build();
+    }
+}
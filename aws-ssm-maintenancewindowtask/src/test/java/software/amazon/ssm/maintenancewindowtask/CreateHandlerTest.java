@@ -23,6 +23,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.ssm.maintenancewindowtask.translator.ExceptionTranslator;
 import software.amazon.ssm.maintenancewindowtask.translator.request.RegisterTaskWithMaintenanceWindowTranslator;
+import software.amazon.ssm.maintenancewindowtask.util.CreateReplayCache;
 import software.amazon.ssm.maintenancewindowtask.util.ResourceHandlerRequestToStringConverter;
 
 import java.util.function.Function;
@@ -52,6 +53,8 @@ import static software.amazon.ssm.maintenancewindowtask.TestConstants.WINDOW_TAS
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest {
 
+    private static final String CLIENT_REQUEST_TOKEN = "FakeClientRequestToken";
+
     private static final ResourceModel model = ResourceModel.builder()
             .windowId(WINDOW_ID)
             .taskArn(LAMBDA_TASK_ARN)
@@ -231,4 +234,54 @@ public class CreateHandlerTest {
         verify(exceptionTranslator)
                 .translateFromServiceException(resourceLimitExceededException, registerTaskWithMaintenanceWindowRequest, request.getDesiredResourceState());
     }
+
+    @Test
+    public void handleCreateRequestRemembersWindowTaskForClientRequestToken() {
+        final CreateReplayCache createReplayCache = new CreateReplayCache();
+        final BaseHandler<CallbackContext> readHandler = mock(ReadHandler.class);
+        handler = new CreateHandler(registerTaskWithMaintenanceWindowTranslator, exceptionTranslator,
+                requestToStringConverter, createReplayCache, readHandler);
+        final ResourceHandlerRequest<ResourceModel> tokenRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().windowId(WINDOW_ID).taskArn(LAMBDA_TASK_ARN).build())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        when(registerTaskWithMaintenanceWindowTranslator.resourceModelToRequest(tokenRequest.getDesiredResourceState()))
+                .thenReturn(registerTaskWithMaintenanceWindowRequest);
+        when(
+                proxy.injectCredentialsAndInvokeV2(
+                        eq(registerTaskWithMaintenanceWindowRequest.toBuilder().clientToken(CLIENT_REQUEST_TOKEN).build()),
+                        ArgumentMatchers.<Function<RegisterTaskWithMaintenanceWindowRequest, RegisterTaskWithMaintenanceWindowResponse>>any()))
+                .thenReturn(RegisterTaskWithMaintenanceWindowResponse.builder().windowTaskId(WINDOW_TASK_ID).build());
+
+        handler.handleRequest(proxy, tokenRequest, null, logger);
+
+        assertThat(createReplayCache.get(CLIENT_REQUEST_TOKEN)).contains(WINDOW_TASK_ID);
+        verifyZeroInteractions(readHandler);
+    }
+
+    @Test
+    public void handleReplayedCreateRequestReadsRegisteredWindowTask() {
+        final CreateReplayCache createReplayCache = new CreateReplayCache();
+        final BaseHandler<CallbackContext> readHandler = mock(ReadHandler.class);
+        handler = new CreateHandler(registerTaskWithMaintenanceWindowTranslator, exceptionTranslator,
+                requestToStringConverter, createReplayCache, readHandler);
+        final ResourceHandlerRequest<ResourceModel> tokenRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().windowId(WINDOW_ID).taskArn(LAMBDA_TASK_ARN).build())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+        createReplayCache.put(CLIENT_REQUEST_TOKEN, WINDOW_TASK_ID);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readEvent =
+                ProgressEvent.defaultSuccessHandler(tokenRequest.getDesiredResourceState());
+        when(readHandler.handleRequest(proxy, tokenRequest, null, logger)).thenReturn(readEvent);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, tokenRequest, null, logger);
+
+        assertThat(response).isSameAs(readEvent);
+        assertEquals(tokenRequest.getDesiredResourceState().getWindowTaskId(), WINDOW_TASK_ID);
+        verifyZeroInteractions(proxy);
+        verifyZeroInteractions(registerTaskWithMaintenanceWindowTranslator);
+    }
 }
@@ -5,6 +5,11 @@ import java.util.stream.Collectors;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // Configuration is created while the container initializes, before the first invocation
+        ColdStartPrimer.primeOnInit();
+    }
+
     public Configuration() {
         super("aws-ssm-opsmetadata.json");
     }
@@ -3,4 +3,10 @@ package com.amazonaws.ssm.opsmetadata;
 public class Constants {
     public static final int ERROR_STATUS_CODE_400 = 400;
     public static final int ERROR_STATUS_CODE_500 = 500;
+    // UpdateOpsMetadata accepts at most 5 entries in MetadataToUpdate and 10 entries in KeysToDelete per call
+    public static final int MAX_METADATA_TO_UPDATE = 5;
+    public static final int MAX_KEYS_TO_DELETE = 10;
+    // GetOpsMetadata returns at most 10 metadata entries per page
+    public static final int GET_OPS_METADATA_MAX_RESULTS = 10;
+    public static final int EXISTENCE_PROBE_MAX_RESULTS = 1;
 }
@@ -0,0 +1,47 @@
+package com.amazonaws.ssm.opsmetadata;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.services.ssm.model.GetOpsMetadataResponse;
+import software.amazon.awssdk.services.ssm.model.MetadataValue;
+
+/**
+ * Assembles the metadata of an OpsMetadata object from consecutive GetOpsMetadata pages.
+ */
+public class MetadataPageAssembler {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<String, MetadataValue> metadata;
+    private String resourceId;
+    private int pageCount;
+
+    /**
+     * @param expectedKeyCount Number of keys expected in the assembled metadata, used to presize the map.
+     */
+    public MetadataPageAssembler(final int expectedKeyCount) {
+        this.metadata = new HashMap<>((int) (Math.max(expectedKeyCount, Constants.GET_OPS_METADATA_MAX_RESULTS) / LOAD_FACTOR) + 1);
+    }
+
+    public void addPage(final GetOpsMetadataResponse page) {
+        if (resourceId == null) {
+            resourceId = page.resourceId();
+        }
+        metadata.putAll(page.metadata());
+        pageCount++;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * @return A single response holding the metadata of every page added so far.
+     */
+    public GetOpsMetadataResponse assemble() {
+        return GetOpsMetadataResponse.builder()
+                .resourceId(resourceId)
+                .metadata(metadata)
+                .build();
+    }
+}
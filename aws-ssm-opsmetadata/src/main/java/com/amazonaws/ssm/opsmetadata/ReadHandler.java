@@ -1,6 +1,5 @@
 package com.amazonaws.ssm.opsmetadata;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -42,9 +41,12 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<SsmClient> proxyClient,
             final Logger logger) {
 
+        final Map<String, MetadataValue> knownMetadata = request.getDesiredResourceState().getMetadata();
+        final int expectedKeyCount = knownMetadata == null ? 0 : knownMetadata.size();
+
         return proxy.initiate("aws-ssm-opsmetadata::resource-read", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest((resourceModel) -> requestTranslator.getOpsMetadataRequest(resourceModel))
-                .makeServiceCall(this::ReadResource)
+                .makeServiceCall((getOpsMetadataRequest, client) -> ReadResource(getOpsMetadataRequest, client, expectedKeyCount))
                 .done((getOpsMetadataRequest, getOpsMetadataResponse, proxyInvocation, resourceModel, context) -> {
                     Optional<Map<String, MetadataValue>> metadataMap = metadataTranslator.serviceModelPropertyToResourceModel(
                             getOpsMetadataResponse.metadata());
@@ -59,8 +61,29 @@ public class ReadHandler extends BaseHandlerStd {
                 });
     }
 
+    /**
+     * Reads every page of the OpsMetadata object and returns them as a single response.
+     */
     private GetOpsMetadataResponse ReadResource(final GetOpsMetadataRequest getOpsMetadataRequest,
-                                                final ProxyClient<SsmClient> proxyClient) {
+                                                final ProxyClient<SsmClient> proxyClient,
+                                                final int expectedKeyCount) {
+        final MetadataPageAssembler assembler = new MetadataPageAssembler(expectedKeyCount);
+        String nextToken = null;
+        do {
+            final GetOpsMetadataRequest pageRequest = getOpsMetadataRequest.toBuilder()
+                    .maxResults(Constants.GET_OPS_METADATA_MAX_RESULTS)
+                    .nextToken(nextToken)
+                    .build();
+            final GetOpsMetadataResponse page = ReadPage(pageRequest, proxyClient);
+            assembler.addPage(page);
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+
+        return assembler.assemble();
+    }
+
+    private GetOpsMetadataResponse ReadPage(final GetOpsMetadataRequest getOpsMetadataRequest,
+                                            final ProxyClient<SsmClient> proxyClient) {
         try{
             return proxyClient.injectCredentialsAndInvokeV2(getOpsMetadataRequest, proxyClient.client()::getOpsMetadata);
         } catch (final OpsMetadataNotFoundException exception) {
@@ -5,6 +5,7 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 public class SSMClientBuilder {
     private static final RetryPolicy RETRY_POLICY =
@@ -13,14 +14,22 @@ public class SSMClientBuilder {
                     .retryCondition(RetryCondition.defaultRetryCondition())
                     .build();
     /**
-     * Builds and returns SsmClient with configuration overrides.
+     * Returns the SsmClient with configuration overrides shared by every handler invocation in this container, built
+     * on first use.
      *
      * @return Configured SsmClient.
      */
     public static SsmClient getClient() {
-        return SsmClient.builder()
+        return ClientHolder.CLIENT;
+    }
+
+    private static class ClientHolder {
+        private static final SsmClient CLIENT = SsmClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .overrideConfiguration(ClientOverrideConfiguration.builder().retryPolicy(RETRY_POLICY).build())
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RETRY_POLICY)
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
+                        .build())
                 .build();
     }
 }
@@ -64,15 +64,11 @@ public class UpdateHandler extends BaseHandlerStd {
                 // https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                 .then(progress ->
                         proxy.initiate("aws-ssm-opsmetadata::validate-resource-exists", proxyClient, model, callbackContext)
-                                .translateToServiceRequest((resourceModel) -> requestTranslator.getOpsMetadataRequest(resourceModel))
+                                .translateToServiceRequest((resourceModel) -> requestTranslator.getOpsMetadataExistenceProbeRequest(resourceModel))
                                 .makeServiceCall(this::validateResourceExists)
                                 .progress())
 
-                .then(progress ->
-                        proxy.initiate("aws-ssm-opsmetadata::resource-update", proxyClient, model, callbackContext)
-                                .translateToServiceRequest((resourceModel) -> requestTranslator.updateOpsMetadataRequest(resourceModel))
-                                .makeServiceCall(this::updateResource)
-                                .progress())
+                .then(progress -> handleMetadataUpdate(proxy, proxyClient, progress, request.getPreviousResourceState(), model, callbackContext))
                 .then(progress -> handleTagging(proxy, proxyClient, progress, model, request.getDesiredResourceTags(), request.getPreviousResourceTags()))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(
                         ResourceModel.builder()
@@ -81,6 +77,36 @@ public class UpdateHandler extends BaseHandlerStd {
                                 .build()));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> handleMetadataUpdate(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<SsmClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final ResourceModel previousModel,
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+
+        final List<UpdateOpsMetadataRequest> updateOpsMetadataRequests =
+                requestTranslator.updateOpsMetadataRequests(previousModel, model);
+        if (updateOpsMetadataRequests.isEmpty()) {
+            logger.log(String.format("Metadata of %s is unchanged, skipping %s", model.getOpsMetadataArn(), OPERATION));
+            return progress;
+        }
+
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (int index = 0; index < updateOpsMetadataRequests.size(); index++) {
+            final UpdateOpsMetadataRequest updateOpsMetadataRequest = updateOpsMetadataRequests.get(index);
+            final String callGraph = index == 0
+                    ? "aws-ssm-opsmetadata::resource-update"
+                    : "aws-ssm-opsmetadata::resource-update-" + index;
+            result = result.then(chunkProgress ->
+                    proxy.initiate(callGraph, proxyClient, model, callbackContext)
+                            .translateToServiceRequest((resourceModel) -> updateOpsMetadataRequest)
+                            .makeServiceCall(this::updateResource)
+                            .progress());
+        }
+        return result;
+    }
+
     private GetOpsMetadataResponse validateResourceExists(GetOpsMetadataRequest getOpsMetadataRequest,
                                                           ProxyClient<SsmClient> proxyClient) {
         GetOpsMetadataResponse getOpsMetadataResponse;
@@ -0,0 +1,89 @@
+package com.amazonaws.ssm.opsmetadata.translator.property;
+
+import com.amazonaws.ssm.opsmetadata.MetadataValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Difference between the previous and desired OpsMetadata of a resource model: the keys whose value was added or
+ * changed, and the keys that were removed.
+ */
+@lombok.Getter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class MetadataDelta {
+    private final Map<String, MetadataValue> metadataToUpdate;
+    private final List<String> keysToDelete;
+
+    private MetadataDelta(final Map<String, MetadataValue> metadataToUpdate, final List<String> keysToDelete) {
+        this.metadataToUpdate = metadataToUpdate;
+        this.keysToDelete = keysToDelete;
+    }
+
+    /**
+     * Computes the changes needed to go from the previous metadata to the desired metadata.
+     *
+     * @param previousMetadata Metadata of the previous resource model, null if there was none.
+     * @param desiredMetadata Metadata of the desired resource model, null if there is none.
+     * @return Keys to update with their new values, and keys to delete.
+     */
+    public static MetadataDelta between(final Map<String, MetadataValue> previousMetadata,
+                                        final Map<String, MetadataValue> desiredMetadata) {
+        final Map<String, MetadataValue> previous = previousMetadata == null ? Collections.emptyMap() : previousMetadata;
+        final Map<String, MetadataValue> desired = desiredMetadata == null ? Collections.emptyMap() : desiredMetadata;
+
+        final Map<String, MetadataValue> metadataToUpdate = new LinkedHashMap<>();
+        for (final Map.Entry<String, MetadataValue> entry : desired.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                metadataToUpdate.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        final List<String> keysToDelete = new ArrayList<>();
+        for (final String key : previous.keySet()) {
+            if (!desired.containsKey(key)) {
+                keysToDelete.add(key);
+            }
+        }
+
+        return new MetadataDelta(metadataToUpdate, keysToDelete);
+    }
+
+    public boolean isEmpty() {
+        return metadataToUpdate.isEmpty() && keysToDelete.isEmpty();
+    }
+
+    /**
+     * Splits the delta into chunks that each fit in a single UpdateOpsMetadata call.
+     *
+     * @param maxKeysToUpdate Maximum number of keys to update per chunk.
+     * @param maxKeysToDelete Maximum number of keys to delete per chunk.
+     * @return Chunks covering the whole delta, empty if there is nothing to change.
+     */
+    public List<MetadataDelta> partition(final int maxKeysToUpdate, final int maxKeysToDelete) {
+        final List<Map.Entry<String, MetadataValue>> updates = new ArrayList<>(metadataToUpdate.entrySet());
+        final int chunkCount = Math.max(
+                (updates.size() + maxKeysToUpdate - 1) / maxKeysToUpdate,
+                (keysToDelete.size() + maxKeysToDelete - 1) / maxKeysToDelete);
+
+        final List<MetadataDelta> chunks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final Map<String, MetadataValue> chunkUpdates = new LinkedHashMap<>();
+            for (final Map.Entry<String, MetadataValue> entry : updates.subList(
+                    Math.min(chunk * maxKeysToUpdate, updates.size()),
+                    Math.min((chunk + 1) * maxKeysToUpdate, updates.size()))) {
+                chunkUpdates.put(entry.getKey(), entry.getValue());
+            }
+            final List<String> chunkDeletes = new ArrayList<>(keysToDelete.subList(
+                    Math.min(chunk * maxKeysToDelete, keysToDelete.size()),
+                    Math.min((chunk + 1) * maxKeysToDelete, keysToDelete.size())));
+            chunks.add(new MetadataDelta(chunkUpdates, chunkDeletes));
+        }
+        return chunks;
+    }
+}
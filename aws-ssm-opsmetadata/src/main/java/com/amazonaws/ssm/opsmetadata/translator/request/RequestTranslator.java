@@ -1,6 +1,8 @@
 package com.amazonaws.ssm.opsmetadata.translator.request;
 
+import com.amazonaws.ssm.opsmetadata.Constants;
 import com.amazonaws.ssm.opsmetadata.ResourceModel;
+import com.amazonaws.ssm.opsmetadata.translator.property.MetadataDelta;
 import com.amazonaws.ssm.opsmetadata.translator.property.MetadataTranslator;
 import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.ssm.model.CreateOpsMetadataRequest;
@@ -12,6 +14,7 @@ import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
 import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.awssdk.services.ssm.model.UpdateOpsMetadataRequest;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -53,12 +56,52 @@ public class RequestTranslator {
         return updateOpsMetadataRequestBuilder.build();
     }
 
+    /**
+     * Builds the UpdateOpsMetadata calls that move the metadata from the previous to the desired resource model.
+     * Only changed keys are sent, removed keys are deleted, and the work is split to fit the API limits.
+     * Without a previous model the whole desired metadata is sent, as nothing is known about what is stored.
+     *
+     * @param previousModel Previous resource model, may be null.
+     * @param model Desired resource model.
+     * @return Update requests to send in order, empty if the metadata did not change.
+     */
+    public List<UpdateOpsMetadataRequest> updateOpsMetadataRequests(final ResourceModel previousModel,
+                                                                    final ResourceModel model) {
+        if (previousModel == null) {
+            return Collections.singletonList(updateOpsMetadataRequest(model));
+        }
+
+        final MetadataDelta delta = MetadataDelta.between(previousModel.getMetadata(), model.getMetadata());
+        final List<UpdateOpsMetadataRequest> requests = new ArrayList<>();
+        for (final MetadataDelta chunk : delta.partition(Constants.MAX_METADATA_TO_UPDATE, Constants.MAX_KEYS_TO_DELETE)) {
+            final UpdateOpsMetadataRequest.Builder updateOpsMetadataRequestBuilder = UpdateOpsMetadataRequest.builder()
+                    .opsMetadataArn(model.getOpsMetadataArn());
+            metadataTranslator.resourceModelPropertyToServiceModel(
+                    chunk.getMetadataToUpdate()).ifPresent(updateOpsMetadataRequestBuilder::metadataToUpdate);
+            if (!chunk.getKeysToDelete().isEmpty()) {
+                updateOpsMetadataRequestBuilder.keysToDelete(chunk.getKeysToDelete());
+            }
+            requests.add(updateOpsMetadataRequestBuilder.build());
+        }
+        return requests;
+    }
+
     public GetOpsMetadataRequest getOpsMetadataRequest(final ResourceModel model) {
         return GetOpsMetadataRequest.builder()
                 .opsMetadataArn(model.getOpsMetadataArn())
                 .build();
     }
 
+    /**
+     * Builds a GetOpsMetadata request that fetches a single metadata entry, to check that the object exists.
+     */
+    public GetOpsMetadataRequest getOpsMetadataExistenceProbeRequest(final ResourceModel model) {
+        return GetOpsMetadataRequest.builder()
+                .opsMetadataArn(model.getOpsMetadataArn())
+                .maxResults(Constants.EXISTENCE_PROBE_MAX_RESULTS)
+                .build();
+    }
+
     public DeleteOpsMetadataRequest deleteOpsMetadataRequest(final ResourceModel model) {
         return DeleteOpsMetadataRequest.builder()
                 .opsMetadataArn(model.getOpsMetadataArn())
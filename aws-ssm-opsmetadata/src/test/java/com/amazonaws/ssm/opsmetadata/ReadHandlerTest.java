@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -29,10 +30,12 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -128,6 +131,46 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxySsmClient.client()).getOpsMetadata(any(GetOpsMetadataRequest.class));
     }
 
+    @Test
+    public void handleRequest_MultiplePages() {
+        GetOpsMetadataRequest getOpsMetadataRequest = GetOpsMetadataRequest.builder().opsMetadataArn(OPSMETADATA_ARN).build();
+        when(requestTranslator.getOpsMetadataRequest(any(ResourceModel.class))).thenReturn(getOpsMetadataRequest);
+        when(metadataTranslator.serviceModelPropertyToResourceModel(metadata)).thenReturn(
+                Optional.of(resourceModelMetadata));
+
+        final GetOpsMetadataResponse firstPage = GetOpsMetadataResponse.builder()
+                .resourceId(RESOURCE_ID)
+                .metadata(Collections.singletonMap("some-key-1", metadata.get("some-key-1")))
+                .nextToken("next-token")
+                .build();
+        final GetOpsMetadataResponse secondPage = GetOpsMetadataResponse.builder()
+                .resourceId(RESOURCE_ID)
+                .metadata(Collections.singletonMap("some-key-2", metadata.get("some-key-2")))
+                .build();
+        when(proxySsmClient.client().getOpsMetadata(any(GetOpsMetadataRequest.class)))
+                .thenReturn(firstPage)
+                .thenReturn(secondPage);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .build())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(RESOURCE_ID).isEqualTo(response.getResourceModel().getResourceId());
+        assertThat(resourceModelMetadata).isEqualTo(response.getResourceModel().getMetadata());
+
+        final ArgumentCaptor<GetOpsMetadataRequest> requestCaptor = ArgumentCaptor.forClass(GetOpsMetadataRequest.class);
+        verify(proxySsmClient.client(), times(2)).getOpsMetadata(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(requestCaptor.getAllValues().get(1).nextToken()).isEqualTo("next-token");
+        assertThat(requestCaptor.getAllValues()).allSatisfy(pageRequest -> {
+            assertThat(pageRequest.opsMetadataArn()).isEqualTo(OPSMETADATA_ARN);
+            assertThat(pageRequest.maxResults()).isEqualTo(Constants.GET_OPS_METADATA_MAX_RESULTS);
+        });
+    }
+
     @Test
     public void handleRequest_SimpleSuccess_With_Empty_Metadata() {
         GetOpsMetadataRequest getOpsMetadataRequest = GetOpsMetadataRequest.builder().opsMetadataArn(OPSMETADATA_ARN).build();
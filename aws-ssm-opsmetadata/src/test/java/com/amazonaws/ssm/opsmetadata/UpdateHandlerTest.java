@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -37,11 +39,14 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
@@ -137,8 +142,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_SimpleSuccess_ParameterizedConstructor() {
         handler = new UpdateHandler(requestTranslator);
-        when(requestTranslator.getOpsMetadataRequest(any(ResourceModel.class))).thenReturn(GetOpsMetadataRequest.builder().build());
-        when(requestTranslator.updateOpsMetadataRequest(any(ResourceModel.class))).thenReturn(UpdateOpsMetadataRequest.builder().build());
+        when(requestTranslator.getOpsMetadataExistenceProbeRequest(any(ResourceModel.class))).thenReturn(GetOpsMetadataRequest.builder().build());
+        when(requestTranslator.updateOpsMetadataRequests(any(), any(ResourceModel.class)))
+                .thenReturn(Collections.singletonList(UpdateOpsMetadataRequest.builder().build()));
 
         when(proxySsmClient.client().getOpsMetadata(any(GetOpsMetadataRequest.class))).thenReturn(getOpsMetadataResponse);
         final UpdateOpsMetadataResponse updateOpsMetadataResponse = UpdateOpsMetadataResponse.builder()
@@ -240,6 +246,82 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(ssmClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_UnchangedMetadataSkipsUpdate() {
+        when(proxySsmClient.client().getOpsMetadata(any(GetOpsMetadataRequest.class))).thenReturn(getOpsMetadataResponse);
+        PREVIOUS_TAG_SET_NO_CHANGE.putAll(TAG_SET);
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .resourceId(RESOURCE_ID)
+                .opsMetadataArn(OPS_METADATA_ARN)
+                .metadata(new HashMap<>(metadata))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceTags(TAG_SET)
+                .systemTags(SYSTEM_TAGS_SET)
+                .desiredResourceState(RESOURCE_MODEL)
+                .previousResourceState(previousModel)
+                .previousResourceTags(PREVIOUS_TAG_SET_NO_CHANGE)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxySsmClient.client()).getOpsMetadata(any(GetOpsMetadataRequest.class));
+        verify(proxySsmClient.client(), never()).updateOpsMetadata(any(UpdateOpsMetadataRequest.class));
+        verify(ssmClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_MetadataDeltaWithDeletedKeys() {
+        when(proxySsmClient.client().getOpsMetadata(any(GetOpsMetadataRequest.class))).thenReturn(getOpsMetadataResponse);
+        PREVIOUS_TAG_SET_NO_CHANGE.putAll(TAG_SET);
+        final UpdateOpsMetadataResponse updateOpsMetadataResponse = UpdateOpsMetadataResponse.builder()
+                .opsMetadataArn(OPS_METADATA_ARN)
+                .build();
+        when(proxySsmClient.client().updateOpsMetadata(any(UpdateOpsMetadataRequest.class))).thenReturn(updateOpsMetadataResponse);
+
+        final Map<String, MetadataValue> previousMetadata = new HashMap<>();
+        previousMetadata.put("some-key-1", MetadataValue.builder().value("some-value-1").build());
+        previousMetadata.put("some-key-2", MetadataValue.builder().value("old-value-2").build());
+        for (int i = 0; i < 12; i++) {
+            previousMetadata.put("removed-key-" + i, MetadataValue.builder().value("removed-value").build());
+        }
+        final ResourceModel previousModel = ResourceModel.builder()
+                .resourceId(RESOURCE_ID)
+                .opsMetadataArn(OPS_METADATA_ARN)
+                .metadata(previousMetadata)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceTags(TAG_SET)
+                .systemTags(SYSTEM_TAGS_SET)
+                .desiredResourceState(RESOURCE_MODEL)
+                .previousResourceState(previousModel)
+                .previousResourceTags(PREVIOUS_TAG_SET_NO_CHANGE)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UpdateOpsMetadataRequest> captor = ArgumentCaptor.forClass(UpdateOpsMetadataRequest.class);
+        verify(proxySsmClient.client()).getOpsMetadata(any(GetOpsMetadataRequest.class));
+        verify(proxySsmClient.client(), times(2)).updateOpsMetadata(captor.capture());
+        final List<UpdateOpsMetadataRequest> updateRequests = captor.getAllValues();
+        assertThat(updateRequests.get(0).metadataToUpdate()).containsOnlyKeys("some-key-2");
+        assertThat(updateRequests.get(0).keysToDelete()).hasSize(10);
+        assertThat(updateRequests.get(1).metadataToUpdate()).isEmpty();
+        assertThat(updateRequests.get(1).keysToDelete()).hasSize(2);
+        verify(ssmClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     public void handleRequest_AmazonServiceException400ThrottlingException() {
         when(proxySsmClient.client().getOpsMetadata(any(GetOpsMetadataRequest.class))).thenReturn(getOpsMetadataResponse);
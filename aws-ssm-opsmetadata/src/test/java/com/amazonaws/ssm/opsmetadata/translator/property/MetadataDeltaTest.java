@@ -0,0 +1,86 @@
+package com.amazonaws.ssm.opsmetadata.translator.property;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.ssm.opsmetadata.MetadataValue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetadataDeltaTest {
+
+    @Test
+    void testBetweenNullMaps() {
+        final MetadataDelta delta = MetadataDelta.between(null, null);
+
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta.partition(5, 10)).isEmpty();
+    }
+
+    @Test
+    void testBetweenEqualMaps() {
+        final MetadataDelta delta = MetadataDelta.between(metadata("key-1", "value-1"), metadata("key-1", "value-1"));
+
+        assertThat(delta.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testBetweenChangedAddedAndRemovedKeys() {
+        final Map<String, MetadataValue> previous = metadata("changed", "old");
+        previous.put("unchanged", value("same"));
+        previous.put("removed", value("gone"));
+        final Map<String, MetadataValue> desired = metadata("changed", "new");
+        desired.put("unchanged", value("same"));
+        desired.put("added", value("fresh"));
+
+        final MetadataDelta delta = MetadataDelta.between(previous, desired);
+
+        assertThat(delta.isEmpty()).isFalse();
+        assertThat(delta.getMetadataToUpdate()).containsOnlyKeys("changed", "added");
+        assertThat(delta.getMetadataToUpdate().get("changed")).isEqualTo(value("new"));
+        assertThat(delta.getKeysToDelete()).containsExactly("removed");
+    }
+
+    @Test
+    void testPartition() {
+        final Map<String, MetadataValue> previous = new HashMap<>();
+        final Map<String, MetadataValue> desired = new HashMap<>();
+        for (int i = 0; i < 7; i++) {
+            desired.put("added-" + i, value("value-" + i));
+        }
+        for (int i = 0; i < 25; i++) {
+            previous.put("removed-" + i, value("value-" + i));
+        }
+
+        final List<MetadataDelta> chunks = MetadataDelta.between(previous, desired).partition(5, 10);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0).getMetadataToUpdate()).hasSize(5);
+        assertThat(chunks.get(0).getKeysToDelete()).hasSize(10);
+        assertThat(chunks.get(1).getMetadataToUpdate()).hasSize(2);
+        assertThat(chunks.get(1).getKeysToDelete()).hasSize(10);
+        assertThat(chunks.get(2).getMetadataToUpdate()).isEmpty();
+        assertThat(chunks.get(2).getKeysToDelete()).hasSize(5);
+    }
+
+    @Test
+    void testPartitionSingleChunk() {
+        final MetadataDelta delta = MetadataDelta.between(Collections.emptyMap(), metadata("key-1", "value-1"));
+
+        assertThat(delta.partition(5, 10)).containsExactly(delta);
+        assertThat(delta.getKeysToDelete()).isEmpty();
+    }
+
+    private static Map<String, MetadataValue> metadata(final String key, final String value) {
+        final Map<String, MetadataValue> metadata = new HashMap<>();
+        metadata.put(key, value(value));
+        return metadata;
+    }
+
+    private static MetadataValue value(final String value) {
+        return MetadataValue.builder().value(value).build();
+    }
+}
@@ -22,6 +22,7 @@ import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.awssdk.services.ssm.model.UpdateOpsMetadataRequest;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -126,6 +127,86 @@ public class RequestTranslatorTest {
         assertThat(request).isEqualTo(expectedRequest);
     }
 
+    @Test
+    void testUpdateOpsMetadataRequestsWithoutPreviousModel() {
+        final ResourceModel resourceModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadata(resourceModelMetadata)
+                .build();
+        when(metadataTranslator.resourceModelPropertyToServiceModel(eq(resourceModelMetadata)))
+                .thenReturn(Optional.of(serviceModelMetadata));
+        List<UpdateOpsMetadataRequest> requests = requestTranslator.updateOpsMetadataRequests(null, resourceModel);
+        UpdateOpsMetadataRequest expectedRequest = UpdateOpsMetadataRequest.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadataToUpdate(serviceModelMetadata)
+                .build();
+        assertThat(requests).containsExactly(expectedRequest);
+    }
+
+    @Test
+    void testUpdateOpsMetadataRequestsWithUnchangedMetadata() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadata(new HashMap<>(resourceModelMetadata))
+                .build();
+        final ResourceModel resourceModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadata(resourceModelMetadata)
+                .build();
+        assertThat(requestTranslator.updateOpsMetadataRequests(previousModel, resourceModel)).isEmpty();
+    }
+
+    @Test
+    void testUpdateOpsMetadataRequestsWithDelta() {
+        final RequestTranslator translator = new RequestTranslator();
+        final Map<String, com.amazonaws.ssm.opsmetadata.MetadataValue> previousMetadata = new HashMap<>(resourceModelMetadata);
+        previousMetadata.put("some-key-1", com.amazonaws.ssm.opsmetadata.MetadataValue.builder().value("old-value-1").build());
+        previousMetadata.put("some-key-3", com.amazonaws.ssm.opsmetadata.MetadataValue.builder().value("some-value-3").build());
+        final ResourceModel previousModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadata(previousMetadata)
+                .build();
+        final ResourceModel resourceModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadata(resourceModelMetadata)
+                .build();
+
+        List<UpdateOpsMetadataRequest> requests = translator.updateOpsMetadataRequests(previousModel, resourceModel);
+
+        UpdateOpsMetadataRequest expectedRequest = UpdateOpsMetadataRequest.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadataToUpdate(Collections.singletonMap("some-key-1", MetadataValue.builder().value("some-value-1").build()))
+                .keysToDelete("some-key-3")
+                .build();
+        assertThat(requests).containsExactly(expectedRequest);
+    }
+
+    @Test
+    void testUpdateOpsMetadataRequestsSplitToApiLimits() {
+        final RequestTranslator translator = new RequestTranslator();
+        final Map<String, com.amazonaws.ssm.opsmetadata.MetadataValue> desiredMetadata = new HashMap<>();
+        for (int i = 0; i < 12; i++) {
+            desiredMetadata.put("key-" + i, com.amazonaws.ssm.opsmetadata.MetadataValue.builder().value("value-" + i).build());
+        }
+        final ResourceModel previousModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .build();
+        final ResourceModel resourceModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .metadata(desiredMetadata)
+                .build();
+
+        List<UpdateOpsMetadataRequest> requests = translator.updateOpsMetadataRequests(previousModel, resourceModel);
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.stream().mapToInt(request -> request.metadataToUpdate().size()).sum()).isEqualTo(12);
+        requests.forEach(request -> {
+            assertThat(request.opsMetadataArn()).isEqualTo(OPSMETADATA_ARN);
+            assertThat(request.metadataToUpdate().size()).isLessThanOrEqualTo(5);
+            assertThat(request.keysToDelete()).isEmpty();
+        });
+    }
+
     @Test
     void testGetOpsMetadataRequestWithAllInputFields() {
         final ResourceModel resourceModel = ResourceModel.builder()
@@ -138,6 +219,19 @@ public class RequestTranslatorTest {
         assertThat(request).isEqualTo(expectedRequest);
     }
 
+    @Test
+    void testGetOpsMetadataExistenceProbeRequest() {
+        final ResourceModel resourceModel = ResourceModel.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .build();
+        GetOpsMetadataRequest request = requestTranslator.getOpsMetadataExistenceProbeRequest(resourceModel);
+        GetOpsMetadataRequest expectedRequest = GetOpsMetadataRequest.builder()
+                .opsMetadataArn(OPSMETADATA_ARN)
+                .maxResults(1)
+                .build();
+        assertThat(request).isEqualTo(expectedRequest);
+    }
+
     @Test
     void testDeleteOpsMetadataRequestWithAllInputFields() {
         final ResourceModel resourceModel = ResourceModel.builder()
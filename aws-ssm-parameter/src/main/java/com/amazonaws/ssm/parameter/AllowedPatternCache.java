@@ -0,0 +1,69 @@
+package com.amazonaws.ssm.parameter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Container-local LRU cache of compiled AllowedPattern regular expressions. The same few patterns are used by every
+ * parameter of a stack, so they are compiled once per container instead of once per request.
+ */
+public class AllowedPatternCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    private static final AllowedPatternCache INSTANCE = new AllowedPatternCache();
+
+    private final Map<String, Optional<Pattern>> patterns;
+
+    public AllowedPatternCache() {
+        this(MAX_ENTRIES);
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param maxEntries how many compiled patterns are kept
+     */
+    AllowedPatternCache(final int maxEntries) {
+        this.patterns = Collections.synchronizedMap(new LinkedHashMap<String, Optional<Pattern>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Optional<Pattern>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @return the cache shared by all handlers running in this container
+     */
+    public static AllowedPatternCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param allowedPattern AllowedPattern of a parameter
+     * @return the compiled pattern, or Optional.empty() when Java cannot compile it. SSM has the final word on such
+     * patterns, so they are not used to reject values locally.
+     */
+    public Optional<Pattern> get(final String allowedPattern) {
+        return patterns.computeIfAbsent(allowedPattern, AllowedPatternCache::compile);
+    }
+
+    int size() {
+        return patterns.size();
+    }
+
+    private static Optional<Pattern> compile(final String allowedPattern) {
+        try {
+            return Optional.of(Pattern.compile(allowedPattern));
+        } catch (final PatternSyntaxException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.ssm.common.metrics.ApiCallMetrics;
 
 import java.time.Duration;
 import java.util.Set;
@@ -27,12 +28,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                        final ResourceHandlerRequest<ResourceModel> request,
                                                                        final CallbackContext callbackContext,
                                                                        final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(SSMClientBuilder::getClient),
-                logger);
+        ColdStartPrimer.report(logger);
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    proxy.newProxy(SSMClientBuilder::getClient),
+                    logger);
+        } finally {
+            ApiCallMetrics.publish(ResourceModel.TYPE_NAME, getAction(), logger::log);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -42,6 +48,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             ProxyClient<SsmClient> client,
             Logger logger);
 
+    /**
+     * @return the action of this handler as reported in the API call metrics, e.g. Create for the CreateHandler
+     */
+    protected String getAction() {
+        return getClass().getSimpleName().replaceFirst("Handler$", "");
+    }
+
     protected Constant getBackOffDelay(final ResourceModel model) {
         if(model.getDataType() != null && model.getDataType() == Constants.AWS_EC2_IMAGE_DATATYPE) {
             return Constant.of()
@@ -0,0 +1,75 @@
+package com.amazonaws.ssm.parameter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Primes a fresh container before its first invocation. Building the shared SsmClient, running a synthetic
+ * request through the SDK marshallers and signer against an in-process stub and running the translators once moves
+ * class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_PARAMETER_NAME = "/cfn/priming";
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            SSMClientBuilder.getClient();
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.putParameter(Translator.createPutParameterRequest(sampleModel(), Collections.singletonMap("priming", "priming")));
+        stubClient.getParameters(Translator.getParametersRequest(sampleModel()));
+    }
+
+    private static void primeTranslators() {
+        Translator.updatePutParameterRequest(sampleModel());
+        Translator.describeParametersRequest(sampleModel(), null);
+        Translator.deleteParameterRequest(sampleModel());
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .name(SAMPLE_PARAMETER_NAME)
+                .type("String")
+                .value("priming")
+                .build();
+    }
+}
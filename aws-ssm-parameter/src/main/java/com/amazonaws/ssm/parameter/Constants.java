@@ -13,5 +13,12 @@ public class Constants {
     public static final int ERROR_STATUS_CODE_500 = 500;
 
     public static final Integer MAX_RESULTS = 50;
+    public static final Integer MAX_PARAMETERS_BY_PATH_RESULTS = 10;
     public static final String AWS_EC2_IMAGE_DATATYPE = "aws:ec2:image";
+
+    // DeleteParameters accepts at most 10 names per call
+    public static final int DELETE_PARAMETERS_BATCH_SIZE = 10;
+    public static final String STACK_ID_TAG_KEY = "aws:cloudformation:stack-id";
+    // Tag keys with this prefix are reserved and cannot be added through AddTagsToResource
+    public static final String SYSTEM_TAG_PREFIX = "aws:";
 }
@@ -12,6 +12,7 @@ import software.amazon.awssdk.services.ssm.model.ParameterType;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.exceptions.TerminalException;
@@ -24,11 +25,23 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 
 public class CreateHandler extends BaseHandlerStd {
     private static final String OPERATION = "PutParameter";
     private static final String RETRY_MESSAGE = "Detected retryable error, retrying. Exception message: %s";
+
+    private final CreateReplayCache createReplayCache;
+
+    public CreateHandler() {
+        this(CreateReplayCache.getInstance());
+    }
+
+    CreateHandler(final CreateReplayCache createReplayCache) {
+        this.createReplayCache = createReplayCache;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -53,6 +66,19 @@ public class CreateHandler extends BaseHandlerStd {
                     HandlerErrorCode.InvalidRequest);
         }
 
+        // CloudFormation retries a timed out create with the same token, read the parameter it already created
+        final Optional<String> createdName = createReplayCache.get(request.getClientRequestToken());
+        if (createdName.isPresent()) {
+            logger.log(String.format("Parameter %s was already created for clientRequestToken %s",
+                    createdName.get(), request.getClientRequestToken()));
+            model.setName(createdName.get());
+            try {
+                return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            } catch (final CfnNotFoundException exception) {
+                createReplayCache.invalidate(request.getClientRequestToken());
+            }
+        }
+
         Map<String, String> consolidatedTagList = new HashMap<>();
         if (request.getDesiredResourceTags() != null) {
             consolidatedTagList.putAll(request.getDesiredResourceTags());
@@ -61,13 +87,25 @@ public class CreateHandler extends BaseHandlerStd {
             consolidatedTagList.putAll(request.getSystemTags());
         }
 
+        final Optional<String> validationError = ParameterValidator.validate(
+                Translator.createPutParameterRequest(model, consolidatedTagList));
+        if (validationError.isPresent()) {
+            logger.log(String.format("Parameter %s failed pre-flight validation: %s", model.getName(), validationError.get()));
+            return ProgressEvent.defaultFailureHandler(new TerminalException(validationError.get()),
+                    HandlerErrorCode.InvalidRequest);
+        }
+
         return proxy.initiate("aws-ssm-parameter::resource-create", proxyClient, model, callbackContext)
                 .translateToServiceRequest((resourceModel) -> Translator.createPutParameterRequest(resourceModel, consolidatedTagList))
                 .backoffDelay(getBackOffDelay(model))
                 .makeServiceCall(this::createResource)
                 .stabilize(this::stabilize)
                 .progress()
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> {
+                    createReplayCache.put(request.getClientRequestToken(), model.getName());
+                    ParameterReadCache.getInstance().invalidate(request.getAwsAccountId(), request.getRegion(), model.getName());
+                    return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+                });
     }
 
     private PutParameterResponse createResource(final PutParameterRequest putParameterRequest,
@@ -0,0 +1,116 @@
+package com.amazonaws.ssm.parameter;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-local record of the creates that already succeeded, keyed by the CloudFormation client request token.
+ * CloudFormation retries a create that timed out with the same token, so a retry that lands on this container
+ * can read the resource that was created instead of creating it again.
+ */
+public class CreateReplayCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+
+    static final int MAX_ENTRIES = 1000;
+
+    private static final CreateReplayCache INSTANCE = new CreateReplayCache();
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Clock clock;
+
+    public CreateReplayCache() {
+        this(DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param ttl how long a create is remembered
+     * @param clock clock used to expire entries
+     */
+    CreateReplayCache(final Duration ttl, final Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the cache shared by all handlers running in this container
+     */
+    public static CreateReplayCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Look up the resource created for a client request token.
+     * @param clientRequestToken token of the create request
+     * @return the physical ID of the created resource, or Optional.empty() when nothing is cached or the entry expired
+     */
+    public Optional<String> get(final String clientRequestToken) {
+        if (clientRequestToken == null) {
+            return Optional.empty();
+        }
+        final CacheEntry entry = entries.get(clientRequestToken);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            entries.remove(clientRequestToken, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.getPhysicalId());
+    }
+
+    /**
+     * Remember that the create for a client request token succeeded.
+     * @param clientRequestToken token of the create request
+     * @param physicalId physical ID returned by the create
+     */
+    public void put(final String clientRequestToken, final String physicalId) {
+        if (clientRequestToken == null || physicalId == null) {
+            return;
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(this::isExpired);
+            if (entries.size() >= MAX_ENTRIES) {
+                // A replay only saves work, so keep the memory bounded rather than the entry
+                return;
+            }
+        }
+        entries.put(clientRequestToken, new CacheEntry(physicalId, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Forget the create for a client request token, e.g. when the resource it points to no longer exists.
+     * @param clientRequestToken token of the create request
+     */
+    public void invalidate(final String clientRequestToken) {
+        if (clientRequestToken != null) {
+            entries.remove(clientRequestToken);
+        }
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private boolean isExpired(final CacheEntry entry) {
+        return !clock.instant().isBefore(entry.getExpiresAt());
+    }
+
+    @Value
+    private static class CacheEntry {
+        String physicalId;
+        Instant expiresAt;
+    }
+}
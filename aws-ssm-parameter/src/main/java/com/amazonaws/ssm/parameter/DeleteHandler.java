@@ -33,7 +33,10 @@ public class DeleteHandler extends BaseHandlerStd {
         return proxy.initiate("aws-ssm-parameter::resource-delete", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::deleteParameterRequest)
                 .makeServiceCall(this::deleteResource)
-                .done((deleteParameterRequest, deleteParameterResponse, _client, _model, _callbackContext) -> ProgressEvent.defaultSuccessHandler(null));
+                .done((deleteParameterRequest, deleteParameterResponse, _client, _model, _callbackContext) -> {
+                    ParameterReadCache.getInstance().invalidate(request.getAwsAccountId(), request.getRegion(), model.getName());
+                    return ProgressEvent.defaultSuccessHandler(null);
+                });
     }
 
     private DeleteParameterResponse deleteResource(final DeleteParameterRequest deleteParameterRequest,
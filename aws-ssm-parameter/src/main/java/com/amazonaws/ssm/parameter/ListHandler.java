@@ -19,7 +19,7 @@ public class ListHandler extends BaseHandlerStd {
             final CallbackContext callbackContext,
             final ProxyClient<SsmClient> proxyClient,
             final Logger logger) {
-        final DescribeParametersResponse describeParametersResponse = proxy.injectCredentialsAndInvokeV2(Translator.describeParametersRequest(request.getNextToken()), proxyClient.client()::describeParameters);
+        final DescribeParametersResponse describeParametersResponse = proxy.injectCredentialsAndInvokeV2(Translator.describeParametersRequest(request.getDesiredResourceState(), request.getNextToken()), proxyClient.client()::describeParameters);
 
         final List<ResourceModel> models = describeParametersResponse
                 .parameters()
@@ -0,0 +1,245 @@
+package com.amazonaws.ssm.parameter;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
+import software.amazon.awssdk.services.cloudformation.model.CloudFormationException;
+import software.amazon.awssdk.services.cloudformation.model.Stack;
+import software.amazon.awssdk.services.cloudformation.model.StackStatus;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Deletes the parameters CloudFormation named for stacks that are gone. Failed and abandoned stacks can leave
+ * behind the CFN-logicalId-random parameters generated by the CreateHandler, and deleting them one DeleteParameter
+ * call at a time is slow and throttles quickly.
+ *
+ * Each given stack is first looked up with DescribeStacks, and only stacks that are DELETE_COMPLETE or that
+ * CloudFormation no longer knows are cleaned; a stack that still exists, for example in a ROLLBACK_COMPLETE or
+ * DELETE_FAILED state, is skipped and reported. The auto-named parameters are listed with a Name BeginsWith CFN-
+ * filter. A parameter is only deleted when its aws:cloudformation:stack-id tag names one of the deleted stacks,
+ * parameters without the tag or owned by any other stack are left alone. Deletes are sent in DeleteParameters batches of 10, and reads and deletes are each paced by
+ * their own rate limiter so that a cleanup does not starve the stacks sharing the account.
+ *
+ * Usage: {@code OrphanedParameterCleaner [--dry-run] [--reads-per-second N] [--deletes-per-second N]
+ * --stack-id <stack arn> [--stack-id <stack arn> ...]}
+ */
+public class OrphanedParameterCleaner {
+
+    static final double DEFAULT_READS_PER_SECOND = 20;
+    static final double DEFAULT_DELETES_PER_SECOND = 2;
+
+    private static final String AUTO_NAMED_PREFIX = Constants.CF_PARAMETER_NAME_PREFIX + "-";
+    private static final String STACK_DOES_NOT_EXIST = "does not exist";
+
+    private final SsmClient ssmClient;
+    private final CloudFormationClient cloudFormationClient;
+    private final RateLimiter readLimiter;
+    private final RateLimiter deleteLimiter;
+    private final Consumer<String> progress;
+
+    /**
+     * @param ssmClient client of the account and region to clean up
+     * @param cloudFormationClient client of the same account and region, to check that the stacks are gone
+     * @param readLimiter paces DescribeStacks, DescribeParameters and ListTagsForResource
+     * @param deleteLimiter paces DeleteParameters
+     * @param progress receives one line per stack skipped, page scanned and batch deleted
+     */
+    public OrphanedParameterCleaner(final SsmClient ssmClient,
+                                    final CloudFormationClient cloudFormationClient,
+                                    final RateLimiter readLimiter,
+                                    final RateLimiter deleteLimiter,
+                                    final Consumer<String> progress) {
+        this.ssmClient = ssmClient;
+        this.cloudFormationClient = cloudFormationClient;
+        this.readLimiter = readLimiter;
+        this.deleteLimiter = deleteLimiter;
+        this.progress = progress;
+    }
+
+    /**
+     * @param stackIds ARNs of the stacks whose parameters are deleted once the stacks are gone
+     * @param dryRun when true, only report the parameters that would be deleted
+     * @return what was scanned and deleted
+     */
+    public CleanupResult clean(final Set<String> stackIds, final boolean dryRun) {
+        final Set<String> deletedStacks = new HashSet<>();
+        final List<String> skippedStacks = new ArrayList<>();
+        for (String stackId : new TreeSet<>(stackIds)) {
+            final Optional<String> stackStatus = getStackStatus(stackId);
+            if (!stackStatus.isPresent() || StackStatus.DELETE_COMPLETE.toString().equals(stackStatus.get())) {
+                deletedStacks.add(stackId);
+            } else {
+                skippedStacks.add(stackId);
+                progress.accept(String.format("Skipping stack %s, it still exists in %s", stackId, stackStatus.get()));
+            }
+        }
+        if (deletedStacks.isEmpty()) {
+            progress.accept("None of the given stacks is gone, nothing to clean up");
+            return CleanupResult.builder()
+                    .matched(new ArrayList<>())
+                    .deleted(new ArrayList<>())
+                    .skippedStacks(skippedStacks)
+                    .dryRun(dryRun)
+                    .build();
+        }
+
+        final List<String> matched = new ArrayList<>();
+        final List<String> deleted = new ArrayList<>();
+        final List<String> pending = new ArrayList<>();
+        int scanned = 0;
+        String nextToken = null;
+        do {
+            readLimiter.acquire();
+            final DescribeParametersResponse page = ssmClient.describeParameters(Translator.describeParametersRequest(
+                    ResourceModel.builder().name(AUTO_NAMED_PREFIX).build(), nextToken));
+            for (ParameterMetadata parameter : page.parameters()) {
+                scanned++;
+                final Optional<String> stackId = getStackId(parameter.name());
+                if (stackId.isPresent() && deletedStacks.contains(stackId.get())) {
+                    matched.add(parameter.name());
+                    pending.add(parameter.name());
+                }
+                if (pending.size() == Constants.DELETE_PARAMETERS_BATCH_SIZE) {
+                    deleted.addAll(delete(pending, dryRun));
+                    pending.clear();
+                }
+            }
+            nextToken = page.nextToken();
+            progress.accept(String.format("Scanned %d parameters, %d owned by the given stacks, %d deleted",
+                    scanned, matched.size(), deleted.size()));
+        } while (nextToken != null);
+
+        if (!pending.isEmpty()) {
+            deleted.addAll(delete(pending, dryRun));
+        }
+        progress.accept(String.format("Scanned %d parameters, %d owned by the given stacks, %d %s",
+                scanned, matched.size(), dryRun ? matched.size() : deleted.size(),
+                dryRun ? "would be deleted" : "deleted"));
+        return CleanupResult.builder()
+                .scanned(scanned)
+                .matched(matched)
+                .deleted(deleted)
+                .skippedStacks(skippedStacks)
+                .dryRun(dryRun)
+                .build();
+    }
+
+    /**
+     * @return the status of the stack, or Optional.empty() when CloudFormation no longer knows the stack
+     */
+    private Optional<String> getStackStatus(final String stackId) {
+        readLimiter.acquire();
+        try {
+            return cloudFormationClient.describeStacks(Translator.describeStacksRequest(stackId))
+                    .stacks()
+                    .stream()
+                    .findFirst()
+                    .map(Stack::stackStatusAsString);
+        } catch (final CloudFormationException e) {
+            // Deleted stacks are only described for a while, after that they are reported as not existing
+            if (e.getMessage() != null && e.getMessage().contains(STACK_DOES_NOT_EXIST)) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    private Optional<String> getStackId(final String parameterName) {
+        readLimiter.acquire();
+        return ssmClient.listTagsForResource(Translator.listTagsForResourceRequest(parameterName))
+                .tagList()
+                .stream()
+                .filter(tag -> Constants.STACK_ID_TAG_KEY.equals(tag.key()))
+                .map(Tag::value)
+                .findFirst();
+    }
+
+    private List<String> delete(final List<String> names, final boolean dryRun) {
+        if (dryRun) {
+            names.forEach(name -> progress.accept(String.format("Would delete %s", name)));
+            return new ArrayList<>();
+        }
+        deleteLimiter.acquire();
+        final DeleteParametersResponse response = ssmClient.deleteParameters(
+                Translator.deleteParametersRequest(new ArrayList<>(names)));
+        // Parameters deleted by someone else since they were listed come back as invalid, which is fine
+        if (!response.invalidParameters().isEmpty()) {
+            progress.accept(String.format("Already gone: %s", response.invalidParameters()));
+        }
+        progress.accept(String.format("Deleted %s", response.deletedParameters()));
+        return response.deletedParameters();
+    }
+
+    public static void main(final String[] args) {
+        final Set<String> stackIds = new HashSet<>();
+        boolean dryRun = false;
+        double readsPerSecond = DEFAULT_READS_PER_SECOND;
+        double deletesPerSecond = DEFAULT_DELETES_PER_SECOND;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--dry-run":
+                    dryRun = true;
+                    break;
+                case "--stack-id":
+                    stackIds.add(args[++i]);
+                    break;
+                case "--reads-per-second":
+                    readsPerSecond = Double.parseDouble(args[++i]);
+                    break;
+                case "--deletes-per-second":
+                    deletesPerSecond = Double.parseDouble(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown argument %s", args[i]));
+            }
+        }
+        if (stackIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one --stack-id is required");
+        }
+
+        new OrphanedParameterCleaner(SSMClientBuilder.getClient(),
+                CloudFormationClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build(),
+                RateLimiter.create(readsPerSecond), RateLimiter.create(deletesPerSecond), System.out::println)
+                .clean(stackIds, dryRun);
+    }
+
+    @Value
+    @Builder
+    public static class CleanupResult {
+        /**
+         * Auto-named parameters listed, 0 when none of the given stacks is gone.
+         */
+        int scanned;
+
+        /**
+         * Parameters tagged with one of the given stacks that are gone.
+         */
+        List<String> matched;
+
+        /**
+         * Parameters deleted, empty on a dry run.
+         */
+        List<String> deleted;
+
+        /**
+         * Given stacks that still exist, whose parameters were left alone.
+         */
+        List<String> skippedStacks;
+
+        boolean dryRun;
+    }
+}
@@ -0,0 +1,149 @@
+package com.amazonaws.ssm.parameter;
+
+import lombok.Value;
+import lombok.With;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Container-local cache of the parameters read by the ReadHandler, keyed by account, region and name.
+ *
+ * A cached parameter is only served after a DescribeParameters probe of its name, which returns metadata without the
+ * value, confirmed that both its version and its last modified date are unchanged. A parameter that was deleted and
+ * created again starts over at version 1, so the version alone does not tell it apart from the cached one. The value
+ * is only fetched and decrypted again when the parameter moved.
+ *
+ * Writes made by the handlers in this container invalidate the entry. Requests without an account or region are
+ * never cached.
+ */
+public class ParameterReadCache {
+
+    static final int MAX_ENTRIES = 2000;
+
+    private static final ParameterReadCache INSTANCE = new ParameterReadCache();
+
+    private final Map<CacheKey, CachedParameter> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public ParameterReadCache() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Used for unit tests.
+     *
+     * @param clock clock used to order entries by their last validation
+     */
+    ParameterReadCache(final Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the cache shared by all handlers running in this container
+     */
+    public static ParameterReadCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Look up a parameter, confirming with a DescribeParameters probe that it did not change since it was cached.
+     * @param accountId account of the request
+     * @param region region of the request
+     * @param name name of the parameter
+     * @param describe returns the metadata of the parameter with the given name, Optional.empty() when it is gone
+     * @return the cached parameter when it is still current, Optional.empty() when it has to be fetched
+     */
+    public Optional<CachedParameter> get(final String accountId,
+                                         final String region,
+                                         final String name,
+                                         final Function<String, Optional<ParameterMetadata>> describe) {
+        if (accountId == null || region == null || name == null) {
+            return Optional.empty();
+        }
+        final CacheKey key = new CacheKey(accountId, region, name);
+        final CachedParameter cached = entries.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        final Optional<ParameterMetadata> metadata = describe.apply(name);
+        if (metadata.isPresent() && cached.getVersion().equals(metadata.get().version())
+                && cached.getLastModifiedDate().equals(metadata.get().lastModifiedDate())) {
+            entries.replace(key, cached, cached.withValidatedAt(clock.instant()));
+            return Optional.of(cached);
+        }
+        // Changed or deleted since it was cached, the caller fetches it again
+        entries.remove(key, cached);
+        return Optional.empty();
+    }
+
+    /**
+     * Remember a parameter returned by GetParameters.
+     */
+    public void put(final String accountId, final String region, final Parameter parameter) {
+        if (accountId == null || region == null || parameter == null || parameter.name() == null
+                || parameter.version() == null || parameter.lastModifiedDate() == null) {
+            return;
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            // The stalest entries are the least likely to be read again
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparing(entry -> entry.getValue().getValidatedAt()))
+                    .limit(MAX_ENTRIES / 10)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList())
+                    .forEach(entries::remove);
+        }
+        entries.put(new CacheKey(accountId, region, parameter.name()), new CachedParameter(parameter.name(),
+                parameter.version(), parameter.lastModifiedDate(), parameter.typeAsString(), parameter.dataType(),
+                parameter.value(), clock.instant()));
+    }
+
+    /**
+     * Forget a parameter, after it was written or deleted.
+     */
+    public void invalidate(final String accountId, final String region, final String name) {
+        if (accountId != null && region != null && name != null) {
+            entries.remove(new CacheKey(accountId, region, name));
+        }
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @Value
+    private static class CacheKey {
+        String accountId;
+        String region;
+        String name;
+    }
+
+    @Value
+    public static class CachedParameter {
+        String name;
+        Long version;
+        Instant lastModifiedDate;
+        String type;
+        String dataType;
+        String value;
+
+        /**
+         * When the parameter was last confirmed to be current.
+         */
+        @With
+        Instant validatedAt;
+    }
+}
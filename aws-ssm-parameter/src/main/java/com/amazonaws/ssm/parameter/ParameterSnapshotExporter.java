@@ -0,0 +1,357 @@
+package com.amazonaws.ssm.parameter;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathResponse;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.model.ParameterInlinePolicy;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+import software.amazon.awssdk.services.ssm.model.Tag;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Exports a parameter hierarchy to a snapshot file of one {@link ParameterSnapshotRecord} per line, to be loaded
+ * into another account or under another path by the {@link ParameterSnapshotImporter}.
+ *
+ * The hierarchy is split into one partition per first level sub-path, plus one for the parameters directly under
+ * the exported path, and the partitions are read in parallel with GetParametersByPath. The description, tier, allowed
+ * pattern and policies of every parameter come from the DescribeParameters listing that splits the hierarchy.
+ * SecureString parameters are left out and counted, since their decrypted values would end up in the plain-text
+ * snapshot file, and so are reserved {@code aws:} tags such as the CloudFormation stack tags, which cannot be added
+ * by AddTagsToResource. All reads share one rate limiter however many partitions run at once.
+ *
+ * Every partition is recorded in the checkpoint file once all of its parameters are written. An interrupted export
+ * run again with the same checkpoint appends to the snapshot and skips the recorded partitions; the parameters of a
+ * partition that was cut short are written twice, which the importer's overwrites make harmless.
+ *
+ * Usage: {@code ParameterSnapshotExporter [--with-tags] [--parallelism N] [--reads-per-second N]
+ * [--checkpoint <file>] <path> <snapshot file>}
+ */
+public class ParameterSnapshotExporter {
+
+    static final double DEFAULT_READS_PER_SECOND = 20;
+    static final int DEFAULT_PARALLELISM = 4;
+
+    private final SsmClient ssmClient;
+    private final RateLimiter readLimiter;
+    private final int parallelism;
+    private final Consumer<String> progress;
+
+    /**
+     * @param ssmClient client of the account and region to export from
+     * @param readLimiter paces DescribeParameters, GetParametersByPath and ListTagsForResource across partitions
+     * @param parallelism number of partitions read at the same time
+     * @param progress receives one line when the export starts, one per partition finished and one at the end
+     */
+    public ParameterSnapshotExporter(final SsmClient ssmClient,
+                                     final RateLimiter readLimiter,
+                                     final int parallelism,
+                                     final Consumer<String> progress) {
+        this.ssmClient = ssmClient;
+        this.readLimiter = readLimiter;
+        this.parallelism = parallelism;
+        this.progress = progress;
+    }
+
+    /**
+     * @param path hierarchy to export, for example /app/env
+     * @param withTags when true, read the tags of every parameter as well, at the cost of one call per parameter
+     * @param snapshot file to write, appended to when the checkpoint records finished partitions
+     * @param checkpoint file recording the finished partitions
+     * @return what was exported
+     * @throws IOException when the snapshot or checkpoint cannot be written
+     */
+    public ExportResult export(final String path,
+                               final boolean withTags,
+                               final Path snapshot,
+                               final Path checkpoint) throws IOException {
+        final Set<String> finished = Files.exists(checkpoint)
+                ? new HashSet<>(Files.readAllLines(checkpoint, StandardCharsets.UTF_8))
+                : new HashSet<>();
+        final Hierarchy hierarchy = partition(path);
+        final List<Partition> pending = new ArrayList<>();
+        int skipped = 0;
+        for (Partition partition : hierarchy.getPartitions()) {
+            if (finished.contains(partition.getKey())) {
+                skipped++;
+            } else {
+                pending.add(partition);
+            }
+        }
+        progress.accept(String.format("Exporting %d partitions of %s, %d already exported, "
+                        + "leaving out %d SecureString parameters", pending.size(), path, skipped,
+                hierarchy.getSecureStrings()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, pending.size())));
+        try (BufferedWriter snapshotWriter = Files.newBufferedWriter(snapshot, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                finished.isEmpty() ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND);
+             BufferedWriter checkpointWriter = Files.newBufferedWriter(checkpoint, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (Partition partition : pending) {
+                futures.add(executor.submit(() -> exportPartition(partition, hierarchy.getMetadata(), withTags,
+                        snapshotWriter, checkpointWriter)));
+            }
+
+            int exported = 0;
+            for (Future<Integer> future : futures) {
+                exported += future.get();
+            }
+            progress.accept(String.format("Exported %d parameters of %s, left out %d SecureString parameters",
+                    exported, path, hierarchy.getSecureStrings()));
+            return ExportResult.builder()
+                    .partitions(pending.size() + skipped)
+                    .skippedPartitions(skipped)
+                    .exported(exported)
+                    .skippedSecureStrings(hierarchy.getSecureStrings())
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(String.format("Export of %s was interrupted", path), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the hierarchy by its first level sub-paths. The names are listed with DescribeParameters, which
+     * returns five times more parameters per page than GetParametersByPath and does not read any value, and the
+     * metadata of every parameter is kept for its snapshot record.
+     */
+    Hierarchy partition(final String path) {
+        final String prefix = path.endsWith("/") ? path : path + "/";
+        final Set<String> children = new TreeSet<>();
+        final Map<String, ParameterMetadata> metadata = new HashMap<>();
+        int secureStrings = 0;
+        String nextToken = null;
+        do {
+            readLimiter.acquire();
+            final DescribeParametersResponse page = ssmClient.describeParameters(
+                    Translator.describeParametersByPathRequest(path, nextToken));
+            for (ParameterMetadata parameter : page.parameters()) {
+                if (!parameter.name().startsWith(prefix)) {
+                    continue;
+                }
+                if (parameter.type() == ParameterType.SECURE_STRING) {
+                    secureStrings++;
+                    continue;
+                }
+                metadata.put(parameter.name(), parameter);
+                final int separator = parameter.name().indexOf('/', prefix.length());
+                if (separator > 0) {
+                    children.add(parameter.name().substring(0, separator));
+                }
+            }
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+
+        final List<Partition> partitions = new ArrayList<>();
+        partitions.add(new Partition(path, false));
+        children.forEach(child -> partitions.add(new Partition(child, true)));
+        return new Hierarchy(partitions, metadata, secureStrings);
+    }
+
+    private int exportPartition(final Partition partition,
+                                final Map<String, ParameterMetadata> metadata,
+                                final boolean withTags,
+                                final BufferedWriter snapshotWriter,
+                                final BufferedWriter checkpointWriter) {
+        int exported = 0;
+        String nextToken = null;
+        try {
+            do {
+                readLimiter.acquire();
+                final GetParametersByPathResponse page = ssmClient.getParametersByPath(
+                        Translator.getParametersByPathRequest(partition.getPath(), partition.isRecursive(), nextToken));
+                final List<String> lines = new ArrayList<>(page.parameters().size());
+                for (Parameter parameter : page.parameters()) {
+                    final ParameterSnapshotRecord.ParameterSnapshotRecordBuilder record = ParameterSnapshotRecord.builder()
+                            .name(parameter.name())
+                            .type(parameter.typeAsString())
+                            .value(parameter.value())
+                            .dataType(parameter.dataType())
+                            .tags(withTags ? getTags(parameter.name()) : Collections.emptyMap());
+                    // Parameters created after the hierarchy was listed have no metadata and get the defaults
+                    final ParameterMetadata parameterMetadata = metadata.get(parameter.name());
+                    if (parameterMetadata != null) {
+                        record.description(parameterMetadata.description())
+                                .tier(parameterMetadata.tierAsString())
+                                .allowedPattern(parameterMetadata.allowedPattern())
+                                .policies(toPolicies(parameterMetadata.policies()));
+                    }
+                    lines.add(record.build().toLine());
+                }
+                synchronized (snapshotWriter) {
+                    for (String line : lines) {
+                        snapshotWriter.write(line);
+                        snapshotWriter.newLine();
+                    }
+                }
+                exported += lines.size();
+                nextToken = page.nextToken();
+            } while (nextToken != null);
+
+            // The partition is only recorded once its parameters have reached the snapshot file
+            synchronized (snapshotWriter) {
+                snapshotWriter.flush();
+            }
+            synchronized (checkpointWriter) {
+                checkpointWriter.write(partition.getKey());
+                checkpointWriter.newLine();
+                checkpointWriter.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        progress.accept(String.format("Exported %d parameters of %s", exported, partition.getKey()));
+        return exported;
+    }
+
+    private Map<String, String> getTags(final String parameterName) {
+        readLimiter.acquire();
+        final Map<String, String> tags = new TreeMap<>();
+        for (Tag tag : ssmClient.listTagsForResource(Translator.listTagsForResourceRequest(parameterName)).tagList()) {
+            if (!tag.key().toLowerCase(Locale.ROOT).startsWith(Constants.SYSTEM_TAG_PREFIX)) {
+                tags.put(tag.key(), tag.value());
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * @return the policies as the JSON array PutParameter takes, or null for none
+     */
+    private static String toPolicies(final List<ParameterInlinePolicy> policies) {
+        if (policies == null || policies.isEmpty()) {
+            return null;
+        }
+        return policies.stream()
+                .map(ParameterInlinePolicy::policyText)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final List<String> positional = new ArrayList<>();
+        boolean withTags = false;
+        int parallelism = DEFAULT_PARALLELISM;
+        double readsPerSecond = DEFAULT_READS_PER_SECOND;
+        String checkpoint = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--with-tags":
+                    withTags = true;
+                    break;
+                case "--parallelism":
+                    parallelism = Integer.parseInt(args[++i]);
+                    break;
+                case "--reads-per-second":
+                    readsPerSecond = Double.parseDouble(args[++i]);
+                    break;
+                case "--checkpoint":
+                    checkpoint = args[++i];
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException(String.format("Unknown argument %s", args[i]));
+                    }
+                    positional.add(args[i]);
+            }
+        }
+        if (positional.size() != 2) {
+            throw new IllegalArgumentException("A path and a snapshot file are required");
+        }
+
+        final Path snapshot = Paths.get(positional.get(1));
+        new ParameterSnapshotExporter(SSMClientBuilder.getClient(), RateLimiter.create(readsPerSecond),
+                parallelism, System.out::println)
+                .export(positional.get(0), withTags, snapshot,
+                        checkpoint != null ? Paths.get(checkpoint) : Paths.get(snapshot + ".checkpoint"));
+    }
+
+    /**
+     * The partitions of a hierarchy and the metadata of the parameters to export.
+     */
+    @Value
+    static class Hierarchy {
+        List<Partition> partitions;
+
+        Map<String, ParameterMetadata> metadata;
+
+        int secureStrings;
+    }
+
+    /**
+     * A sub-path read with one GetParametersByPath pagination.
+     */
+    @Value
+    static class Partition {
+        String path;
+
+        boolean recursive;
+
+        String getKey() {
+            return recursive ? path + "/**" : path + "/*";
+        }
+    }
+
+    @Value
+    @Builder
+    public static class ExportResult {
+        /**
+         * Partitions of the hierarchy, including the ones skipped.
+         */
+        int partitions;
+
+        /**
+         * Partitions already recorded in the checkpoint.
+         */
+        int skippedPartitions;
+
+        /**
+         * Parameters written to the snapshot by this run.
+         */
+        int exported;
+
+        /**
+         * SecureString parameters of the hierarchy, which are never exported.
+         */
+        int skippedSecureStrings;
+    }
+}
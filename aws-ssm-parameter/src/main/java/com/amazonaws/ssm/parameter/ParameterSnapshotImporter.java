@@ -0,0 +1,216 @@
+package com.amazonaws.ssm.parameter;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.ParameterAlreadyExistsException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes the parameters of a snapshot made by the {@link ParameterSnapshotExporter}, optionally moving them from
+ * the exported hierarchy to another one.
+ *
+ * The snapshot is read one line at a time, so its size does not matter. Every parameter is written with overwrite
+ * semantics: a parameter with tags is first created together with its tags in a single PutParameter, and only a
+ * parameter that already exists is overwritten and then tagged with one AddTagsToResource call for all of its tags,
+ * as PutParameter does not accept tags together with Overwrite. All writes are paced by one rate limiter.
+ *
+ * The number of snapshot lines imported is saved to the checkpoint file every 100 lines and at the end. An
+ * interrupted import run again with the same checkpoint resumes after the last saved line.
+ *
+ * Usage: {@code ParameterSnapshotImporter [--dry-run] [--writes-per-second N] [--from <path> --to <path>]
+ * [--checkpoint <file>] <snapshot file>}
+ */
+public class ParameterSnapshotImporter {
+
+    static final double DEFAULT_WRITES_PER_SECOND = 3;
+    static final int CHECKPOINT_INTERVAL = 100;
+
+    private final SsmClient ssmClient;
+    private final RateLimiter writeLimiter;
+    private final Consumer<String> progress;
+
+    /**
+     * @param ssmClient client of the account and region to import into
+     * @param writeLimiter paces PutParameter and AddTagsToResource
+     * @param progress receives one line per checkpoint
+     */
+    public ParameterSnapshotImporter(final SsmClient ssmClient,
+                                     final RateLimiter writeLimiter,
+                                     final Consumer<String> progress) {
+        this.ssmClient = ssmClient;
+        this.writeLimiter = writeLimiter;
+        this.progress = progress;
+    }
+
+    /**
+     * @param snapshot file written by the exporter
+     * @param sourcePath hierarchy the snapshot was exported from, or null to keep the parameter names
+     * @param targetPath hierarchy replacing the source path in the parameter names
+     * @param checkpoint file holding the number of snapshot lines already imported
+     * @param dryRun when true, only report the parameters that would be written
+     * @return what was imported
+     * @throws IOException when the snapshot cannot be read or the checkpoint cannot be written
+     */
+    public ImportResult importSnapshot(final Path snapshot,
+                                       final String sourcePath,
+                                       final String targetPath,
+                                       final Path checkpoint,
+                                       final boolean dryRun) throws IOException {
+        final long resumedAfter = Files.exists(checkpoint)
+                ? Long.parseLong(new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8).trim())
+                : 0;
+        if (resumedAfter > 0) {
+            progress.accept(String.format("Resuming after line %d of %s", resumedAfter, snapshot));
+        }
+
+        int written = 0;
+        int created = 0;
+        int overwritten = 0;
+        long line = 0;
+        try (BufferedReader reader = Files.newBufferedReader(snapshot, StandardCharsets.UTF_8)) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (line <= resumedAfter || text.trim().isEmpty()) {
+                    continue;
+                }
+
+                ParameterSnapshotRecord record = ParameterSnapshotRecord.fromLine(text);
+                if (sourcePath != null) {
+                    record = record.relocate(sourcePath, targetPath);
+                }
+                if (dryRun) {
+                    progress.accept(String.format("Would write %s", record.getName()));
+                } else if (write(record)) {
+                    created++;
+                } else {
+                    overwritten++;
+                }
+                written++;
+
+                if (!dryRun && line % CHECKPOINT_INTERVAL == 0) {
+                    saveCheckpoint(checkpoint, line);
+                    progress.accept(String.format("Imported %d lines, %d parameters created, %d overwritten",
+                            line, created, overwritten));
+                }
+            }
+        }
+
+        if (!dryRun) {
+            saveCheckpoint(checkpoint, line);
+        }
+        progress.accept(String.format("Imported %d lines, %d parameters %s, %d created, %d overwritten",
+                line, written, dryRun ? "would be written" : "written", created, overwritten));
+        return ImportResult.builder()
+                .resumedAfter(resumedAfter)
+                .written(written)
+                .created(created)
+                .overwritten(overwritten)
+                .dryRun(dryRun)
+                .build();
+    }
+
+    /**
+     * @return true when the parameter was created, false when an existing parameter was overwritten
+     */
+    private boolean write(final ParameterSnapshotRecord record) {
+        if (record.getTags().isEmpty()) {
+            writeLimiter.acquire();
+            return Long.valueOf(1L).equals(
+                    ssmClient.putParameter(Translator.snapshotPutParameterRequest(record, true)).version());
+        }
+
+        try {
+            writeLimiter.acquire();
+            ssmClient.putParameter(Translator.snapshotPutParameterRequest(record, false));
+            return true;
+        } catch (final ParameterAlreadyExistsException exception) {
+            writeLimiter.acquire();
+            ssmClient.putParameter(Translator.snapshotPutParameterRequest(record, true));
+            writeLimiter.acquire();
+            ssmClient.addTagsToResource(Translator.snapshotTagResourceRequest(record));
+            return false;
+        }
+    }
+
+    private static void saveCheckpoint(final Path checkpoint, final long line) throws IOException {
+        Files.write(checkpoint, Collections.singletonList(Long.toString(line)), StandardCharsets.UTF_8);
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final List<String> positional = new ArrayList<>();
+        boolean dryRun = false;
+        double writesPerSecond = DEFAULT_WRITES_PER_SECOND;
+        String sourcePath = null;
+        String targetPath = null;
+        String checkpoint = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--dry-run":
+                    dryRun = true;
+                    break;
+                case "--writes-per-second":
+                    writesPerSecond = Double.parseDouble(args[++i]);
+                    break;
+                case "--from":
+                    sourcePath = args[++i];
+                    break;
+                case "--to":
+                    targetPath = args[++i];
+                    break;
+                case "--checkpoint":
+                    checkpoint = args[++i];
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException(String.format("Unknown argument %s", args[i]));
+                    }
+                    positional.add(args[i]);
+            }
+        }
+        if (positional.size() != 1) {
+            throw new IllegalArgumentException("A snapshot file is required");
+        }
+        if ((sourcePath == null) != (targetPath == null)) {
+            throw new IllegalArgumentException("--from and --to have to be given together");
+        }
+
+        final Path snapshot = Paths.get(positional.get(0));
+        new ParameterSnapshotImporter(SSMClientBuilder.getClient(), RateLimiter.create(writesPerSecond),
+                System.out::println)
+                .importSnapshot(snapshot, sourcePath, targetPath,
+                        checkpoint != null ? Paths.get(checkpoint) : Paths.get(snapshot + ".imported"), dryRun);
+    }
+
+    @Value
+    @Builder
+    public static class ImportResult {
+        /**
+         * Snapshot lines skipped because the checkpoint recorded them as imported.
+         */
+        long resumedAfter;
+
+        /**
+         * Parameters written by this run, or that would be written on a dry run.
+         */
+        int written;
+
+        int created;
+
+        int overwritten;
+
+        boolean dryRun;
+    }
+}
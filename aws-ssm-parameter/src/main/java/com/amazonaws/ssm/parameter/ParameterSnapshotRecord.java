@@ -0,0 +1,145 @@
+package com.amazonaws.ssm.parameter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One parameter of a hierarchy snapshot. A snapshot file holds one record per line as a compact JSON object, so
+ * that it can be written and read back as a stream however many parameters it holds.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ParameterSnapshotRecord {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String NAME = "Name";
+    private static final String TYPE = "Type";
+    private static final String VALUE = "Value";
+    private static final String DATA_TYPE = "DataType";
+    private static final String DESCRIPTION = "Description";
+    private static final String TIER = "Tier";
+    private static final String ALLOWED_PATTERN = "AllowedPattern";
+    private static final String POLICIES = "Policies";
+    private static final String TAGS = "Tags";
+
+    String name;
+
+    String type;
+
+    String value;
+
+    String dataType;
+
+    String description;
+
+    String tier;
+
+    String allowedPattern;
+
+    /**
+     * JSON array of the policies of the parameter, in the format PutParameter takes.
+     */
+    String policies;
+
+    /**
+     * Empty when the snapshot was exported without tags.
+     */
+    @Builder.Default
+    Map<String, String> tags = Collections.emptyMap();
+
+    /**
+     * @return the record as a single line of JSON, without the line separator
+     */
+    public String toLine() {
+        final ObjectNode node = MAPPER.createObjectNode()
+                .put(NAME, name)
+                .put(TYPE, type)
+                .put(VALUE, value);
+        putIfPresent(node, DATA_TYPE, dataType);
+        putIfPresent(node, DESCRIPTION, description);
+        putIfPresent(node, TIER, tier);
+        putIfPresent(node, ALLOWED_PATTERN, allowedPattern);
+        putIfPresent(node, POLICIES, policies);
+        if (!tags.isEmpty()) {
+            final ObjectNode tagsNode = node.putObject(TAGS);
+            new TreeMap<>(tags).forEach(tagsNode::put);
+        }
+        try {
+            return MAPPER.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format("Could not write snapshot record of %s", name), e);
+        }
+    }
+
+    /**
+     * @param line one line of a snapshot file
+     * @return the record of the line
+     * @throws IOException when the line is not a snapshot record
+     */
+    public static ParameterSnapshotRecord fromLine(final String line) throws IOException {
+        final JsonNode node = MAPPER.readTree(line);
+        if (node == null || !node.hasNonNull(NAME) || !node.hasNonNull(TYPE) || !node.hasNonNull(VALUE)) {
+            throw new IOException(String.format("Not a snapshot record: %s", line));
+        }
+
+        final Map<String, String> tags = new TreeMap<>();
+        if (node.has(TAGS)) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.get(TAGS).fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> tag = fields.next();
+                tags.put(tag.getKey(), tag.getValue().asText());
+            }
+        }
+        return ParameterSnapshotRecord.builder()
+                .name(node.get(NAME).asText())
+                .type(node.get(TYPE).asText())
+                .value(node.get(VALUE).asText())
+                .dataType(textOrNull(node, DATA_TYPE))
+                .description(textOrNull(node, DESCRIPTION))
+                .tier(textOrNull(node, TIER))
+                .allowedPattern(textOrNull(node, ALLOWED_PATTERN))
+                .policies(textOrNull(node, POLICIES))
+                .tags(tags)
+                .build();
+    }
+
+    /**
+     * @param sourcePath hierarchy the snapshot was exported from
+     * @param targetPath hierarchy to import it under
+     * @return the record renamed from the source hierarchy into the target one
+     */
+    public ParameterSnapshotRecord relocate(final String sourcePath, final String targetPath) {
+        final String sourcePrefix = asPrefix(sourcePath);
+        if (sourcePath.equals(targetPath) || !name.startsWith(sourcePrefix)) {
+            return this;
+        }
+        return toBuilder()
+                .name(asPrefix(targetPath) + name.substring(sourcePrefix.length()))
+                .build();
+    }
+
+    private static void putIfPresent(final ObjectNode node, final String key, final String value) {
+        if (value != null) {
+            node.put(key, value);
+        }
+    }
+
+    private static String textOrNull(final JsonNode node, final String key) {
+        return node.hasNonNull(key) ? node.get(key).asText() : null;
+    }
+
+    private static String asPrefix(final String path) {
+        return path.endsWith("/") ? path : path + "/";
+    }
+}
@@ -0,0 +1,125 @@
+package com.amazonaws.ssm.parameter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.services.ssm.model.ParameterTier;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Pre-flight checks of a PutParameter request, so that a template that can never succeed fails before spending
+ * PutParameter TPS, and the throttle retries that come with it, shared with every other stack in the account.
+ *
+ * Only limits that SSM documents are checked, and every check errs on the side of letting the request through:
+ * the parameter tier defaults to the account setting when it is not set, and patterns Java cannot compile are left
+ * to SSM.
+ */
+public final class ParameterValidator {
+
+    static final int MAX_HIERARCHY_LEVELS = 15;
+    static final int MAX_NAME_LENGTH = 1011;
+    static final int MAX_STANDARD_VALUE_LENGTH = 4096;
+    static final int MAX_ADVANCED_VALUE_LENGTH = 8192;
+
+    private static final Pattern NAME_CHARACTERS = Pattern.compile("[a-zA-Z0-9_.\\-/]+");
+    private static final Pattern RESERVED_PREFIX = Pattern.compile("^/?(aws|ssm)", Pattern.CASE_INSENSITIVE);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ParameterValidator() {
+    }
+
+    /**
+     * @param request the request about to be sent
+     * @return why SSM would reject the request, or Optional.empty() when it passes the local checks
+     */
+    public static Optional<String> validate(final PutParameterRequest request) {
+        Optional<String> error = validateName(request.name());
+        if (!error.isPresent()) {
+            error = validateValue(request);
+        }
+        if (!error.isPresent()) {
+            error = validatePolicies(request);
+        }
+        return error;
+    }
+
+    private static Optional<String> validateName(final String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            return Optional.of(String.format("Parameter name is %d characters long, the limit is %d",
+                    name.length(), MAX_NAME_LENGTH));
+        }
+        if (!NAME_CHARACTERS.matcher(name).matches()) {
+            return Optional.of(String.format("Parameter name %s can only contain letters, numbers and the symbols . - _ /",
+                    name));
+        }
+        if (RESERVED_PREFIX.matcher(name).find()) {
+            return Optional.of(String.format("Parameter name %s cannot start with aws or ssm", name));
+        }
+        final long levels = name.chars().filter(c -> c == '/').count() + (name.startsWith("/") ? 0 : 1);
+        if (levels > MAX_HIERARCHY_LEVELS) {
+            return Optional.of(String.format("Parameter name %s has %d hierarchy levels, the limit is %d",
+                    name, levels, MAX_HIERARCHY_LEVELS));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> validateValue(final PutParameterRequest request) {
+        final String value = request.value();
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        final int maxLength = ParameterTier.STANDARD.equals(request.tier())
+                ? MAX_STANDARD_VALUE_LENGTH
+                : MAX_ADVANCED_VALUE_LENGTH;
+        if (value.length() > maxLength) {
+            return Optional.of(String.format("Parameter value is %d characters long, the limit of the %s tier is %d",
+                    value.length(), request.tier() == null ? ParameterTier.ADVANCED : request.tier(), maxLength));
+        }
+
+        // SSM searches the value of a String parameter for AllowedPattern, like find() and unlike matches(), so a
+        // pattern only constrains the whole value when it is anchored with ^ and $
+        if (request.allowedPattern() != null && ParameterType.STRING.equals(request.type())) {
+            final Optional<Pattern> pattern = AllowedPatternCache.getInstance().get(request.allowedPattern());
+            if (pattern.isPresent() && !pattern.get().matcher(value).find()) {
+                return Optional.of(String.format("Parameter value does not match its AllowedPattern %s",
+                        request.allowedPattern()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> validatePolicies(final PutParameterRequest request) {
+        final String policies = request.policies();
+        if (policies == null || policies.isEmpty()) {
+            return Optional.empty();
+        }
+        if (ParameterTier.STANDARD.equals(request.tier())) {
+            return Optional.of("Parameter policies are not supported by the Standard tier");
+        }
+
+        final JsonNode policyList;
+        try {
+            policyList = MAPPER.readTree(policies);
+        } catch (final IOException exception) {
+            return Optional.of(String.format("Parameter policies are not valid JSON: %s", exception.getMessage()));
+        }
+        if (policyList == null || !policyList.isArray()) {
+            return Optional.of("Parameter policies must be a JSON array of policies");
+        }
+        for (JsonNode policy : policyList) {
+            if (!policy.isObject() || !policy.path("Type").isTextual() || !policy.path("Attributes").isObject()) {
+                return Optional.of(String.format("Parameter policy %s must be an object with a Type and Attributes",
+                        policy));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.amazonaws.ssm.parameter;
 
 import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
 import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
 import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
@@ -15,11 +16,21 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 
-import java.util.List;
+import java.util.Optional;
 
 public class ReadHandler extends BaseHandlerStd {
     private static final String OPERATION = "ReadParameter";
 
+    private final ParameterReadCache readCache;
+
+    public ReadHandler() {
+        this(ParameterReadCache.getInstance());
+    }
+
+    ReadHandler(final ParameterReadCache readCache) {
+        this.readCache = readCache;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -32,6 +43,17 @@ public class ReadHandler extends BaseHandlerStd {
         ResourceModel model = request.getDesiredResourceState();
 
         try {
+            // Serve the value read earlier in this container when the parameter did not change since
+            final Optional<ParameterReadCache.CachedParameter> cached = readCache.get(request.getAwsAccountId(),
+                    request.getRegion(), model.getName(), name -> describeParameter(name, proxyClient));
+            if (cached.isPresent()) {
+                model.setName(cached.get().getName());
+                model.setType(cached.get().getType());
+                model.setValue(cached.get().getValue());
+                model.setDataType(cached.get().getDataType());
+                return ProgressEvent.defaultSuccessHandler(model);
+            }
+
             // Get info from getParameters
             GetParametersResponse getParametersResponse = proxyClient
                     .injectCredentialsAndInvokeV2(Translator.getParametersRequest(model), proxyClient.client()::getParameters);
@@ -43,10 +65,24 @@ public class ReadHandler extends BaseHandlerStd {
             model.setType(parameter.typeAsString());
             model.setValue(parameter.value());
             model.setDataType(parameter.dataType());
+            readCache.put(request.getAwsAccountId(), request.getRegion(), parameter);
         } catch (InternalServerErrorException exception) {
             throw new CfnServiceInternalErrorException(OPERATION, exception);
         }
 
         return ProgressEvent.defaultSuccessHandler(model);
     }
+
+    private Optional<ParameterMetadata> describeParameter(final String name, final ProxyClient<SsmClient> proxyClient) {
+        String nextToken = null;
+        do {
+            final DescribeParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeParameterByNameRequest(name, nextToken), proxyClient.client()::describeParameters);
+            if (!response.parameters().isEmpty()) {
+                return Optional.of(response.parameters().get(0));
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,77 @@
+package com.amazonaws.ssm.parameter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Puts parameter models in a canonical form, so that two models that mean the same parameter compare equal and an
+ * update does not create a new parameter version, and the change notifications that come with it, for formatting.
+ */
+public final class ResourceModelNormalizer {
+
+    private static final String DEFAULT_DATA_TYPE = "text";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private ResourceModelNormalizer() {
+    }
+
+    /**
+     * @param previousModel model before the update, may be null
+     * @param currentModel model after the update
+     * @return true when PutParameter would store the same parameter for both models. Tags are not compared, they
+     * are not written by PutParameter on update.
+     */
+    public static boolean isSameParameter(final ResourceModel previousModel, final ResourceModel currentModel) {
+        if (previousModel == null || currentModel == null) {
+            return false;
+        }
+        return Objects.equals(normalize(previousModel), normalize(currentModel));
+    }
+
+    /**
+     * @param model model to normalize, left unchanged
+     * @return a copy of the model without tags, with empty strings as null, the default data type as null and the
+     * policies as canonical JSON
+     */
+    static ResourceModel normalize(final ResourceModel model) {
+        return ResourceModel.builder()
+                .name(model.getName())
+                .type(model.getType())
+                .value(model.getValue())
+                .description(emptyToNull(model.getDescription()))
+                .allowedPattern(emptyToNull(model.getAllowedPattern()))
+                .policies(canonicalizePolicies(model.getPolicies()))
+                .tier(model.getTier())
+                .dataType(DEFAULT_DATA_TYPE.equals(model.getDataType()) ? null : model.getDataType())
+                .build();
+    }
+
+    /**
+     * @param policies policies JSON of a parameter
+     * @return the policies with sorted keys and no whitespace, null for no policies, or the trimmed input when it is
+     * not JSON and SSM has to judge it
+     */
+    static String canonicalizePolicies(final String policies) {
+        final String trimmed = emptyToNull(policies == null ? null : policies.trim());
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            // Bind to maps and lists so that the mapper sorts the keys of every object on the way out
+            final Object policyList = MAPPER.readValue(trimmed, Object.class);
+            final String canonical = MAPPER.writeValueAsString(policyList);
+            return "[]".equals(canonical) ? null : canonical;
+        } catch (final IOException exception) {
+            return trimmed;
+        }
+    }
+
+    private static String emptyToNull(final String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
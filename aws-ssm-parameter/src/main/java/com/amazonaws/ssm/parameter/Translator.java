@@ -1,16 +1,23 @@
 package com.amazonaws.ssm.parameter;
 
+import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
 import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.ssm.model.DeleteParameterRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersRequest;
 import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathRequest;
 import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
 import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterTier;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
 import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
 import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ResourceTypeForTagging;
 import software.amazon.awssdk.services.ssm.model.Tag;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
 import java.util.List;
@@ -19,6 +26,19 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class Translator {
+    private static final String PATH_FILTER = "Path";
+    private static final String NAME_FILTER = "Name";
+    private static final String TYPE_FILTER = "Type";
+    private static final String TIER_FILTER = "Tier";
+    private static final String DATA_TYPE_FILTER = "DataType";
+    private static final String TAG_KEY_FILTER = "tag-key";
+    private static final String TAG_FILTER_PREFIX = "tag:";
+    private static final String PATH_RECURSIVE = "Recursive";
+    private static final String PATH_ONE_LEVEL = "OneLevel";
+    private static final String BEGINS_WITH = "BeginsWith";
+    private static final String EQUALS = "Equals";
+    private static final String ONE_LEVEL_SUFFIX = "/*";
+
     static PutParameterRequest createPutParameterRequest(final ResourceModel model,
                                                          final Map<String, String> tags) {
         return PutParameterRequest.builder()
@@ -56,19 +76,175 @@ public class Translator {
                 .build();
     }
 
-    static DescribeParametersRequest describeParametersRequest(final String nextToken) {
+    static DescribeParametersRequest describeParametersRequest(final ResourceModel model, final String nextToken) {
         return DescribeParametersRequest.builder()
+                .parameterFilters(translateToParameterFilters(model))
                 .nextToken(nextToken)
                 .maxResults(Constants.MAX_RESULTS)
                 .build();
     }
 
+    /**
+     * Request the metadata, without the value, of the parameter with the given name.
+     * @param name parameter name
+     * @return the request
+     */
+    static DescribeParametersRequest describeParameterByNameRequest(final String name, final String nextToken) {
+        return DescribeParametersRequest.builder()
+                .parameterFilters(ParameterStringFilter.builder()
+                        .key(NAME_FILTER)
+                        .option(EQUALS)
+                        .values(name)
+                        .build())
+                .nextToken(nextToken)
+                .maxResults(Constants.MAX_RESULTS)
+                .build();
+    }
+
+    /**
+     * Push the properties set on the model of a list request down to DescribeParameters, so that SSM only returns
+     * the matching parameters instead of every parameter of the account.
+     *
+     * A Name ending with / lists the hierarchy below it recursively, and a Name ending with /* lists only its first
+     * level. Any other Name matches the parameters whose name begins with it. Type, Tier and DataType have to match
+     * exactly, and every tag has to be attached, with the given value unless the value is empty.
+     * @param model model of the list request, may be null
+     * @return the filters, empty when the model sets none of these properties
+     */
+    static List<ParameterStringFilter> translateToParameterFilters(final ResourceModel model) {
+        final List<ParameterStringFilter> filters = new ArrayList<>();
+        if (model == null) {
+            return filters;
+        }
+
+        final String name = model.getName();
+        if (name != null && !name.isEmpty()) {
+            if (name.startsWith("/") && name.endsWith(ONE_LEVEL_SUFFIX)) {
+                filters.add(parameterFilter(PATH_FILTER, PATH_ONE_LEVEL,
+                        toPath(name.substring(0, name.length() - ONE_LEVEL_SUFFIX.length() + 1))));
+            } else if (name.startsWith("/") && name.endsWith("/")) {
+                filters.add(parameterFilter(PATH_FILTER, PATH_RECURSIVE, toPath(name)));
+            } else {
+                filters.add(parameterFilter(NAME_FILTER, BEGINS_WITH, name));
+            }
+        }
+        if (model.getType() != null) {
+            filters.add(parameterFilter(TYPE_FILTER, EQUALS, model.getType()));
+        }
+        if (model.getTier() != null) {
+            filters.add(parameterFilter(TIER_FILTER, EQUALS, model.getTier()));
+        }
+        if (model.getDataType() != null) {
+            filters.add(parameterFilter(DATA_TYPE_FILTER, EQUALS, model.getDataType()));
+        }
+        if (model.getTags() != null) {
+            model.getTags().forEach((key, value) -> filters.add(value == null || value.isEmpty()
+                    ? parameterFilter(TAG_KEY_FILTER, EQUALS, key)
+                    : parameterFilter(TAG_FILTER_PREFIX + key, EQUALS, value)));
+        }
+        return filters;
+    }
+
+    private static ParameterStringFilter parameterFilter(final String key, final String option, final String value) {
+        return ParameterStringFilter.builder()
+                .key(key)
+                .option(option)
+                .values(value)
+                .build();
+    }
+
+    // Path filter values have no trailing slash, except for the root
+    private static String toPath(final String hierarchy) {
+        return hierarchy.length() > 1 ? hierarchy.substring(0, hierarchy.length() - 1) : hierarchy;
+    }
+
     static DeleteParameterRequest deleteParameterRequest(final ResourceModel model) {
         return DeleteParameterRequest.builder()
                 .name(model.getName())
                 .build();
     }
 
+    static GetParametersByPathRequest getParametersByPathRequest(final String path,
+                                                                 final boolean recursive,
+                                                                 final String nextToken) {
+        return GetParametersByPathRequest.builder()
+                .path(path)
+                .recursive(recursive)
+                // SecureString values would have to be decrypted into the plain-text snapshot file, leave them out
+                .parameterFilters(ParameterStringFilter.builder()
+                        .key(TYPE_FILTER)
+                        .option(EQUALS)
+                        .values(ParameterType.STRING.toString(), ParameterType.STRING_LIST.toString())
+                        .build())
+                .withDecryption(Boolean.FALSE)
+                .maxResults(Constants.MAX_PARAMETERS_BY_PATH_RESULTS)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static DescribeParametersRequest describeParametersByPathRequest(final String path, final String nextToken) {
+        return DescribeParametersRequest.builder()
+                .parameterFilters(parameterFilter(PATH_FILTER, PATH_RECURSIVE, path))
+                .nextToken(nextToken)
+                .maxResults(Constants.MAX_RESULTS)
+                .build();
+    }
+
+    /**
+     * Request to write a parameter of a snapshot, with the description, tier, allowed pattern and policies it was
+     * exported with. Tags can only be sent when the parameter is created, an overwrite has to tag the parameter
+     * separately.
+     */
+    static PutParameterRequest snapshotPutParameterRequest(final ParameterSnapshotRecord record,
+                                                           final boolean overwrite) {
+        final PutParameterRequest.Builder builder = PutParameterRequest.builder()
+                .name(record.getName())
+                .value(record.getValue())
+                .type(record.getType())
+                .dataType(record.getDataType())
+                .description(record.getDescription())
+                .allowedPattern(record.getAllowedPattern())
+                .policies(record.getPolicies())
+                .overwrite(overwrite);
+        if (record.getTier() != null) {
+            builder.tier(record.getTier());
+        } else if (record.getValue().length() > ParameterValidator.MAX_STANDARD_VALUE_LENGTH) {
+            // Snapshots exported without the tier of their parameters
+            builder.tier(ParameterTier.ADVANCED);
+        }
+        if (!overwrite) {
+            builder.tags(translateTagsToSdk(record.getTags()));
+        }
+        return builder.build();
+    }
+
+    static AddTagsToResourceRequest snapshotTagResourceRequest(final ParameterSnapshotRecord record) {
+        return AddTagsToResourceRequest.builder()
+                .resourceId(record.getName())
+                .resourceType(ResourceTypeForTagging.PARAMETER)
+                .tags(translateTagsToSdk(record.getTags()))
+                .build();
+    }
+
+    static DeleteParametersRequest deleteParametersRequest(final List<String> names) {
+        return DeleteParametersRequest.builder()
+                .names(names)
+                .build();
+    }
+
+    static DescribeStacksRequest describeStacksRequest(final String stackId) {
+        return DescribeStacksRequest.builder()
+                .stackName(stackId)
+                .build();
+    }
+
+    static ListTagsForResourceRequest listTagsForResourceRequest(final String parameterName) {
+        return ListTagsForResourceRequest.builder()
+                .resourceId(parameterName)
+                .resourceType(ResourceTypeForTagging.PARAMETER)
+                .build();
+    }
+
     // Translate tags
     static List<Tag> translateTagsToSdk(final Map<String, String> tags) {
         return Optional.of(tags.entrySet()).orElse(Collections.emptySet())
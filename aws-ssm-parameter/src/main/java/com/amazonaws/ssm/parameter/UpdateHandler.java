@@ -30,7 +30,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -55,6 +55,14 @@ public class UpdateHandler extends BaseHandlerStd {
                     HandlerErrorCode.InvalidRequest);
         }
 
+        // Reject what PutParameter would reject before any call is made
+        final Optional<String> validationError = ParameterValidator.validate(Translator.updatePutParameterRequest(model));
+        if (validationError.isPresent()) {
+            logger.log(String.format("Parameter %s failed pre-flight validation: %s", model.getName(), validationError.get()));
+            return ProgressEvent.defaultFailureHandler(new TerminalException(validationError.get()),
+                    HandlerErrorCode.InvalidRequest);
+        }
+
         ProgressEvent<ResourceModel, CallbackContext> progressEvent = ProgressEvent.progress(model, callbackContext);
 
         //validate resource exists
@@ -95,23 +103,22 @@ public class UpdateHandler extends BaseHandlerStd {
                                     .progress());
         }
 
-        return progressEvent.then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        return progressEvent.then(progress -> {
+            ParameterReadCache.getInstance().invalidate(request.getAwsAccountId(), request.getRegion(), model.getName());
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        });
     }
 
     /**
-     * Helper method to check if the previous and current resource model are the same or not except tags.
+     * Helper method to check if the previous and current resource model describe the same parameter, except tags.
+     * Formatting-only differences, such as the whitespace and key order of the policies, are not changes.
      * @param currentResourceModel currentResourceModel
      * @param previousResourceModel previousResourceModel
      * @return boolean indicating if previous and current resource model are the same or not
      */
     private boolean areResourceModelSame(final ResourceModel currentResourceModel,
                                          final ResourceModel previousResourceModel) {
-        if (previousResourceModel == null) {
-            return false;
-        }
-        currentResourceModel.setTags(null);
-        previousResourceModel.setTags(null);
-        return Objects.equals(previousResourceModel, currentResourceModel);
+        return ResourceModelNormalizer.isSameParameter(previousResourceModel, currentResourceModel);
     }
 
     private GetParametersResponse validateResourceExists(GetParametersRequest getParametersRequest, ProxyClient<SsmClient> proxyClient) {
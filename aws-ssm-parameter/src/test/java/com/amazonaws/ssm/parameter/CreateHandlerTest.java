@@ -58,11 +58,14 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     private CreateHandler handler;
 
+    private CreateReplayCache createReplayCache;
+
     private ResourceModel RESOURCE_MODEL;
 
     @BeforeEach
     public void setup() {
-        handler = new CreateHandler();
+        createReplayCache = new CreateReplayCache();
+        handler = new CreateHandler(createReplayCache);
         ssmClient = mock(SsmClient.class);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxySsmClient = MOCK_PROXY(proxy, ssmClient);
@@ -116,6 +119,35 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(proxySsmClient.client()).putParameter(any(PutParameterRequest.class));
         verify(ssmClient, atLeastOnce()).serviceName();
+        assertThat(createReplayCache.get("token")).contains(NAME);
+    }
+
+    @Test
+    public void handleRequest_ReplayedCreateReadsCreatedParameter() {
+        createReplayCache.put("token", NAME);
+        final GetParametersResponse getParametersResponse = GetParametersResponse.builder()
+                .parameters(Parameter.builder()
+                        .name(NAME)
+                        .type(TYPE_STRING)
+                        .value(VALUE)
+                        .version(VERSION).build())
+                .build();
+        when(proxySsmClient.client().getParameters(any(GetParametersRequest.class))).thenReturn(getParametersResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceTags(TAG_SET)
+                .systemTags(SYSTEM_TAGS_SET)
+                .desiredResourceState(RESOURCE_MODEL)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getName()).isEqualTo(NAME);
+
+        verify(proxySsmClient.client()).getParameters(any(GetParametersRequest.class));
+        verify(proxySsmClient.client(), never()).putParameter(any(PutParameterRequest.class));
     }
 
     @Test
@@ -147,6 +179,30 @@ public class CreateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(proxySsmClient.client());
     }
 
+    @Test
+    public void handleRequest_ValueNotMatchingAllowedPatternFailsBeforePutParameter() {
+        RESOURCE_MODEL = ResourceModel.builder()
+                .description(DESCRIPTION)
+                .name(NAME)
+                .value(VALUE)
+                .type(TYPE_STRING)
+                .allowedPattern("^\\d+$")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceTags(TAG_SET)
+                .desiredResourceState(RESOURCE_MODEL)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getMessage()).isEqualTo("Parameter value does not match its AllowedPattern ^\\d+$");
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+
+        verify(ssmClient, never()).serviceName();
+    }
+
     @Test
     public void handleRequest_SimpleSuccess_With_No_ParameterName_Defined_Exceeding_LogicalResourceId() {
         final GetParametersResponse getParametersResponse = GetParametersResponse.builder()
@@ -176,7 +232,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceTags(TAG_SET)
                 .systemTags(SYSTEM_TAGS_SET)
                 .desiredResourceState(RESOURCE_MODEL)
-                .logicalResourceIdentifier(RandomStringUtils.random(600)).build();
+                .logicalResourceIdentifier(RandomStringUtils.randomAlphanumeric(600)).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
 
         assertThat(response).isNotNull();
@@ -5,6 +5,7 @@ import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
 import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -14,6 +15,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -89,4 +91,61 @@ public class ListHandlerTest extends AbstractTestBase {
 
         verify(proxySsmClient.client()).describeParameters(any(DescribeParametersRequest.class));
     }
+
+    @Test
+    public void handleRequest_PushesModelDownAsParameterFilters() {
+        final DescribeParametersResponse describeParametersResponse = DescribeParametersResponse.builder()
+                .parameters(Collections.singletonList(ParameterMetadata.builder().name(PARAMETER_NAME).build()))
+                .build();
+        when(proxySsmClient.client().describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(describeParametersResponse);
+
+        final ResourceModel model = ResourceModel.builder()
+                .name("/app/prod/")
+                .type(TYPE_STRING)
+                .tier("Advanced")
+                .dataType("text")
+                .tags(Collections.singletonMap("team", "payments"))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken(NEXT_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+
+        final ArgumentCaptor<DescribeParametersRequest> captor = ArgumentCaptor.forClass(DescribeParametersRequest.class);
+        verify(proxySsmClient.client()).describeParameters(captor.capture());
+        assertThat(captor.getValue().nextToken()).isEqualTo(NEXT_TOKEN);
+        assertThat(captor.getValue().parameterFilters()).containsExactly(
+                filter("Path", "Recursive", "/app/prod"),
+                filter("Type", "Equals", TYPE_STRING),
+                filter("Tier", "Equals", "Advanced"),
+                filter("DataType", "Equals", "text"),
+                filter("tag:team", "Equals", "payments"));
+    }
+
+    @Test
+    public void translateToParameterFilters_MapsNameToPathOrPrefix() {
+        assertThat(Translator.translateToParameterFilters(ResourceModel.builder().name("/app/*").build()))
+                .containsExactly(filter("Path", "OneLevel", "/app"));
+        assertThat(Translator.translateToParameterFilters(ResourceModel.builder().name("/").build()))
+                .containsExactly(filter("Path", "Recursive", "/"));
+        assertThat(Translator.translateToParameterFilters(ResourceModel.builder().name("CFN-").build()))
+                .containsExactly(filter("Name", "BeginsWith", "CFN-"));
+        assertThat(Translator.translateToParameterFilters(ResourceModel.builder()
+                .tags(Collections.singletonMap("team", "")).build()))
+                .containsExactly(filter("tag-key", "Equals", "team"));
+        assertThat(Translator.translateToParameterFilters(ResourceModel.builder().build())).isEmpty();
+        assertThat(Translator.translateToParameterFilters(null)).isEmpty();
+    }
+
+    private static ParameterStringFilter filter(final String key, final String option, final String value) {
+        return ParameterStringFilter.builder().key(key).option(option).values(value).build();
+    }
 }
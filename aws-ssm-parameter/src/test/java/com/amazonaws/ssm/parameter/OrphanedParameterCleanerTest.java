@@ -0,0 +1,217 @@
+package com.amazonaws.ssm.parameter;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.cloudformation.CloudFormationClient;
+import software.amazon.awssdk.services.cloudformation.model.CloudFormationException;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStacksRequest;
+import software.amazon.awssdk.services.cloudformation.model.DescribeStacksResponse;
+import software.amazon.awssdk.services.cloudformation.model.Stack;
+import software.amazon.awssdk.services.cloudformation.model.StackStatus;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteParametersResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterStringFilter;
+import software.amazon.awssdk.services.ssm.model.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OrphanedParameterCleanerTest {
+
+    private static final String ORPHANED_STACK = "arn:aws:cloudformation:us-east-1:123456789012:stack/orphaned/1";
+    private static final String LIVE_STACK = "arn:aws:cloudformation:us-east-1:123456789012:stack/live/2";
+
+    @Mock
+    private SsmClient ssmClient;
+
+    @Mock
+    private CloudFormationClient cloudFormationClient;
+
+    private final List<String> progress = new ArrayList<>();
+
+    private OrphanedParameterCleaner cleaner;
+
+    @BeforeEach
+    public void setup() {
+        cleaner = new OrphanedParameterCleaner(ssmClient, cloudFormationClient, RateLimiter.create(1000), RateLimiter.create(1000), progress::add);
+    }
+
+    @AfterEach
+    public void post_execute() {
+        verifyNoMoreInteractions(ssmClient, cloudFormationClient);
+    }
+
+    @Test
+    public void clean_deletesOwnedParametersInBatchesOfTen() {
+        when(cloudFormationClient.describeStacks(any(DescribeStacksRequest.class)))
+                .thenReturn(stack(StackStatus.DELETE_COMPLETE));
+        final List<String> owned = names("CFN-Owned-", 12);
+        final List<String> live = names("CFN-Live-", 1);
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(page(owned.subList(0, 7), "token"))
+                .thenReturn(page(concat(owned.subList(7, 12), live), null));
+        when(ssmClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> {
+            final String name = invocation.<ListTagsForResourceRequest>getArgument(0).resourceId();
+            return tags(name.startsWith("CFN-Owned-") ? ORPHANED_STACK : LIVE_STACK);
+        });
+        when(ssmClient.deleteParameters(any(DeleteParametersRequest.class))).thenAnswer(invocation ->
+                DeleteParametersResponse.builder()
+                        .deletedParameters(invocation.<DeleteParametersRequest>getArgument(0).names())
+                        .build());
+
+        final OrphanedParameterCleaner.CleanupResult result =
+                cleaner.clean(Collections.singleton(ORPHANED_STACK), false);
+
+        assertThat(result.getScanned()).isEqualTo(13);
+        assertThat(result.getMatched()).isEqualTo(owned);
+        assertThat(result.getDeleted()).isEqualTo(owned);
+
+        verify(cloudFormationClient).describeStacks(any(DescribeStacksRequest.class));
+        final ArgumentCaptor<DescribeParametersRequest> describeCaptor = ArgumentCaptor.forClass(DescribeParametersRequest.class);
+        verify(ssmClient, times(2)).describeParameters(describeCaptor.capture());
+        assertThat(describeCaptor.getAllValues().get(0).parameterFilters()).containsExactly(ParameterStringFilter.builder()
+                .key("Name").option("BeginsWith").values("CFN-").build());
+        assertThat(describeCaptor.getAllValues().get(1).nextToken()).isEqualTo("token");
+
+        final ArgumentCaptor<DeleteParametersRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteParametersRequest.class);
+        verify(ssmClient, times(2)).deleteParameters(deleteCaptor.capture());
+        assertThat(deleteCaptor.getAllValues().get(0).names()).isEqualTo(owned.subList(0, 10));
+        assertThat(deleteCaptor.getAllValues().get(1).names()).isEqualTo(owned.subList(10, 12));
+        verify(ssmClient, times(13)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        assertThat(progress).contains("Scanned 13 parameters, 12 owned by the given stacks, 12 deleted");
+    }
+
+    @Test
+    public void clean_dryRunDeletesNothing() {
+        when(cloudFormationClient.describeStacks(any(DescribeStacksRequest.class)))
+                .thenReturn(stack(StackStatus.DELETE_COMPLETE));
+        final List<String> owned = names("CFN-Owned-", 2);
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(page(owned, null));
+        when(ssmClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(tags(ORPHANED_STACK));
+
+        final OrphanedParameterCleaner.CleanupResult result =
+                cleaner.clean(Collections.singleton(ORPHANED_STACK), true);
+
+        assertThat(result.getMatched()).isEqualTo(owned);
+        assertThat(result.getDeleted()).isEmpty();
+        assertThat(progress).contains("Would delete CFN-Owned-0", "Would delete CFN-Owned-1");
+        verify(cloudFormationClient).describeStacks(any(DescribeStacksRequest.class));
+        verify(ssmClient).describeParameters(any(DescribeParametersRequest.class));
+        verify(ssmClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void clean_skipsParametersWithoutStackTag() {
+        when(cloudFormationClient.describeStacks(any(DescribeStacksRequest.class)))
+                .thenReturn(stack(StackStatus.DELETE_COMPLETE));
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(page(names("CFN-Untagged-", 1), null));
+        when(ssmClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final OrphanedParameterCleaner.CleanupResult result =
+                cleaner.clean(Collections.singleton(ORPHANED_STACK), false);
+
+        assertThat(result.getScanned()).isEqualTo(1);
+        assertThat(result.getMatched()).isEmpty();
+        verify(cloudFormationClient).describeStacks(any(DescribeStacksRequest.class));
+        verify(ssmClient).describeParameters(any(DescribeParametersRequest.class));
+        verify(ssmClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void clean_skipsStacksThatStillExist() {
+        when(cloudFormationClient.describeStacks(any(DescribeStacksRequest.class)))
+                .thenReturn(stack(StackStatus.ROLLBACK_COMPLETE));
+
+        final OrphanedParameterCleaner.CleanupResult result =
+                cleaner.clean(Collections.singleton(LIVE_STACK), false);
+
+        assertThat(result.getScanned()).isEqualTo(0);
+        assertThat(result.getSkippedStacks()).containsExactly(LIVE_STACK);
+        assertThat(progress).contains(String.format("Skipping stack %s, it still exists in ROLLBACK_COMPLETE", LIVE_STACK));
+        final ArgumentCaptor<DescribeStacksRequest> describeStacksCaptor = ArgumentCaptor.forClass(DescribeStacksRequest.class);
+        verify(cloudFormationClient).describeStacks(describeStacksCaptor.capture());
+        assertThat(describeStacksCaptor.getValue().stackName()).isEqualTo(LIVE_STACK);
+    }
+
+    @Test
+    public void clean_treatsStacksCloudFormationNoLongerKnowsAsGone() {
+        when(cloudFormationClient.describeStacks(any(DescribeStacksRequest.class))).thenThrow(
+                CloudFormationException.builder()
+                        .message(String.format("Stack with id %s does not exist", ORPHANED_STACK))
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ValidationError").build())
+                        .statusCode(400)
+                        .build());
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(page(names("CFN-Owned-", 1), null));
+        when(ssmClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(tags(ORPHANED_STACK));
+        when(ssmClient.deleteParameters(any(DeleteParametersRequest.class))).thenReturn(
+                DeleteParametersResponse.builder().deletedParameters("CFN-Owned-0").build());
+
+        final OrphanedParameterCleaner.CleanupResult result =
+                cleaner.clean(Collections.singleton(ORPHANED_STACK), false);
+
+        assertThat(result.getDeleted()).containsExactly("CFN-Owned-0");
+        assertThat(result.getSkippedStacks()).isEmpty();
+        verify(cloudFormationClient).describeStacks(any(DescribeStacksRequest.class));
+        verify(ssmClient).describeParameters(any(DescribeParametersRequest.class));
+        verify(ssmClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(ssmClient).deleteParameters(any(DeleteParametersRequest.class));
+    }
+
+    private static List<String> names(final String prefix, final int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList());
+    }
+
+    private static List<String> concat(final List<String> first, final List<String> second) {
+        final List<String> names = new ArrayList<>(first);
+        names.addAll(second);
+        return names;
+    }
+
+    private static DescribeParametersResponse page(final List<String> names, final String nextToken) {
+        return DescribeParametersResponse.builder()
+                .parameters(names.stream()
+                        .map(name -> ParameterMetadata.builder().name(name).build())
+                        .collect(Collectors.toList()))
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private static DescribeStacksResponse stack(final StackStatus stackStatus) {
+        return DescribeStacksResponse.builder()
+                .stacks(Stack.builder().stackStatus(stackStatus).build())
+                .build();
+    }
+
+    private static ListTagsForResourceResponse tags(final String stackId) {
+        return ListTagsForResourceResponse.builder()
+                .tagList(Tag.builder().key(Constants.STACK_ID_TAG_KEY).value(stackId).build())
+                .build();
+    }
+}
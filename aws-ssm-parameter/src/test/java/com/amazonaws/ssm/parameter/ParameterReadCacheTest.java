@@ -0,0 +1,132 @@
+package com.amazonaws.ssm.parameter;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterReadCacheTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final Instant NOW = Instant.parse("2020-09-13T12:00:00Z");
+
+    @Test
+    public void get_probesOnlyTheRequestedName() {
+        final ParameterReadCache cache = new ParameterReadCache(new MutableClock(NOW));
+        cache.put(ACCOUNT_ID, REGION, parameter("a", 1L, NOW));
+        cache.put(ACCOUNT_ID, REGION, parameter("b", 1L, NOW));
+
+        final List<String> probes = new ArrayList<>();
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> {
+            probes.add(name);
+            return Optional.of(metadata(name, 1L, NOW));
+        })).hasValueSatisfying(cached -> assertThat(cached.getValue()).isEqualTo("value-a"));
+
+        assertThat(probes).containsExactly("a");
+    }
+
+    @Test
+    public void get_probesEveryReadEvenRightAfterAValidation() {
+        final ParameterReadCache cache = new ParameterReadCache(new MutableClock(NOW));
+        cache.put(ACCOUNT_ID, REGION, parameter("a", 1L, NOW));
+
+        final List<String> probes = new ArrayList<>();
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> {
+            probes.add(name);
+            return Optional.of(metadata(name, 1L, NOW));
+        })).isPresent();
+
+        // Written by another container within the same instant, the probe still sees the new version
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> {
+            probes.add(name);
+            return Optional.of(metadata(name, 2L, NOW));
+        })).isEmpty();
+
+        assertThat(probes).hasSize(2);
+    }
+
+    @Test
+    public void get_recreatedParameterWithTheSameVersionIsNotServed() {
+        final ParameterReadCache cache = new ParameterReadCache(new MutableClock(NOW));
+        cache.put(ACCOUNT_ID, REGION, parameter("a", 1L, NOW));
+
+        // Deleted and created again, so back at version 1
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> Optional.of(metadata(name, 1L, NOW.plusSeconds(60)))))
+                .isEmpty();
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> {
+            throw new AssertionError("a was already dropped");
+        })).isEmpty();
+    }
+
+    @Test
+    public void get_deletedParameterIsDropped() {
+        final ParameterReadCache cache = new ParameterReadCache(new MutableClock(NOW));
+        cache.put(ACCOUNT_ID, REGION, parameter("a", 1L, NOW));
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> Optional.empty())).isEmpty();
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> {
+            throw new AssertionError("a was already dropped");
+        })).isEmpty();
+    }
+
+    @Test
+    public void requestsWithoutAccountOrRegionAreNotCached() {
+        final ParameterReadCache cache = new ParameterReadCache();
+        cache.put(null, REGION, parameter("a", 1L, NOW));
+
+        assertThat(cache.get(null, REGION, "a", name -> {
+            throw new AssertionError("nothing to revalidate");
+        })).isEmpty();
+    }
+
+    @Test
+    public void invalidate_forgetsWrittenParameter() {
+        final ParameterReadCache cache = new ParameterReadCache(Clock.systemUTC());
+        cache.put(ACCOUNT_ID, REGION, parameter("a", 1L, NOW));
+        cache.invalidate(ACCOUNT_ID, REGION, "a");
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, "a", name -> Optional.of(metadata(name, 1L, NOW)))).isEmpty();
+    }
+
+    private static Parameter parameter(final String name, final Long version, final Instant lastModifiedDate) {
+        return Parameter.builder().name(name).type("String").value("value-" + name).version(version)
+                .lastModifiedDate(lastModifiedDate).build();
+    }
+
+    private static ParameterMetadata metadata(final String name, final Long version, final Instant lastModifiedDate) {
+        return ParameterMetadata.builder().name(name).version(version).lastModifiedDate(lastModifiedDate).build();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.amazonaws.ssm.parameter;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.ssm.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersByPathResponse;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.ssm.model.Parameter;
+import software.amazon.awssdk.services.ssm.model.ParameterAlreadyExistsException;
+import software.amazon.awssdk.services.ssm.model.ParameterInlinePolicy;
+import software.amazon.awssdk.services.ssm.model.ParameterMetadata;
+import software.amazon.awssdk.services.ssm.model.ParameterTier;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+import software.amazon.awssdk.services.ssm.model.PutParameterResponse;
+import software.amazon.awssdk.services.ssm.model.Tag;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ParameterSnapshotTest {
+
+    private static final String EXPIRATION_POLICY =
+            "{\"Type\":\"Expiration\",\"Version\":\"1.0\",\"Attributes\":{\"Timestamp\":\"2030-01-01T00:00:00Z\"}}";
+    private static final String EXPIRATION_POLICIES = "[" + EXPIRATION_POLICY + "]";
+
+    @Mock
+    private SsmClient ssmClient;
+
+    @TempDir
+    Path directory;
+
+    private final List<String> progress = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    public void post_execute() {
+        verifyNoMoreInteractions(ssmClient);
+    }
+
+    @Test
+    public void record_roundTripsThroughOneLine() throws IOException {
+        final ParameterSnapshotRecord record = ParameterSnapshotRecord.builder()
+                .name("/app/env/db/url")
+                .type("String")
+                .value("jdbc:mysql://db\nreplica")
+                .dataType("text")
+                .description("Primary database")
+                .tier("Advanced")
+                .allowedPattern("^jdbc:.*")
+                .policies(EXPIRATION_POLICIES)
+                .tags(ImmutableMap.of("team", "core", "env", "dev"))
+                .build();
+
+        final String line = record.toLine();
+
+        assertThat(line).doesNotContain("\n").startsWith("{\"Name\":\"/app/env/db/url\"");
+        assertThat(ParameterSnapshotRecord.fromLine(line)).isEqualTo(record);
+    }
+
+    @Test
+    public void record_relocateOnlyMovesParametersUnderTheSourcePath() {
+        assertThat(record("/app/dev/db/url").relocate("/app/dev", "/app/prod").getName()).isEqualTo("/app/prod/db/url");
+        assertThat(record("/app/development/url").relocate("/app/dev", "/app/prod").getName())
+                .isEqualTo("/app/development/url");
+    }
+
+    @Test
+    public void export_readsEverySubPathAsItsOwnPartition() throws IOException {
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(
+                DescribeParametersResponse.builder()
+                        .parameters(metadata("/app/env/version", "/app/env/db/url", "/app/env/db/pool/size",
+                                "/app/env/queue/name"))
+                        .build());
+        when(ssmClient.getParametersByPath(any(GetParametersByPathRequest.class))).thenAnswer(invocation -> {
+            final GetParametersByPathRequest request = invocation.getArgument(0);
+            switch (request.path()) {
+                case "/app/env":
+                    return parameters(null, "/app/env/version");
+                case "/app/env/db":
+                    return request.nextToken() == null
+                            ? parameters("token", "/app/env/db/url")
+                            : parameters(null, "/app/env/db/pool/size");
+                default:
+                    return parameters(null, "/app/env/queue/name");
+            }
+        });
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+        final Path checkpoint = directory.resolve("snapshot.checkpoint");
+
+        final ParameterSnapshotExporter.ExportResult result = exporter().export("/app/env", false, snapshot, checkpoint);
+
+        assertThat(result.getPartitions()).isEqualTo(3);
+        assertThat(result.getExported()).isEqualTo(4);
+        assertThat(names(snapshot)).containsExactlyInAnyOrder(
+                "/app/env/version", "/app/env/db/url", "/app/env/db/pool/size", "/app/env/queue/name");
+        assertThat(Files.readAllLines(checkpoint)).containsExactlyInAnyOrder(
+                "/app/env/*", "/app/env/db/**", "/app/env/queue/**");
+
+        final ArgumentCaptor<GetParametersByPathRequest> requests = ArgumentCaptor.forClass(GetParametersByPathRequest.class);
+        verify(ssmClient).describeParameters(any(DescribeParametersRequest.class));
+        verify(ssmClient, times(4)).getParametersByPath(requests.capture());
+        assertThat(requests.getAllValues()).allSatisfy(request -> {
+            assertThat(request.recursive()).isEqualTo(!"/app/env".equals(request.path()));
+            assertThat(request.withDecryption()).isFalse();
+            assertThat(request.parameterFilters().get(0).values()).doesNotContain(ParameterType.SECURE_STRING.toString());
+        });
+    }
+
+    @Test
+    public void export_skipsCheckpointedPartitionsAndReadsTags() throws IOException {
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(
+                DescribeParametersResponse.builder()
+                        .parameters(metadata("/app/env/db/url", "/app/env/queue/name"))
+                        .build());
+        when(ssmClient.getParametersByPath(any(GetParametersByPathRequest.class)))
+                .thenReturn(parameters(null, "/app/env/queue/name"));
+        when(ssmClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(
+                ListTagsForResourceResponse.builder().tagList(Tag.builder().key("team").value("core").build()).build());
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+        final Path checkpoint = directory.resolve("snapshot.checkpoint");
+        Files.write(snapshot, Arrays.asList(record("/app/env/db/url").toLine()));
+        Files.write(checkpoint, Arrays.asList("/app/env/*", "/app/env/db/**"));
+
+        final ParameterSnapshotExporter.ExportResult result = exporter().export("/app/env", true, snapshot, checkpoint);
+
+        assertThat(result.getSkippedPartitions()).isEqualTo(2);
+        assertThat(result.getExported()).isEqualTo(1);
+        assertThat(names(snapshot)).containsExactly("/app/env/db/url", "/app/env/queue/name");
+        assertThat(ParameterSnapshotRecord.fromLine(Files.readAllLines(snapshot).get(1)).getTags())
+                .isEqualTo(ImmutableMap.of("team", "core"));
+
+        verify(ssmClient).describeParameters(any(DescribeParametersRequest.class));
+        verify(ssmClient).getParametersByPath(any(GetParametersByPathRequest.class));
+        verify(ssmClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void export_leavesOutReservedStackTags() throws IOException {
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(
+                DescribeParametersResponse.builder().parameters(metadata("/app/env/name")).build());
+        when(ssmClient.getParametersByPath(any(GetParametersByPathRequest.class)))
+                .thenReturn(parameters(null, "/app/env/name"));
+        when(ssmClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(
+                ListTagsForResourceResponse.builder().tagList(
+                        Tag.builder().key("aws:cloudformation:stack-name").value("app").build(),
+                        Tag.builder().key(Constants.STACK_ID_TAG_KEY).value("arn:aws:cloudformation:stack/app").build(),
+                        Tag.builder().key("team").value("core").build()).build());
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+
+        exporter().export("/app/env", true, snapshot, directory.resolve("snapshot.checkpoint"));
+
+        assertThat(ParameterSnapshotRecord.fromLine(Files.readAllLines(snapshot).get(0)).getTags())
+                .isEqualTo(ImmutableMap.of("team", "core"));
+    }
+
+    @Test
+    public void export_carriesMetadataAndCountsLeftOutSecureStrings() throws IOException {
+        when(ssmClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(
+                DescribeParametersResponse.builder().parameters(
+                        ParameterMetadata.builder()
+                                .name("/app/env/db/url")
+                                .type(ParameterType.STRING)
+                                .description("Primary database")
+                                .tier(ParameterTier.ADVANCED)
+                                .allowedPattern("^jdbc:.*")
+                                .policies(ParameterInlinePolicy.builder()
+                                        .policyType("Expiration")
+                                        .policyText(EXPIRATION_POLICY)
+                                        .build())
+                                .build(),
+                        ParameterMetadata.builder().name("/app/env/db/password").type(ParameterType.SECURE_STRING).build(),
+                        ParameterMetadata.builder().name("/app/env/vault/key").type(ParameterType.SECURE_STRING).build())
+                        .build());
+        when(ssmClient.getParametersByPath(any(GetParametersByPathRequest.class)))
+                .thenAnswer(invocation -> "/app/env/db".equals(invocation.<GetParametersByPathRequest>getArgument(0).path())
+                        ? parameters(null, "/app/env/db/url")
+                        : parameters(null));
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+
+        final ParameterSnapshotExporter.ExportResult result =
+                exporter().export("/app/env", false, snapshot, directory.resolve("snapshot.checkpoint"));
+
+        // The vault sub-path only holds SecureStrings, so it is not read at all
+        assertThat(result.getPartitions()).isEqualTo(2);
+        assertThat(result.getSkippedSecureStrings()).isEqualTo(2);
+        assertThat(progress).anyMatch(line -> line.contains("leaving out 2 SecureString parameters"));
+
+        final ParameterSnapshotRecord record = ParameterSnapshotRecord.fromLine(Files.readAllLines(snapshot).get(0));
+        assertThat(record.getDescription()).isEqualTo("Primary database");
+        assertThat(record.getTier()).isEqualTo("Advanced");
+        assertThat(record.getAllowedPattern()).isEqualTo("^jdbc:.*");
+        assertThat(record.getPolicies()).isEqualTo(EXPIRATION_POLICIES);
+
+        verify(ssmClient).describeParameters(any(DescribeParametersRequest.class));
+        verify(ssmClient, times(2)).getParametersByPath(any(GetParametersByPathRequest.class));
+    }
+
+    @Test
+    public void import_writesTheExportedMetadata() throws IOException {
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+        Files.write(snapshot, Arrays.asList(record("/app/dev/db/url").toBuilder()
+                .description("Primary database")
+                .tier("Advanced")
+                .allowedPattern("^jdbc:.*")
+                .policies(EXPIRATION_POLICIES)
+                .build()
+                .toLine()));
+        when(ssmClient.putParameter(any(PutParameterRequest.class)))
+                .thenReturn(PutParameterResponse.builder().version(1L).build());
+
+        importer().importSnapshot(snapshot, "/app/dev", "/app/prod", directory.resolve("snapshot.imported"), false);
+
+        final ArgumentCaptor<PutParameterRequest> puts = ArgumentCaptor.forClass(PutParameterRequest.class);
+        verify(ssmClient).putParameter(puts.capture());
+        assertThat(puts.getValue().name()).isEqualTo("/app/prod/db/url");
+        assertThat(puts.getValue().description()).isEqualTo("Primary database");
+        assertThat(puts.getValue().tier()).isEqualTo(ParameterTier.ADVANCED);
+        assertThat(puts.getValue().allowedPattern()).isEqualTo("^jdbc:.*");
+        assertThat(puts.getValue().policies()).isEqualTo(EXPIRATION_POLICIES);
+    }
+
+    @Test
+    public void import_createsWithTagsAndOverwritesExistingParameters() throws IOException {
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+        Files.write(snapshot, Arrays.asList(
+                tagged("/app/dev/new").toLine(),
+                "",
+                tagged("/app/dev/existing").toLine(),
+                record("/app/dev/untagged").toLine()));
+        when(ssmClient.putParameter(any(PutParameterRequest.class))).thenAnswer(invocation -> {
+            final PutParameterRequest request = invocation.getArgument(0);
+            if (request.name().endsWith("existing") && !request.overwrite()) {
+                throw ParameterAlreadyExistsException.builder().build();
+            }
+            return PutParameterResponse.builder().version(request.name().endsWith("new") ? 1L : 2L).build();
+        });
+        when(ssmClient.addTagsToResource(any(AddTagsToResourceRequest.class)))
+                .thenReturn(AddTagsToResourceResponse.builder().build());
+        final Path checkpoint = directory.resolve("snapshot.imported");
+
+        final ParameterSnapshotImporter.ImportResult result = importer()
+                .importSnapshot(snapshot, "/app/dev", "/app/prod", checkpoint, false);
+
+        assertThat(result.getWritten()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getOverwritten()).isEqualTo(2);
+        assertThat(Files.readAllLines(checkpoint)).containsExactly("4");
+
+        final ArgumentCaptor<PutParameterRequest> puts = ArgumentCaptor.forClass(PutParameterRequest.class);
+        final ArgumentCaptor<AddTagsToResourceRequest> tags = ArgumentCaptor.forClass(AddTagsToResourceRequest.class);
+        verify(ssmClient, times(4)).putParameter(puts.capture());
+        verify(ssmClient).addTagsToResource(tags.capture());
+        assertThat(puts.getAllValues()).extracting(PutParameterRequest::name).containsExactly(
+                "/app/prod/new", "/app/prod/existing", "/app/prod/existing", "/app/prod/untagged");
+        assertThat(puts.getAllValues()).extracting(PutParameterRequest::overwrite).containsExactly(
+                false, false, true, true);
+        assertThat(puts.getAllValues().get(0).tags()).hasSize(1);
+        assertThat(puts.getAllValues().get(2).hasTags()).isFalse();
+        assertThat(tags.getValue().resourceId()).isEqualTo("/app/prod/existing");
+    }
+
+    @Test
+    public void import_resumesAfterTheCheckpointedLine() throws IOException {
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+        Files.write(snapshot, Arrays.asList(record("/app/dev/a").toLine(), record("/app/dev/b").toLine()));
+        final Path checkpoint = directory.resolve("snapshot.imported");
+        Files.write(checkpoint, Collections.singletonList("1"));
+        when(ssmClient.putParameter(any(PutParameterRequest.class)))
+                .thenReturn(PutParameterResponse.builder().version(1L).build());
+
+        final ParameterSnapshotImporter.ImportResult result = importer()
+                .importSnapshot(snapshot, null, null, checkpoint, false);
+
+        assertThat(result.getResumedAfter()).isEqualTo(1);
+        assertThat(result.getWritten()).isEqualTo(1);
+        assertThat(Files.readAllLines(checkpoint)).containsExactly("2");
+
+        final ArgumentCaptor<PutParameterRequest> puts = ArgumentCaptor.forClass(PutParameterRequest.class);
+        verify(ssmClient).putParameter(puts.capture());
+        assertThat(puts.getValue().name()).isEqualTo("/app/dev/b");
+    }
+
+    @Test
+    public void import_dryRunDoesNotWrite() throws IOException {
+        final Path snapshot = directory.resolve("snapshot.ndjson");
+        Files.write(snapshot, Arrays.asList(record("/app/dev/a").toLine()));
+        final Path checkpoint = directory.resolve("snapshot.imported");
+
+        final ParameterSnapshotImporter.ImportResult result = importer()
+                .importSnapshot(snapshot, "/app/dev", "/app/prod", checkpoint, true);
+
+        assertThat(result.isDryRun()).isTrue();
+        assertThat(result.getWritten()).isEqualTo(1);
+        assertThat(progress).contains("Would write /app/prod/a");
+        assertThat(Files.exists(checkpoint)).isFalse();
+    }
+
+    private ParameterSnapshotExporter exporter() {
+        return new ParameterSnapshotExporter(ssmClient, RateLimiter.create(1000), 2, progress::add);
+    }
+
+    private ParameterSnapshotImporter importer() {
+        return new ParameterSnapshotImporter(ssmClient, RateLimiter.create(1000), progress::add);
+    }
+
+    private static ParameterSnapshotRecord record(final String name) {
+        return ParameterSnapshotRecord.builder()
+                .name(name)
+                .type("String")
+                .value("value")
+                .dataType("text")
+                .build();
+    }
+
+    private static ParameterSnapshotRecord tagged(final String name) {
+        return ParameterSnapshotRecord.builder()
+                .name(name)
+                .type("String")
+                .value("value")
+                .dataType("text")
+                .tags(ImmutableMap.of("team", "core"))
+                .build();
+    }
+
+    private static List<ParameterMetadata> metadata(final String... names) {
+        return Arrays.stream(names)
+                .map(name -> ParameterMetadata.builder().name(name).type(ParameterType.STRING).build())
+                .collect(Collectors.toList());
+    }
+
+    private static GetParametersByPathResponse parameters(final String nextToken, final String... names) {
+        return GetParametersByPathResponse.builder()
+                .parameters(Arrays.stream(names)
+                        .map(name -> Parameter.builder().name(name).type(ParameterType.STRING).value("value").build())
+                        .collect(Collectors.toList()))
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private static List<String> names(final Path snapshot) throws IOException {
+        final List<String> names = new ArrayList<>();
+        for (String line : Files.readAllLines(snapshot, StandardCharsets.UTF_8)) {
+            names.add(ParameterSnapshotRecord.fromLine(line).getName());
+        }
+        return names;
+    }
+}
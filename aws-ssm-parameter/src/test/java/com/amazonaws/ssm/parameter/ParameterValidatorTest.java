@@ -0,0 +1,116 @@
+package com.amazonaws.ssm.parameter;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ssm.model.ParameterTier;
+import software.amazon.awssdk.services.ssm.model.ParameterType;
+import software.amazon.awssdk.services.ssm.model.PutParameterRequest;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterValidatorTest {
+
+    private static final String POLICIES = "[{\"Type\":\"Expiration\",\"Version\":\"1.0\","
+            + "\"Attributes\":{\"Timestamp\":\"2030-01-01T00:00:00.000Z\"}}]";
+
+    @Test
+    public void validate_acceptsValidRequest() {
+        assertThat(ParameterValidator.validate(request("/app/db/url", "jdbc:1")
+                .allowedPattern("^jdbc:\\d+$")
+                .tier(ParameterTier.ADVANCED)
+                .policies(POLICIES)
+                .build())).isEmpty();
+    }
+
+    @Test
+    public void validate_acceptsValueContainingUnanchoredAllowedPattern() {
+        assertThat(ParameterValidator.validate(request("name", "abc123def").allowedPattern("\\d+").build())).isEmpty();
+    }
+
+    @Test
+    public void validate_rejectsValueNotContainingUnanchoredAllowedPattern() {
+        assertThat(ParameterValidator.validate(request("name", "abcdef").allowedPattern("\\d+").build()))
+                .contains("Parameter value does not match its AllowedPattern \\d+");
+    }
+
+    @Test
+    public void validate_rejectsValueNotMatchingAllowedPattern() {
+        assertThat(ParameterValidator.validate(request("name", "abc").allowedPattern("^\\d+$").build()))
+                .contains("Parameter value does not match its AllowedPattern ^\\d+$");
+    }
+
+    @Test
+    public void validate_leavesPatternsJavaCannotCompileToSsm() {
+        assertThat(ParameterValidator.validate(request("name", "abc").allowedPattern("[").build())).isEmpty();
+    }
+
+    @Test
+    public void validate_appliesTierSizeLimits() {
+        final String value = repeat('x', ParameterValidator.MAX_STANDARD_VALUE_LENGTH + 1);
+
+        assertThat(ParameterValidator.validate(request("name", value).tier(ParameterTier.STANDARD).build()))
+                .contains("Parameter value is 4097 characters long, the limit of the Standard tier is 4096");
+        assertThat(ParameterValidator.validate(request("name", value).tier(ParameterTier.INTELLIGENT_TIERING).build()))
+                .isEmpty();
+        assertThat(ParameterValidator.validate(request("name", value).build())).isEmpty();
+        assertThat(ParameterValidator.validate(request("name", value + repeat('x', 4096)).build()))
+                .contains("Parameter value is 8193 characters long, the limit of the Advanced tier is 8192");
+    }
+
+    @Test
+    public void validate_checksNameHierarchy() {
+        final StringBuilder fifteenLevels = new StringBuilder();
+        for (int i = 0; i < ParameterValidator.MAX_HIERARCHY_LEVELS; i++) {
+            fifteenLevels.append("/level");
+        }
+
+        assertThat(ParameterValidator.validate(request(fifteenLevels.toString(), "v").build())).isEmpty();
+        assertThat(ParameterValidator.validate(request(fifteenLevels + "/level", "v").build()))
+                .hasValueSatisfying(error -> assertThat(error).contains("has 16 hierarchy levels, the limit is 15"));
+        assertThat(ParameterValidator.validate(request("/aws/service/name", "v").build()))
+                .contains("Parameter name /aws/service/name cannot start with aws or ssm");
+        assertThat(ParameterValidator.validate(request("name with spaces", "v").build()))
+                .hasValueSatisfying(error -> assertThat(error).contains("can only contain"));
+    }
+
+    @Test
+    public void validate_parsesPolicies() {
+        assertThat(ParameterValidator.validate(request("name", "v").policies("[{\"Type\":").build()))
+                .hasValueSatisfying(error -> assertThat(error).startsWith("Parameter policies are not valid JSON"));
+        assertThat(ParameterValidator.validate(request("name", "v").policies("{\"Type\":\"Expiration\"}").build()))
+                .contains("Parameter policies must be a JSON array of policies");
+        assertThat(ParameterValidator.validate(request("name", "v").policies("[{\"Type\":\"Expiration\"}]").build()))
+                .hasValueSatisfying(error -> assertThat(error).endsWith("must be an object with a Type and Attributes"));
+        assertThat(ParameterValidator.validate(request("name", "v").tier(ParameterTier.STANDARD).policies(POLICIES).build()))
+                .contains("Parameter policies are not supported by the Standard tier");
+    }
+
+    @Test
+    public void allowedPatternCache_evictsLeastRecentlyUsed() {
+        final AllowedPatternCache cache = new AllowedPatternCache(2);
+        final Optional<Pattern> first = cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isSameAs(first);
+    }
+
+    private static PutParameterRequest.Builder request(final String name, final String value) {
+        return PutParameterRequest.builder()
+                .name(name)
+                .value(value)
+                .type(ParameterType.STRING);
+    }
+
+    private static String repeat(final char c, final int count) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -2,6 +2,8 @@ package com.amazonaws.ssm.parameter;
 
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.ssm.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
 import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
 import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
@@ -20,10 +22,12 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +52,10 @@ public class ReadHandlerTest extends AbstractTestBase {
 
     private ReadHandler handler;
 
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final Instant LAST_MODIFIED_DATE = Instant.parse("2020-09-13T12:00:00Z");
+
     @BeforeEach
     public void setup() {
         handler = new ReadHandler();
@@ -126,4 +134,63 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         verify(proxySsmClient.client()).getParameters(any(GetParametersRequest.class));
     }
+
+    @Test
+    public void handleRequest_CachedVersionCurrentProbesAndSkipsGetParameters() {
+        final ParameterReadCache readCache = new ParameterReadCache();
+        readCache.put(ACCOUNT_ID, REGION, Parameter.builder()
+                .name(NAME).type(TYPE_STRING).dataType("text").value(VALUE).version(VERSION)
+                .lastModifiedDate(LAST_MODIFIED_DATE).build());
+        when(proxySsmClient.client().describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(DescribeParametersResponse.builder()
+                        .parameters(ParameterMetadata.builder().name(NAME).version(VERSION)
+                                .lastModifiedDate(LAST_MODIFIED_DATE).build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler(readCache)
+                .handleRequest(proxy, readRequest(), new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(ResourceModel.builder()
+                .name(NAME).type(TYPE_STRING).dataType("text").value(VALUE).build());
+
+        final ArgumentCaptor<DescribeParametersRequest> captor = ArgumentCaptor.forClass(DescribeParametersRequest.class);
+        verify(proxySsmClient.client()).describeParameters(captor.capture());
+        assertThat(captor.getValue().parameterFilters().get(0).key()).isEqualTo("Name");
+        assertThat(captor.getValue().parameterFilters().get(0).option()).isEqualTo("Equals");
+        assertThat(captor.getValue().parameterFilters().get(0).values()).containsExactly(NAME);
+    }
+
+    @Test
+    public void handleRequest_CachedVersionMovedRefetchesValue() {
+        final ParameterReadCache readCache = new ParameterReadCache();
+        readCache.put(ACCOUNT_ID, REGION, Parameter.builder()
+                .name(NAME).type(TYPE_STRING).value("old value").version(VERSION)
+                .lastModifiedDate(LAST_MODIFIED_DATE).build());
+        when(proxySsmClient.client().describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(DescribeParametersResponse.builder()
+                        .parameters(ParameterMetadata.builder().name(NAME).version(VERSION + 1)
+                                .lastModifiedDate(LAST_MODIFIED_DATE.plusSeconds(60)).build())
+                        .build());
+        when(proxySsmClient.client().getParameters(any(GetParametersRequest.class)))
+                .thenReturn(GetParametersResponse.builder()
+                        .parameters(Parameter.builder().name(NAME).type(TYPE_STRING).value(VALUE).version(VERSION + 1).build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler(readCache)
+                .handleRequest(proxy, readRequest(), new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getResourceModel().getValue()).isEqualTo(VALUE);
+
+        verify(proxySsmClient.client()).describeParameters(any(DescribeParametersRequest.class));
+        verify(proxySsmClient.client()).getParameters(any(GetParametersRequest.class));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> readRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(ACCOUNT_ID)
+                .region(REGION)
+                .desiredResourceState(ResourceModel.builder().name(NAME).build())
+                .build();
+    }
 }
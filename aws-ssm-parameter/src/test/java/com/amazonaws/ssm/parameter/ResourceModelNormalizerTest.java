@@ -0,0 +1,57 @@
+package com.amazonaws.ssm.parameter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceModelNormalizerTest {
+
+    private static final String POLICIES = "[{\"Type\":\"Expiration\",\"Version\":\"1.0\","
+            + "\"Attributes\":{\"Timestamp\":\"2030-01-01T00:00:00.000Z\"}}]";
+
+    private static final String REFORMATTED_POLICIES = "[ {\n  \"Version\": \"1.0\",\n  \"Type\": \"Expiration\",\n"
+            + "  \"Attributes\": { \"Timestamp\": \"2030-01-01T00:00:00.000Z\" }\n} ]";
+
+    @Test
+    public void canonicalizePolicies_sortsKeysAndDropsWhitespace() {
+        assertThat(ResourceModelNormalizer.canonicalizePolicies(REFORMATTED_POLICIES))
+                .isEqualTo("[{\"Attributes\":{\"Timestamp\":\"2030-01-01T00:00:00.000Z\"},\"Type\":\"Expiration\",\"Version\":\"1.0\"}]");
+        assertThat(ResourceModelNormalizer.canonicalizePolicies(" [ ] ")).isNull();
+        assertThat(ResourceModelNormalizer.canonicalizePolicies("")).isNull();
+        assertThat(ResourceModelNormalizer.canonicalizePolicies(" not json ")).isEqualTo("not json");
+    }
+
+    @Test
+    public void isSameParameter_ignoresFormattingAndTags() {
+        final ResourceModel previous = model(POLICIES)
+                .tags(Collections.singletonMap("key", "value"))
+                .build();
+        final ResourceModel current = model(REFORMATTED_POLICIES)
+                .description("")
+                .dataType("text")
+                .build();
+
+        assertThat(ResourceModelNormalizer.isSameParameter(previous, current)).isTrue();
+        assertThat(previous.getTags()).containsEntry("key", "value");
+    }
+
+    @Test
+    public void isSameParameter_detectsMeaningfulChanges() {
+        assertThat(ResourceModelNormalizer.isSameParameter(model(POLICIES).build(),
+                model(POLICIES.replace("2030", "2031")).build())).isFalse();
+        assertThat(ResourceModelNormalizer.isSameParameter(model(POLICIES).build(),
+                model(POLICIES).value("other").build())).isFalse();
+        assertThat(ResourceModelNormalizer.isSameParameter(null, model(POLICIES).build())).isFalse();
+    }
+
+    private static ResourceModel.ResourceModelBuilder model(final String policies) {
+        return ResourceModel.builder()
+                .name("name")
+                .type("String")
+                .value("value")
+                .tier("Advanced")
+                .policies(policies);
+    }
+}
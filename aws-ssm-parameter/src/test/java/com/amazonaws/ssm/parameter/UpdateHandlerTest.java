@@ -757,4 +757,80 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxySsmClient.client()).putParameter(any(PutParameterRequest.class));
         verify(ssmClient, atLeastOnce()).serviceName();
     }
+
+    @Test
+    public void handleRequest_StandardTierValueTooLargeFailsBeforeAnyCall() {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i <= ParameterValidator.MAX_STANDARD_VALUE_LENGTH; i++) {
+            value.append('x');
+        }
+        RESOURCE_MODEL = ResourceModel.builder()
+                .description(DESCRIPTION)
+                .name(NAME)
+                .value(value.toString())
+                .type(TYPE_STRING)
+                .tier(ParameterTier.STANDARD.toString())
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceTags(TAG_SET)
+                .desiredResourceState(RESOURCE_MODEL)
+                .previousResourceTags(PREVIOUS_TAG_SET)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getMessage()).isEqualTo("Parameter value is 4097 characters long, the limit of the Standard tier is 4096");
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+
+        verify(ssmClient, never()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_ReformattedPoliciesDoNotCallPutParameter() {
+        final GetParametersResponse getParametersResponse = GetParametersResponse.builder()
+                .parameters(Parameter.builder()
+                        .name(NAME)
+                        .type(TYPE_STRING)
+                        .value(VALUE)
+                        .version(VERSION).build())
+                .build();
+        when(proxySsmClient.client().getParameters(any(GetParametersRequest.class))).thenReturn(getParametersResponse);
+        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
+        when(proxySsmClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(NAME)
+                .value(VALUE)
+                .type(TYPE_STRING)
+                .tier("Advanced")
+                .policies("[{\"Type\":\"Expiration\",\"Version\":\"1.0\",\"Attributes\":{\"Timestamp\":\"2030-01-01T00:00:00.000Z\"}}]")
+                .tags(PREVIOUS_TAG_SET)
+                .build();
+        final ResourceModel desiredModel = ResourceModel.builder()
+                .name(NAME)
+                .value(VALUE)
+                .type(TYPE_STRING)
+                .tier("Advanced")
+                .policies("[ { \"Version\": \"1.0\", \"Type\": \"Expiration\",\n"
+                        + "  \"Attributes\": { \"Timestamp\": \"2030-01-01T00:00:00.000Z\" } } ]")
+                .tags(TAG_SET)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceTags(TAG_SET)
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .previousResourceTags(PREVIOUS_TAG_SET)
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxySsmClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(previousModel.getTags()).isEqualTo(PREVIOUS_TAG_SET);
+
+        verify(proxySsmClient.client(), times(0)).putParameter(any(PutParameterRequest.class));
+        verify(ssmClient, atLeastOnce()).serviceName();
+    }
 }
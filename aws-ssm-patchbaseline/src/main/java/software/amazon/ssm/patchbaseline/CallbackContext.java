@@ -1,12 +1,18 @@
 package software.amazon.ssm.patchbaseline;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class CallbackContext {
 
+    /**
+     * ID of the patch baseline this create already finished creating and registering.
+     */
+    private String createdBaselineId;
 }
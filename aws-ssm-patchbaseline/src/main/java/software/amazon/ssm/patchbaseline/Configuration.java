@@ -1,11 +1,17 @@
 package software.amazon.ssm.patchbaseline;
 
+import software.amazon.ssm.patchbaseline.utils.ColdStartPrimer;
 import java.util.Map;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // Configuration is created while the container initializes, before the first invocation
+        ColdStartPrimer.primeOnInit();
+    }
+
     public Configuration() {
         super("aws-ssm-patchbaseline.json");
     }
@@ -3,41 +3,54 @@ package software.amazon.ssm.patchbaseline;
 import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.model.CreatePatchBaselineRequest;
 import software.amazon.awssdk.services.ssm.model.CreatePatchBaselineResponse;
 import software.amazon.awssdk.services.ssm.model.RegisterPatchBaselineForPatchGroupRequest;
-import software.amazon.awssdk.services.ssm.model.RegisterPatchBaselineForPatchGroupResponse;
 import software.amazon.awssdk.services.ssm.model.RegisterDefaultPatchBaselineRequest;
-import software.amazon.awssdk.services.ssm.model.RegisterDefaultPatchBaselineResponse;
 import software.amazon.ssm.patchbaseline.translator.request.CreatePatchBaselineRequestTranslator;
 import software.amazon.ssm.patchbaseline.translator.resourcemodel.ResourceModelPropertyTranslator;
 import static software.amazon.ssm.patchbaseline.ResourceModel.TYPE_NAME;
-import software.amazon.ssm.patchbaseline.utils.SsmClientBuilder;
+import software.amazon.ssm.common.AsyncCallGraph;
+import software.amazon.ssm.patchbaseline.utils.CreateReplayCache;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
+import software.amazon.ssm.patchbaseline.utils.SsmAsyncClientBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.BooleanUtils;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerWithMetrics {
 
-    private static final SsmClient ssmClient = SsmClientBuilder.getClient();
+    private static final SsmAsyncClient ssmAsyncClient = SsmAsyncClientBuilder.getClient();
     private final TagHelper tagHelper;
+    private final CreateReplayCache createReplayCache;
+    private final BaseHandler<CallbackContext> readHandler;
 
     public CreateHandler() {
         this(new TagHelper());
     }
 
     public CreateHandler(TagHelper tagHelper) {
+        this(tagHelper, CreateReplayCache.getInstance(), new ReadHandler());
+    }
+
+    public CreateHandler(TagHelper tagHelper,
+                         CreateReplayCache createReplayCache,
+                         BaseHandler<CallbackContext> readHandler) {
         this.tagHelper = tagHelper;
+        this.createReplayCache = createReplayCache;
+        this.readHandler = readHandler;
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -48,6 +61,23 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
         logger.log(String.format("INFO Activity %s request with clientRequestToken: %s %n", TYPE_NAME, request.getClientRequestToken()));
 
+        // CloudFormation retries a timed out create with the same token, read the baseline it already created
+        final Optional<String> createdBaselineId = callbackContext != null && callbackContext.getCreatedBaselineId() != null
+                ? Optional.of(callbackContext.getCreatedBaselineId())
+                : createReplayCache.get(request.getClientRequestToken());
+        if (createdBaselineId.isPresent()) {
+            logger.log(String.format("INFO Patch baseline %s was already created for clientRequestToken: %s, reading it %n",
+                    createdBaselineId.get(), request.getClientRequestToken()));
+            model.setId(createdBaselineId.get());
+            final ProgressEvent<ResourceModel, CallbackContext> readEvent =
+                    readHandler.handleRequest(proxy, request, callbackContext, logger);
+            if (readEvent.getErrorCode() != HandlerErrorCode.NotFound) {
+                return readEvent;
+            }
+            createReplayCache.invalidate(request.getClientRequestToken());
+            model.setId(null);
+        }
+
         try {
             /**Validate, merge, and add 3 sets of Tags to request
              * Tags added to our specific Patch Baseline resource in the template, which is in ResourceModel
@@ -61,51 +91,75 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             CreatePatchBaselineRequest createPatchBaselineRequest =
                     CreatePatchBaselineRequestTranslator.createPatchBaseline(model, request.getClientRequestToken());
 
-            final CreatePatchBaselineResponse createPatchBaselineResponse =
-                    proxy.injectCredentialsAndInvokeV2(createPatchBaselineRequest, ssmClient::createPatchBaseline);
-
-            baselineId = createPatchBaselineResponse.baselineId();
-
-            logger.log(String.format("INFO Created patch baseline %s successfully. Adding groups (if any) %n", baselineId));
-
-            // put physical ID to model
-            model.setId(baselineId);
+            // Create the baseline, then register every patch group concurrently. The baseline only becomes the
+            // default once all of its groups are registered, so a failed create never leaves a default baseline
+            // behind that the rollback cannot delete.
+            final AsyncCallGraph calls = new AsyncCallGraph();
+            final AsyncCallGraph.Call<CreatePatchBaselineResponse> createCall = calls.call(() ->
+                    proxy.injectCredentialsAndInvokeV2Async(createPatchBaselineRequest, ssmAsyncClient::createPatchBaseline));
 
             // This is not in the definition for a baseline object but we must receive it from CFN
             // Register the groups for this Patch Baseline
             List<String> patchGroups = CollectionUtils.isNullOrEmpty(model.getPatchGroups()) ? new ArrayList<>() : model.getPatchGroups();
 
+            final List<AsyncCallGraph.Call<?>> registrations = new ArrayList<>();
+            registrations.add(createCall);
             for (String group : patchGroups) {
                 //Each group needs its own Register call
-                RegisterPatchBaselineForPatchGroupRequest groupRequest =
-                        registerPatchBaselineForPatchGroupRequest(baselineId, group);
-                RegisterPatchBaselineForPatchGroupResponse groupResponse =
-                        proxy.injectCredentialsAndInvokeV2(groupRequest, ssmClient::registerPatchBaselineForPatchGroup);
+                registrations.add(calls.call(createCall, createResponse ->
+                        proxy.injectCredentialsAndInvokeV2Async(
+                                registerPatchBaselineForPatchGroupRequest(createResponse.baselineId(), group),
+                                ssmAsyncClient::registerPatchBaselineForPatchGroup)));
             }
 
-            // If we made it here, no exceptions related to the requests were thrown. Success.
-            logger.log(String.format("INFO Registered groups to patch baseline %s successfully %n", baselineId));
-
             // Set to default patch baseline
-            if (BooleanUtils.isTrue(model.getDefaultBaseline())) {
-                RegisterDefaultPatchBaselineRequest registerDefaultPatchBaselineRequest = RegisterDefaultPatchBaselineRequest.builder()
-                                                                                                    .baselineId(baselineId)
-                                                                                                    .build();
-                RegisterDefaultPatchBaselineResponse registerDefaultPatchBaselineResponse =
-                        proxy.injectCredentialsAndInvokeV2(registerDefaultPatchBaselineRequest, ssmClient::registerDefaultPatchBaseline);
+            final boolean registerDefault = BooleanUtils.isTrue(model.getDefaultBaseline());
+            if (registerDefault) {
+                calls.call(() -> proxy.injectCredentialsAndInvokeV2Async(
+                        RegisterDefaultPatchBaselineRequest.builder()
+                                .baselineId(createCall.get().baselineId())
+                                .build(),
+                        ssmAsyncClient::registerDefaultPatchBaseline),
+                        registrations.toArray(new AsyncCallGraph.Call<?>[0]));
+            }
+
+            try {
+                calls.await();
+            } finally {
+                // Keep the physical ID even when a later call failed, so the error is reported against it
+                if (createCall.succeeded()) {
+                    baselineId = createCall.get().baselineId();
+                }
+            }
+
+            // Only a create that also registered every group and the default is replayed as a read. A retry of a
+            // create that failed part way creates again with the same client token, which CreatePatchBaseline
+            // resolves to the same baseline, and redoes the registrations.
+            createReplayCache.put(request.getClientRequestToken(), baselineId);
+            final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
+            context.setCreatedBaselineId(baselineId);
+
+            logger.log(String.format("INFO Created patch baseline %s and registered its groups successfully %n", baselineId));
+
+            // put physical ID to model
+            model.setId(baselineId);
+
+            if (registerDefault) {
+                DefaultBaselineCache.getInstance().put(request.getAwsAccountId(), request.getRegion(),
+                        model.getOperatingSystem(), baselineId);
 
                 logger.log(String.format("INFO Registered patch baseline %s to default patch baseline successfully %n", baselineId));
             }
 
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModel(model)
+                    .callbackContext(context)
                     .status(OperationStatus.SUCCESS)
                     .build();
 
         } catch (Exception e) {
             return Resource.handleException(e, model, baselineId, logger);
         }
-
     }
 
     private RegisterPatchBaselineForPatchGroupRequest registerPatchBaselineForPatchGroupRequest(final String baselineId,
@@ -115,5 +169,4 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 .patchGroup(group)
                 .build() ;
     }
-
 }
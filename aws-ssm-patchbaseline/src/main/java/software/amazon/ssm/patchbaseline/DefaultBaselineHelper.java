@@ -0,0 +1,84 @@
+package software.amazon.ssm.patchbaseline;
+
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.OperatingSystem;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultBaselineHelper {
+
+    private final DefaultBaselineCache defaultBaselineCache;
+
+    public DefaultBaselineHelper() {
+        this(DefaultBaselineCache.getInstance());
+    }
+
+    public DefaultBaselineHelper(final DefaultBaselineCache defaultBaselineCache) {
+        this.defaultBaselineCache = defaultBaselineCache;
+    }
+
+    /**
+     * Get the default baseline ID for the operating system, calling GetDefaultPatchBaseline only when
+     * the container-local cache has no fresh answer for this account and region.
+     *
+     * @param accountId AWS account ID
+     * @param region AWS region
+     * @param operatingSystem operating system of the baseline
+     * @param ssmClient Amazon SSM client
+     * @param proxy AmazonWebServicesClientProxy
+     * @return ID or ARN of the default baseline
+     */
+    public String getDefaultBaselineId(final String accountId,
+                                       final String region,
+                                       final String operatingSystem,
+                                       final SsmClient ssmClient,
+                                       final AmazonWebServicesClientProxy proxy) {
+        return defaultBaselineCache.get(accountId, region, operatingSystem)
+                .orElseGet(() -> {
+                    GetDefaultPatchBaselineRequest getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder()
+                                                                                            .operatingSystem(OperatingSystem.fromValue(operatingSystem))
+                                                                                            .build();
+                    GetDefaultPatchBaselineResponse getDefaultPatchBaselineResponse =
+                            proxy.injectCredentialsAndInvokeV2(getDefaultPatchBaselineRequest, ssmClient::getDefaultPatchBaseline);
+
+                    defaultBaselineCache.put(accountId, region, operatingSystem, getDefaultPatchBaselineResponse.baselineId());
+                    return getDefaultPatchBaselineResponse.baselineId();
+                });
+    }
+
+    /**
+     * Same as {@link #getDefaultBaselineId(String, String, String, SsmClient, AmazonWebServicesClientProxy)},
+     * without blocking, for handlers that look up the default baseline alongside other calls.
+     *
+     * @param accountId AWS account ID
+     * @param region AWS region
+     * @param operatingSystem operating system of the baseline
+     * @param ssmAsyncClient Amazon SSM async client
+     * @param proxy AmazonWebServicesClientProxy
+     * @return future completing with the ID or ARN of the default baseline
+     */
+    public CompletableFuture<String> getDefaultBaselineIdAsync(final String accountId,
+                                                               final String region,
+                                                               final String operatingSystem,
+                                                               final SsmAsyncClient ssmAsyncClient,
+                                                               final AmazonWebServicesClientProxy proxy) {
+        final Optional<String> cached = defaultBaselineCache.get(accountId, region, operatingSystem);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        GetDefaultPatchBaselineRequest getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder()
+                                                                                .operatingSystem(OperatingSystem.fromValue(operatingSystem))
+                                                                                .build();
+        return proxy.injectCredentialsAndInvokeV2Async(getDefaultPatchBaselineRequest, ssmAsyncClient::getDefaultPatchBaseline)
+                .thenApply(getDefaultPatchBaselineResponse -> {
+                    defaultBaselineCache.put(accountId, region, operatingSystem, getDefaultPatchBaselineResponse.baselineId());
+                    return getDefaultPatchBaselineResponse.baselineId();
+                });
+    }
+}
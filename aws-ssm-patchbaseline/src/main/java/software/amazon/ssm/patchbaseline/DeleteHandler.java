@@ -18,12 +18,12 @@ import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
 import software.amazon.awssdk.services.ssm.model.DoesNotExistException;
 
 
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient ssmClient = SsmClientBuilder.getClient();
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -56,7 +56,6 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         } catch (Exception e) {
             return Resource.handleException(e, model, baselineId, logger);
         }
-
     }
 
     private void removePatchGroupsFromBaseline(final String baselineId,
@@ -1,109 +1,104 @@
 package software.amazon.ssm.patchbaseline;
 
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.awssdk.services.ssm.model.PatchOrchestratorFilter;
 import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesRequest;
 import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesResponse;
+import software.amazon.awssdk.services.ssm.model.DoesNotExistException;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.PatchBaselineIdentity;
+import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.ssm.common.AsyncCallGraph;
+import software.amazon.ssm.patchbaseline.translator.resourcemodel.ReadResourceModelTranslator;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
+import software.amazon.ssm.patchbaseline.utils.SsmAsyncClientBuilder;
 import software.amazon.ssm.patchbaseline.utils.SsmClientBuilder;
-import software.amazon.awssdk.services.ssm.model.SsmException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import com.google.common.annotations.VisibleForTesting;
 
-public class ListHandler extends BaseHandler<CallbackContext> {
+public class ListHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient ssmClient = SsmClientBuilder.getClient();
+    private static final SsmAsyncClient ssmAsyncClient = SsmAsyncClientBuilder.getClient();
     private static final Integer MAX_RESULTS = 50;
+    // Hydrating a page fans out to two calls per baseline, keep the burst below the SSM read throttle
+    private static final int MAX_CONCURRENT_HYDRATION_CALLS = 8;
+    protected static final String PATCH_BASELINE_RESOURCE_NAME = "PatchBaseline";
 
-    private ReadHandler readHandler;
+    private final TagHelper tagHelper;
+    private final DefaultBaselineHelper defaultBaselineHelper;
+    private final boolean hydrateResourceModels;
 
     public ListHandler() {
-        readHandler = new ReadHandler();
+        this(false);
     }
 
-    @VisibleForTesting
-    void setReadHandler(final ReadHandler readHandler) {
-        this.readHandler = readHandler;
+    /**
+     * @param hydrateResourceModels when true, return the full resource model of every baseline in the page
+     *                              instead of the identity fields returned by DescribePatchBaselines
+     */
+    public ListHandler(final boolean hydrateResourceModels) {
+        this(new TagHelper(), DefaultBaselineCache.getInstance(), hydrateResourceModels);
+    }
+
+    public ListHandler(final TagHelper tagHelper,
+                       final DefaultBaselineCache defaultBaselineCache,
+                       final boolean hydrateResourceModels) {
+        this.tagHelper = tagHelper;
+        this.defaultBaselineHelper = new DefaultBaselineHelper(defaultBaselineCache);
+        this.hydrateResourceModels = hydrateResourceModels;
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        DescribePatchBaselinesRequest describePatchBaselinesRequest = DescribePatchBaselinesRequest.builder().nextToken(request.getNextToken()).maxResults(MAX_RESULTS).build();
-
-        final DescribePatchBaselinesResponse describePatchBaselinesResponse = proxy.injectCredentialsAndInvokeV2(describePatchBaselinesRequest, ssmClient::describePatchBaselines);
-
-        final List<ResourceModel> models = describePatchBaselinesResponse
-                .baselineIdentities()
-                .stream().map(baseline -> ResourceModel.builder().id(baseline.baselineId()).name(baseline.baselineName()).operatingSystem(baseline.operatingSystemAsString()).description(baseline.baselineDescription()).build()).collect(Collectors.toList());
-
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(models)
-                .nextToken(describePatchBaselinesResponse.nextToken())
-                .status(OperationStatus.SUCCESS)
-                .build();
-    }
-
-    /**
-     * Function for calling ssm::describePatchBaselines API and handle corresponded Exception without nextToken.
-     *
-     * @param proxy AmazonWebServicesClientProxy
-     * @return DescribePatchBaselinesResponse
-     */
-    private DescribePatchBaselinesResponse describePatchBaselinesResponse(final AmazonWebServicesClientProxy proxy) {
-
-        DescribePatchBaselinesRequest describePatchBaselinesRequest = DescribePatchBaselinesRequest.builder()
-                .maxResults(MAX_RESULTS)
-                .build();
-
         try {
-            return proxy.injectCredentialsAndInvokeV2(describePatchBaselinesRequest, ssmClient::describePatchBaselines);
-        } catch (Exception e) {
-            throw new CfnGeneralServiceException(e.getMessage(), e);
-        }
-    }
+            DescribePatchBaselinesRequest describePatchBaselinesRequest = DescribePatchBaselinesRequest.builder().nextToken(request.getNextToken()).maxResults(MAX_RESULTS).build();
 
-    /**
-     * Function for calling ssm::describePatchBaselines API and handle corresponded Exception with nextToken.
-     *
-     * @parem nextToken nextToken
-     * @param proxy AmazonWebServicesClientProxy
-     * @return DescribePatchBaselinesResponse
-     */
-    private DescribePatchBaselinesResponse describePatchBaselinesResponse(final String nextToken,
-                                                                          final AmazonWebServicesClientProxy proxy) {
+            final DescribePatchBaselinesResponse describePatchBaselinesResponse = proxy.injectCredentialsAndInvokeV2(describePatchBaselinesRequest, ssmClient::describePatchBaselines);
 
-        DescribePatchBaselinesRequest describePatchBaselinesRequest = DescribePatchBaselinesRequest.builder()
-                .nextToken(nextToken)
-                .maxResults(MAX_RESULTS)
-                .build();
+            final List<ResourceModel> models = hydrateResourceModels
+                    ? getResourceModelFromResponse(describePatchBaselinesResponse, request, proxy, logger)
+                    : describePatchBaselinesResponse
+                            .baselineIdentities()
+                            .stream().map(baseline -> ResourceModel.builder().id(baseline.baselineId()).name(baseline.baselineName()).operatingSystem(baseline.operatingSystemAsString()).description(baseline.baselineDescription()).build()).collect(Collectors.toList());
 
-        try {
-            return proxy.injectCredentialsAndInvokeV2(describePatchBaselinesRequest, ssmClient::describePatchBaselines);
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModels(models)
+                    .nextToken(describePatchBaselinesResponse.nextToken())
+                    .status(OperationStatus.SUCCESS)
+                    .build();
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e.getMessage(), e);
+            return Resource.handleException(e, request.getDesiredResourceState(), null, logger);
         }
     }
 
     /**
      * DescribePatchBaselinesResponse returns limited information about resource model.
-     * Use ReadHandler to read full template based on given baselineId.
+     * Read the full baseline and its tags for every baseline in the page concurrently, and look up
+     * the default baseline once per operating system in the page.
      *
      * @param describePatchBaselinesResponse describePatchBaselinesResponse
      * @param request ResourceHandlerRequest
+     * @param proxy AmazonWebServicesClientProxy
+     * @param logger Logger
      * @return List<ResourceModel>
      */
     private List<ResourceModel> getResourceModelFromResponse(final DescribePatchBaselinesResponse describePatchBaselinesResponse,
@@ -111,27 +106,72 @@ public class ListHandler extends BaseHandler<CallbackContext> {
                                                              final AmazonWebServicesClientProxy proxy,
                                                              final Logger logger) {
 
-        final List<ResourceModel> models = new ArrayList<>();
-        final List<String> baselineIdList = describePatchBaselinesResponse
-                .baselineIdentities()
-                .stream().map(baseline -> baseline.baselineId()).collect(Collectors.toList());
+        final List<PatchBaselineIdentity> baselineIdentities = describePatchBaselinesResponse.baselineIdentities();
+        final AsyncCallGraph calls = new AsyncCallGraph(MAX_CONCURRENT_HYDRATION_CALLS);
 
-        for (String baselineId : baselineIdList) {
-            ResourceModel model = ResourceModel.builder()
-                    .id(baselineId)
-                    .build();
-            ResourceHandlerRequest<ResourceModel> requestFromId = ResourceHandlerRequest.<ResourceModel>builder()
-                    .desiredResourceState(model)
-                    .clientRequestToken(request.getClientRequestToken())
+        final Map<String, AsyncCallGraph.Call<String>> defaultBaselineIds = new HashMap<>();
+        for (PatchBaselineIdentity baseline : baselineIdentities) {
+            defaultBaselineIds.computeIfAbsent(baseline.operatingSystemAsString(), operatingSystem ->
+                    calls.call(() -> defaultBaselineHelper.getDefaultBaselineIdAsync(
+                            request.getAwsAccountId(), request.getRegion(), operatingSystem, ssmAsyncClient, proxy)));
+        }
+
+        final Map<String, AsyncCallGraph.Call<GetPatchBaselineResponse>> getPatchBaselineCalls = new HashMap<>();
+        final Map<String, AsyncCallGraph.Call<List<Tag>>> tagsCalls = new HashMap<>();
+        for (PatchBaselineIdentity baseline : baselineIdentities) {
+            final String baselineId = baseline.baselineId();
+            final GetPatchBaselineRequest getPatchBaselineRequest = GetPatchBaselineRequest.builder()
+                    .baselineId(baselineId)
                     .build();
-            ProgressEvent<ResourceModel, CallbackContext> response
-                    = readHandler.handleRequest(proxy, requestFromId, null, logger);
 
-            ResourceModel resourceModel = response.getResourceModel();
-            models.add(resourceModel);
+            // A baseline deleted after DescribePatchBaselines returned it completes with null and is skipped below
+            getPatchBaselineCalls.put(baselineId, calls.call(() -> orNullIfDeleted(() ->
+                    proxy.injectCredentialsAndInvokeV2Async(getPatchBaselineRequest, ssmAsyncClient::getPatchBaseline))));
+            tagsCalls.put(baselineId, calls.call(() -> orNullIfDeleted(() ->
+                    tagHelper.listTagsForResourceAsync(PATCH_BASELINE_RESOURCE_NAME, baselineId, ssmAsyncClient, proxy))));
+        }
+
+        calls.await();
+
+        final List<ResourceModel> models = new ArrayList<>(baselineIdentities.size());
+        for (PatchBaselineIdentity baseline : baselineIdentities) {
+            final GetPatchBaselineResponse getPatchBaselineResponse = getPatchBaselineCalls.get(baseline.baselineId()).get();
+            final List<Tag> tags = tagsCalls.get(baseline.baselineId()).get();
+            if (getPatchBaselineResponse == null || tags == null) {
+                logger.log(String.format("INFO Patch baseline %s no longer exists, skipping it %n", baseline.baselineId()));
+                continue;
+            }
+
+            final ResourceModel model = ReadResourceModelTranslator.translateToResourceModel(getPatchBaselineResponse, tags);
+            final String defaultBaselineId = defaultBaselineIds.get(baseline.operatingSystemAsString()).get();
+            if (DefaultBaselineCache.isSameBaseline(model.getId(), defaultBaselineId))
+                model.setDefaultBaseline(true);
+
+            models.add(model);
         }
 
         return models;
     }
 
+    /**
+     * Complete with null instead of failing when the baseline does not exist.
+     */
+    private static <T> CompletableFuture<T> orNullIfDeleted(final Supplier<CompletableFuture<T>> invocation) {
+        final CompletableFuture<T> future;
+        try {
+            future = invocation.get();
+        } catch (DoesNotExistException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return future.handle((result, e) -> {
+            if (e == null) {
+                return result;
+            }
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof DoesNotExistException) {
+                return null;
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(cause);
+        });
+    }
 }
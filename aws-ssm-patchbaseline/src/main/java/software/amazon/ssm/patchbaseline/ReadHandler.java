@@ -5,35 +5,40 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.model.GetPatchBaselineRequest;
 import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
-import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineRequest;
-import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineResponse;
-import software.amazon.awssdk.services.ssm.model.OperatingSystem;
 import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.ssm.patchbaseline.translator.resourcemodel.ReadResourceModelTranslator;
 import static software.amazon.ssm.patchbaseline.ResourceModel.TYPE_NAME;
-import software.amazon.ssm.patchbaseline.utils.SsmClientBuilder;
+import software.amazon.ssm.common.AsyncCallGraph;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
+import software.amazon.ssm.patchbaseline.utils.SsmAsyncClientBuilder;
 
 import java.util.List;
 
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerWithMetrics {
 
-    private static final SsmClient ssmClient = SsmClientBuilder.getClient();
+    private static final SsmAsyncClient ssmAsyncClient = SsmAsyncClientBuilder.getClient();
     protected static final String PATCH_BASELINE_RESOURCE_NAME = "PatchBaseline";
     private final TagHelper tagHelper;
+    private final DefaultBaselineHelper defaultBaselineHelper;
 
     public ReadHandler() {
         this(new TagHelper());
     }
 
     public ReadHandler(TagHelper tagHelper) {
+        this(tagHelper, DefaultBaselineCache.getInstance());
+    }
+
+    public ReadHandler(TagHelper tagHelper, DefaultBaselineCache defaultBaselineCache) {
         this.tagHelper = tagHelper;
+        this.defaultBaselineHelper = new DefaultBaselineHelper(defaultBaselineCache);
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -49,18 +54,21 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
                                                                         .baselineId(baselineId)
                                                                         .build();
 
-            GetPatchBaselineResponse getPatchBaselineResponse =
-                    proxy.injectCredentialsAndInvokeV2(getPatchBaselineRequest, ssmClient::getPatchBaseline);
-            List<Tag> tags = tagHelper.listTagsForResource(PATCH_BASELINE_RESOURCE_NAME, baselineId, ssmClient, proxy);
+            // The baseline and its tags are independent, so read them concurrently. The default baseline lookup only
+            // needs the operating system of the baseline, so it overlaps with the tags as well.
+            final AsyncCallGraph calls = new AsyncCallGraph();
+            final AsyncCallGraph.Call<GetPatchBaselineResponse> getPatchBaselineCall = calls.call(() ->
+                    proxy.injectCredentialsAndInvokeV2Async(getPatchBaselineRequest, ssmAsyncClient::getPatchBaseline));
+            final AsyncCallGraph.Call<List<Tag>> tagsCall = calls.call(() ->
+                    tagHelper.listTagsForResourceAsync(PATCH_BASELINE_RESOURCE_NAME, baselineId, ssmAsyncClient, proxy));
+            final AsyncCallGraph.Call<String> defaultBaselineIdCall = calls.call(getPatchBaselineCall, getPatchBaselineResponse ->
+                    defaultBaselineHelper.getDefaultBaselineIdAsync(request.getAwsAccountId(), request.getRegion(),
+                            getPatchBaselineResponse.operatingSystemAsString(), ssmAsyncClient, proxy));
+            calls.await();
 
-            ResourceModel resourcemodel = ReadResourceModelTranslator.translateToResourceModel(getPatchBaselineResponse, tags);
+            ResourceModel resourcemodel = ReadResourceModelTranslator.translateToResourceModel(getPatchBaselineCall.get(), tagsCall.get());
 
-            GetDefaultPatchBaselineRequest getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder()
-                                                                                    .operatingSystem(OperatingSystem.fromValue(resourcemodel.getOperatingSystem()))
-                                                                                    .build();
-            GetDefaultPatchBaselineResponse getDefaultPatchBaselineResponse =
-                    proxy.injectCredentialsAndInvokeV2(getDefaultPatchBaselineRequest, ssmClient::getDefaultPatchBaseline);
-            if (getDefaultPatchBaselineResponse.baselineId() == baselineId)
+            if (DefaultBaselineCache.isSameBaseline(baselineId, defaultBaselineIdCall.get()))
                 resourcemodel.setDefaultBaseline(true);
 
             //Send a success response to CloudFormation with the JSON
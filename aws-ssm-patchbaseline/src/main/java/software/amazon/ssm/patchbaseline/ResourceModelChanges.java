@@ -0,0 +1,94 @@
+package software.amazon.ssm.patchbaseline;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.ssm.patchbaseline.translator.request.UpdatePatchBaselineRequestTranslator;
+import org.apache.commons.lang3.BooleanUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classifies an update into the parts of a patch baseline that changed between the previous and desired
+ * resource models, so the UpdateHandler only issues the SSM calls each part needs.
+ */
+@Value
+@Builder
+public class ResourceModelChanges {
+
+    /**
+     * Anything carried by UpdatePatchBaseline: name, description, patches, rules, filters and sources.
+     */
+    boolean baselineChanged;
+
+    boolean patchGroupsChanged;
+
+    boolean tagsChanged;
+
+    /**
+     * The baseline has to be registered as the default baseline.
+     */
+    boolean defaultBaselineChanged;
+
+    /**
+     * Compare the previous and desired state of an update request. Without a previous model nothing can be
+     * ruled out, so every part is treated as changed.
+     * @param request Request data passed to update handler
+     * @return the parts of the baseline that need to be updated
+     */
+    public static ResourceModelChanges classify(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel model = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        if (previousModel == null) {
+            return ResourceModelChanges.builder()
+                    .baselineChanged(true)
+                    .patchGroupsChanged(true)
+                    .tagsChanged(true)
+                    .defaultBaselineChanged(BooleanUtils.isTrue(model.getDefaultBaseline()))
+                    .build();
+        }
+
+        // Compare what would actually be sent, so that null and empty properties are treated the same way
+        final boolean baselineChanged = !UpdatePatchBaselineRequestTranslator.updatePatchBaseline(previousModel)
+                .equals(UpdatePatchBaselineRequestTranslator.updatePatchBaseline(model));
+
+        final boolean patchGroupsChanged = !asSet(previousModel.getPatchGroups()).equals(asSet(model.getPatchGroups()));
+
+        final boolean tagsChanged = !asMap(previousModel.getTags()).equals(asMap(model.getTags()))
+                || !nullToEmpty(request.getPreviousResourceTags()).equals(nullToEmpty(request.getDesiredResourceTags()));
+
+        final boolean defaultBaselineChanged = BooleanUtils.isTrue(model.getDefaultBaseline())
+                && !BooleanUtils.isTrue(previousModel.getDefaultBaseline());
+
+        return ResourceModelChanges.builder()
+                .baselineChanged(baselineChanged)
+                .patchGroupsChanged(patchGroupsChanged)
+                .tagsChanged(tagsChanged)
+                .defaultBaselineChanged(defaultBaselineChanged)
+                .build();
+    }
+
+    private static HashSet<String> asSet(final List<String> values) {
+        return values == null ? new HashSet<>() : new HashSet<>(values);
+    }
+
+    private static Map<String, String> asMap(final List<Tag> tags) {
+        final Map<String, String> tagMap = new HashMap<>();
+        if (tags != null) {
+            for (Tag tag : tags) {
+                // Null tags map to a null key so they are compared like any other tag
+                tagMap.put(tag == null ? null : tag.getKey(), tag == null ? null : tag.getValue());
+            }
+        }
+        return tagMap;
+    }
+
+    private static Map<String, String> nullToEmpty(final Map<String, String> tags) {
+        return tags == null ? Collections.emptyMap() : tags;
+    }
+}
@@ -2,6 +2,7 @@ package software.amazon.ssm.patchbaseline;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.awssdk.services.ssm.model.AddTagsToResourceRequest;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -238,10 +240,36 @@ public class TagHelper {
         ListTagsForResourceResponse listTagsForResourceResponse =
                 proxy.injectCredentialsAndInvokeV2(listTagsForResourceRequest, ssmClient::listTagsForResource);
 
-        List<Tag> tags = listTagsForResourceResponse.tagList();
+        return withoutSystemTags(listTagsForResourceResponse.tagList());
+
+    }
+
+    /**
+     * Same as {@link #listTagsForResource(String, String, SsmClient, AmazonWebServicesClientProxy)}, without
+     * blocking, for handlers that read the tags alongside other calls.
+     * @param ssmResourceType SSM resource type that would be used in AddTagsToResource (or Remove...) SSM calls
+     * @param baselineId  Request data passed to update handler
+     * @param ssmAsyncClient Amazon SSM async client
+     * @param proxy AmazonWebServicesClientProxy
+     * @return future completing with the tags
+     */
+    public CompletableFuture<List<Tag>> listTagsForResourceAsync(String ssmResourceType,
+                                                                 String baselineId,
+                                                                 SsmAsyncClient ssmAsyncClient,
+                                                                 final AmazonWebServicesClientProxy proxy) {
+
+        ListTagsForResourceRequest listTagsForResourceRequest = ListTagsForResourceRequest.builder()
+                .resourceType(ssmResourceType)
+                .resourceId(baselineId)
+                .build();
+
+        return proxy.injectCredentialsAndInvokeV2Async(listTagsForResourceRequest, ssmAsyncClient::listTagsForResource)
+                .thenApply(listTagsForResourceResponse -> withoutSystemTags(listTagsForResourceResponse.tagList()));
+    }
+
+    private static List<Tag> withoutSystemTags(final List<Tag> tags) {
         return tags.stream()
                 .filter(entry -> !entry.key().toLowerCase().startsWith(SYSTEM_TAG_PREFIX))
                 .collect(Collectors.toList());
-
     }
 }
@@ -18,14 +18,14 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.ssm.patchbaseline.translator.request.UpdatePatchBaselineRequestTranslator;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
 import software.amazon.ssm.patchbaseline.utils.SsmClientBuilder;
 import static software.amazon.ssm.patchbaseline.ResourceModel.TYPE_NAME;
 
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.lang3.BooleanUtils;
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerWithMetrics {
 
     private static final SsmClient ssmClient = SsmClientBuilder.getClient();
     protected static final String PATCH_BASELINE_RESOURCE_NAME = "PatchBaseline";
@@ -40,7 +40,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
@@ -54,70 +54,39 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         logger.log(String.format("INFO Activity %s request with clientRequestToken: %s %n", TYPE_NAME, request.getClientRequestToken()));
 
         try {
-            //Build Update request and send SSM
-            UpdatePatchBaselineRequest updatePatchBaselineRequest = UpdatePatchBaselineRequestTranslator.updatePatchBaseline(model);
-            final UpdatePatchBaselineResponse updatePatchBaselineResponse =
-                    proxy.injectCredentialsAndInvokeV2(updatePatchBaselineRequest, ssmClient::updatePatchBaseline);
+            final ResourceModelChanges changes = ResourceModelChanges.classify(request);
 
-            logger.log(String.format("INFO Updated patch baseline %s successfully %n", baselineId));
+            if (changes.isBaselineChanged()) {
+                //Build Update request and send SSM
+                UpdatePatchBaselineRequest updatePatchBaselineRequest = UpdatePatchBaselineRequestTranslator.updatePatchBaseline(model);
+                final UpdatePatchBaselineResponse updatePatchBaselineResponse =
+                        proxy.injectCredentialsAndInvokeV2(updatePatchBaselineRequest, ssmClient::updatePatchBaseline);
 
-            //Get List of current groups
-            GetPatchBaselineRequest getPatchBaselineRequest = GetPatchBaselineRequest.builder()
-                    .baselineId(baselineId)
-                    .build();
-            GetPatchBaselineResponse getPatchBaselineResponse =
-                    proxy.injectCredentialsAndInvokeV2(getPatchBaselineRequest, ssmClient::getPatchBaseline);
-            List<String> originalGroups = new ArrayList<>(getPatchBaselineResponse.patchGroups());
-
-            //Get the new/desired patch groups
-            List<String> newGroups = CollectionUtils.isNullOrEmpty(model.getPatchGroups()) ? new ArrayList<>() : model.getPatchGroups();
-
-            //Compute the intersection of the two lists (the groups that don't need to be changed)
-            List<String> intersectingGroups = new ArrayList<>(originalGroups);
-            intersectingGroups.retainAll(newGroups);
-
-            //The groups we need to remove are ORIGINAL - INTERSECT
-            //The groups we need to add are DESIRED - INTERSECT
-            newGroups.removeAll(intersectingGroups);
-            originalGroups.removeAll(intersectingGroups);
-
-                //Remove the old groups first
-            for (String group : originalGroups) {
-                DeregisterPatchBaselineForPatchGroupRequest deregisterRequest =
-                         DeregisterPatchBaselineForPatchGroupRequest.builder()
-                                    .baselineId(baselineId)
-                                    .patchGroup(group)
-                                    .build();
-                DeregisterPatchBaselineForPatchGroupResponse deregisterResponse =
-                        proxy.injectCredentialsAndInvokeV2(deregisterRequest, ssmClient::deregisterPatchBaselineForPatchGroup);
+                logger.log(String.format("INFO Updated patch baseline %s successfully %n", baselineId));
+            } else {
+                logger.log(String.format("INFO Patch baseline %s properties unchanged, skipping UpdatePatchBaseline %n", baselineId));
             }
-            logger.log(String.format("INFO Deregistered old group(s) from patch baseline %s %n", getPatchBaselineResponse.baselineId()));
-
-
-            //Add the new groups after
-            for (String group : newGroups) {
-                RegisterPatchBaselineForPatchGroupRequest groupRequest =
-                         RegisterPatchBaselineForPatchGroupRequest.builder()
-                                    .baselineId(baselineId)
-                                    .patchGroup(group)
-                                    .build();
-                RegisterPatchBaselineForPatchGroupResponse groupResponse =
-                        proxy.injectCredentialsAndInvokeV2(groupRequest, ssmClient::registerPatchBaselineForPatchGroup);
+
+            if (changes.isPatchGroupsChanged()) {
+                updatePatchGroups(proxy, model, logger);
             }
-            logger.log(String.format("INFO Registered new group(s) from patch baseline %s %n", baselineId));
 
-            //Remove old tags (except those that are overwritten) then add new tags
-            tagHelper.updateTagsForResource(request, PATCH_BASELINE_RESOURCE_NAME, ssmClient, proxy);
+            if (changes.isTagsChanged()) {
+                //Remove old tags (except those that are overwritten) then add new tags
+                tagHelper.updateTagsForResource(request, PATCH_BASELINE_RESOURCE_NAME, ssmClient, proxy);
 
-            logger.log(String.format("INFO Updated tags for patch baseline %s %n", baselineId));
+                logger.log(String.format("INFO Updated tags for patch baseline %s %n", baselineId));
+            }
 
             // Set to default patch baseline
-            if (BooleanUtils.isTrue(model.getDefaultBaseline()) && !BooleanUtils.isTrue(previousModel.getDefaultBaseline())){
+            if (changes.isDefaultBaselineChanged()) {
                 RegisterDefaultPatchBaselineRequest registerDefaultPatchBaselineRequest = RegisterDefaultPatchBaselineRequest.builder()
                         .baselineId(baselineId)
                         .build();
                 RegisterDefaultPatchBaselineResponse registerDefaultPatchBaselineResponse =
                         proxy.injectCredentialsAndInvokeV2(registerDefaultPatchBaselineRequest, ssmClient::registerDefaultPatchBaseline);
+                DefaultBaselineCache.getInstance().put(request.getAwsAccountId(), request.getRegion(),
+                        model.getOperatingSystem(), baselineId);
 
                 logger.log(String.format("INFO Registered patch baseline %s to default patch baseline successfully %n", baselineId));
             }
@@ -135,4 +104,62 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Deregister the patch groups that were removed and register the ones that were added. The currently
+     * registered groups are read from SSM rather than the previous model, so that groups changed out of band
+     * are reconciled and groups that are already registered are not registered again.
+     *
+     * @param proxy AmazonWebServicesClientProxy
+     * @param model desired ResourceModel
+     * @param logger Logger
+     */
+    private void updatePatchGroups(final AmazonWebServicesClientProxy proxy,
+                                   final ResourceModel model,
+                                   final Logger logger) {
+        final String baselineId = model.getId();
+
+        //Get List of current groups
+        GetPatchBaselineRequest getPatchBaselineRequest = GetPatchBaselineRequest.builder()
+                .baselineId(baselineId)
+                .build();
+        GetPatchBaselineResponse getPatchBaselineResponse =
+                proxy.injectCredentialsAndInvokeV2(getPatchBaselineRequest, ssmClient::getPatchBaseline);
+        List<String> originalGroups = new ArrayList<>(getPatchBaselineResponse.patchGroups());
+
+        //Get the new/desired patch groups
+        List<String> newGroups = CollectionUtils.isNullOrEmpty(model.getPatchGroups()) ? new ArrayList<>() : new ArrayList<>(model.getPatchGroups());
+
+        //Compute the intersection of the two lists (the groups that don't need to be changed)
+        List<String> intersectingGroups = new ArrayList<>(originalGroups);
+        intersectingGroups.retainAll(newGroups);
+
+        //The groups we need to remove are ORIGINAL - INTERSECT
+        //The groups we need to add are DESIRED - INTERSECT
+        newGroups.removeAll(intersectingGroups);
+        originalGroups.removeAll(intersectingGroups);
+
+        //Remove the old groups first
+        for (String group : originalGroups) {
+            DeregisterPatchBaselineForPatchGroupRequest deregisterRequest =
+                     DeregisterPatchBaselineForPatchGroupRequest.builder()
+                                .baselineId(baselineId)
+                                .patchGroup(group)
+                                .build();
+            DeregisterPatchBaselineForPatchGroupResponse deregisterResponse =
+                    proxy.injectCredentialsAndInvokeV2(deregisterRequest, ssmClient::deregisterPatchBaselineForPatchGroup);
+        }
+        logger.log(String.format("INFO Deregistered old group(s) from patch baseline %s %n", baselineId));
+
+        //Add the new groups after
+        for (String group : newGroups) {
+            RegisterPatchBaselineForPatchGroupRequest groupRequest =
+                     RegisterPatchBaselineForPatchGroupRequest.builder()
+                                .baselineId(baselineId)
+                                .patchGroup(group)
+                                .build();
+            RegisterPatchBaselineForPatchGroupResponse groupResponse =
+                    proxy.injectCredentialsAndInvokeV2(groupRequest, ssmClient::registerPatchBaselineForPatchGroup);
+        }
+        logger.log(String.format("INFO Registered new group(s) from patch baseline %s %n", baselineId));
+    }
 }
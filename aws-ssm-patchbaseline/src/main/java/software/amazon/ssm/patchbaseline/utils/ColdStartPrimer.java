@@ -0,0 +1,110 @@
+package software.amazon.ssm.patchbaseline.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.OperatingSystem;
+import software.amazon.awssdk.services.ssm.model.PatchFilter;
+import software.amazon.awssdk.services.ssm.model.PatchFilterGroup;
+import software.amazon.awssdk.services.ssm.model.PatchFilterKey;
+import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.ssm.patchbaseline.CreateHandler;
+import software.amazon.ssm.patchbaseline.DeleteHandler;
+import software.amazon.ssm.patchbaseline.ListHandler;
+import software.amazon.ssm.patchbaseline.ReadHandler;
+import software.amazon.ssm.patchbaseline.UpdateHandler;
+import software.amazon.ssm.patchbaseline.ResourceModel;
+import software.amazon.ssm.patchbaseline.translator.request.CreatePatchBaselineRequestTranslator;
+import software.amazon.ssm.patchbaseline.translator.request.UpdatePatchBaselineRequestTranslator;
+import software.amazon.ssm.patchbaseline.translator.resourcemodel.ReadResourceModelTranslator;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Primes a fresh container before its first invocation. Building the SSM clients of the handlers, running a
+ * synthetic request through the SDK marshallers and signer against an in-process stub and running the translators
+ * once moves class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_BASELINE_ID = "pb-00000000000000000";
+    private static final String SAMPLE_CLIENT_TOKEN = "00000000-0000-0000-0000-000000000000";
+
+    private static final List<Class<?>> HANDLERS = Arrays.asList(
+            CreateHandler.class, ReadHandler.class, UpdateHandler.class, DeleteHandler.class, ListHandler.class);
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ColdStartPriming.initialize(HANDLERS);
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.createPatchBaseline(CreatePatchBaselineRequestTranslator.createPatchBaseline(sampleModel(), SAMPLE_CLIENT_TOKEN));
+        stubClient.getPatchBaseline(GetPatchBaselineRequest.builder()
+                .baselineId(SAMPLE_BASELINE_ID)
+                .build());
+    }
+
+    private static void primeTranslators() {
+        UpdatePatchBaselineRequestTranslator.updatePatchBaseline(sampleModel());
+        ReadResourceModelTranslator.translateToResourceModel(GetPatchBaselineResponse.builder()
+                .baselineId(SAMPLE_BASELINE_ID)
+                .name("priming")
+                .operatingSystem(OperatingSystem.AMAZON_LINUX_2)
+                .approvedPatches("priming")
+                .globalFilters(PatchFilterGroup.builder()
+                        .patchFilters(PatchFilter.builder()
+                                .key(PatchFilterKey.PRODUCT)
+                                .values("*")
+                                .build())
+                        .build())
+                .build(), Collections.singletonList(Tag.builder().key("priming").value("priming").build()));
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .id(SAMPLE_BASELINE_ID)
+                .name("priming")
+                .operatingSystem(OperatingSystem.AMAZON_LINUX_2.toString())
+                .approvedPatches(Collections.singletonList("priming"))
+                .build();
+    }
+}
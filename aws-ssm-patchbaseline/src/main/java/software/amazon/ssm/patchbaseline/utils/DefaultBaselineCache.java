@@ -0,0 +1,123 @@
+package software.amazon.ssm.patchbaseline.utils;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import software.amazon.awssdk.services.ssm.model.OperatingSystem;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-local cache of the default patch baseline ID for each account, region and operating system.
+ * Entries expire after a short TTL so that default baseline changes made outside of this container are
+ * picked up without a redeploy.
+ */
+public class DefaultBaselineCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+
+    private static final String BASELINE_ARN_SEPARATOR = "/";
+
+    private static final DefaultBaselineCache INSTANCE = new DefaultBaselineCache();
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Clock clock;
+
+    public DefaultBaselineCache() {
+        this(DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    DefaultBaselineCache(final Duration ttl, final Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the cache shared by all handlers running in this container
+     */
+    public static DefaultBaselineCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Look up the cached default baseline ID.
+     * @param accountId AWS account ID
+     * @param region AWS region
+     * @param operatingSystem operating system of the baseline, WINDOWS when not specified
+     * @return the default baseline ID, or Optional.empty() when nothing is cached or the entry expired
+     */
+    public Optional<String> get(final String accountId, final String region, final String operatingSystem) {
+        final CacheKey key = toKey(accountId, region, operatingSystem);
+        final CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.getExpiresAt())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.getBaselineId());
+    }
+
+    /**
+     * Remember the default baseline ID for an account, region and operating system.
+     * @param accountId AWS account ID
+     * @param region AWS region
+     * @param operatingSystem operating system of the baseline, WINDOWS when not specified
+     * @param baselineId ID (or ARN) of the default baseline
+     */
+    public void put(final String accountId, final String region, final String operatingSystem, final String baselineId) {
+        if (baselineId == null) {
+            return;
+        }
+        entries.put(toKey(accountId, region, operatingSystem),
+                new CacheEntry(baselineId, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * GetDefaultPatchBaseline returns the ARN for AWS managed baselines and the ID for custom ones,
+     * so compare either form against the baseline ID.
+     * @param baselineId ID of the baseline being read
+     * @param defaultBaselineId ID or ARN returned by GetDefaultPatchBaseline
+     * @return true if both refer to the same baseline
+     */
+    public static boolean isSameBaseline(final String baselineId, final String defaultBaselineId) {
+        if (baselineId == null || defaultBaselineId == null) {
+            return false;
+        }
+        return baselineId.equals(defaultBaselineId)
+                || defaultBaselineId.endsWith(BASELINE_ARN_SEPARATOR + baselineId)
+                || baselineId.endsWith(BASELINE_ARN_SEPARATOR + defaultBaselineId);
+    }
+
+    private static CacheKey toKey(final String accountId, final String region, final String operatingSystem) {
+        final String os = operatingSystem == null ? OperatingSystem.WINDOWS.toString() : operatingSystem;
+        return new CacheKey(accountId, region, os);
+    }
+
+    @Value
+    private static class CacheKey {
+        String accountId;
+        String region;
+        String operatingSystem;
+    }
+
+    @Value
+    private static class CacheEntry {
+        String baselineId;
+        Instant expiresAt;
+    }
+}
@@ -0,0 +1,24 @@
+package software.amazon.ssm.patchbaseline.utils;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
+
+public class SsmAsyncClientBuilder {
+    /**
+     * Returns the SsmAsyncClient shared by every handler in this container, built on first use.
+     */
+    public static SsmAsyncClient getClient() {
+        return ClientHolder.CLIENT;
+    }
+
+    private static class ClientHolder {
+        private static final SsmAsyncClient CLIENT = SsmAsyncClient.builder()
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.builder().numRetries(16).build())
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
+                        .build())
+                .build();
+    }
+}
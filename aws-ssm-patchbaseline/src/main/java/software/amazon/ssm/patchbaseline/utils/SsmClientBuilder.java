@@ -3,12 +3,14 @@ package software.amazon.ssm.patchbaseline.utils;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 public class SsmClientBuilder {
     public static SsmClient getClient() {
         return SsmClient.builder()
                 .overrideConfiguration(ClientOverrideConfiguration.builder()
                         .retryPolicy(RetryPolicy.builder().numRetries(16).build())
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
                         .build())
                 .build();
     }
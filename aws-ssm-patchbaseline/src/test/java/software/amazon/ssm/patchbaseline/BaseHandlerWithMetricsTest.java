@@ -0,0 +1,62 @@
+package software.amazon.ssm.patchbaseline;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.ssm.common.metrics.ApiCallMetrics;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BaseHandlerWithMetricsTest {
+
+    @Test
+    public void handleRequestPublishesNestedCallsOnceUnderOutermostAction() {
+        final Logger logger = mock(Logger.class);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        new OuterHandler().handleRequest(mock(AmazonWebServicesClientProxy.class), request, null, logger);
+
+        final ArgumentCaptor<String> lines = ArgumentCaptor.forClass(String.class);
+        verify(logger, atLeastOnce()).log(lines.capture());
+        final List<String> published = lines.getAllValues().stream()
+                .filter(line -> line.contains("\"Operation\":\"GetPatchBaseline\""))
+                .collect(Collectors.toList());
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0)).contains("\"Action\":\"Outer\"", "\"Calls\":2");
+    }
+
+    private static class OuterHandler extends BaseHandlerWithMetrics {
+        @Override
+        protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+            ApiCallMetrics.record("GetPatchBaseline", 1, 1, null, false);
+            return new InnerHandler().handleRequest(proxy, request, callbackContext, logger);
+        }
+    }
+
+    private static class InnerHandler extends BaseHandlerWithMetrics {
+        @Override
+        protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+            ApiCallMetrics.record("GetPatchBaseline", 1, 1, null, false);
+            return ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+        }
+    }
+}
@@ -16,9 +16,11 @@ import software.amazon.awssdk.services.ssm.model.Tag;
 import software.amazon.awssdk.services.ssm.model.AlreadyExistsException;
 import software.amazon.awssdk.services.ssm.model.ResourceLimitExceededException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.ssm.patchbaseline.utils.CreateReplayCache;
 import software.amazon.ssm.patchbaseline.utils.SsmCfnClientSideException;
 import static software.amazon.ssm.patchbaseline.TestConstants.*;
 
@@ -46,6 +48,7 @@ import java.util.function.Function;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * test all 5 responses from the create handler.
@@ -70,11 +73,17 @@ public class CreateHandlerTest extends TestBase {
     private AmazonWebServicesClientProxy proxy;
     @Mock
     private Resource resource;
+    @Mock
+    private ReadHandler readHandler;
+
+    private CreateReplayCache createReplayCache;
 
     @BeforeEach
     public void setup() {
         cfnTagHelper = mock(TagHelper.class);
-        createHandler = new CreateHandler(cfnTagHelper);
+        readHandler = mock(ReadHandler.class);
+        createReplayCache = new CreateReplayCache();
+        createHandler = new CreateHandler(cfnTagHelper, createReplayCache, readHandler);
 
         createPatchBaselineRequestBuilder = setUpCreatePatchBaselineRequestBuilder();
 
@@ -102,14 +111,14 @@ public class CreateHandlerTest extends TestBase {
 
         //mock registerPatchBaselineForPatchGroup
         for (String group : PATCH_GROUPS) {
-            when(proxy.injectCredentialsAndInvokeV2(
+            when(proxy.injectCredentialsAndInvokeV2Async(
                     eq(buildRegisterGroupRequest(createPatchBaselineResponse.baselineId(), group)),
-                    ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any())).thenReturn(registerResponse);
+                    ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, CompletableFuture<RegisterPatchBaselineForPatchGroupResponse>>>any())).thenReturn(CompletableFuture.completedFuture(registerResponse));
         }
 
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(registerDefaultPatchBaselineRequest),
-                ArgumentMatchers.<Function<RegisterDefaultPatchBaselineRequest, RegisterDefaultPatchBaselineResponse>>any())).thenReturn(registerDefaultPatchBaselineResponse);
+                ArgumentMatchers.<Function<RegisterDefaultPatchBaselineRequest, CompletableFuture<RegisterDefaultPatchBaselineResponse>>>any())).thenReturn(CompletableFuture.completedFuture(registerDefaultPatchBaselineResponse));
 
         //Invoke the handler
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -117,22 +126,89 @@ public class CreateHandlerTest extends TestBase {
 
         // need to check that the createPatchBaseline was invoked with the correct request made from the model
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(createPatchBaselineRequest),
-                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any());
 
         for (String group : PATCH_GROUPS) {
             verify(proxy)
-                    .injectCredentialsAndInvokeV2(
+                    .injectCredentialsAndInvokeV2Async(
                             eq(buildRegisterGroupRequest(createPatchBaselineResponse.baselineId(), group)),
-                            ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any());
+                            ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, CompletableFuture<RegisterPatchBaselineForPatchGroupResponse>>>any());
         }
 
         final ProgressEvent<ResourceModel, CallbackContext> expectedProgressEvent =
-                ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+                ProgressEvent.<ResourceModel, CallbackContext>builder()
+                        .resourceModel(request.getDesiredResourceState())
+                        .callbackContext(CallbackContext.builder().createdBaselineId(BASELINE_ID).build())
+                        .status(OperationStatus.SUCCESS)
+                        .build();
 
         assertThat(response).isEqualTo(expectedProgressEvent);
+        assertThat(createReplayCache.get(CLIENT_REQUEST_TOKEN)).contains(BASELINE_ID);
         verifyZeroInteractions(resource);
+        verifyZeroInteractions(readHandler);
+    }
+
+    @Test
+    public void testReplayedCreateReadsCreatedBaseline() {
+        ResourceHandlerRequest<ResourceModel>  request = buildDefaultInputRequest();
+        createReplayCache.put(CLIENT_REQUEST_TOKEN, BASELINE_ID);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readEvent =
+                ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+        when(readHandler.handleRequest(proxy, request, null, logger)).thenReturn(readEvent);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = createHandler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isSameAs(readEvent);
+        assertThat(request.getDesiredResourceState().getId()).isEqualTo(BASELINE_ID);
+        verifyZeroInteractions(proxy);
+        verifyZeroInteractions(cfnTagHelper);
+    }
+
+    @Test
+    public void testReplayedCreateReadsBaselineFromCallbackContext() {
+        ResourceHandlerRequest<ResourceModel>  request = buildDefaultInputRequest();
+        final CallbackContext callbackContext = CallbackContext.builder().createdBaselineId(BASELINE_ID).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> readEvent =
+                ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+        when(readHandler.handleRequest(proxy, request, callbackContext, logger)).thenReturn(readEvent);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = createHandler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response).isSameAs(readEvent);
+        assertThat(request.getDesiredResourceState().getId()).isEqualTo(BASELINE_ID);
+        verifyZeroInteractions(proxy);
+        verifyZeroInteractions(cfnTagHelper);
+    }
+
+    @Test
+    public void testReplayedCreateOfDeletedBaselineCreatesAgain() {
+        ResourceHandlerRequest<ResourceModel>  request = buildDefaultInputRequest();
+        createReplayCache.put(CLIENT_REQUEST_TOKEN, "pb-deleted");
+
+        when(readHandler.handleRequest(proxy, request, null, logger))
+                .thenReturn(ProgressEvent.defaultFailureHandler(new RuntimeException("not found"), HandlerErrorCode.NotFound));
+        mockValidateAndMergeTagsForCreate_Success(request);
+        mockInvokeCreatePatchBaseline_Success();
+        when(proxy.injectCredentialsAndInvokeV2Async(
+                any(RegisterPatchBaselineForPatchGroupRequest.class),
+                ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, CompletableFuture<RegisterPatchBaselineForPatchGroupResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(registerResponse));
+        when(proxy.injectCredentialsAndInvokeV2Async(
+                eq(registerDefaultPatchBaselineRequest),
+                ArgumentMatchers.<Function<RegisterDefaultPatchBaselineRequest, CompletableFuture<RegisterDefaultPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(registerDefaultPatchBaselineResponse));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = createHandler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(createReplayCache.get(CLIENT_REQUEST_TOKEN)).contains(BASELINE_ID);
     }
 
 
@@ -144,9 +220,9 @@ public class CreateHandlerTest extends TestBase {
         mockValidateAndMergeTagsForCreate_Success(request);
 
         createPatchBaselineRequestMissingName = createPatchBaselineRequestBuilder.build();
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(createPatchBaselineRequestMissingName),
-                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any())).thenThrow(exception400);
+                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any())).thenThrow(exception400);
 
         //This test is a little different in the sense that we want the handler to send a request with a missing name
         //  to verify the handlers error-catching behavior.
@@ -158,16 +234,16 @@ public class CreateHandlerTest extends TestBase {
                 = createHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy, atLeastOnce())
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         captor.capture(),
-                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any());
 
         final List<CreatePatchBaselineRequest> capturedValues = typeCheckedValues(captor.getAllValues(), CreatePatchBaselineRequest.class);
         assertThat(capturedValues.size()).isEqualTo(1);
 
         final CreatePatchBaselineRequest actualCreatePatchBaselineRequest = capturedValues.get(0);
 
-        verify(proxy, never()).injectCredentialsAndInvokeV2(
+        verify(proxy, never()).injectCredentialsAndInvokeV2Async(
                 any(RegisterPatchBaselineForPatchGroupRequest.class), any());
 
         assertThat(response).isNotNull();
@@ -188,20 +264,20 @@ public class CreateHandlerTest extends TestBase {
         mockValidateAndMergeTagsForCreate_Success(request);
 
         createPatchBaselineRequest = createPatchBaselineRequestBuilder.name(BASELINE_NAME).build();
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(createPatchBaselineRequest),
-                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any())).thenThrow(ResourceLimitExceededException.builder().message("limit exceeded").build());
+                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any())).thenThrow(ResourceLimitExceededException.builder().message("limit exceeded").build());
 
         //We want to verify that the create handler sends the appropriate response when the user has too many baselines
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = createHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(createPatchBaselineRequest),
-                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any());
 
-        verify(proxy, never()).injectCredentialsAndInvokeV2(
+        verify(proxy, never()).injectCredentialsAndInvokeV2Async(
                 any(RegisterPatchBaselineForPatchGroupRequest.class), any());
 
         assertThat(response).isNotNull();
@@ -221,20 +297,20 @@ public class CreateHandlerTest extends TestBase {
 
         createPatchBaselineRequest = createPatchBaselineRequestBuilder.name(BASELINE_NAME).build();
 
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(createPatchBaselineRequest),
-                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any())).thenThrow(AlreadyExistsException.builder().message("already registered!").build());
+                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any())).thenThrow(AlreadyExistsException.builder().message("already registered!").build());
 
         //We want to verify the handlers response to when there is already a baseline registered to a specific group.
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = createHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(createPatchBaselineRequest),
-                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any());
 
-        verify(proxy, never()).injectCredentialsAndInvokeV2(
+        verify(proxy, never()).injectCredentialsAndInvokeV2Async(
                 any(RegisterPatchBaselineForPatchGroupRequest.class), any());
 
         assertThat(response).isNotNull();
@@ -253,21 +329,21 @@ public class CreateHandlerTest extends TestBase {
         mockValidateAndMergeTagsForCreate_Success(request);
         mockInvokeCreatePatchBaseline_Success();
 
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 any(RegisterPatchBaselineForPatchGroupRequest.class), any())).thenThrow(ResourceLimitExceededException.builder().message("Too many patch groups!").build());;
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = createHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(createPatchBaselineRequest),
-                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any());
 
         for (String group : PATCH_GROUPS) {
-            verify(proxy).injectCredentialsAndInvokeV2(
+            verify(proxy).injectCredentialsAndInvokeV2Async(
                     eq(buildRegisterGroupRequest(createPatchBaselineResponse.baselineId(), group)),
-                    ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any());
+                    ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, CompletableFuture<RegisterPatchBaselineForPatchGroupResponse>>>any());
             break; //Simulate an exception while adding the patch group
         }
 
@@ -278,6 +354,8 @@ public class CreateHandlerTest extends TestBase {
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
         assert (response.getMessage().contains("Too many patch groups!"));
+        // A retry must finish the registrations rather than read the baseline as if the create had succeeded
+        assertThat(createReplayCache.get(CLIENT_REQUEST_TOKEN)).isEmpty();
     }
 
     @Test
@@ -288,9 +366,9 @@ public class CreateHandlerTest extends TestBase {
         mockValidateAndMergeTagsForCreate_Success(request);
 
         createPatchBaselineRequest = createPatchBaselineRequestBuilder.name(BASELINE_NAME).build();
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(createPatchBaselineRequest),
-                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any())).thenThrow(exception500);
+                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any())).thenThrow(exception500);
 
 
         // verify the handlers response when SSM returns a 5xx error.
@@ -298,11 +376,11 @@ public class CreateHandlerTest extends TestBase {
                 = createHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(createPatchBaselineRequest),
-                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any());
 
-        verify(proxy, never()).injectCredentialsAndInvokeV2(
+        verify(proxy, never()).injectCredentialsAndInvokeV2Async(
                 any(RegisterPatchBaselineForPatchGroupRequest.class), any());
 
         assertThat(response).isNotNull();
@@ -312,6 +390,7 @@ public class CreateHandlerTest extends TestBase {
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
         assert (response.getMessage().contains("Server error"));
+        assertThat(createReplayCache.get(CLIENT_REQUEST_TOKEN)).isEmpty();
     }
 
     @Test
@@ -337,9 +416,9 @@ public class CreateHandlerTest extends TestBase {
     private void mockInvokeCreatePatchBaseline_Success() {
         //mock createPatchBaseline
         createPatchBaselineRequest = createPatchBaselineRequestBuilder.name(BASELINE_NAME).build();
-        when(proxy.injectCredentialsAndInvokeV2(eq(createPatchBaselineRequest),
-                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CreatePatchBaselineResponse>>any()))
-                .thenReturn(createPatchBaselineResponse);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(createPatchBaselineRequest),
+                ArgumentMatchers.<Function<CreatePatchBaselineRequest, CompletableFuture<CreatePatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(createPatchBaselineResponse));
     }
 
     private void mockValidateAndMergeTagsForCreate_Success(ResourceHandlerRequest<ResourceModel> request) {
@@ -7,7 +7,16 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesRequest;
 import software.amazon.awssdk.services.ssm.model.DescribePatchBaselinesResponse;
+import software.amazon.awssdk.services.ssm.model.DoesNotExistException;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetDefaultPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineRequest;
+import software.amazon.awssdk.services.ssm.model.GetPatchBaselineResponse;
+import software.amazon.awssdk.services.ssm.model.InternalServerErrorException;
+import software.amazon.awssdk.services.ssm.model.OperatingSystem;
 import software.amazon.awssdk.services.ssm.model.PatchBaselineIdentity;
+import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
 import static software.amazon.ssm.patchbaseline.TestConstants.*;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,8 +24,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mock;
-import org.mockito.InjectMocks;
 import org.mockito.ArgumentMatchers;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
@@ -26,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.ssm.patchbaseline.ResourceModel;
 
@@ -33,12 +43,11 @@ import software.amazon.ssm.patchbaseline.ResourceModel;
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends TestBase {
 
-    @InjectMocks
     private ListHandler listHandler;
     @Mock
     private AmazonWebServicesClientProxy proxy;
     @Mock
-    ReadHandler readHandler;
+    private TagHelper cfnTagHelper;
 
     private DescribePatchBaselinesRequest describePatchBaselinesRequest;
     private DescribePatchBaselinesResponse describePatchBaselinesResponse;
@@ -52,6 +61,7 @@ public class ListHandlerTest extends TestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
+        listHandler = new ListHandler(cfnTagHelper, new DefaultBaselineCache(), false);
 
         //set up mock for DescribePatchBaselinesResponse
         final List<PatchBaselineIdentity> patchBaselineIdentities = Arrays.asList(PatchBaselineIdentity.builder().baselineId(BASELINE_ID).build());
@@ -85,4 +95,105 @@ public class ListHandlerTest extends TestBase {
         assertThat(response.getErrorCode()).isNull();
 
     }
+
+    @Test
+    public void handleRequest_HydratedResourceModels() {
+        final String secondBaselineId = "pb-76543210987654321";
+        final String deletedBaselineId = "pb-00000000000000000";
+        listHandler = new ListHandler(cfnTagHelper, new DefaultBaselineCache(), true);
+
+        final List<PatchBaselineIdentity> patchBaselineIdentities = Arrays.asList(
+                PatchBaselineIdentity.builder().baselineId(BASELINE_ID).operatingSystem(OPERATING_SYSTEM).build(),
+                PatchBaselineIdentity.builder().baselineId(secondBaselineId).operatingSystem(OPERATING_SYSTEM).build(),
+                PatchBaselineIdentity.builder().baselineId(deletedBaselineId).operatingSystem(OPERATING_SYSTEM).build());
+        describePatchBaselinesResponse = DescribePatchBaselinesResponse.builder()
+                .baselineIdentities(patchBaselineIdentities)
+                .nextToken("nextToken")
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(eq(describePatchBaselinesRequest),
+                ArgumentMatchers.<Function<DescribePatchBaselinesRequest, DescribePatchBaselinesResponse>>any()))
+                .thenReturn(describePatchBaselinesResponse);
+
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(GetPatchBaselineRequest.builder().baselineId(BASELINE_ID).build()),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(GetPatchBaselineResponse.builder().baselineId(BASELINE_ID).name(BASELINE_NAME).operatingSystem(OPERATING_SYSTEM).build()));
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(GetPatchBaselineRequest.builder().baselineId(secondBaselineId).build()),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(GetPatchBaselineResponse.builder().baselineId(secondBaselineId).name(UPDATED_BASELINE_NAME).operatingSystem(OPERATING_SYSTEM).build()));
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(GetPatchBaselineRequest.builder().baselineId(deletedBaselineId).build()),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(failedFuture(DoesNotExistException.builder().message("Baseline does not exist").build()));
+
+        final GetDefaultPatchBaselineRequest getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder()
+                .operatingSystem(OperatingSystem.fromValue(OPERATING_SYSTEM))
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getDefaultPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(GetDefaultPatchBaselineResponse.builder().baselineId(BASELINE_ID).build()));
+
+        final List<Tag> tagList = requestTags(TAG_KEY, TAG_VALUE);
+        when(cfnTagHelper.listTagsForResourceAsync(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(tagList));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                listHandler.handleRequest(proxy, request, null, logger);
+
+        final ResourceModel expectedDefaultModel = ResourceModel.builder()
+                .id(BASELINE_ID).name(BASELINE_NAME).operatingSystem(OPERATING_SYSTEM)
+                .tags(tags(TAG_KEY, TAG_VALUE)).defaultBaseline(true).build();
+        final ResourceModel expectedModel = ResourceModel.builder()
+                .id(secondBaselineId).name(UPDATED_BASELINE_NAME).operatingSystem(OPERATING_SYSTEM)
+                .tags(tags(TAG_KEY, TAG_VALUE)).build();
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("nextToken");
+        assertThat(response.getResourceModels()).containsExactly(expectedDefaultModel, expectedModel);
+
+        //The default baseline is only looked up once for the operating system shared by the page
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2Async(eq(getDefaultPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any());
+    }
+
+    @Test
+    public void handleRequest_HydratedResourceModelsFailWhenTagsCannotBeListed() {
+        listHandler = new ListHandler(cfnTagHelper, new DefaultBaselineCache(), true);
+
+        describePatchBaselinesResponse = DescribePatchBaselinesResponse.builder()
+                .baselineIdentities(PatchBaselineIdentity.builder().baselineId(BASELINE_ID).operatingSystem(OPERATING_SYSTEM).build())
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(eq(describePatchBaselinesRequest),
+                ArgumentMatchers.<Function<DescribePatchBaselinesRequest, DescribePatchBaselinesResponse>>any()))
+                .thenReturn(describePatchBaselinesResponse);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(GetPatchBaselineRequest.builder().baselineId(BASELINE_ID).build()),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(GetPatchBaselineResponse.builder().baselineId(BASELINE_ID).name(BASELINE_NAME).operatingSystem(OPERATING_SYSTEM).build()));
+        when(proxy.injectCredentialsAndInvokeV2Async(any(GetDefaultPatchBaselineRequest.class),
+                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(GetDefaultPatchBaselineResponse.builder().baselineId("pb-76543210987654321").build()));
+        when(cfnTagHelper.listTagsForResourceAsync(any(), any(), any(), any()))
+                .thenReturn(failedFuture(InternalServerErrorException.builder().message("Internal error").build()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                listHandler.handleRequest(proxy, request, null, logger);
+
+        // A baseline is never returned without the tags it has
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).contains("Internal error");
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable cause) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
 }
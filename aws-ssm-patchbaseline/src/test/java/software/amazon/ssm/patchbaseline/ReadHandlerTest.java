@@ -13,6 +13,7 @@ import software.amazon.awssdk.services.ssm.model.PatchRuleGroup;
 import software.amazon.awssdk.services.ssm.model.PatchFilterGroup;
 import software.amazon.awssdk.services.ssm.model.PatchSource;
 import software.amazon.awssdk.services.ssm.model.Tag;
+import software.amazon.ssm.patchbaseline.utils.DefaultBaselineCache;
 import static software.amazon.ssm.patchbaseline.TestConstants.*;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -31,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.mockito.ArgumentMatchers;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,7 +56,7 @@ public class ReadHandlerTest extends TestBase {
     @BeforeEach
     public void setup() {
         cfnTagHelper = mock(TagHelper.class);
-        readHandler = new ReadHandler(cfnTagHelper);
+        readHandler = new ReadHandler(cfnTagHelper, new DefaultBaselineCache());
     }
 
     @Test
@@ -65,17 +68,17 @@ public class ReadHandlerTest extends TestBase {
         getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder().operatingSystem((OperatingSystem.fromValue(OPERATING_SYSTEM))).build();
         getDefaultPatchBaselineResponse = GetDefaultPatchBaselineResponse.builder().baselineId(BASELINE_ID).build();
 
-        when(proxy.injectCredentialsAndInvokeV2(eq(getPatchBaselineRequest),
-                ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any()))
-                .thenReturn(getPatchBaselineResponse);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(getPatchBaselineResponse));
 
-        when(proxy.injectCredentialsAndInvokeV2(eq(getDefaultPatchBaselineRequest),
-                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, GetDefaultPatchBaselineResponse>>any()))
-                .thenReturn(getDefaultPatchBaselineResponse);
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getDefaultPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(getDefaultPatchBaselineResponse));
 
-        //set up mock for TagHelper.listTagsForResource()
+        //set up mock for TagHelper.listTagsForResourceAsync()
         List<Tag> tagList = requestTags(TAG_KEY, TAG_VALUE);
-        when(cfnTagHelper.listTagsForResource(any(), any(), any(), any())).thenReturn(tagList);
+        when(cfnTagHelper.listTagsForResourceAsync(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(tagList));
 
         //Simple unit test to verify the reading-in of read requests.
         ResourceModel model = ResourceModel.builder().id(BASELINE_ID).build();
@@ -93,20 +96,104 @@ public class ReadHandlerTest extends TestBase {
                 ProgressEvent.defaultSuccessHandler(expectedModel);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(getPatchBaselineRequest),
-                        ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any());
 
         assertThat(response).isEqualTo(expectedProgressEvent);
         verifyZeroInteractions(resource);
     }
 
+    @Test
+    public void testDefaultBaselineCachedAcrossReads() {
+
+        getPatchBaselineRequest = GetPatchBaselineRequest.builder().baselineId(BASELINE_ID).build();
+        getPatchBaselineResponse = setUpGetPatchBaselineResponse();
+
+        getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder().operatingSystem((OperatingSystem.fromValue(OPERATING_SYSTEM))).build();
+        getDefaultPatchBaselineResponse = GetDefaultPatchBaselineResponse.builder()
+                .baselineId("arn:aws:ssm:us-east-1:123456789012:patchbaseline/" + BASELINE_ID)
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(getPatchBaselineResponse));
+
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getDefaultPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(getDefaultPatchBaselineResponse));
+
+        List<Tag> tagList = requestTags(TAG_KEY, TAG_VALUE);
+        when(cfnTagHelper.listTagsForResourceAsync(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(tagList));
+
+        ResourceModel model = ResourceModel.builder().id(BASELINE_ID).build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse
+                = readHandler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse
+                = readHandler.handleRequest(proxy, request, null, logger);
+
+        //The default baseline is only looked up once for the same account, region and operating system
+        verify(proxy, times(1))
+                .injectCredentialsAndInvokeV2Async(
+                        eq(getDefaultPatchBaselineRequest),
+                        ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any());
+        verify(proxy, times(2))
+                .injectCredentialsAndInvokeV2Async(
+                        eq(getPatchBaselineRequest),
+                        ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any());
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(firstResponse.getResourceModel().getDefaultBaseline()).isTrue();
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getResourceModel().getDefaultBaseline()).isTrue();
+    }
+
+    @Test
+    public void testNotDefaultBaseline() {
+
+        getPatchBaselineRequest = GetPatchBaselineRequest.builder().baselineId(BASELINE_ID).build();
+        getPatchBaselineResponse = setUpGetPatchBaselineResponse();
+
+        getDefaultPatchBaselineRequest = GetDefaultPatchBaselineRequest.builder().operatingSystem((OperatingSystem.fromValue(OPERATING_SYSTEM))).build();
+        getDefaultPatchBaselineResponse = GetDefaultPatchBaselineResponse.builder().baselineId("pb-00000000000000000").build();
+
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(getPatchBaselineResponse));
+
+        when(proxy.injectCredentialsAndInvokeV2Async(eq(getDefaultPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetDefaultPatchBaselineRequest, CompletableFuture<GetDefaultPatchBaselineResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(getDefaultPatchBaselineResponse));
+
+        List<Tag> tagList = requestTags(TAG_KEY, TAG_VALUE);
+        when(cfnTagHelper.listTagsForResourceAsync(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(tagList));
+
+        ResourceModel model = ResourceModel.builder().id(new String(BASELINE_ID)).build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = readHandler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDefaultBaseline()).isNull();
+    }
+
     @Test
     public void testInvalidBaselineId() {
         getPatchBaselineRequest = GetPatchBaselineRequest.builder().baselineId(BAD_BASELINE_ID).build();
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(getPatchBaselineRequest),
-                ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any())).thenThrow(exception400);
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any())).thenReturn(failedFuture(exception400));
 
         //Verify handler response when given an invalid baseline id
         ResourceModel model = ResourceModel.builder().id(BAD_BASELINE_ID).build();
@@ -118,9 +205,9 @@ public class ReadHandlerTest extends TestBase {
                 = readHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(getPatchBaselineRequest),
-                        ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any());
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -134,9 +221,9 @@ public class ReadHandlerTest extends TestBase {
     @Test
     public void testServerError() {
         getPatchBaselineRequest = GetPatchBaselineRequest.builder().baselineId(BASELINE_ID).build();
-        when(proxy.injectCredentialsAndInvokeV2(
+        when(proxy.injectCredentialsAndInvokeV2Async(
                 eq(getPatchBaselineRequest),
-                ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any())).thenThrow(exception500);
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any())).thenReturn(failedFuture(exception500));
 
         //Verify handler response when we get 5xx error from SSM
         ResourceModel model = ResourceModel.builder().id(BASELINE_ID).build();
@@ -148,9 +235,9 @@ public class ReadHandlerTest extends TestBase {
                 = readHandler.handleRequest(proxy, request, null, logger);
 
         verify(proxy)
-                .injectCredentialsAndInvokeV2(
+                .injectCredentialsAndInvokeV2Async(
                         eq(getPatchBaselineRequest),
-                        ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any());
+                        ArgumentMatchers.<Function<GetPatchBaselineRequest, CompletableFuture<GetPatchBaselineResponse>>>any());
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -161,6 +248,12 @@ public class ReadHandlerTest extends TestBase {
         assert(response.getMessage().contains(exception500.getMessage()));
     }
 
+    private static <T> CompletableFuture<T> failedFuture(final Throwable cause) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
     private GetPatchBaselineResponse setUpGetPatchBaselineResponse() {
         List<PatchSource> sources = requestSources();
         PatchFilterGroup globalFilters = requestGlobalFilters();
@@ -1,5 +1,6 @@
 package software.amazon.ssm.patchbaseline;
 
+import software.amazon.awssdk.services.ssm.SsmAsyncClient;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.ssm.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.ssm.model.RemoveTagsFromResourceRequest;
@@ -36,6 +37,7 @@ import java.util.Map;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.Collections;
 import java.util.Comparator;
@@ -52,6 +54,8 @@ public class TagHelperTest extends TestBase{
     private TagHelper cfnTagHelper;
     @Mock
     private AmazonWebServicesClientProxy proxy;
+    @Mock
+    private SsmAsyncClient ssmAsyncClient;
 
     @Test
     public void testConvertRequestTagsToMap_Nominal() {
@@ -519,6 +523,24 @@ public class TagHelperTest extends TestBase{
         return tagPropertiesList;
     }
 
+    @Test
+    public void testListTagsForResourceAsync_LeavesOutSystemTags() {
+        listTagsForResourceRequest = ListTagsForResourceRequest.builder().resourceType(TEST_RESOURCE_TYPE).resourceId(TEST_RESOURCE_ID).build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+                .tagList(Tag.builder().key("stackkey1").value("stack1").build(),
+                         Tag.builder().key("aws:cloudformation:stack-name").value("stack").build())
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2Async(
+                eq(listTagsForResourceRequest),
+                ArgumentMatchers.<Function<ListTagsForResourceRequest, CompletableFuture<ListTagsForResourceResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(listTagsForResourceResponse));
+
+        List<Tag> tags = cfnTagHelper.listTagsForResourceAsync(TEST_RESOURCE_TYPE, TEST_RESOURCE_ID, ssmAsyncClient, proxy).join();
+
+        assertThat(tags).containsExactly(Tag.builder().key("stackkey1").value("stack1").build());
+    }
+
     private List<Tag> buildRequestTagList(Map<String, String> tags) {
         List<Tag> tagPropertiesList = new ArrayList<>();
 
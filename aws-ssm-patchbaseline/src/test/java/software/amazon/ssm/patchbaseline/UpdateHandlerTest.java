@@ -22,10 +22,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.ssm.patchbaseline.TestConstants.*;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.InjectMocks;
 import org.mockito.ArgumentMatchers;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +34,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
@@ -45,7 +46,6 @@ import java.util.function.Function;
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends TestBase{
 
-    @InjectMocks
     private UpdateHandler updateHandler;
     @Mock
     private TagHelper mockTagHelper;
@@ -59,7 +59,17 @@ public class UpdateHandlerTest extends TestBase{
     private RegisterPatchBaselineForPatchGroupResponse mockRegisterGroupResponse;
     private DeregisterPatchBaselineForPatchGroupResponse mockDeregisterGroupResponse;
 
+    // The test instance lives for the whole class, so the handler is rebuilt around each test's TagHelper mock
+    @BeforeEach
+    public void setup() {
+        updateHandler = new UpdateHandler(mockTagHelper);
+    }
+
     public void setupSuccessMocks() {
+        setupSuccessMocks(PATCH_GROUPS);
+    }
+
+    public void setupSuccessMocks(final List<String> registeredPatchGroups) {
         proxy = mock(AmazonWebServicesClientProxy.class);
         //set up mock for UpdatePatchBaseline
         mockUpdatePatchBaselineRequest = setUpExpectedUpdatePatchBaselineRequest();
@@ -70,7 +80,7 @@ public class UpdateHandlerTest extends TestBase{
 
         //set up mock for GetPatchBaseline
         mockGetPatchBaselineRequest = GetPatchBaselineRequest.builder().baselineId(BASELINE_ID).build();
-        mockGetPatchBaselineResponse = GetPatchBaselineResponse.builder().baselineId(BASELINE_ID).patchGroups(PATCH_GROUPS).build();
+        mockGetPatchBaselineResponse = GetPatchBaselineResponse.builder().baselineId(BASELINE_ID).patchGroups(registeredPatchGroups).build();
         when(proxy.injectCredentialsAndInvokeV2(
             eq(mockGetPatchBaselineRequest), ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any()))
         .thenReturn(mockGetPatchBaselineResponse);
@@ -106,18 +116,18 @@ public class UpdateHandlerTest extends TestBase{
                 eq(mockUpdatePatchBaselineRequest),
                 ArgumentMatchers.<Function<UpdatePatchBaselineRequest, UpdatePatchBaselineResponse>>any());
 
+        //Current patch groups are read from SSM
         verify(proxy).injectCredentialsAndInvokeV2(
                 eq(mockGetPatchBaselineRequest),
                 ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any());
 
-
         List<String> expectedOriginalGroups = new ArrayList<>(Arrays.asList("icecream"));
         List<String> expectedNewGroups = new ArrayList<>(Arrays.asList("foo", "baz"));
 
         for (String group : expectedOriginalGroups) {
             verify(proxy)
                     .injectCredentialsAndInvokeV2(
-                            eq(buildDeregisterGroupRequest(mockGetPatchBaselineResponse.baselineId(), group)),
+                            eq(buildDeregisterGroupRequest(BASELINE_ID, group)),
                             ArgumentMatchers.<Function<DeregisterPatchBaselineForPatchGroupRequest, DeregisterPatchBaselineForPatchGroupResponse>>any());
         }
 
@@ -125,7 +135,7 @@ public class UpdateHandlerTest extends TestBase{
             if (!TestConstants.PATCH_GROUPS.contains(group)) {
                 verify(proxy)
                         .injectCredentialsAndInvokeV2(
-                                eq(buildRegisterGroupRequest(mockGetPatchBaselineResponse.baselineId(), group)),
+                                eq(buildRegisterGroupRequest(BASELINE_ID, group)),
                                 ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any());
             }
         }
@@ -144,6 +154,105 @@ public class UpdateHandlerTest extends TestBase{
     }
 
 
+    @Test
+    public void testUpdateHandler_onlyTagsChanged(){
+        proxy = mock(AmazonWebServicesClientProxy.class);
+        doNothing().when(mockTagHelper).updateTagsForResource(
+                ArgumentMatchers.<ResourceHandlerRequest<ResourceModel>>any(), any(String.class), any(SsmClient.class), any(AmazonWebServicesClientProxy.class)
+        );
+
+        ResourceHandlerRequest<ResourceModel> defaultRequest = buildDefaultInputRequest();
+        ResourceModel previousModel = defaultRequest.getDesiredResourceState();
+        ResourceModel updatedModel = buildDefaultInputRequest().getDesiredResourceState();
+        updatedModel.setTags(tags(NEW_TAG_KEY, NEW_TAG_VALUE));
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceTags(defaultRequest.getDesiredResourceTags())
+                .previousResourceTags(defaultRequest.getDesiredResourceTags())
+                .previousResourceState(previousModel)
+                .desiredResourceState(updatedModel)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = updateHandler.handleRequest(proxy, request, null, logger);
+
+        verify(mockTagHelper).updateTagsForResource(
+                eq(request), eq(UpdateHandler.PATCH_BASELINE_RESOURCE_NAME), any(SsmClient.class), eq(proxy));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+                any(UpdatePatchBaselineRequest.class),
+                ArgumentMatchers.<Function<UpdatePatchBaselineRequest, UpdatePatchBaselineResponse>>any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+                any(GetPatchBaselineRequest.class),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+                any(RegisterPatchBaselineForPatchGroupRequest.class),
+                ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+                any(DeregisterPatchBaselineForPatchGroupRequest.class),
+                ArgumentMatchers.<Function<DeregisterPatchBaselineForPatchGroupRequest, DeregisterPatchBaselineForPatchGroupResponse>>any());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(updatedModel);
+    }
+
+    @Test
+    public void testUpdateHandler_noPreviousModel(){
+        setupSuccessMocks();
+
+        ResourceHandlerRequest<ResourceModel> updateRequest = buildUpdateDefaultInputRequest();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceTags(updateRequest.getDesiredResourceTags())
+                .desiredResourceState(updateRequest.getDesiredResourceState())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+        request.getDesiredResourceState().setDefaultBaseline(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = updateHandler.handleRequest(proxy, request, null, logger);
+
+        //Without a previous model every part is updated and the current groups are read from SSM
+        verify(proxy).injectCredentialsAndInvokeV2(
+                eq(mockUpdatePatchBaselineRequest),
+                ArgumentMatchers.<Function<UpdatePatchBaselineRequest, UpdatePatchBaselineResponse>>any());
+        verify(proxy).injectCredentialsAndInvokeV2(
+                eq(mockGetPatchBaselineRequest),
+                ArgumentMatchers.<Function<GetPatchBaselineRequest, GetPatchBaselineResponse>>any());
+        verify(proxy).injectCredentialsAndInvokeV2(
+                eq(buildDeregisterGroupRequest(BASELINE_ID, "icecream")),
+                ArgumentMatchers.<Function<DeregisterPatchBaselineForPatchGroupRequest, DeregisterPatchBaselineForPatchGroupResponse>>any());
+        verify(mockTagHelper).updateTagsForResource(
+                ArgumentMatchers.<ResourceHandlerRequest<ResourceModel>>any(), any(String.class), any(SsmClient.class), any(AmazonWebServicesClientProxy.class));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void testUpdateHandler_patchGroupsChangedOutOfBand(){
+        //SSM already has "foo" registered and "extra" added outside of CloudFormation, "icecream" was removed
+        setupSuccessMocks(Arrays.asList("mypatch", "foo", "extra"));
+
+        ResourceHandlerRequest<ResourceModel> request = buildUpdateDefaultInputRequest();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = updateHandler.handleRequest(proxy, request, null, logger);
+
+        verify(proxy).injectCredentialsAndInvokeV2(
+                eq(buildDeregisterGroupRequest(BASELINE_ID, "extra")),
+                ArgumentMatchers.<Function<DeregisterPatchBaselineForPatchGroupRequest, DeregisterPatchBaselineForPatchGroupResponse>>any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+                eq(buildDeregisterGroupRequest(BASELINE_ID, "icecream")),
+                ArgumentMatchers.<Function<DeregisterPatchBaselineForPatchGroupRequest, DeregisterPatchBaselineForPatchGroupResponse>>any());
+        verify(proxy).injectCredentialsAndInvokeV2(
+                eq(buildRegisterGroupRequest(BASELINE_ID, "baz")),
+                ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+                eq(buildRegisterGroupRequest(BASELINE_ID, "foo")),
+                ArgumentMatchers.<Function<RegisterPatchBaselineForPatchGroupRequest, RegisterPatchBaselineForPatchGroupResponse>>any());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void testUpdateHandler_failure(){
         ResourceHandlerRequest<ResourceModel>  request = buildUpdateDefaultInputRequest();
@@ -0,0 +1,70 @@
+package software.amazon.ssm.patchbaseline.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreateReplayCacheTest {
+
+    private static final String CLIENT_REQUEST_TOKEN = "FakeClientRequestToken";
+    private static final String BASELINE_ID = "pb-12345678901234567";
+    private static final Instant NOW = Instant.parse("2020-02-02T00:00:00Z");
+
+    @Test
+    public void testPutAndGet() {
+        CreateReplayCache cache = new CreateReplayCache(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(cache.get(CLIENT_REQUEST_TOKEN)).isEmpty();
+
+        cache.put(CLIENT_REQUEST_TOKEN, BASELINE_ID);
+
+        assertThat(cache.get(CLIENT_REQUEST_TOKEN)).contains(BASELINE_ID);
+        assertThat(cache.get("OtherClientRequestToken")).isEmpty();
+    }
+
+    @Test
+    public void testMissingTokenIsNeverCached() {
+        CreateReplayCache cache = new CreateReplayCache();
+
+        cache.put(null, BASELINE_ID);
+
+        assertThat(cache.get(null)).isEmpty();
+    }
+
+    @Test
+    public void testExpiredEntry() {
+        CreateReplayCache cache = new CreateReplayCache(Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.put(CLIENT_REQUEST_TOKEN, BASELINE_ID);
+
+        assertThat(cache.get(CLIENT_REQUEST_TOKEN)).isEmpty();
+    }
+
+    @Test
+    public void testInvalidate() {
+        CreateReplayCache cache = new CreateReplayCache();
+        cache.put(CLIENT_REQUEST_TOKEN, BASELINE_ID);
+
+        cache.invalidate(CLIENT_REQUEST_TOKEN);
+
+        assertThat(cache.get(CLIENT_REQUEST_TOKEN)).isEmpty();
+    }
+
+    @Test
+    public void testFullCacheKeepsExistingEntries() {
+        CreateReplayCache cache = new CreateReplayCache(Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        for (int i = 0; i < CreateReplayCache.MAX_ENTRIES; i++) {
+            cache.put(CLIENT_REQUEST_TOKEN + i, BASELINE_ID);
+        }
+
+        cache.put(CLIENT_REQUEST_TOKEN, BASELINE_ID);
+
+        assertThat(cache.get(CLIENT_REQUEST_TOKEN)).isEmpty();
+        assertThat(cache.get(CLIENT_REQUEST_TOKEN + 0)).contains(BASELINE_ID);
+    }
+}
@@ -0,0 +1,73 @@
+package software.amazon.ssm.patchbaseline.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultBaselineCacheTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String REGION = "us-east-1";
+    private static final String OPERATING_SYSTEM = "UBUNTU";
+    private static final String BASELINE_ID = "pb-12345678901234567";
+    private static final Instant NOW = Instant.parse("2020-02-02T00:00:00Z");
+
+    @Test
+    public void testPutAndGet() {
+        DefaultBaselineCache cache = new DefaultBaselineCache(Duration.ofSeconds(60), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, OPERATING_SYSTEM)).isEmpty();
+
+        cache.put(ACCOUNT_ID, REGION, OPERATING_SYSTEM, BASELINE_ID);
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, OPERATING_SYSTEM)).contains(BASELINE_ID);
+        assertThat(cache.get(ACCOUNT_ID, "us-west-2", OPERATING_SYSTEM)).isEmpty();
+        assertThat(cache.get("210987654321", REGION, OPERATING_SYSTEM)).isEmpty();
+        assertThat(cache.get(ACCOUNT_ID, REGION, "WINDOWS")).isEmpty();
+    }
+
+    @Test
+    public void testMissingOperatingSystemDefaultsToWindows() {
+        DefaultBaselineCache cache = new DefaultBaselineCache(Duration.ofSeconds(60), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.put(ACCOUNT_ID, REGION, null, BASELINE_ID);
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, "WINDOWS")).contains(BASELINE_ID);
+    }
+
+    @Test
+    public void testExpiredEntry() {
+        DefaultBaselineCache writer = new DefaultBaselineCache(Duration.ofSeconds(60), Clock.fixed(NOW, ZoneOffset.UTC));
+        writer.put(ACCOUNT_ID, REGION, OPERATING_SYSTEM, BASELINE_ID);
+        assertThat(writer.get(ACCOUNT_ID, REGION, OPERATING_SYSTEM)).contains(BASELINE_ID);
+
+        DefaultBaselineCache expired = new DefaultBaselineCache(Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+        expired.put(ACCOUNT_ID, REGION, OPERATING_SYSTEM, BASELINE_ID);
+        assertThat(expired.get(ACCOUNT_ID, REGION, OPERATING_SYSTEM)).isEmpty();
+    }
+
+    @Test
+    public void testClear() {
+        DefaultBaselineCache cache = new DefaultBaselineCache();
+        cache.put(ACCOUNT_ID, REGION, OPERATING_SYSTEM, BASELINE_ID);
+
+        cache.clear();
+
+        assertThat(cache.get(ACCOUNT_ID, REGION, OPERATING_SYSTEM)).isEmpty();
+    }
+
+    @Test
+    public void testIsSameBaseline() {
+        assertThat(DefaultBaselineCache.isSameBaseline(BASELINE_ID, new String(BASELINE_ID))).isTrue();
+        assertThat(DefaultBaselineCache.isSameBaseline(BASELINE_ID,
+                "arn:aws:ssm:us-east-1:123456789012:patchbaseline/" + BASELINE_ID)).isTrue();
+        assertThat(DefaultBaselineCache.isSameBaseline("pb-00000000000000000", BASELINE_ID)).isFalse();
+        assertThat(DefaultBaselineCache.isSameBaseline(BASELINE_ID, null)).isFalse();
+        assertThat(DefaultBaselineCache.isSameBaseline(null, BASELINE_ID)).isFalse();
+    }
+}
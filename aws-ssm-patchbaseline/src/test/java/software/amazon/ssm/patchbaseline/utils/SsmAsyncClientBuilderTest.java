@@ -0,0 +1,17 @@
+package software.amazon.ssm.patchbaseline.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test to verify that SsmAsyncClientBuilder can successfully create SsmAsyncClient
+ */
+public class SsmAsyncClientBuilderTest {
+
+    @Test
+    public void testSuccess() {
+        //This test will throw an exception if it fails. The client is shared by the handlers, so it is not closed.
+        assertThat(SsmAsyncClientBuilder.getClient()).isSameAs(SsmAsyncClientBuilder.getClient());
+    }
+}
@@ -1,6 +1,5 @@
 package software.amazon.ssm.resourcedatasync;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import lombok.Builder;
@@ -21,14 +20,27 @@ public class CallbackContext {
 
     private boolean updateResourceDataSyncStarted;
 
-    private Integer stabilizationRetriesRemaining;
+    /**
+     * Epoch milliseconds at which stabilization started.
+     */
+    private Long stabilizationStartTime;
+
+    /**
+     * Delay before the last scheduled stabilization poll.
+     */
+    private Integer stabilizationDelaySeconds;
+
+    /**
+     * LastStatus and LastSyncTime of the sync seen by the last stabilization poll.
+     */
+    private String lastObservedSyncState;
+
+    /**
+     * Token of the ListResourceDataSync page the sync was last found on, null for the first page.
+     */
+    private String resourceDataSyncPageToken;
 
     @JsonPOJOBuilder(withPrefix = "")
     public static class CallbackContextBuilder {
     }
-
-    @JsonIgnore
-    public void decrementStabilizationRetriesRemaining() {
-        stabilizationRetriesRemaining--;
-    }
 }
@@ -2,14 +2,27 @@ package software.amazon.ssm.resourcedatasync;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.ssm.common.metrics.ApiCallMetricsInterceptor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientBuilder {
+    /**
+     * Returns the SsmClient shared by every handler invocation in this container, so that a sync lookup that pages
+     * through ListResourceDataSync reuses one client and its connection pool.
+     */
     static SsmClient getClient() {
-        return SsmClient.builder()
+        return ClientHolder.CLIENT;
+    }
+
+    private static class ClientHolder {
+        private static final SsmClient CLIENT = SsmClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(new ApiCallMetricsInterceptor())
+                        .build())
                 .build();
     }
 }
@@ -0,0 +1,78 @@
+package software.amazon.ssm.resourcedatasync;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.ssm.common.ColdStartPriming;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Primes a fresh container before its first invocation. Building the shared SsmClient, running a synthetic
+ * request through the SDK marshallers and signer against an in-process stub and running the translators once moves
+ * class loading, endpoint resolution and serializer initialization out of the first handler invocation.
+ * {@link #prime()} is safe to call from a static initializer or from a CRaC/SnapStart beforeCheckpoint hook.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColdStartPrimer {
+
+    private static final ColdStartPriming PRIMING = new ColdStartPriming();
+    private static final String SAMPLE_SYNC_NAME = "priming";
+
+    /**
+     * Prime the container.
+     *
+     * @return how long priming took
+     */
+    public static Duration prime() {
+        return ColdStartPriming.time(() -> {
+            ClientBuilder.getClient();
+
+            try (SsmClient stubClient = ColdStartPriming.stubClient(SsmClient.builder())) {
+                primeMarshallers(stubClient);
+            }
+
+            primeTranslators();
+        });
+    }
+
+    /**
+     * Prime the container from its init phase, see {@link ColdStartPriming#primeOnInit}.
+     */
+    public static void primeOnInit() {
+        PRIMING.primeOnInit(ColdStartPrimer::prime);
+    }
+
+    /**
+     * Log how long priming took, or why it failed, on the first invocation of the container.
+     *
+     * @param logger logger of the handler invocation
+     */
+    public static void report(final Logger logger) {
+        PRIMING.report(logger::log);
+    }
+
+    private static void primeMarshallers(final SsmClient stubClient) {
+        stubClient.createResourceDataSync(Translator.createResourceDataSyncRequest(sampleModel()));
+        stubClient.listResourceDataSync(Translator.createListResourceDataSyncRequest(sampleModel()));
+    }
+
+    private static void primeTranslators() {
+        Translator.createResourceModelFromResourceDataSyncItem(
+                Translator.createResourceDataSyncItemFromResourceModel(sampleModel()));
+    }
+
+    private static ResourceModel sampleModel() {
+        return ResourceModel.builder()
+                .syncName(SAMPLE_SYNC_NAME)
+                .syncType("SyncFromSource")
+                .syncSource(SyncSource.builder()
+                        .sourceType("SingleAccountMultiRegions")
+                        .sourceRegions(Collections.singletonList("us-east-1"))
+                        .includeFutureRegions(false)
+                        .build())
+                .build();
+    }
+}
@@ -21,27 +21,38 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
 
 import static software.amazon.ssm.resourcedatasync.ResourceModel.TYPE_NAME;
 
-public class CreateHandler extends BaseHandler<CallbackContext> {
+public class CreateHandler extends BaseHandlerWithMetrics {
     /**
-     * Time period after which the Handler should be called again to check the status of the request.
+     * Delay before the first stabilization poll after a change of sync state. It doubles on every poll that sees
+     * the same state, up to MAX_CALLBACK_DELAY_SECONDS.
      */
-    private static final int CALLBACK_DELAY_SECONDS = 10;
-
     private static final int INITIAL_CALLBACK_DELAY_SECONDS = 2;
 
-    private static final int NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES = 60 / CALLBACK_DELAY_SECONDS;
+    private static final int MAX_CALLBACK_DELAY_SECONDS = 10;
 
-    private static final int ZERO = 0;
+    private static final Duration STABILIZATION_TIMEOUT = Duration.ofMinutes(1);
 
     private final String SYNC_TYPE_SYNC_FROM_SOURCE = "SyncFromSource";
 
+    private final StabilizationBackoff stabilizationBackoff;
+
+    public CreateHandler() {
+        this(Clock.systemUTC());
+    }
+
+    CreateHandler(final Clock clock) {
+        this.stabilizationBackoff = new StabilizationBackoff(STABILIZATION_TIMEOUT,
+                INITIAL_CALLBACK_DELAY_SECONDS, MAX_CALLBACK_DELAY_SECONDS, clock);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -58,25 +69,19 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             createResourceDataSync(createResourceDataSyncRequest, proxy);
 
             context.setCreateResourceDataSyncStarted(true);
-            context.setStabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES);
-
-            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .callbackContext(context)
-                    .status(OperationStatus.IN_PROGRESS)
-                    .callbackDelaySeconds(INITIAL_CALLBACK_DELAY_SECONDS)
-                    .resourceModel(model)
-                    .build();
+            stabilizationBackoff.start(context);
         }
 
         //Stabilization is the process of waiting for a resource to be in a particular (typically "success") state.
         if (!context.isCreateResourceDataSyncStabilized()) {
 
-            context.setCreateResourceDataSyncStabilized(isRDSStabilized(model, proxy, context, logger));
+            final Optional<ResourceDataSyncItem> resourceDataSyncItem = HandlerHelper.describeResourceDataSyncItem(model, proxy, context);
+            context.setCreateResourceDataSyncStabilized(isRDSStabilized(model, resourceDataSyncItem, context, logger));
 
             if (!context.isCreateResourceDataSyncStabilized()) {
                 return ProgressEvent.<ResourceModel, CallbackContext>builder()
                         .callbackContext(context)
-                        .callbackDelaySeconds(CALLBACK_DELAY_SECONDS)
+                        .callbackDelaySeconds(stabilizationBackoff.observe(context, resourceDataSyncItem))
                         .status(OperationStatus.IN_PROGRESS)
                         .resourceModel(request.getDesiredResourceState())
                         .build();
@@ -118,34 +123,30 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     /**
      * A function that checks whether the async CreateResourceDataSync is stabilized.
      * Stabilization is the process of waiting for a resource to be in a particular (typically "success") state.
-     * In particular, we check if resource data sync is created successfully by calling listResourceDataSync API.
+     * In particular, we check the LastStatus of the resource data sync returned by listResourceDataSync API.
+     * A sync that has run at least once (IN_PROGRESS or SUCCESSFUL) is stabilized, a FAILED sync or one that is still
+     * not stabilized once the timeout has elapsed fails the create.
      *
-     * @param model   ResourceModel
-     * @param proxy   AmazonWebServicesClientProxy
-     * @param context CallbackContext
-     * @param logger  Logger
+     * @param model                ResourceModel
+     * @param resourceDataSyncItem the resource data sync returned by listResourceDataSync, if it is listed yet
+     * @param context              CallbackContext
+     * @param logger               Logger
      * @return boolean
      */
-    private boolean isRDSStabilized(final ResourceModel model, final AmazonWebServicesClientProxy proxy, final CallbackContext context, final Logger logger) {
+    private boolean isRDSStabilized(final ResourceModel model, final Optional<ResourceDataSyncItem> resourceDataSyncItem,
+                                    final CallbackContext context, final Logger logger) {
 
         final String resourceDataSyncName = model.getSyncName();
 
-        if (context.getStabilizationRetriesRemaining() == ZERO) {
-            logger.log(String.format("Maximum stabilization retries reached for %s [%s]. Resource not stabilized", TYPE_NAME, resourceDataSyncName));
-            throw new CfnNotStabilizedException(TYPE_NAME, resourceDataSyncName);
-        }
-
-        context.decrementStabilizationRetriesRemaining();
-
-        final List<ResourceDataSyncItem> resourceDataSyncItems = HandlerHelper.describeResourceDataSyncItem(model, proxy);
-        if (resourceDataSyncItems.size() == 1) {
-            final LastResourceDataSyncStatus currentStatus = resourceDataSyncItems.get(0).lastStatus();
+        if (resourceDataSyncItem.isPresent()) {
+            final LastResourceDataSyncStatus currentStatus = resourceDataSyncItem.get().lastStatus();
 
-            logger.log(String.format("%s [%s] is in %s stage", TYPE_NAME, resourceDataSyncName, currentStatus));
+            logger.log(String.format("%s [%s] is in %s stage, last synced at %s", TYPE_NAME, resourceDataSyncName, currentStatus,
+                    resourceDataSyncItem.get().lastSyncTime()));
 
             if (currentStatus == null &&
-                    resourceDataSyncItems.get(0).syncType() != null &&
-                    resourceDataSyncItems.get(0).syncType().equals(SYNC_TYPE_SYNC_FROM_SOURCE)) {
+                    resourceDataSyncItem.get().syncType() != null &&
+                    resourceDataSyncItem.get().syncType().equals(SYNC_TYPE_SYNC_FROM_SOURCE)) {
                 // syncFromSource operation does not have currentStatus attribute
                 return true;
             }
@@ -154,9 +155,16 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 return true;
             }
             if (currentStatus != null && currentStatus.equals(LastResourceDataSyncStatus.FAILED)) {
+                logger.log(String.format("%s [%s] failed to sync: %s", TYPE_NAME, resourceDataSyncName,
+                        resourceDataSyncItem.get().lastSyncStatusMessage()));
                 throw new CfnNotStabilizedException(TYPE_NAME, resourceDataSyncName);
             }
         }
+
+        if (stabilizationBackoff.isTimedOut(context)) {
+            logger.log(String.format("Stabilization timeout reached for %s [%s]. Resource not stabilized", TYPE_NAME, resourceDataSyncName));
+            throw new CfnNotStabilizedException(TYPE_NAME, resourceDataSyncName);
+        }
         return false;
     }
 
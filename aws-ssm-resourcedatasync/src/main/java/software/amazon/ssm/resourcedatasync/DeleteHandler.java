@@ -17,24 +17,36 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
 
 import static software.amazon.ssm.resourcedatasync.ResourceModel.TYPE_NAME;
 
-public class DeleteHandler extends BaseHandler<CallbackContext> {
+public class DeleteHandler extends BaseHandlerWithMetrics {
     /**
-     * Time period after which the Handler should be called again to check the status of the request.
+     * Delay before the first stabilization poll after a change of sync state. It doubles on every poll that sees
+     * the same state, up to MAX_CALLBACK_DELAY_SECONDS.
      */
-    private static final int CALLBACK_DELAY_SECONDS = 30;
-
     private static final int INITIAL_CALLBACK_DELAY_SECONDS = 2;
 
-    private static final int NUMBER_OF_RESOURCE_DATA_SYNC_DELETE_POLL_RETRIES = 2 * 60 / CALLBACK_DELAY_SECONDS;
+    private static final int MAX_CALLBACK_DELAY_SECONDS = 30;
+
+    private static final Duration STABILIZATION_TIMEOUT = Duration.ofMinutes(2);
 
-    private static final int ZERO = 0;
+    private final StabilizationBackoff stabilizationBackoff;
+
+    public DeleteHandler() {
+        this(Clock.systemUTC());
+    }
+
+    DeleteHandler(final Clock clock) {
+        this.stabilizationBackoff = new StabilizationBackoff(STABILIZATION_TIMEOUT,
+                INITIAL_CALLBACK_DELAY_SECONDS, MAX_CALLBACK_DELAY_SECONDS, clock);
+    }
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
@@ -51,25 +63,19 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             logger.log(String.format("%s [%s] delete request created successfully", TYPE_NAME, model.getSyncName()));
 
             context.setDeleteResourceDataSyncStarted(true);
-            context.setStabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_DELETE_POLL_RETRIES);
-
-            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .callbackContext(context)
-                    .status(OperationStatus.IN_PROGRESS)
-                    .callbackDelaySeconds(INITIAL_CALLBACK_DELAY_SECONDS)
-                    .resourceModel(model)
-                    .build();
+            stabilizationBackoff.start(context);
         }
 
         // Stabilization is the process of waiting for a resource to be in a particular (typically "success") state.
         if (!context.isDeleteResourceDataSyncStabilized()) {
-            context.setDeleteResourceDataSyncStabilized(isRDSDeleteStabilized(model, proxy, context, logger));
+            final Optional<ResourceDataSyncItem> resourceDataSyncItem = HandlerHelper.describeResourceDataSyncItem(model, proxy, context);
+            context.setDeleteResourceDataSyncStabilized(isRDSDeleteStabilized(model, resourceDataSyncItem, context, logger));
 
             if (!context.isDeleteResourceDataSyncStabilized()) {
                 return ProgressEvent.<ResourceModel, CallbackContext>builder()
                         .callbackContext(context)
                         .status(OperationStatus.IN_PROGRESS)
-                        .callbackDelaySeconds(CALLBACK_DELAY_SECONDS)
+                        .callbackDelaySeconds(stabilizationBackoff.observe(context, resourceDataSyncItem))
                         .resourceModel(model)
                         .build();
             }
@@ -100,35 +106,31 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     /**
      * A function that checks whether the async DeleteResourceDataSync is stabilized.
      * Stabilization is the process of waiting for a resource to be in a particular (typically "success") state.
-     * In particular, we check if resource data sync is deleted successfully by calling listResourceDataSync API.
+     * In particular, the delete is stabilized as soon as listResourceDataSync no longer returns the resource data sync.
      *
-     * @param model
-     * @param proxy
-     * @param context
-     * @param logger
-     * @return
+     * @param model                ResourceModel
+     * @param resourceDataSyncItem the resource data sync returned by listResourceDataSync, if it is still listed
+     * @param context              CallbackContext
+     * @param logger               Logger
+     * @return boolean
      */
-    private boolean isRDSDeleteStabilized(final ResourceModel model, final AmazonWebServicesClientProxy proxy, final CallbackContext context, final Logger logger) {
+    private boolean isRDSDeleteStabilized(final ResourceModel model, final Optional<ResourceDataSyncItem> resourceDataSyncItem,
+                                          final CallbackContext context, final Logger logger) {
 
         final String resourceDataSyncName = model.getSyncName();
 
-        if (context.getStabilizationRetriesRemaining() == ZERO) {
-            logger.log(String.format("Maximum stabilization retries reached for %s [%s]. Resource not stabilized", TYPE_NAME, resourceDataSyncName));
-            throw new CfnNotStabilizedException(TYPE_NAME, resourceDataSyncName);
-        }
-        context.decrementStabilizationRetriesRemaining();
-
-        final List<ResourceDataSyncItem> resourceDataSyncItems = HandlerHelper.describeResourceDataSyncItem(model, proxy);
-
-        if (resourceDataSyncItems.isEmpty()) {
+        if (!resourceDataSyncItem.isPresent()) {
             return true;
         }
 
-        final LastResourceDataSyncStatus currentStatus = resourceDataSyncItems.get(0).lastStatus();
+        final LastResourceDataSyncStatus currentStatus = resourceDataSyncItem.get().lastStatus();
         logger.log(String.format("%s [%s] is in %s stage", TYPE_NAME, resourceDataSyncName, currentStatus));
 
+        if (stabilizationBackoff.isTimedOut(context)) {
+            logger.log(String.format("Stabilization timeout reached for %s [%s]. Resource not stabilized", TYPE_NAME, resourceDataSyncName));
+            throw new CfnNotStabilizedException(TYPE_NAME, resourceDataSyncName);
+        }
         return false;
-
     }
 
 }
@@ -5,87 +5,125 @@ import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.Optional;
 
 final class HandlerHelper {
 
     /**
-     * Describe Resource Data Sync Item based on model:syncName. First calling getListResourceDataSyncResponse to fetch
-     * list of resource data sync items based on model:syncType, then filter it by model:syncName to get specific
-     * ResourceDataSyncItem.
+     * Describe Resource Data Sync Item based on model:syncName by paging through ssm::listResourceDataSync for
+     * model:syncType, stopping at the first page that contains the sync.
      *
      * @param model ResourceModel
      * @param proxy AmazonWebServicesClientProxy
-     * @return List<ResourceDataSyncItem>
+     * @return Optional<ResourceDataSyncItem> that is empty when the sync does not exist
      */
-    static List<ResourceDataSyncItem> describeResourceDataSyncItem(final ResourceModel model, final AmazonWebServicesClientProxy proxy) {
-
-        ListResourceDataSyncResponse response = getListResourceDataSyncResponse(model, proxy);
-        return filterResourceDataSyncResponse(response, proxy, model);
-
+    static Optional<ResourceDataSyncItem> describeResourceDataSyncItem(final ResourceModel model, final AmazonWebServicesClientProxy proxy) {
+        return findResourceDataSyncItem(model, proxy, null, null, null);
     }
 
     /**
-     * Function for calling ssm::listResourceDataSync API and handle corresponded Exception without nextToken.
+     * Describe Resource Data Sync Item based on model:syncName, starting at the page remembered in the context by a
+     * previous lookup. The token of the page the sync is found on is stored back into the context, so that
+     * stabilization polls only list the pages they need.
      *
-     * @param model ResourceModel
-     * @param proxy AmazonWebServicesClientProxy
-     * @return ListResourceDataSyncResponse
+     * @param model   ResourceModel
+     * @param proxy   AmazonWebServicesClientProxy
+     * @param context CallbackContext holding the remembered page token
+     * @return Optional<ResourceDataSyncItem> that is empty when the sync does not exist
      */
-    static ListResourceDataSyncResponse getListResourceDataSyncResponse(final ResourceModel model, final AmazonWebServicesClientProxy proxy) {
-
-        final ListResourceDataSyncRequest request = Translator.createListResourceDataSyncRequest(model);
-
-        try {
-            return proxy.injectCredentialsAndInvokeV2(request, ClientBuilder.getClient()::listResourceDataSync);
-        } catch (final ResourceDataSyncInvalidConfigurationException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (final SsmException e) {
-            throw new CfnGeneralServiceException(e.getMessage(), e);
+    static Optional<ResourceDataSyncItem> describeResourceDataSyncItem(final ResourceModel model,
+                                                                       final AmazonWebServicesClientProxy proxy,
+                                                                       final CallbackContext context) {
+        final String rememberedPageToken = context.getResourceDataSyncPageToken();
+
+        if (rememberedPageToken != null) {
+            try {
+                final Optional<ResourceDataSyncItem> item = findResourceDataSyncItem(model, proxy, context, rememberedPageToken, null);
+                if (item.isPresent()) {
+                    return item;
+                }
+            } catch (final CfnInvalidRequestException e) {
+                // Page tokens expire, start over from the first page
+                if (!(e.getCause() instanceof InvalidNextTokenException)) {
+                    throw e;
+                }
+            }
+            context.setResourceDataSyncPageToken(null);
         }
+
+        // Pages from the remembered token onwards have already been searched
+        return findResourceDataSyncItem(model, proxy, context, null, rememberedPageToken);
     }
 
     /**
      * Function for calling ssm::listResourceDataSync API and handle corresponded Exception with nextToken.
      *
-     * @param model ResourceModel
-     * @param proxy AmazonWebServicesClientProxy
-     * @return nextToken that is used for fetching next page.
+     * @param model     ResourceModel
+     * @param proxy     AmazonWebServicesClientProxy
+     * @param nextToken token of the page to fetch, null for the first page
+     * @return ListResourceDataSyncResponse
      */
     static ListResourceDataSyncResponse getListResourceDataSyncResponse(final ResourceModel model, final AmazonWebServicesClientProxy proxy, final String nextToken) {
+        return listResourceDataSync(Translator.createListResourceDataSyncRequest(model, nextToken), proxy);
+    }
 
-        final ListResourceDataSyncRequest request = Translator.createListResourceDataSyncRequest(model, nextToken);
+    /**
+     * Function for calling ssm::listResourceDataSync API and handle corresponded Exception with nextToken and page size.
+     *
+     * @param model      ResourceModel
+     * @param proxy      AmazonWebServicesClientProxy
+     * @param nextToken  token of the page to fetch, null for the first page
+     * @param maxResults maximum number of ResourceDataSyncItems in the page
+     * @return ListResourceDataSyncResponse
+     */
+    static ListResourceDataSyncResponse getListResourceDataSyncResponse(final ResourceModel model, final AmazonWebServicesClientProxy proxy,
+                                                                        final String nextToken, final int maxResults) {
+        return listResourceDataSync(Translator.createListResourceDataSyncRequest(model, nextToken, maxResults), proxy);
+    }
 
+    private static ListResourceDataSyncResponse listResourceDataSync(final ListResourceDataSyncRequest request, final AmazonWebServicesClientProxy proxy) {
         try {
             return proxy.injectCredentialsAndInvokeV2(request, ClientBuilder.getClient()::listResourceDataSync);
-        } catch (SsmException e) {
-            if (e instanceof InvalidNextTokenException || e instanceof ResourceDataSyncInvalidConfigurationException) {
-                throw new CfnInvalidRequestException(e);
-            }
+        } catch (final InvalidNextTokenException | ResourceDataSyncInvalidConfigurationException e) {
+            throw new CfnInvalidRequestException(e);
+        } catch (final SsmException e) {
             throw new CfnGeneralServiceException(e.getMessage(), e);
         }
     }
 
     /**
-     * Function for filtering ListResourceDataSyncResponse by model.syncName.
+     * Page through ssm::listResourceDataSync until the sync named model:syncName is found.
      *
-     * @param model ResourceModel
-     * @param proxy AmazonWebServicesClientProxy
-     * @return List<ResourceDataSyncItem> that consist either null or corresponded ResourceDataSyncItem
+     * @param model      ResourceModel
+     * @param proxy      AmazonWebServicesClientProxy
+     * @param context    CallbackContext the page token is remembered in, may be null
+     * @param startToken token of the first page to fetch, null for the first page
+     * @param stopToken  token of a page that does not need to be fetched, null to page until the end
+     * @return Optional<ResourceDataSyncItem> that is empty when the sync was not found
      */
-    static List<ResourceDataSyncItem> filterResourceDataSyncResponse(final ListResourceDataSyncResponse response, final AmazonWebServicesClientProxy proxy, final ResourceModel model) {
-        List<ResourceDataSyncItem> itemList = new ArrayList<>();
-        Stream<ResourceDataSyncItem> rdsWithSameSyncName = response.resourceDataSyncItems().stream().filter(p -> p.syncName().equals(model.getSyncName()));
-        rdsWithSameSyncName.forEach(p -> itemList.add(p));
+    private static Optional<ResourceDataSyncItem> findResourceDataSyncItem(final ResourceModel model,
+                                                                           final AmazonWebServicesClientProxy proxy,
+                                                                           final CallbackContext context,
+                                                                           final String startToken,
+                                                                           final String stopToken) {
+        String pageToken = startToken;
+        do {
+            final ListResourceDataSyncResponse response = getListResourceDataSyncResponse(model, proxy, pageToken);
+
+            for (final ResourceDataSyncItem item : response.resourceDataSyncItems()) {
+                if (Objects.equals(item.syncName(), model.getSyncName())) {
+                    if (context != null) {
+                        context.setResourceDataSyncPageToken(pageToken);
+                    }
+                    return Optional.of(item);
+                }
+            }
 
-        while (response.nextToken() != null) {
-            ListResourceDataSyncResponse subResponse = getListResourceDataSyncResponse(model, proxy, response.nextToken());
-            response.toBuilder().resourceDataSyncItems(subResponse.resourceDataSyncItems()).nextToken(subResponse.nextToken()).build();
-        }
+            pageToken = response.nextToken();
+        } while (pageToken != null && !pageToken.equals(stopToken));
 
-        return itemList;
+        return Optional.empty();
     }
 
 }
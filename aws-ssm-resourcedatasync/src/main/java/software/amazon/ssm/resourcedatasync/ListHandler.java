@@ -7,41 +7,57 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 import static software.amazon.ssm.resourcedatasync.HandlerHelper.getListResourceDataSyncResponse;
 
 
-public class ListHandler extends BaseHandler<CallbackContext> {
+public class ListHandler extends BaseHandlerWithMetrics {
 
+    /**
+     * Largest page ssm::listResourceDataSync returns.
+     */
+    static final int MAX_PAGE_SIZE = 50;
+
+    private final int pageSize;
+
+    public ListHandler() {
+        this(MAX_PAGE_SIZE);
+    }
+
+    /**
+     * @param pageSize number of resource data syncs returned per invocation, between 1 and 50
+     */
+    public ListHandler(final int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format("Page size must be between 1 and %d, got %d", MAX_PAGE_SIZE, pageSize));
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns a single page of resource data syncs. CloudFormation calls the handler again with the returned
+     * nextToken to fetch the following page.
+     */
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        final ResourceModel model = request.getDesiredResourceState();
-
-        ListResourceDataSyncResponse response = getListResourceDataSyncResponse(model, proxy);
-
-        final List<ResourceModel> obtainedResourceModels = response.resourceDataSyncItems()
-                .stream()
-                .map(resourceDataSyncItem -> Translator.createResourceModelFromResourceDataSyncItem(resourceDataSyncItem))
-                .collect(Collectors.toList());
+        final ResourceModel model = request.getDesiredResourceState() == null
+                ? ResourceModel.builder().build()
+                : request.getDesiredResourceState();
 
-        while (response.nextToken() != null) {
-
-            response = getListResourceDataSyncResponse(model, proxy, request.getNextToken());
-            obtainedResourceModels.addAll(response.resourceDataSyncItems()
-                    .stream()
-                    .map(resourceDataSyncItem -> Translator.createResourceModelFromResourceDataSyncItem(resourceDataSyncItem))
-                    .collect(Collectors.toList()));
-        }
+        final ListResourceDataSyncResponse response = getListResourceDataSyncResponse(model, proxy, request.getNextToken(), pageSize);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(obtainedResourceModels)
+                .resourceModels(response.resourceDataSyncItems()
+                        .stream()
+                        .map(Translator::createResourceModelFromResourceDataSyncItem)
+                        .collect(Collectors.toList()))
+                .nextToken(response.nextToken())
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
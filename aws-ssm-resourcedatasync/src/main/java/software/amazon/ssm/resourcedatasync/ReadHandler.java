@@ -10,22 +10,22 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
+import java.util.Optional;
 
 import static software.amazon.ssm.resourcedatasync.HandlerHelper.describeResourceDataSyncItem;
 import static software.amazon.ssm.resourcedatasync.ResourceModel.TYPE_NAME;
 
 
-public class ReadHandler extends BaseHandler<CallbackContext> {
+public class ReadHandler extends BaseHandlerWithMetrics {
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        List<ResourceDataSyncItem> response;
+        Optional<ResourceDataSyncItem> response;
         final ResourceModel model = request.getDesiredResourceState();
 
         try {
@@ -34,11 +34,11 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             throw new CfnGeneralServiceException(e);
         }
 
-        if (response.isEmpty()) {
+        if (!response.isPresent()) {
             throw new CfnNotFoundException(TYPE_NAME, model.getSyncName());
         }
 
-        ResourceModel responseModel = Translator.createResourceModelFromResourceDataSyncItem(response.get(0));
+        ResourceModel responseModel = Translator.createResourceModelFromResourceDataSyncItem(response.get());
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(responseModel)
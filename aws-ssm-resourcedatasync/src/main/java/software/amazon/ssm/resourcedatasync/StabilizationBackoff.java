@@ -0,0 +1,79 @@
+package software.amazon.ssm.resourcedatasync;
+
+import software.amazon.awssdk.services.ssm.model.ResourceDataSyncItem;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Tracks how long a resource data sync has been stabilizing and how long to wait before the next poll.
+ * The delay starts short, doubles on every poll that observes the same sync state and drops back to the
+ * initial delay whenever the LastStatus or LastSyncTime of the sync changes. Stabilization gives up once the
+ * elapsed time recorded in the CallbackContext exceeds the timeout.
+ */
+final class StabilizationBackoff {
+
+    private static final String SYNC_ABSENT = "ABSENT";
+
+    private final Duration timeout;
+    private final int initialDelaySeconds;
+    private final int maxDelaySeconds;
+    private final Clock clock;
+
+    StabilizationBackoff(final Duration timeout, final int initialDelaySeconds, final int maxDelaySeconds, final Clock clock) {
+        this.timeout = timeout;
+        this.initialDelaySeconds = initialDelaySeconds;
+        this.maxDelaySeconds = maxDelaySeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * Record the start of stabilization.
+     *
+     * @param context CallbackContext
+     */
+    void start(final CallbackContext context) {
+        context.setStabilizationStartTime(clock.millis());
+        context.setStabilizationDelaySeconds(null);
+        context.setLastObservedSyncState(null);
+    }
+
+    /**
+     * Record the state of the sync seen by a poll and compute the delay before the next poll.
+     *
+     * @param context          CallbackContext
+     * @param resourceDataSync the sync returned by the poll, empty when it was not listed
+     * @return number of seconds to wait before the next poll
+     */
+    int observe(final CallbackContext context, final Optional<ResourceDataSyncItem> resourceDataSync) {
+        final String syncState = resourceDataSync
+                .map(item -> item.lastStatusAsString() + "@" + item.lastSyncTime())
+                .orElse(SYNC_ABSENT);
+
+        final Integer previousDelaySeconds = context.getStabilizationDelaySeconds();
+        final int delaySeconds;
+        if (previousDelaySeconds == null || !syncState.equals(context.getLastObservedSyncState())) {
+            delaySeconds = initialDelaySeconds;
+        } else {
+            delaySeconds = Math.min(maxDelaySeconds, previousDelaySeconds * 2);
+        }
+
+        context.setLastObservedSyncState(syncState);
+        context.setStabilizationDelaySeconds(delaySeconds);
+        return delaySeconds;
+    }
+
+    /**
+     * @param context CallbackContext
+     * @return true if stabilization has taken longer than the timeout
+     */
+    boolean isTimedOut(final CallbackContext context) {
+        if (context.getStabilizationStartTime() == null) {
+            // Context written before the start time was recorded, start counting now
+            context.setStabilizationStartTime(clock.millis());
+            return false;
+        }
+        return clock.millis() - context.getStabilizationStartTime() > timeout.toMillis();
+    }
+}
@@ -165,9 +165,22 @@ final class Translator {
      * @return ListResourceDataSyncRequest
      */
     static ListResourceDataSyncRequest createListResourceDataSyncRequest(final ResourceModel model, final String nextToken) {
+        return createListResourceDataSyncRequest(model, nextToken, RESOURCE_DATA_SYNC_LIMIT);
+    }
+
+    /**
+     * Translate ResourceModel to SSM::ListResourceDataSyncRequest with nextToken and page size
+     *
+     * @param model      ResourceModel
+     * @param nextToken  String
+     * @param maxResults maximum number of ResourceDataSyncItems in the page
+     * @return ListResourceDataSyncRequest
+     */
+    static ListResourceDataSyncRequest createListResourceDataSyncRequest(final ResourceModel model, final String nextToken,
+                                                                         final int maxResults) {
         return ListResourceDataSyncRequest.builder()
                 .syncType(model.getSyncType())
-                .maxResults(RESOURCE_DATA_SYNC_LIMIT)
+                .maxResults(maxResults)
                 .nextToken(nextToken)
                 .build();
     }
@@ -21,12 +21,12 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.ssm.resourcedatasync.ResourceModel.TYPE_NAME;
 
 
-public class UpdateHandler extends BaseHandler<CallbackContext> {
+public class UpdateHandler extends BaseHandlerWithMetrics {
 
     private final String SYNC_TYPE_SYNC_FROM_SOURCE = "SyncFromSource";
 
     @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    protected ProgressEvent<ResourceModel, CallbackContext> doHandleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
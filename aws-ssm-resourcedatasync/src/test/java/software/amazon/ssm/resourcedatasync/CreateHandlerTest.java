@@ -1,6 +1,8 @@
 package software.amazon.ssm.resourcedatasync;
 
 import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.CreateResourceDataSyncResponse;
+import software.amazon.awssdk.services.ssm.model.InvalidNextTokenException;
 import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncRequest;
 import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncResponse;
 import software.amazon.awssdk.services.ssm.model.ResourceDataSyncCountExceededException;
@@ -21,13 +23,18 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,7 +53,7 @@ public class CreateHandlerTest extends TestBase {
     public void setup() {
         proxy = mock(AmazonWebServicesClientProxy.class);
         logger = mock(Logger.class);
-        handler = new CreateHandler();
+        handler = new CreateHandler(FIXED_CLOCK);
     }
 
     /**
@@ -89,6 +96,11 @@ public class CreateHandlerTest extends TestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(proxy.injectCredentialsAndInvokeV2(any(CreateResourceDataSyncRequest.class), any()))
+                .thenReturn(CreateResourceDataSyncResponse.builder().build());
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder().build());
+
         final CallbackContext inputContext = CallbackContext.builder()
                 .build();
 
@@ -97,7 +109,9 @@ public class CreateHandlerTest extends TestBase {
 
         final CallbackContext outputContext = CallbackContext.builder()
                 .createResourceDataSyncStarted(true)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES)
+                .stabilizationStartTime(NOW.toEpochMilli())
+                .stabilizationDelaySeconds(INITIAL_CREATE_CALLBACK_DELAY_SECONDS)
+                .lastObservedSyncState(SYNC_ABSENT)
                 .build();
 
         assertThat(response).isNotNull();
@@ -134,7 +148,7 @@ public class CreateHandlerTest extends TestBase {
 
         final CallbackContext inputContext = CallbackContext.builder()
                 .createResourceDataSyncStarted(true)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES)
+                .stabilizationStartTime(NOW.toEpochMilli())
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -151,6 +165,53 @@ public class CreateHandlerTest extends TestBase {
 
     }
 
+    /**
+     * Test stabilization starts listing at the page the sync was last found on and falls back to the first page
+     * when that token has expired
+     */
+    @Test
+    public void handleRequest_creationStarted_rememberedPageTokenExpired_stabilized() {
+        final ResourceModel model = createBasicRDSModel();
+
+        final ListResourceDataSyncResponse firstPage = ListResourceDataSyncResponse.builder()
+                .resourceDataSyncItems(ResourceDataSyncItem.builder().syncName("OtherResourceDataSync").build())
+                .nextToken("page-2")
+                .build();
+        final ListResourceDataSyncResponse secondPage = ListResourceDataSyncResponse.builder()
+                .resourceDataSyncItems(ResourceDataSyncItem.builder()
+                        .syncName(model.getSyncName())
+                        .lastStatus(LastResourceDataSyncStatus.SUCCESSFUL)
+                        .build())
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenThrow(InvalidNextTokenException.builder().build())
+                .thenReturn(firstPage)
+                .thenReturn(secondPage);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext inputContext = CallbackContext.builder()
+                .createResourceDataSyncStarted(true)
+                .stabilizationStartTime(NOW.toEpochMilli())
+                .resourceDataSyncPageToken("expired-token")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, inputContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(inputContext.getResourceDataSyncPageToken()).isEqualTo("page-2");
+
+        final ArgumentCaptor<ListResourceDataSyncRequest> requestCaptor = ArgumentCaptor.forClass(ListResourceDataSyncRequest.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
+        assertThat(requestCaptor.getAllValues().get(0).nextToken()).isEqualTo("expired-token");
+        assertThat(requestCaptor.getAllValues().get(1).nextToken()).isNull();
+        assertThat(requestCaptor.getAllValues().get(2).nextToken()).isEqualTo("page-2");
+    }
+
     /**
      * Test Exception ResourceDataSyncCountExceededException
      */
@@ -206,20 +267,23 @@ public class CreateHandlerTest extends TestBase {
     }
 
     /**
-     * Test no retry remaining
+     * Test the stabilization timeout has elapsed without the sync being listed
      */
     @Test
-    public void handleRequest_creationStarted_zeroRetries_stabilizationFailed() {
+    public void handleRequest_creationStarted_timeoutElapsed_stabilizationFailed() {
         final ResourceModel model = createBasicRDSModel();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
                 .build();
 
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder().build());
+
         final CallbackContext inputContext = CallbackContext.builder()
                 .createResourceDataSyncStarted(true)
                 .createResourceDataSyncStabilized(false)
-                .stabilizationRetriesRemaining(ZERO)
+                .stabilizationStartTime(NOW.minus(Duration.ofMinutes(2)).toEpochMilli())
                 .build();
 
         assertThrows(CfnNotStabilizedException.class, () -> {
@@ -227,6 +291,51 @@ public class CreateHandlerTest extends TestBase {
         });
     }
 
+    /**
+     * Test the poll delay doubles while the sync state does not change and is capped
+     */
+    @Test
+    public void handleRequest_creationStarted_syncStateUnchanged_backsOff() {
+        final ResourceModel model = createBasicRDSModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder()
+                        .resourceDataSyncItems(ResourceDataSyncItem.builder().syncName(model.getSyncName()).build())
+                        .build());
+
+        final CallbackContext inputContext = CallbackContext.builder()
+                .createResourceDataSyncStarted(true)
+                .stabilizationStartTime(NOW.toEpochMilli())
+                .stabilizationDelaySeconds(8)
+                .lastObservedSyncState("null@null")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, inputContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(MAX_CREATE_CALLBACK_DELAY_SECONDS);
+
+        // The sync has now run once, so the next poll starts from the initial delay again
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder()
+                        .resourceDataSyncItems(ResourceDataSyncItem.builder()
+                                .syncName(model.getSyncName())
+                                .lastSyncTime(NOW)
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> nextResponse
+                = handler.handleRequest(proxy, request, response.getCallbackContext(), logger);
+
+        assertThat(nextResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(nextResponse.getCallbackDelaySeconds()).isEqualTo(INITIAL_CREATE_CALLBACK_DELAY_SECONDS);
+    }
+
     /**
      * Test create Failed and stabilization also failed
      */
@@ -250,7 +359,7 @@ public class CreateHandlerTest extends TestBase {
         final CallbackContext inputContext = CallbackContext.builder()
                 .createResourceDataSyncStarted(true)
                 .createResourceDataSyncStabilized(false)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES)
+                .stabilizationStartTime(NOW.toEpochMilli())
                 .build();
 
         when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any())).thenReturn(listResourceDataSyncResponse);
@@ -1,6 +1,7 @@
 package software.amazon.ssm.resourcedatasync;
 
 import software.amazon.awssdk.services.ssm.model.DeleteResourceDataSyncRequest;
+import software.amazon.awssdk.services.ssm.model.DeleteResourceDataSyncResponse;
 import software.amazon.awssdk.services.ssm.model.LastResourceDataSyncStatus;
 import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncRequest;
 import software.amazon.awssdk.services.ssm.model.ListResourceDataSyncResponse;
@@ -22,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,7 +46,7 @@ public class DeleteHandlerTest extends TestBase {
     public void setup() {
         proxy = mock(AmazonWebServicesClientProxy.class);
         logger = mock(Logger.class);
-        handler = new DeleteHandler();
+        handler = new DeleteHandler(FIXED_CLOCK);
     }
 
     @Test
@@ -54,6 +57,13 @@ public class DeleteHandlerTest extends TestBase {
                 .desiredResourceState(model)
                 .build();
 
+        when(proxy.injectCredentialsAndInvokeV2(any(DeleteResourceDataSyncRequest.class), any()))
+                .thenReturn(DeleteResourceDataSyncResponse.builder().build());
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder()
+                        .resourceDataSyncItems(ResourceDataSyncItem.builder().syncName(model.getSyncName()).build())
+                        .build());
+
         final CallbackContext inputContext = CallbackContext.builder()
                 .build();
 
@@ -62,7 +72,9 @@ public class DeleteHandlerTest extends TestBase {
 
         final CallbackContext outputContext = CallbackContext.builder()
                 .deleteResourceDataSyncStarted(true)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_DELETE_POLL_RETRIES)
+                .stabilizationStartTime(NOW.toEpochMilli())
+                .stabilizationDelaySeconds(INITIAL_DELETE_CALLBACK_DELAY_SECONDS)
+                .lastObservedSyncState("null@null")
                 .build();
 
         assertThat(response).isNotNull();
@@ -75,6 +87,30 @@ public class DeleteHandlerTest extends TestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    /**
+     * Test the delete is stabilized by the first poll that no longer lists the sync
+     */
+    @Test
+    public void handleRequest_deletionNotStarted_syncNoLongerListed_success() {
+        final ResourceModel model = createBasicRDSModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(DeleteResourceDataSyncRequest.class), any()))
+                .thenReturn(DeleteResourceDataSyncResponse.builder().build());
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(ZERO);
+    }
+
     /**
      * Test simple delete RDS success Case.
      */
@@ -129,7 +165,9 @@ public class DeleteHandlerTest extends TestBase {
 
         final CallbackContext inputContext = CallbackContext.builder()
                 .deleteResourceDataSyncStarted(true)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_DELETE_POLL_RETRIES)
+                .stabilizationStartTime(NOW.toEpochMilli())
+                .stabilizationDelaySeconds(INITIAL_DELETE_CALLBACK_DELAY_SECONDS)
+                .lastObservedSyncState(LastResourceDataSyncStatus.SUCCESSFUL + "@null")
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -137,14 +175,16 @@ public class DeleteHandlerTest extends TestBase {
 
         final CallbackContext outputContext = CallbackContext.builder()
                 .deleteResourceDataSyncStarted(true)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_DELETE_POLL_RETRIES - 1)
+                .stabilizationStartTime(NOW.toEpochMilli())
+                .stabilizationDelaySeconds(2 * INITIAL_DELETE_CALLBACK_DELAY_SECONDS)
+                .lastObservedSyncState(LastResourceDataSyncStatus.SUCCESSFUL + "@null")
                 .deleteResourceDataSyncStabilized(false)
                 .build();
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext()).isEqualToComparingFieldByField(outputContext);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(DELETE_CALLBACK_DELAY_SECONDS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(2 * INITIAL_DELETE_CALLBACK_DELAY_SECONDS);
         assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
@@ -170,7 +210,7 @@ public class DeleteHandlerTest extends TestBase {
 
         final CallbackContext inputContext = CallbackContext.builder()
                 .deleteResourceDataSyncStarted(true)
-                .stabilizationRetriesRemaining(NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES)
+                .stabilizationStartTime(NOW.toEpochMilli())
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -224,20 +264,25 @@ public class DeleteHandlerTest extends TestBase {
     }
 
     /**
-     * Test no retry remaining
+     * Test the stabilization timeout has elapsed while the sync is still listed
      */
     @Test
-    public void handleRequest_creationStarted_zeroRetries_stabilizationFailed() {
+    public void handleRequest_deletionStarted_timeoutElapsed_stabilizationFailed() {
         final ResourceModel model = createBasicRDSModel();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
                 .build();
 
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(ListResourceDataSyncResponse.builder()
+                        .resourceDataSyncItems(ResourceDataSyncItem.builder().syncName(model.getSyncName()).build())
+                        .build());
+
         final CallbackContext inputContext = CallbackContext.builder()
                 .deleteResourceDataSyncStarted(true)
                 .deleteResourceDataSyncStabilized(false)
-                .stabilizationRetriesRemaining(ZERO)
+                .stabilizationStartTime(NOW.minus(Duration.ofMinutes(3)).toEpochMilli())
                 .build();
 
         assertThrows(CfnNotStabilizedException.class, () -> {
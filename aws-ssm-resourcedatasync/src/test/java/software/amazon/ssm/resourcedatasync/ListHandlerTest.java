@@ -11,14 +11,17 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,6 +73,40 @@ public class ListHandlerTest extends TestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_returnsSinglePageWithNextToken() {
+        handler = new ListHandler(10);
+
+        final ListResourceDataSyncResponse listResourceDataSyncResponse = ListResourceDataSyncResponse.builder()
+                .resourceDataSyncItems(createSyncToDestinationRDSItem())
+                .nextToken("page-3")
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any())).thenReturn(listResourceDataSyncResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(createBasicRDSModel())
+                .nextToken("page-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("page-3");
+
+        final ArgumentCaptor<ListResourceDataSyncRequest> requestCaptor = ArgumentCaptor.forClass(ListResourceDataSyncRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
+        assertThat(requestCaptor.getValue().nextToken()).isEqualTo("page-2");
+        assertThat(requestCaptor.getValue().maxResults()).isEqualTo(10);
+    }
+
+    @Test
+    public void constructor_invalidPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ListHandler(ListHandler.MAX_PAGE_SIZE + 1));
+    }
+
     @Test
     public void handleRequest_noResourceDataSyncWithSourceTypePresent_success() {
         final ListResourceDataSyncResponse listResourceDataSyncResponse = ListResourceDataSyncResponse.builder()
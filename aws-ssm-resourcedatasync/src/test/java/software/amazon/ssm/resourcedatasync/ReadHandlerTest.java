@@ -15,6 +15,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +78,39 @@ public class ReadHandlerTest extends TestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_success_stopsAtPageContainingSync() {
+        final ResourceModel inputModel = createSyncFromSourceRDSModel(createSyncSourceModel());
+
+        final ListResourceDataSyncResponse firstPage = ListResourceDataSyncResponse.builder()
+                .resourceDataSyncItems(ResourceDataSyncItem.builder().syncName("OtherResourceDataSync").build())
+                .nextToken("page-2")
+                .build();
+        final ListResourceDataSyncResponse secondPage = ListResourceDataSyncResponse.builder()
+                .resourceDataSyncItems(Translator.createResourceDataSyncItemFromResourceModel(inputModel))
+                .nextToken("page-3")
+                .build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListResourceDataSyncRequest.class), any()))
+                .thenReturn(firstPage)
+                .thenReturn(secondPage);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(inputModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualToComparingFieldByField(createSyncFromSourceRDSModel(createSyncSourceModel()));
+
+        final ArgumentCaptor<ListResourceDataSyncRequest> requestCaptor = ArgumentCaptor.forClass(ListResourceDataSyncRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
+        assertThat(requestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(requestCaptor.getAllValues().get(1).nextToken()).isEqualTo("page-2");
+    }
+
     @Test
     public void handleRequest_noResourceDataSyncPresent() {
         final ResourceModel inputModel = createSyncFromSourceRDSModel(createSyncSourceModel());
@@ -3,22 +3,27 @@ package software.amazon.ssm.resourcedatasync;
 import software.amazon.awssdk.services.ssm.model.ResourceDataSyncItem;
 import software.amazon.awssdk.services.ssm.model.ResourceDataSyncS3Destination;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 
 public class TestBase {
 
-    static final int CREATE_CALLBACK_DELAY_SECONDS = 10;
+    static final int MAX_CREATE_CALLBACK_DELAY_SECONDS = 10;
 
     static final int INITIAL_CREATE_CALLBACK_DELAY_SECONDS = 2;
 
-    static final int DELETE_CALLBACK_DELAY_SECONDS = 30;
+    static final int MAX_DELETE_CALLBACK_DELAY_SECONDS = 30;
 
     static final int INITIAL_DELETE_CALLBACK_DELAY_SECONDS = 2;
 
-    static final int NUMBER_OF_RESOURCE_DATA_SYNC_CREATE_POLL_RETRIES = 60 / CREATE_CALLBACK_DELAY_SECONDS;
+    static final Instant NOW = Instant.parse("2020-06-01T00:00:00Z");
 
-    static final int NUMBER_OF_RESOURCE_DATA_SYNC_DELETE_POLL_RETRIES = 2 * 60 / DELETE_CALLBACK_DELAY_SECONDS;
+    static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    static final String SYNC_ABSENT = "ABSENT";
 
     static final int ZERO = 0;
 